@@ -4,21 +4,23 @@ import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
 
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.List;
 
 /**
  * Summary: The framework for defining Actions. Actions are able to work with operands from the stack or executor functions.
+ *          Actions hold no per-call state, so a single instance can be used by several threads at once.
  * Author:  Tim Schwenke
  * Date:    2020/01/04
  */
 public abstract class Action {
 
     /**
-     * Must be set by inheriting classes of {@link Action} for reflection to work.
+     * Dispatch table of the concrete {@link Action}. Shared by all instances of a class and safe for concurrent use.
      */
-    protected Action scopedAction;
+    @NotNull private final Dispatcher dispatcher = Dispatcher.of(getClass());
 
     /**
      * Must be overridden in case the required number of operands is a fixed amount.
@@ -42,34 +44,25 @@ public abstract class Action {
     }
 
     /**
-     * Leverages reflection for matching given arguments to a calculation method.
+     * Matches the given arguments to a calculation method via the dispatch table of the concrete {@link Action}.
      *
      * @param operands List of operands.
      * @return Always a valid Operand.
      * @throws CalculationException In case the result cannot be computed.
      */
     @Contract(pure = true) public @NotNull Operand with(@NotNull Operand... operands) throws CalculationException {
-        Class[] operandClasses = new Class[operands.length];
-        Operand resultOperand;
-
-        for (int i = 0; i < operands.length; i++)
-            operandClasses[i] = operands[i].getClass();
-
-        try {
-            resultOperand = (Operand) scopedAction.getClass()
-                    .getDeclaredMethod(
-                            "on",
-                            operandClasses
-                    ).invoke(
-                            scopedAction,
-                            (Object[]) operands
-                    );
-        } catch (RuntimeException | NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
-            throw new CalculationException(e.getMessage());
-        }
+        return dispatcher.invoke(this, operands);
+    }
 
-        if (resultOperand != null) return resultOperand;
-        else throw new CalculationException();
+    /**
+     * Resolves the calculation method for operands of the given classes once, before any operand exists.
+     *
+     * @param operandClasses Classes of the operands, the top of the stack first.
+     * @return The method or {@code null} if the action cannot be applied to these classes.
+     */
+    @Contract(pure = true) public @Nullable Overload overload(@NotNull Class<?>... operandClasses) {
+        Method method = dispatcher.resolve(operandClasses);
+        return method == null ? null : new Overload(this, method);
     }
 
     /**
@@ -0,0 +1,78 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * Summary: Names and display texts of all actions, shared by the action tiles and the headless engine
+ * Date:    2026/10/17
+ */
+public enum ActionMapping {
+
+    A_MINUS(Minus.getInstance(), "-"),
+    A_PLUS(Plus.getInstance(), "+"),
+    A_SLASH(Slash.getInstance(), "/"),
+    A_TIMES(Times.getInstance(), "*"),
+    A_MODULO(Modulo.getInstance(), "%"),
+    A_LOG(Logarithm.getInstance(), "log"),
+    A_LOG10(Logarithm10.getInstance(), "log10"),
+    A_POWER(Power.getInstance(), "bⁿ"),
+    A_ROOT(Root.getInstance(), "√"),
+    A_DERIVE(Derivation.getInstance(), "dy / dx"),
+    A_HIGHLOW(HighAndLowPoints.getInstance(), "Extrema"),
+    A_ZEROS(Zeros.getInstance(), "Zeros"),
+    A_INTEGRAL(Integral.getInstance(), "Integral"),
+    A_LIMES(Limes.getInstance(), "Limes"),
+    A_SIN(Sinus.getInstance(), "sin"),
+    A_COS(Cosinus.getInstance(), "cos"),
+    A_TAN(Tangens.getInstance(), "tan"),
+    A_ASIN(ArcSinus.getInstance(), "asin"),
+    A_ACOS(ArcCosinus.getInstance(), "acos"),
+    A_ATAN(ArcTangens.getInstance(), "atan"),
+    A_MATRIXUTIL(MatrixUtil.getInstance(), "LGS lösen"),
+    A_UNION(Union.getInstance(), "∪"),
+    A_INTERSECTION(Intersection.getInstance(), "∩"),
+    A_DIFFERENCE(Difference.getInstance(), "∖"),
+    A_RANGECOUNT(RangeCount.getInstance(), "Count"),
+    A_FMA(FusedMultiplyAdd.getInstance(), "*+"),
+    A_SCALEDADD(ScaledMatrixAdd.getInstance(), "αA+B");
+
+    // Both the names and the texts of all actions
+    @NotNull private static final Map<String, ActionMapping> BY_TOKEN = new HashMap<>();
+    static {
+        for (ActionMapping mapping : values()) {
+            BY_TOKEN.put(mapping.name(), mapping);
+            BY_TOKEN.put(mapping.text, mapping);
+        }
+    }
+
+    @NotNull private final Action action;
+    @NotNull private final String text;
+
+    ActionMapping(@NotNull Action action, @NotNull String text) {
+        this.action = action;
+        this.text = text;
+    }
+
+    /*
+     * Looks up an action by its name (e.g. A_PLUS) or by its text (e.g. +)
+     * @param token name or text
+     * @return the mapping or null if there is no such action
+     */
+    @Contract(pure = true) public static @Nullable ActionMapping of(@NotNull String token) {
+        return BY_TOKEN.get(token);
+    }
+
+    @NotNull public Action getAction() {
+        return action;
+    }
+
+    @NotNull public String getText() {
+        return text;
+    }
+
+}
@@ -4,7 +4,6 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
-import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
 
 /*
  * Summary: Defines the arc Cosinus action.
@@ -26,12 +25,6 @@ public class ArcCosinus extends Action {
         requiredNumOfOperands = new int[]{1};
     }
 
-    @NotNull @Override
-    public Operand with(@NotNull Operand... operands) throws CalculationException {
-        scopedAction = this;
-        return super.with(operands);
-    }
-
     /**
      * Calculates the arc cosinus with a given angle.
      *
@@ -45,4 +38,3 @@ public class ArcCosinus extends Action {
 
 
 
-
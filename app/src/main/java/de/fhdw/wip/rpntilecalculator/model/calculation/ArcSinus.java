@@ -4,7 +4,6 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
-import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
 
 /*
  * Summary: Defines the arc Sinus action.
@@ -26,12 +25,6 @@ public class ArcSinus extends Action {
         requiredNumOfOperands = new int[]{1};
     }
 
-    @NotNull @Override
-    public Operand with(@NotNull Operand... operands) throws CalculationException {
-        scopedAction = this;
-        return super.with(operands);
-    }
-
     // Calculates the arc sinus with a given angle.
     @Contract(pure = true) @NotNull ODouble on(@NotNull ODouble angle) {
         return new ODouble(Math.asin(Math.toRadians((angle.getDouble()))));
@@ -0,0 +1,74 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.DoubleFormatter;
+
+import org.apache.commons.math3.complex.Complex;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/*
+ * Summary: All roots of a polynomial, repeated by their multiplicity and ordered by real and then by imaginary
+ *          part. Roots that are real within the accuracy of the coefficients have an imaginary part of exactly
+ *          zero. Written like [-1, 2 - 3i, 2 + 3i].
+ * Date:    2026/10/17
+ */
+public final class ComplexRoots {
+
+    @NotNull private final double[] real;
+    @NotNull private final double[] imaginary;
+
+    ComplexRoots(@NotNull double[] real, @NotNull double[] imaginary) {
+        this.real = real;
+        this.imaginary = imaginary;
+    }
+
+    /*
+     * @return number of roots, the degree of the polynomial
+     */
+    public int size() {
+        return real.length;
+    }
+
+    public double getReal(int i) {
+        return real[i];
+    }
+
+    public double getImaginary(int i) {
+        return imaginary[i];
+    }
+
+    @Contract(pure = true) @NotNull public Complex getRoot(int i) {
+        return new Complex(real[i], imaginary[i]);
+    }
+
+    public boolean isReal(int i) {
+        return imaginary[i] == 0;
+    }
+
+    /*
+     * @return the real roots in ascending order, multiple roots repeated
+     */
+    @Contract(pure = true) @NotNull public double[] getRealRoots() {
+        double[] roots = new double[real.length];
+        int count = 0;
+        for (int i = 0; i < real.length; i++)
+            if (imaginary[i] == 0) roots[count++] = real[i];
+        return Arrays.copyOf(roots, count);
+    }
+
+    @NotNull @Override public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < real.length; i++) {
+            if (i > 0) builder.append(", ");
+            builder.append(DoubleFormatter.format(real[i]));
+            if (imaginary[i] != 0) {
+                builder.append(imaginary[i] < 0 ? " - " : " + ");
+                builder.append(DoubleFormatter.format(Math.abs(imaginary[i]))).append("i");
+            }
+        }
+        return builder.append("]").toString();
+    }
+
+}
@@ -1,7 +1,6 @@
 package de.fhdw.wip.rpntilecalculator.model.calculation;
 
 import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
-import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
 
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -26,12 +25,6 @@ public class Cosinus extends Action {
         requiredNumOfOperands = new int[]{1, 2};
     }
 
-    @NotNull @Override
-    public Operand with(@NotNull Operand... operands) throws CalculationException {
-        scopedAction = this;
-        return super.with(operands);
-    }
-
     // Calculates the cosinus with a given angle.
     @Contract(pure = true) @NotNull ODouble on(@NotNull ODouble angle) {
         return new ODouble(Math.cos(Math.toRadians((angle.getDouble()))));
@@ -40,4 +33,3 @@ public class Cosinus extends Action {
 
 
 
-
@@ -6,7 +6,6 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import de.fhdw.wip.rpntilecalculator.model.operands.OPolynom;
-import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
 
 /*
  * Summary: A Class that can calculate the derivate of a function
@@ -23,12 +22,6 @@ public class Derivation extends Action {
         requiredNumOfOperands = new int[]{1};
     }
 
-    @NotNull @Override
-    public Operand with(@NotNull Operand... operands) throws CalculationException {
-        scopedAction = this;
-        return super.with(operands);
-    }
-
     @Contract(pure = true) @NotNull OPolynom on(@NotNull OPolynom oPolynom) {
         return derivate(oPolynom);
     }
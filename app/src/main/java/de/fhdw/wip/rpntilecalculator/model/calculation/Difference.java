@@ -0,0 +1,26 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.OSet;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/*
+ * Summary: Defines the Difference click. Removes the values of the second set from the first one.
+ *          Sets held sorted are merged, all others are hashed, both in linear time.
+ * Date:    2026/10/17
+ */
+public class Difference extends Action {
+
+    @NotNull private static final Difference DIFFERENCE = new Difference();
+
+    @Contract(pure = true) @NotNull public static Difference getInstance() { return DIFFERENCE; }
+    private Difference() {
+        requiredNumOfOperands = new int[]{2};
+    }
+
+    @Contract(pure = true) @NotNull OSet on(@NotNull OSet oSet1, @NotNull OSet oSet2) {
+        return oSet1.difference(oSet2);
+    }
+
+}
@@ -0,0 +1,219 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/*
+ * Summary: Dispatch table for the on(...) methods of one Action class. The methods are collected once per class,
+ *          every operand class tuple is resolved once (falling back along the Operand hierarchy) and cached.
+ * Date:    2026/10/17
+ */
+final class Dispatcher {
+
+    private static final String METHOD_NAME = "on";
+
+    @NotNull private static final ConcurrentMap<Class<?>, Dispatcher> DISPATCHERS = new ConcurrentHashMap<>();
+
+    /**
+     * Get the dispatch table of an {@link Action} class. Tables are built on first use and shared afterwards.
+     * @param actionClass Concrete class of the action
+     * @return Dispatch table
+     */
+    @NotNull static Dispatcher of(@NotNull Class<? extends Action> actionClass) {
+        Dispatcher dispatcher = DISPATCHERS.get(actionClass);
+        if (dispatcher != null) return dispatcher;
+
+        DISPATCHERS.putIfAbsent(actionClass, new Dispatcher(actionClass));
+        return DISPATCHERS.get(actionClass);
+    }
+
+    @NotNull private final Class<?> actionClass;
+    @NotNull private final Method[] methods;
+    @NotNull private final Node root = new Node();
+
+    private Dispatcher(@NotNull Class<? extends Action> actionClass) {
+        this.actionClass = actionClass;
+
+        List<Method> found = new ArrayList<>();
+        for (Method method : actionClass.getDeclaredMethods()) {
+            if (!METHOD_NAME.equals(method.getName())) continue;
+            if (Modifier.isStatic(method.getModifiers()) || method.isBridge()) continue;
+            if (!Operand.class.isAssignableFrom(method.getReturnType())) continue;
+            if (!hasOperandParameters(method)) continue;
+
+            method.setAccessible(true);
+            found.add(method);
+        }
+        this.methods = found.toArray(new Method[0]);
+    }
+
+    /**
+     * Calls the matching on(...) method of the given action.
+     * @param action Instance the method is invoked on
+     * @param operands Arguments
+     * @return Result of the calculation
+     * @throws CalculationException In case there is no matching method or the calculation fails
+     */
+    @NotNull Operand invoke(@NotNull Action action, @NotNull Operand[] operands) throws CalculationException {
+        Method method = resolve(operands);
+        if (method == null)
+            throw new CalculationException("No " + actionClass.getSimpleName() + " for " + describe(operands));
+        return invoke(action, method, operands);
+    }
+
+    /**
+     * Calls an on(...) method that was resolved before.
+     * @param action Instance the method is invoked on
+     * @param method Method of the action class
+     * @param operands Arguments
+     * @return Result of the calculation
+     * @throws CalculationException In case the calculation fails
+     */
+    @NotNull static Operand invoke(@NotNull Action action, @NotNull Method method, @NotNull Operand[] operands)
+            throws CalculationException {
+        Object result;
+        try {
+            result = method.invoke(action, (Object[]) operands);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CalculationException) throw (CalculationException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new CalculationException(cause == null ? e.getMessage() : cause.getMessage());
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new CalculationException(e.getMessage());
+        }
+
+        if (result == null) throw new CalculationException();
+        return (Operand) result;
+    }
+
+    /**
+     * Looks up the method for the classes of the given operands. Lookups of known tuples do not allocate.
+     * @param operands Arguments
+     * @return Most specific method or {@code null} if no method accepts the operands
+     */
+    @Nullable Method resolve(@NotNull Operand[] operands) {
+        Node node = root;
+        for (Operand operand : operands) {
+            if (operand == null) return null;
+            node = node.child(operand.getClass());
+        }
+
+        Target target = node.target;
+        if (target == null) {
+            Class<?>[] operandClasses = new Class<?>[operands.length];
+            for (int i = 0; i < operands.length; i++) operandClasses[i] = operands[i].getClass();
+            target = new Target(findMostSpecific(operandClasses));
+            node.target = target;
+        }
+        return target.method;
+    }
+
+    /**
+     * Looks up the method for operands of the given classes, e.g. for types known before any operand exists.
+     * @param operandClasses Classes of the arguments
+     * @return Most specific method or {@code null} if no method accepts operands of these classes
+     */
+    @Nullable Method resolve(@NotNull Class<?>[] operandClasses) {
+        Node node = root;
+        for (Class<?> operandClass : operandClasses)
+            node = node.child(operandClass);
+
+        Target target = node.target;
+        if (target == null) {
+            target = new Target(findMostSpecific(operandClasses));
+            node.target = target;
+        }
+        return target.method;
+    }
+
+    /**
+     * Picks the method whose parameters are the most specific supertypes of the operand classes.
+     * @param operandClasses Classes of the arguments
+     * @return Method or {@code null} if none is applicable or the choice is ambiguous
+     */
+    @Nullable private Method findMostSpecific(@NotNull Class<?>[] operandClasses) {
+        Method best = null;
+        for (Method candidate : methods)
+            if (isApplicable(candidate, operandClasses) && (best == null || isMoreSpecific(candidate, best)))
+                best = candidate;
+        if (best == null) return null;
+
+        // The winner of the pass may never have been compared with a method it is incomparable with
+        for (Method candidate : methods)
+            if (candidate != best && isApplicable(candidate, operandClasses) && !isMoreSpecific(best, candidate))
+                return null;
+        return best;
+    }
+
+    private static boolean isApplicable(@NotNull Method method, @NotNull Class<?>[] operandClasses) {
+        Class<?>[] parameters = method.getParameterTypes();
+        if (parameters.length != operandClasses.length) return false;
+        for (int i = 0; i < parameters.length; i++)
+            if (!parameters[i].isAssignableFrom(operandClasses[i])) return false;
+        return true;
+    }
+
+    private static boolean isMoreSpecific(@NotNull Method method, @NotNull Method other) {
+        Class<?>[] parameters = method.getParameterTypes();
+        Class<?>[] otherParameters = other.getParameterTypes();
+        for (int i = 0; i < parameters.length; i++)
+            if (!otherParameters[i].isAssignableFrom(parameters[i])) return false;
+        return true;
+    }
+
+    private static boolean hasOperandParameters(@NotNull Method method) {
+        for (Class<?> parameter : method.getParameterTypes())
+            if (!Operand.class.isAssignableFrom(parameter)) return false;
+        return true;
+    }
+
+    @NotNull private static String describe(@NotNull Operand[] operands) {
+        StringBuilder builder = new StringBuilder("(");
+        for (int i = 0; i < operands.length; i++) {
+            if (i > 0) builder.append(", ");
+            builder.append(operands[i] == null ? "null" : operands[i].getClass().getSimpleName());
+        }
+        return builder.append(")").toString();
+    }
+
+    /**
+     * One level of the dispatch table. The path from the root spells the operand classes of a tuple.
+     */
+    private static final class Node {
+
+        @NotNull private final ConcurrentMap<Class<?>, Node> children = new ConcurrentHashMap<>(8);
+        @Nullable volatile Target target;
+
+        @NotNull Node child(@NotNull Class<?> operandClass) {
+            Node child = children.get(operandClass);
+            if (child != null) return child;
+
+            children.putIfAbsent(operandClass, new Node());
+            return children.get(operandClass);
+        }
+    }
+
+    /**
+     * Resolved entry of the table. Also caches misses, so unsupported tuples are rejected without a new search.
+     */
+    private static final class Target {
+
+        @Nullable final Method method;
+
+        Target(@Nullable Method method) {
+            this.method = method;
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.DoubleFormatter;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/*
+ * Summary: The critical points of a polynomial, where its derivative is zero, in ascending order. Every point is a
+ *          maximum, a minimum or a saddle point where the polynomial only pauses. Written like
+ *          [(-1, 2) max, (0, 0) saddle, (1, -2) min].
+ * Date:    2026/10/17
+ */
+public final class Extrema {
+
+    public enum Kind { MAXIMUM, MINIMUM, SADDLE }
+
+    @NotNull private final double[] x;
+    @NotNull private final double[] y;
+    @NotNull private final Kind[] kinds;
+
+    Extrema(@NotNull double[] x, @NotNull double[] y, @NotNull Kind[] kinds) {
+        this.x = x;
+        this.y = y;
+        this.kinds = kinds;
+    }
+
+    /*
+     * @return number of critical points
+     */
+    public int size() {
+        return x.length;
+    }
+
+    public double getX(int i) {
+        return x[i];
+    }
+
+    public double getY(int i) {
+        return y[i];
+    }
+
+    @NotNull public Kind getKind(int i) {
+        return kinds[i];
+    }
+
+    /*
+     * @return x and y of every maximum and minimum one after the other, saddle points left out
+     */
+    @Contract(pure = true) @NotNull public double[] getHighAndLowPoints() {
+        int count = 0;
+        for (Kind kind : kinds) if (kind != Kind.SADDLE) count++;
+        double[] points = new double[2 * count];
+        int position = 0;
+        for (int i = 0; i < x.length; i++) {
+            if (kinds[i] == Kind.SADDLE) continue;
+            points[position++] = x[i];
+            points[position++] = y[i];
+        }
+        return points;
+    }
+
+    @NotNull @Override public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < x.length; i++) {
+            if (i > 0) builder.append(", ");
+            builder.append('(').append(DoubleFormatter.format(x[i])).append(", ")
+                    .append(DoubleFormatter.format(y[i])).append(") ")
+                    .append(kinds[i] == Kind.MAXIMUM ? "max" : kinds[i] == Kind.MINIMUM ? "min" : "saddle");
+        }
+        return builder.append("]").toString();
+    }
+
+}
@@ -0,0 +1,119 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import de.fhdw.wip.rpntilecalculator.model.concurrent.Parallel;
+import de.fhdw.wip.rpntilecalculator.model.operands.OPolynom;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/*
+ * Summary: Finds the critical points of polynomials of any degree, the real roots of the derivative, and
+ *          classifies them by the second derivative: negative is a maximum, positive a minimum. Where the second
+ *          derivative vanishes too, the first higher derivative that does not vanish decides; an odd one means a
+ *          saddle point. A derivative vanishes if it is zero up to the rounding of its evaluation. The polynomial
+ *          and its second derivative are evaluated with Horner's method.
+ * Date:    2026/10/17
+ */
+public final class ExtremaFinder {
+
+    private static final double EPSILON = Math.ulp(1d);
+
+    @NotNull private static final Extrema NONE = new Extrema(new double[0], new double[0], new Extrema.Kind[0]);
+
+    private ExtremaFinder() {}
+
+    /*
+     * Finds the critical points of many polynomials in parallel
+     * @param polynoms polynomials
+     * @return the critical points of every polynomial, in the order of the polynomials
+     * @throws IllegalArgumentException if a polynomial has a coefficient that is not finite
+     */
+    @Contract(pure = true) public static @NotNull Extrema[] extrema(@NotNull OPolynom[] polynoms) {
+        Extrema[] extrema = new Extrema[polynoms.length];
+        Parallel.map(polynoms, extrema, new Parallel.Task<OPolynom, Extrema>() {
+            @Override public Extrema apply(OPolynom polynom) {
+                return extrema(polynom);
+            }
+        });
+        return extrema;
+    }
+
+    /*
+     * @throws IllegalArgumentException if the polynomial has a coefficient that is not finite
+     */
+    @Contract(pure = true) public static @NotNull Extrema extrema(@NotNull OPolynom polynom) {
+        return extrema(polynom.getPolynom().getCoefficients());
+    }
+
+    /*
+     * Finds the critical points of a polynomial
+     * @param coefficients coefficients in ascending order of the powers, like those of a PolynomialFunction
+     * @return the critical points in ascending order, none for polynomials of degree 1 or less
+     * @throws IllegalArgumentException if a coefficient is not finite
+     */
+    @Contract(pure = true) public static @NotNull Extrema extrema(@NotNull double[] coefficients) {
+        int degree = coefficients.length - 1;
+        while (degree >= 0 && coefficients[degree] == 0) degree--;
+        if (degree <= 1) {
+            for (double c : coefficients)
+                if (Double.isNaN(c) || Double.isInfinite(c))
+                    throw new IllegalArgumentException("Coefficients must be finite: " + c);
+            return NONE;
+        }
+
+        double[] first = new double[degree];
+        for (int i = 0; i < degree; i++) first[i] = coefficients[i + 1] * (i + 1);
+        double[] second = new double[degree - 1];
+        double[] secondAbs = new double[degree - 1];
+        for (int i = 0; i < degree - 1; i++) {
+            second[i] = first[i + 1] * (i + 1);
+            secondAbs[i] = Math.abs(second[i]);
+        }
+
+        // Real roots of the derivative, a multiple root only once
+        double[] roots = RootFinder.roots(first).getRealRoots();
+        int count = 0;
+        for (int i = 0; i < roots.length; i++)
+            if (i == 0 || roots[i] != roots[i - 1]) roots[count++] = roots[i];
+
+        double[] x = Arrays.copyOf(roots, count);
+        double[] y = new double[count];
+        Extrema.Kind[] kinds = new Extrema.Kind[count];
+        for (int i = 0; i < count; i++) {
+            y[i] = evaluate(coefficients, degree, x[i]);
+            kinds[i] = classify(coefficients, degree, second, secondAbs, x[i]);
+        }
+        return new Extrema(x, y, kinds);
+    }
+
+    /*
+     * Second derivative test, with the higher derivatives if the second one vanishes
+     */
+    @Contract(pure = true) private static @NotNull Extrema.Kind classify(@NotNull double[] coefficients, int degree,
+                                                                         @NotNull double[] second,
+                                                                         @NotNull double[] secondAbs, double x) {
+        double value = evaluate(second, second.length - 1, x);
+        double bound = evaluate(secondAbs, secondAbs.length - 1, Math.abs(x));
+        if (Math.abs(value) > 4 * degree * EPSILON * bound)
+            return value < 0 ? Extrema.Kind.MAXIMUM : Extrema.Kind.MINIMUM;
+
+        // Taylor coefficients at x are the derivatives divided by their factorials
+        double[] abs = new double[degree + 1];
+        for (int i = 0; i <= degree; i++) abs[i] = Math.abs(coefficients[i]);
+        double[] taylor = LimitFinder.taylor(coefficients, degree, x);
+        double[] bounds = LimitFinder.taylor(abs, degree, Math.abs(x));
+        int order = 3;
+        while (order < degree && Math.abs(taylor[order]) <= 4 * (degree + 1) * EPSILON * bounds[order]) order++;
+        if (order % 2 == 1) return Extrema.Kind.SADDLE;
+        return taylor[order] < 0 ? Extrema.Kind.MAXIMUM : Extrema.Kind.MINIMUM;
+    }
+
+    @Contract(pure = true) private static double evaluate(@NotNull double[] coefficients, int degree, double x) {
+        double value = 0;
+        for (int i = degree; i >= 0; i--) value = value * x + coefficients[i];
+        return value;
+    }
+
+}
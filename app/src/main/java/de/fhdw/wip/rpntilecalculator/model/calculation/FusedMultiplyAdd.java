@@ -0,0 +1,92 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/*
+ * Summary: Defines the FusedMultiplyAdd click. Computes x * y + z in one action, what a click on Times followed by
+ *          a click on Plus computes in two. Doubles are rounded once instead of twice, matrices are combined into
+ *          one deferred result.
+ * Date:    2026/10/17
+ */
+public class FusedMultiplyAdd extends Action {
+
+    @NotNull private static final FusedMultiplyAdd FUSED_MULTIPLY_ADD = new FusedMultiplyAdd();
+
+    // 2^27 + 1, splits a double into two halves whose products are exact
+    private static final double SPLITTER = 134217729;
+
+    // Magnitude above which splitting could overflow
+    private static final double SPLIT_LIMIT = 0x1p995;
+
+    @Contract(pure = true) @NotNull public static FusedMultiplyAdd getInstance() { return FUSED_MULTIPLY_ADD; }
+    private FusedMultiplyAdd() {
+        requiredNumOfOperands = new int[]{3};
+    }
+
+    /*
+     * x * y + z rounded like a single operation. Math.fma needs Android API 33, so the product and the sum are
+     * computed as exact pairs of doubles (Dekker's product and Knuth's sum) and only the final sum is rounded.
+     * The result lies within one ulp of the exact value and is nearly always the correctly rounded one.
+     * Non-finite values and products near the overflow limit are computed as x * y + z.
+     */
+    @Contract(pure = true) public static double fma(double x, double y, double z) {
+        double product = x * y;
+        if (Double.isInfinite(product) || Double.isNaN(product) || Double.isInfinite(z) || Double.isNaN(z)
+                || Math.abs(x) > SPLIT_LIMIT || Math.abs(y) > SPLIT_LIMIT)
+            return product + z;
+
+        // product + productError == x * y exactly
+        double xSplit = SPLITTER * x, ySplit = SPLITTER * y;
+        double xHigh = xSplit - (xSplit - x), xLow = x - xHigh;
+        double yHigh = ySplit - (ySplit - y), yLow = y - yHigh;
+        double productError = ((xHigh * yHigh - product) + xHigh * yLow + xLow * yHigh) + xLow * yLow;
+
+        // sum + sumError == product + z exactly
+        double sum = product + z;
+        double virtual = sum - product;
+        double sumError = (product - (sum - virtual)) + (z - virtual);
+        return sum + (sumError + productError);
+    }
+
+    /*
+     * Multiplying ODouble and ODouble and adding an ODouble
+     * @param oDouble1 first factor
+     * @param oDouble2 second factor
+     * @param oDouble3 summand
+     * @return oDouble1 * oDouble2 + oDouble3
+     */
+    @Contract(pure = true) @NotNull ODouble on(@NotNull ODouble oDouble1, @NotNull ODouble oDouble2,
+                                               @NotNull ODouble oDouble3) {
+        return new ODouble(fma(oDouble1.getDouble(), oDouble2.getDouble(), oDouble3.getDouble()));
+    }
+
+    /*
+     * Multiplying OMatrix and OMatrix and adding an OMatrix, computed into a single array once needed
+     * @param oMatrix1 left factor
+     * @param oMatrix2 right factor
+     * @param oMatrix3 summand
+     * @return oMatrix1 * oMatrix2 + oMatrix3
+     */
+    @Contract(pure = true) @NotNull OMatrix on(@NotNull OMatrix oMatrix1, @NotNull OMatrix oMatrix2,
+                                               @NotNull OMatrix oMatrix3) {
+        return MatrixCombination.add(1, MatrixCombination.product(oMatrix1, oMatrix2), 1, oMatrix3);
+    }
+
+    /*
+     * Scaling an OMatrix and adding an OMatrix, see ScaledMatrixAdd
+     */
+    @Contract(pure = true) @NotNull OMatrix on(@NotNull ODouble alpha, @NotNull OMatrix oMatrix1,
+                                               @NotNull OMatrix oMatrix2) {
+        return ScaledMatrixAdd.getInstance().on(alpha, oMatrix1, oMatrix2);
+    }
+
+    @Contract(pure = true) @NotNull OMatrix on(@NotNull OMatrix oMatrix1, @NotNull ODouble alpha,
+                                               @NotNull OMatrix oMatrix2) {
+        return ScaledMatrixAdd.getInstance().on(alpha, oMatrix1, oMatrix2);
+    }
+
+}
@@ -5,10 +5,9 @@ import org.jetbrains.annotations.NotNull;
 
 import de.fhdw.wip.rpntilecalculator.model.operands.OPolynom;
 import de.fhdw.wip.rpntilecalculator.model.operands.OTuple;
-import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
 
 /*
- * Summary: A Class that can calculate the high and the low points of a function( up to third grade)
+ * Summary: A Class that can calculate the high and the low points of a function of any degree
  * Author:  Jannis Luca Keienburg
  * Date:    2020/01/16
  */
@@ -16,20 +15,12 @@ import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
 public class HighAndLowPoints extends Action {
 
     @NotNull private static final HighAndLowPoints HIGH_AND_LOW_POINTS = new HighAndLowPoints();
-    @NotNull private static final Derivation DERIVATION = Derivation.getInstance();
-    @NotNull private static final Zeros ZEROS = Zeros.getInstance();
 
     @Contract(pure = true) @NotNull public static HighAndLowPoints getInstance() { return HIGH_AND_LOW_POINTS; }
     private HighAndLowPoints() {
         requiredNumOfOperands = new int[]{1};
     }
 
-    @NotNull @Override
-    public Operand with(@NotNull Operand... operands) throws CalculationException {
-        scopedAction = this;
-        return super.with(operands);
-    }
-
     @Contract(pure = true) @NotNull OTuple on(@NotNull OPolynom oPolynom) {
         return new OTuple(getHighAndLowPoints(oPolynom));
     }
@@ -41,37 +32,11 @@ public class HighAndLowPoints extends Action {
         return result;
     }
 
-    // Sets the Function into the following formatition:
-    // [n]* x^10 + [n-1] *x^9 + ... + [1] * x + [0]
-    private double[] getFunctionAsDouble(OPolynom oPolynom) {
-        return oPolynom.getPolynom().getCoefficients();
-    }
-
-    // Calculates the values of the extreme points of a given function.
+    // Calculates the values of the extreme points of a given function of any degree, see ExtremaFinder.
     // Returns the values as an double array, an uneyual number position stands for the x value,
-    // the number at the next position for the y value
+    // the number at the next position for the y value. Saddle points are no high or low points.
     private double[] calculateHighAndLowPoints(OPolynom oPolynom)
     {
-        // Calculates the derivation of the funcion.
-        OPolynom derivation = DERIVATION.derivate(oPolynom);
-        // Calculates the zeros of the function's derivation.
-        double [] zeros = ZEROS.calculateZeros(derivation);
-        // Gets the funcion as an double array for the calculation.
-        double [] functionAsDouble = getFunctionAsDouble(oPolynom);
-
-        // Calculates the y values of the zeros.
-        double [] valuesXY = new double[2*zeros.length];
-        int position = -1;
-        for(int counter = 0; counter < zeros.length; counter++)
-        {
-            double currentZero = zeros[counter];
-            double yValue = 0;
-            yValue = functionAsDouble[0] + functionAsDouble[1] * currentZero + Math.pow(currentZero, 2) * functionAsDouble[2];
-            position++;
-            valuesXY[position] = currentZero;
-            position++;
-            valuesXY[position] = yValue;
-        }
-        return valuesXY;
+        return ExtremaFinder.extrema(oPolynom).getHighAndLowPoints();
     }
 }
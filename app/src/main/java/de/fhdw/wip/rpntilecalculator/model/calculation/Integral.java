@@ -1,14 +1,11 @@
 package de.fhdw.wip.rpntilecalculator.model.calculation;
 
-import org.apache.commons.math3.analysis.UnivariateFunction;
-import org.apache.commons.math3.analysis.integration.SimpsonIntegrator;
 import org.apache.commons.math3.analysis.polynomials.PolynomialFunction;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
 import de.fhdw.wip.rpntilecalculator.model.operands.OPolynom;
-import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
 
 /*
  * Summary: Calculate the antiderivative and integral
@@ -23,18 +20,13 @@ public class Integral extends Action {
     @Contract(pure = true) @NotNull public static Integral getInstance() { return INTEGRAL; }
     private Integral() {requiredNumOfOperands = new int[] {3};}
 
-    @NotNull @Override
-    public Operand with(@NotNull Operand... operands) throws CalculationException {
-        scopedAction = this;
-        return super.with(operands);
-    }
-
     @Contract(pure = true) @NotNull ODouble on(@NotNull OPolynom oPolynom, @NotNull ODouble lowerBound, @NotNull ODouble upperBound) {
-        return calculateIntegralSimpsons(oPolynom, lowerBound.getDouble(), upperBound.getDouble());
+        return new ODouble(Integrator.integrate(oPolynom, lowerBound.getDouble(), upperBound.getDouble()));
     }
     
     /**
-     * Calculates the integral for the specified limit range
+     * Calculates the integral for the specified limit range. Despite its name exactly from the antiderivative,
+     * see Integrator
      * @param oPolynom Normal PolynomialFunction, not its antiderivative
      * @param lowerBound Lower limit
      * @param upperBound Upper limit
@@ -43,9 +35,7 @@ public class Integral extends Action {
     @NotNull
     public ODouble calculateIntegralSimpsons(OPolynom oPolynom, double lowerBound, double upperBound)
     {
-        SimpsonIntegrator simpsonIntegrator = new SimpsonIntegrator();
-        UnivariateFunction uF = (UnivariateFunction) oPolynom.getPolynom();
-        return new ODouble(simpsonIntegrator.integrate(10000, uF, lowerBound, upperBound));
+        return new ODouble(Integrator.integrate(oPolynom, lowerBound, upperBound));
     }
 
     /**
@@ -0,0 +1,254 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import de.fhdw.wip.rpntilecalculator.model.concurrent.Parallel;
+import de.fhdw.wip.rpntilecalculator.model.operands.OPolynom;
+
+import org.apache.commons.math3.analysis.UnivariateFunction;
+import org.apache.commons.math3.exception.TooManyEvaluationsException;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/*
+ * Summary: Computes definite integrals. Polynomials are integrated exactly by evaluating their antiderivative at
+ *          the bounds, one Horner pass per bound. Other functions are integrated by adaptive Gauss-Kronrod
+ *          quadrature: the 15 point Kronrod rule and the embedded 7 point Gauss rule estimate every interval and
+ *          its error, and the interval with the largest error is bisected until the total error is small enough.
+ *          The intervals are kept in a heap that every thread allocates once and reuses for all its integrals.
+ * Date:    2026/10/17
+ */
+public final class Integrator {
+
+    // Default accuracy of the adaptive quadrature, relative to the integral and absolute
+    public static final double RELATIVE_ACCURACY = 1e-12;
+    public static final double ABSOLUTE_ACCURACY = 1e-15;
+
+    // Intervals after which the quadrature gives up, 15 evaluations each
+    private static final int MAX_INTERVALS = 512;
+
+    // Intervals per chunk of a batch, a polynomial is evaluated within nanoseconds
+    private static final int CHUNK_SIZE = 1024;
+
+    // Nodes of the Kronrod rule on [0, 1], the odd ones and 0 are those of the Gauss rule
+    private static final double[] KRONROD_NODES = {
+            0.991455371120812639206854697526329, 0.949107912342758524526189684047851,
+            0.864864423359769072789712788640926, 0.741531185599394439863864773280788,
+            0.586087235467691130294144845693013, 0.405845151377397166906606412076961,
+            0.207784955007898467600689403773245, 0};
+    private static final double[] KRONROD_WEIGHTS = {
+            0.022935322010529224963732008058970, 0.063092092629978553290700663189204,
+            0.104790010322250183839876322541518, 0.140653259715525918745189590510238,
+            0.169004726639267902826583426598550, 0.190350578064785409913256402421014,
+            0.204432940075298892414161999234649, 0.209482141084727828012999174891714};
+    private static final double[] GAUSS_WEIGHTS = {
+            0.129484966168869693270611432679082, 0.279705391489276667901467771423780,
+            0.381830050505118944950369775488975, 0.417959183673469387755102040816327};
+
+    // Heap of intervals of every thread, allocated on its first adaptive integral
+    @NotNull private static final ThreadLocal<Workspace> WORKSPACE = new ThreadLocal<Workspace>() {
+        @Override protected Workspace initialValue() {
+            return new Workspace();
+        }
+    };
+
+    private Integrator() {}
+
+    /*
+     * Integrates a polynomial exactly
+     * @param polynom integrand
+     * @param lowerBound lower limit
+     * @param upperBound upper limit, may be smaller than the lower one
+     * @return integral of the polynomial from the lower to the upper limit
+     */
+    @Contract(pure = true) public static double integrate(@NotNull OPolynom polynom, double lowerBound,
+                                                          double upperBound) {
+        return integrate(antiderivative(polynom), lowerBound, upperBound);
+    }
+
+    /*
+     * Integrates one polynomial over many intervals in parallel, its antiderivative is computed only once
+     * @param polynom integrand
+     * @param lowerBounds lower limit of every interval
+     * @param upperBounds upper limit of every interval
+     * @return integral over every interval, in the order of the intervals
+     * @throws IllegalArgumentException if there are not as many lower as upper limits
+     */
+    @Contract(pure = true) public static @NotNull double[] integrate(@NotNull OPolynom polynom,
+                                                                     @NotNull final double[] lowerBounds,
+                                                                     @NotNull final double[] upperBounds) {
+        if (lowerBounds.length != upperBounds.length)
+            throw new IllegalArgumentException("Number of lower limits " + lowerBounds.length
+                    + " differs from number of upper limits " + upperBounds.length);
+        final double[] antiderivative = antiderivative(polynom);
+        final double[] integrals = new double[lowerBounds.length];
+        Parallel.forEach(integrals.length, CHUNK_SIZE, new Parallel.Chunk() {
+            @Override public void run(int from, int to) {
+                for (int i = from; i < to; i++)
+                    integrals[i] = integrate(antiderivative, lowerBounds[i], upperBounds[i]);
+            }
+        });
+        return integrals;
+    }
+
+    /*
+     * Integrates a function with the default accuracy
+     * @see #integrate(UnivariateFunction, double, double, double, double)
+     */
+    public static double integrate(@NotNull UnivariateFunction function, double lowerBound, double upperBound) {
+        return integrate(function, lowerBound, upperBound, RELATIVE_ACCURACY, ABSOLUTE_ACCURACY);
+    }
+
+    /*
+     * Integrates a function by adaptive Gauss-Kronrod quadrature. The function may be integrated within its own
+     * evaluation.
+     * @param function integrand, finite on the open interval
+     * @param lowerBound finite lower limit
+     * @param upperBound finite upper limit, may be smaller than the lower one
+     * @param relativeAccuracy error allowed relative to the integral
+     * @param absoluteAccuracy error allowed regardless of the integral
+     * @return integral of the function, NaN if the function is NaN anywhere it is evaluated
+     * @throws IllegalArgumentException if a limit is not finite
+     * @throws TooManyEvaluationsException if the accuracy is not reached within the maximum number of intervals
+     */
+    public static double integrate(@NotNull UnivariateFunction function, double lowerBound, double upperBound,
+                                   double relativeAccuracy, double absoluteAccuracy) {
+        if (Double.isNaN(lowerBound) || Double.isInfinite(lowerBound)
+                || Double.isNaN(upperBound) || Double.isInfinite(upperBound))
+            throw new IllegalArgumentException("Limits must be finite: " + lowerBound + ", " + upperBound);
+        if (lowerBound == upperBound) return 0;
+
+        Workspace workspace = WORKSPACE.get();
+        // The function integrates within itself, the heap of this thread is in use
+        if (workspace.busy) workspace = new Workspace();
+        workspace.busy = true;
+        try {
+            return workspace.integrate(function, lowerBound, upperBound, relativeAccuracy, absoluteAccuracy);
+        } finally {
+            workspace.busy = false;
+        }
+    }
+
+    /*
+     * @return coefficients of the antiderivative that is zero at zero, in ascending order of the powers
+     */
+    @Contract(pure = true) private static @NotNull double[] antiderivative(@NotNull OPolynom polynom) {
+        double[] coefficients = polynom.getPolynom().getCoefficients();
+        double[] antiderivative = new double[coefficients.length + 1];
+        for (int i = 0; i < coefficients.length; i++) antiderivative[i + 1] = coefficients[i] / (i + 1);
+        return antiderivative;
+    }
+
+    @Contract(pure = true) private static double integrate(@NotNull double[] antiderivative, double lowerBound,
+                                                           double upperBound) {
+        return evaluate(antiderivative, upperBound) - evaluate(antiderivative, lowerBound);
+    }
+
+    @Contract(pure = true) private static double evaluate(@NotNull double[] coefficients, double x) {
+        double value = 0;
+        for (int i = coefficients.length - 1; i >= 0; i--) value = value * x + coefficients[i];
+        return value;
+    }
+
+    /*
+     * Intervals of one adaptive integral as a max-heap by their error estimate, reused from integral to integral
+     */
+    private static final class Workspace {
+
+        @NotNull private final double[] lower = new double[MAX_INTERVALS];
+        @NotNull private final double[] upper = new double[MAX_INTERVALS];
+        @NotNull private final double[] integral = new double[MAX_INTERVALS];
+        @NotNull private final double[] error = new double[MAX_INTERVALS];
+        private int size;
+        private boolean busy;
+
+        // Integral and error of the last interval estimated
+        private double lastIntegral;
+        private double lastError;
+
+        private double integrate(@NotNull UnivariateFunction function, double lowerBound, double upperBound,
+                                 double relativeAccuracy, double absoluteAccuracy) {
+            size = 0;
+            estimate(function, lowerBound, upperBound);
+            push(lowerBound, upperBound);
+            double total = lastIntegral, totalError = lastError;
+
+            while (totalError > Math.max(absoluteAccuracy, relativeAccuracy * Math.abs(total))) {
+                if (Double.isNaN(total) || Double.isNaN(totalError)) return Double.NaN;
+                if (size == MAX_INTERVALS) throw new TooManyEvaluationsException(15 * (2 * MAX_INTERVALS - 1));
+
+                // Bisect the interval with the largest error
+                double a = lower[0], b = upper[0], middle = 0.5 * (a + b);
+                total -= integral[0];
+                totalError -= error[0];
+                if (middle == a || middle == b) {
+                    // As small as doubles allow, its error cannot be reduced any further
+                    total += integral[0];
+                    error[0] = 0;
+                    siftDown(0);
+                    continue;
+                }
+                estimate(function, a, middle);
+                total += lastIntegral;
+                totalError += lastError;
+                lower[0] = a;
+                upper[0] = middle;
+                integral[0] = lastIntegral;
+                error[0] = lastError;
+                siftDown(0);
+                estimate(function, middle, b);
+                total += lastIntegral;
+                totalError += lastError;
+                push(middle, b);
+            }
+            return total;
+        }
+
+        /*
+         * Applies the Kronrod and the Gauss rule to one interval, the integral is the Kronrod estimate and the error
+         * the difference of both
+         */
+        private void estimate(@NotNull UnivariateFunction function, double a, double b) {
+            double center = 0.5 * (a + b), halfLength = 0.5 * (b - a);
+            double value = function.value(center);
+            double kronrod = value * KRONROD_WEIGHTS[7], gauss = value * GAUSS_WEIGHTS[3];
+            for (int j = 0; j < 7; j++) {
+                double offset = halfLength * KRONROD_NODES[j];
+                double sum = function.value(center - offset) + function.value(center + offset);
+                kronrod += KRONROD_WEIGHTS[j] * sum;
+                if (j % 2 == 1) gauss += GAUSS_WEIGHTS[j / 2] * sum;
+            }
+            lastIntegral = kronrod * halfLength;
+            lastError = Math.abs((kronrod - gauss) * halfLength);
+        }
+
+        private void push(double a, double b) {
+            int i = size++;
+            lower[i] = a;
+            upper[i] = b;
+            integral[i] = lastIntegral;
+            error[i] = lastError;
+            while (i > 0 && error[(i - 1) / 2] < error[i]) {
+                swap(i, (i - 1) / 2);
+                i = (i - 1) / 2;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int largest = i, left = 2 * i + 1, right = left + 1;
+                if (left < size && error[left] > error[largest]) largest = left;
+                if (right < size && error[right] > error[largest]) largest = right;
+                if (largest == i) return;
+                swap(i, largest);
+                i = largest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            double t = lower[i]; lower[i] = lower[j]; lower[j] = t;
+            t = upper[i]; upper[i] = upper[j]; upper[j] = t;
+            t = integral[i]; integral[i] = integral[j]; integral[j] = t;
+            t = error[i]; error[i] = error[j]; error[j] = t;
+        }
+    }
+
+}
@@ -0,0 +1,239 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import de.fhdw.wip.rpntilecalculator.model.concurrent.Parallel;
+
+import org.apache.commons.math3.linear.RealMatrix;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/*
+ * Summary: LU decomposition with column pivot search, P * A = L * U, computed once and reused for any number of
+ *          right-hand sides. The factors are stored in place of a copy of A, L below the diagonal with implicit
+ *          ones, U on and above it. Large matrices are factored in column blocks whose trailing
+ *          update is a parallel matrix product. Factorizations are immutable once built.
+ * Date:    2026/10/17
+ */
+public final class LUFactorization {
+
+    // Columns per block, the trailing update of a block reads the block rows of U while they are in the cache
+    private static final int BLOCK = 64;
+
+    // Multiply-adds of substitutions per chunk of a batch solve
+    private static final int SOLVES_PER_CHUNK = 1 << 16;
+
+    // Pivots at most this fraction of the largest entry of their row or, if smaller, of their column in A count as
+    // zero, so regular matrices with rows or columns of very different size are not taken for singular
+    private static final double SINGULARITY = 1e-12;
+
+    // Columns of the trailing matrix updated at once, the rows of U of a block and these columns fit the L2 cache
+    private static final int COLUMN_BLOCK = 256;
+
+    private final int n;
+    // Rows of the factors in the order of P * A, swapping rows only swaps references
+    @NotNull private final double[][] lu;
+    // Row swapped with row k while eliminating column k
+    @NotNull private final int[] pivot;
+    // Largest entries of the rows of A, swapped along with the rows, and of its columns
+    @NotNull private final double[] rowScale;
+    @NotNull private final double[] columnScale;
+    private final boolean singular;
+    private final int numOfSwaps;
+
+    /*
+     * Factors a square matrix, the matrix itself is not changed
+     * @param matrix square matrix
+     * @throws CalculationException if the matrix is not square
+     */
+    public LUFactorization(@NotNull RealMatrix matrix) throws CalculationException {
+        if (!matrix.isSquare()) throw new CalculationException("A isn't a square matrix");
+
+        this.n = matrix.getRowDimension();
+        this.lu = matrix.getData();
+        this.pivot = new int[n];
+
+        this.rowScale = new double[n];
+        this.columnScale = new double[n];
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < n; j++) {
+                double d = Math.abs(lu[i][j]);
+                rowScale[i] = Math.max(rowScale[i], d);
+                columnScale[j] = Math.max(columnScale[j], d);
+            }
+
+        boolean singular = false;
+        int numOfSwaps = 0;
+        for (int k0 = 0; k0 < n; k0 += BLOCK) {
+            int k1 = Math.min(n, k0 + BLOCK);
+            for (int k = k0; k < k1; k++) {
+                if (!factorColumn(k, k1)) singular = true;
+                if (pivot[k] != k) numOfSwaps++;
+            }
+            if (k1 < n) {
+                solveBlockRows(k0, k1);
+                updateTrailing(k0, k1);
+            }
+        }
+        this.singular = singular;
+        this.numOfSwaps = numOfSwaps;
+    }
+
+    /*
+     * Searches the pivot of column k, swaps the rows and eliminates the column below the diagonal, but only updates
+     * the columns of the current block up to k1
+     * @return false if the column has no usable pivot
+     */
+    private boolean factorColumn(int k, int k1) {
+        int p = k;
+        double max = Math.abs(lu[k][k]);
+        for (int i = k + 1; i < n; i++) {
+            double candidate = Math.abs(lu[i][k]);
+            if (candidate > max) {
+                max = candidate;
+                p = i;
+            }
+        }
+        pivot[k] = p;
+        if (max <= SINGULARITY * Math.min(rowScale[p], columnScale[k])) return false;
+
+        double[] rowK = lu[p];
+        lu[p] = lu[k];
+        lu[k] = rowK;
+        double scale = rowScale[p];
+        rowScale[p] = rowScale[k];
+        rowScale[k] = scale;
+
+        double inverse = 1 / rowK[k];
+        for (int i = k + 1; i < n; i++) {
+            double[] rowI = lu[i];
+            double l = rowI[k] *= inverse;
+            if (l == 0) continue;
+            for (int j = k + 1; j < k1; j++) rowI[j] -= l * rowK[j];
+        }
+        return true;
+    }
+
+    /*
+     * Computes the rows of U right of the block, U12 = L11^-1 * A12
+     */
+    private void solveBlockRows(int k0, int k1) {
+        for (int k = k0; k < k1; k++) {
+            double[] rowK = lu[k];
+            for (int i = k + 1; i < k1; i++) {
+                double[] rowI = lu[i];
+                double l = rowI[k];
+                if (l == 0) continue;
+                for (int j = k1; j < n; j++) rowI[j] -= l * rowK[j];
+            }
+        }
+    }
+
+    /*
+     * A22 -= L21 * U12 for the rows and columns below and right of the block, row chunks run in parallel
+     */
+    private void updateTrailing(final int k0, final int k1) {
+        int rows = n - k1;
+        int chunkRows = MatrixKernel.isLarge(rows, k1 - k0, rows)
+                ? Math.max(1, Math.min(BLOCK, rows / (4 * Parallel.getParallelism()))) : rows;
+        Parallel.forEach(rows, chunkRows, new Parallel.Chunk() {
+            @Override public void run(int from, int to) {
+                for (int jj = k1; jj < n; jj += COLUMN_BLOCK) {
+                    int jEnd = Math.min(n, jj + COLUMN_BLOCK);
+                    for (int i = k1 + from; i < k1 + to; i++) {
+                        double[] rowI = lu[i];
+                        for (int k = k0; k < k1; k++) {
+                            double l = rowI[k];
+                            if (l == 0) continue;
+                            double[] rowK = lu[k];
+                            for (int j = jj; j < jEnd; j++) rowI[j] -= l * rowK[j];
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    /*
+     * Solves A * x = b
+     * @param b right-hand side, not changed
+     * @return x
+     * @throws CalculationException if A is singular or b does not have one value per row of A
+     */
+    @Contract(pure = true) @NotNull public double[] solve(@NotNull double[] b) throws CalculationException {
+        check(b);
+        return substitute(b);
+    }
+
+    /*
+     * Solves A * x = b for many right-hand sides, large batches are solved in parallel
+     * @param bs right-hand sides, not changed
+     * @return one x per right-hand side
+     * @throws CalculationException if A is singular or any b does not have one value per row of A
+     */
+    @Contract(pure = true) @NotNull public double[][] solve(@NotNull final double[][] bs) throws CalculationException {
+        for (double[] b : bs) check(b);
+
+        final double[][] xs = new double[bs.length][];
+        int chunk = Math.max(1, SOLVES_PER_CHUNK / Math.max(1, n * n));
+        Parallel.forEach(bs.length, chunk, new Parallel.Chunk() {
+            @Override public void run(int from, int to) {
+                for (int i = from; i < to; i++) xs[i] = substitute(bs[i]);
+            }
+        });
+        return xs;
+    }
+
+    private void check(@NotNull double[] b) throws CalculationException {
+        if (b.length != n) throw new CalculationException("A should have the same number of rows/columns as b values.");
+        if (singular) throw new CalculationException("A is singular");
+    }
+
+    /*
+     * Swaps b like the rows of A, then solves L * y = P * b forwards and U * x = y backwards
+     */
+    @NotNull private double[] substitute(@NotNull double[] b) {
+        double[] x = b.clone();
+        for (int k = 0; k < n; k++) {
+            int p = pivot[k];
+            if (p != k) {
+                double h = x[k];
+                x[k] = x[p];
+                x[p] = h;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            double[] row = lu[i];
+            double sum = x[i];
+            for (int k = 0; k < i; k++) sum -= row[k] * x[k];
+            x[i] = sum;
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            double[] row = lu[i];
+            double sum = x[i];
+            for (int k = i + 1; k < n; k++) sum -= row[k] * x[k];
+            x[i] = sum / row[i];
+        }
+        return x;
+    }
+
+    /*
+     * @return determinant of A, 0 if A is singular
+     */
+    @Contract(pure = true) public double getDeterminant() {
+        if (singular) return 0;
+        double determinant = numOfSwaps % 2 == 0 ? 1 : -1;
+        for (int i = 0; i < n; i++) determinant *= lu[i][i];
+        return determinant;
+    }
+
+    public boolean isSingular() {
+        return singular;
+    }
+
+    /*
+     * @return number of rows and columns of A
+     */
+    public int getDimension() {
+        return n;
+    }
+
+}
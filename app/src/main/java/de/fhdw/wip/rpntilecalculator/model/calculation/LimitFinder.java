@@ -0,0 +1,154 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.OPolynom;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/*
+ * Summary: Computes limits of polynomials and of rational functions, quotients of two polynomials, analytically
+ *          instead of by approaching the point step by step. A polynomial is continuous, its limit is its value.
+ *          At infinity the leading coefficients and the degrees decide. At a finite point both polynomials are
+ *          expanded in powers of (x - point); the lowest powers whose coefficients do not vanish tell whether the
+ *          quotient tends to zero, to the quotient of these coefficients or to infinity, and with which sign on
+ *          each side. A coefficient vanishes if it is zero up to the rounding of the expansion.
+ * Date:    2026/10/17
+ */
+public final class LimitFinder {
+
+    private static final double EPSILON = Math.ulp(1d);
+
+    private LimitFinder() {}
+
+    /*
+     * @param polynom examined function
+     * @param approach limit point, may be infinite
+     * @return limit of the polynomial, its value at a finite point
+     */
+    @Contract(pure = true) public static double limit(@NotNull OPolynom polynom, double approach) {
+        double[] coefficients = polynom.getPolynom().getCoefficients();
+        int degree = degree(coefficients);
+        if (degree <= 0) return degree < 0 ? 0 : coefficients[0];
+        if (!Double.isInfinite(approach)) return evaluate(coefficients, approach);
+        return atInfinity(coefficients[degree], degree, approach);
+    }
+
+    /*
+     * Limit of a rational function, NaN if the limits from below and from above differ
+     * @param numerator polynomial above the fraction bar
+     * @param denominator polynomial below the fraction bar, not zero
+     * @param approach limit point, may be infinite
+     * @throws IllegalArgumentException if the denominator is the zero polynomial
+     */
+    @Contract(pure = true) public static double limit(@NotNull OPolynom numerator, @NotNull OPolynom denominator,
+                                                      double approach) {
+        return limit(numerator, denominator, approach, 0);
+    }
+
+    /*
+     * Limit of a rational function from values below the limit point
+     * @see #limit(OPolynom, OPolynom, double)
+     */
+    @Contract(pure = true) public static double limitFromBelow(@NotNull OPolynom numerator,
+                                                               @NotNull OPolynom denominator, double approach) {
+        return limit(numerator, denominator, approach, -1);
+    }
+
+    /*
+     * Limit of a rational function from values above the limit point
+     * @see #limit(OPolynom, OPolynom, double)
+     */
+    @Contract(pure = true) public static double limitFromAbove(@NotNull OPolynom numerator,
+                                                               @NotNull OPolynom denominator, double approach) {
+        return limit(numerator, denominator, approach, 1);
+    }
+
+    /*
+     * @param side -1 from below, 1 from above, 0 from both sides
+     */
+    @Contract(pure = true) private static double limit(@NotNull OPolynom numerator, @NotNull OPolynom denominator,
+                                                       double approach, int side) {
+        double[] above = numerator.getPolynom().getCoefficients();
+        double[] below = denominator.getPolynom().getCoefficients();
+        int numeratorDegree = degree(above), denominatorDegree = degree(below);
+        if (denominatorDegree < 0)
+            throw new IllegalArgumentException("The denominator must not be the zero polynomial.");
+        if (Double.isNaN(approach)) return Double.NaN;
+        if (numeratorDegree < 0) return 0;
+
+        if (Double.isInfinite(approach)) {
+            double quotient = above[numeratorDegree] / below[denominatorDegree];
+            if (numeratorDegree < denominatorDegree) return 0;
+            if (numeratorDegree == denominatorDegree) return quotient;
+            return atInfinity(quotient, numeratorDegree - denominatorDegree, approach);
+        }
+
+        // Coefficients of the powers of (x - approach), the lowest ones that do not vanish
+        double[] numeratorTaylor = taylor(above, numeratorDegree, approach);
+        double[] denominatorTaylor = taylor(below, denominatorDegree, approach);
+        int numeratorOrder = order(above, numeratorTaylor, approach);
+        int denominatorOrder = order(below, denominatorTaylor, approach);
+        double quotient = numeratorTaylor[numeratorOrder] / denominatorTaylor[denominatorOrder];
+        if (numeratorOrder > denominatorOrder) return 0;
+        if (numeratorOrder == denominatorOrder) return quotient;
+
+        // A pole, its sign changes at the point if its order is odd
+        double fromAbove = quotient > 0 ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+        double fromBelow = (denominatorOrder - numeratorOrder) % 2 == 0 ? fromAbove : -fromAbove;
+        if (side > 0) return fromAbove;
+        if (side < 0) return fromBelow;
+        return fromAbove == fromBelow ? fromAbove : Double.NaN;
+    }
+
+    /*
+     * @return the limit of factor * x^power for x towards plus or minus infinity, power is positive
+     */
+    @Contract(pure = true) private static double atInfinity(double factor, int power, double approach) {
+        double sign = approach < 0 && power % 2 == 1 ? -Math.signum(factor) : Math.signum(factor);
+        return sign * Double.POSITIVE_INFINITY;
+    }
+
+    /*
+     * @return the highest power with a coefficient that is not zero, -1 for the zero polynomial
+     */
+    @Contract(pure = true) private static int degree(@NotNull double[] coefficients) {
+        int degree = coefficients.length - 1;
+        while (degree >= 0 && coefficients[degree] == 0) degree--;
+        return degree;
+    }
+
+    @Contract(pure = true) private static double evaluate(@NotNull double[] coefficients, double x) {
+        double value = 0;
+        for (int i = coefficients.length - 1; i >= 0; i--) value = value * x + coefficients[i];
+        return value;
+    }
+
+    /*
+     * Taylor shift by repeated Horner division through (x - point)
+     * @return coefficients t with p(x) = sum of t_i (x - point)^i
+     */
+    @Contract(pure = true) static @NotNull double[] taylor(@NotNull double[] coefficients, int degree,
+                                                           double point) {
+        double[] taylor = new double[degree + 1];
+        System.arraycopy(coefficients, 0, taylor, 0, degree + 1);
+        for (int i = 0; i < degree; i++)
+            for (int j = degree - 1; j >= i; j--) taylor[j] += point * taylor[j + 1];
+        return taylor;
+    }
+
+    /*
+     * The same shift of the absolute values at the absolute point bounds the rounding error of every coefficient
+     * @return the lowest power whose coefficient is larger than its rounding error
+     */
+    @Contract(pure = true) private static int order(@NotNull double[] coefficients, @NotNull double[] taylor,
+                                                    double point) {
+        int degree = taylor.length - 1;
+        double[] bound = new double[degree + 1];
+        for (int i = 0; i <= degree; i++) bound[i] = Math.abs(coefficients[i]);
+        double[] shifted = taylor(bound, degree, Math.abs(point));
+        int order = 0;
+        while (order < degree && Math.abs(taylor[order]) <= 4 * (degree + 1) * EPSILON * shifted[order]) order++;
+        return order;
+    }
+
+}
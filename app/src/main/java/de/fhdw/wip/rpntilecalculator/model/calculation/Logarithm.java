@@ -1,11 +1,9 @@
 package de.fhdw.wip.rpntilecalculator.model.calculation;
 
-
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
-import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
 
 /*
  * Summary: A Class that can calculate the natural logarithm.
@@ -26,12 +24,6 @@ public class Logarithm extends Action {
         requiredNumOfOperands = new int[]{1, 2};
     }
 
-    @NotNull @Override
-    public Operand with(@NotNull Operand... operands) throws CalculationException {
-        scopedAction = this;
-        return super.with(operands);
-    }
-
     //Natural Logarithm
     @Contract(pure = true) @NotNull ODouble on(@NotNull ODouble oDouble) {
         if(oDouble.getDouble() <= 0)
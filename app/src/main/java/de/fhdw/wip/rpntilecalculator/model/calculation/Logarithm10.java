@@ -3,7 +3,6 @@ package de.fhdw.wip.rpntilecalculator.model.calculation;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
-import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
 
 /*
  * Summary: A Class that can calculate the logarith to the base of 10. 
@@ -24,12 +23,6 @@ public class Logarithm10 extends Action {
         requiredNumOfOperands = new int[]{1};
     }
 
-    @NotNull @Override
-    public Operand with(@NotNull Operand... operands) throws CalculationException {
-        scopedAction = this;
-        return super.with(operands);
-    }
-
     //Logarithm to the base of 10
     @Contract(pure = true) @NotNull ODouble on(@NotNull ODouble oDouble) {
         if(oDouble.getDouble() <= 0)
@@ -0,0 +1,175 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.MatrixExpression;
+import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
+
+import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.MatrixDimensionMismatchException;
+import org.apache.commons.math3.linear.RealMatrix;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/*
+ * Summary: Deferred matrix result of Plus, Minus, Times and Slash, a constant added to a sum of scaled matrices and
+ *          scaled products of two matrices. Scaling and adding combinations only combines their terms, so a chain
+ *          like A * B * 2 + C is computed into one array by MatrixKernel.multiplyAdd once it is needed, without an
+ *          array for every intermediate result. A combination used as a factor of a product is computed first,
+ *          unless it is a single scaled matrix. Dimensions are checked when the combination is built, so actions
+ *          still fail right away.
+ * Date:    2026/10/17
+ */
+final class MatrixCombination extends MatrixExpression {
+
+    // Number of terms from which a combination is computed right away, bounds the matrices it keeps alive
+    private static final int MAX_TERMS = 8;
+
+    private final int rows;
+    private final int columns;
+    private final double constant;
+    @NotNull private final double[] factors;
+    @NotNull private final RealMatrix[] lefts;
+    // Right factor of every term, null for a term that is a scaled matrix only
+    @NotNull private final RealMatrix[] rights;
+
+    private MatrixCombination(int rows, int columns, double constant, @NotNull double[] factors,
+                              @NotNull RealMatrix[] lefts, @NotNull RealMatrix[] rights) {
+        this.rows = rows;
+        this.columns = columns;
+        this.constant = constant;
+        this.factors = factors;
+        this.lefts = lefts;
+        this.rights = rights;
+    }
+
+    /*
+     * @return the combination an operand is deferred as, or the single term of its computed matrix
+     */
+    @Contract(pure = true) @NotNull private static MatrixCombination of(@NotNull OMatrix oMatrix) {
+        MatrixExpression expression = oMatrix.getExpression();
+        if (expression instanceof MatrixCombination) return (MatrixCombination) expression;
+        RealMatrix matrix = oMatrix.getMatrix();
+        return new MatrixCombination(matrix.getRowDimension(), matrix.getColumnDimension(), 0,
+                new double[]{1}, new RealMatrix[]{matrix}, new RealMatrix[1]);
+    }
+
+    @Contract(pure = true) @NotNull private static OMatrix defer(@NotNull MatrixCombination combination) {
+        OMatrix oMatrix = new OMatrix(combination);
+        if (combination.factors.length > MAX_TERMS) oMatrix.getMatrix();
+        return oMatrix;
+    }
+
+    /*
+     * @return a * b
+     * @throws DimensionMismatchException if the columns of a are not the rows of b
+     */
+    @Contract(pure = true) @NotNull static OMatrix product(@NotNull OMatrix a, @NotNull OMatrix b) {
+        if (a.getColumnDimension() != b.getRowDimension())
+            throw new DimensionMismatchException(b.getRowDimension(), a.getColumnDimension());
+
+        // A scaled matrix moves its factor to the product, any other combination is computed
+        MatrixCombination left = of(a), right = of(b);
+        double factor = 1;
+        RealMatrix leftMatrix, rightMatrix;
+        if (left.isScaledMatrix()) {
+            factor *= left.factors[0];
+            leftMatrix = left.lefts[0];
+        } else leftMatrix = a.getMatrix();
+        if (right.isScaledMatrix()) {
+            factor *= right.factors[0];
+            rightMatrix = right.lefts[0];
+        } else rightMatrix = b.getMatrix();
+
+        return defer(new MatrixCombination(a.getRowDimension(), b.getColumnDimension(), 0,
+                new double[]{factor}, new RealMatrix[]{leftMatrix}, new RealMatrix[]{rightMatrix}));
+    }
+
+    /*
+     * @return alpha * a + beta * b
+     * @throws MatrixDimensionMismatchException if the dimensions of a and b differ
+     */
+    @Contract(pure = true) @NotNull static OMatrix add(double alpha, @NotNull OMatrix a, double beta,
+                                                       @NotNull OMatrix b) {
+        if (a.getRowDimension() != b.getRowDimension() || a.getColumnDimension() != b.getColumnDimension())
+            throw new MatrixDimensionMismatchException(b.getRowDimension(), b.getColumnDimension(),
+                    a.getRowDimension(), a.getColumnDimension());
+
+        MatrixCombination first = of(a), second = of(b);
+        int size = first.factors.length + second.factors.length;
+        double[] factors = new double[size];
+        RealMatrix[] lefts = new RealMatrix[size];
+        RealMatrix[] rights = new RealMatrix[size];
+        int n = first.factors.length;
+        for (int t = 0; t < n; t++) factors[t] = alpha * first.factors[t];
+        for (int t = 0; t < second.factors.length; t++) factors[n + t] = beta * second.factors[t];
+        System.arraycopy(first.lefts, 0, lefts, 0, n);
+        System.arraycopy(second.lefts, 0, lefts, n, second.lefts.length);
+        System.arraycopy(first.rights, 0, rights, 0, n);
+        System.arraycopy(second.rights, 0, rights, n, second.rights.length);
+
+        return defer(new MatrixCombination(first.rows, first.columns,
+                alpha * first.constant + beta * second.constant, factors, lefts, rights));
+    }
+
+    /*
+     * @return alpha * a
+     */
+    @Contract(pure = true) @NotNull static OMatrix scale(double alpha, @NotNull OMatrix a) {
+        MatrixCombination combination = of(a);
+        double[] factors = new double[combination.factors.length];
+        for (int t = 0; t < factors.length; t++) factors[t] = alpha * combination.factors[t];
+        return defer(new MatrixCombination(combination.rows, combination.columns, alpha * combination.constant,
+                factors, combination.lefts, combination.rights));
+    }
+
+    /*
+     * @return a with d added to every entry
+     */
+    @Contract(pure = true) @NotNull static OMatrix shift(@NotNull OMatrix a, double d) {
+        MatrixCombination combination = of(a);
+        return defer(new MatrixCombination(combination.rows, combination.columns, combination.constant + d,
+                combination.factors, combination.lefts, combination.rights));
+    }
+
+    private boolean isScaledMatrix() {
+        return factors.length == 1 && rights[0] == null && constant == 0;
+    }
+
+    @Override public int getRowDimension() {
+        return rows;
+    }
+
+    @Override public int getColumnDimension() {
+        return columns;
+    }
+
+    /*
+     * Starts with the constant, adds the scaled matrices and then every scaled product in place, the rows of the
+     * result are the only array allocated
+     */
+    @NotNull @Override public RealMatrix evaluate() {
+        // A single matrix is returned as it is, like before combinations existed
+        if (isScaledMatrix() && factors[0] == 1) return lefts[0];
+
+        double[][] c = new double[rows][columns];
+        if (constant != 0) for (double[] row : c) Arrays.fill(row, constant);
+        for (int t = 0; t < factors.length; t++) {
+            if (rights[t] != null) continue;
+            double factor = factors[t];
+            double[][] matrix = MatrixKernel.rows(lefts[t]);
+            for (int i = 0; i < rows; i++) {
+                double[] cRow = c[i], row = matrix[i];
+                for (int j = 0; j < columns; j++) cRow[j] += factor * row[j];
+            }
+        }
+        for (int t = 0; t < factors.length; t++) {
+            RealMatrix right = rights[t];
+            if (right != null)
+                MatrixKernel.multiplyAdd(factors[t], MatrixKernel.rows(lefts[t]), MatrixKernel.rows(right), c);
+        }
+        return new Array2DRowRealMatrix(c, false);
+    }
+
+}
@@ -0,0 +1,222 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import de.fhdw.wip.rpntilecalculator.model.concurrent.Parallel;
+
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.RealMatrix;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/*
+ * Summary: Dense matrix kernels on flat row-major arrays, the entry (i, j) of a matrix with c columns lies at
+ *          i * c + j. Products are cache-blocked and their row blocks are computed in parallel.
+ * Date:    2026/10/17
+ */
+public final class MatrixKernel {
+
+    // Number of multiply-adds from which the blocked kernel beats the product of commons-math
+    public static final long MULTIPLY_THRESHOLD = 48L * 48 * 48;
+
+    // Edge of the blocks of the inner dimension and the columns, a block of the right matrix fits the L1/L2 cache
+    private static final int BLOCK = 64;
+
+    private MatrixKernel() {}
+
+    /*
+     * @return if a product of these dimensions should be computed by multiply
+     */
+    @Contract(pure = true) public static boolean isLarge(int rows, int inner, int columns) {
+        return (long) rows * inner * columns >= MULTIPLY_THRESHOLD;
+    }
+
+    /*
+     * Product of two matrices, small products are computed on the calling thread
+     * @param a left matrix with the given number of rows and inner columns
+     * @param b right matrix with inner rows and the given number of columns
+     * @return a * b with rows rows and columns columns
+     */
+    @Contract(pure = true) public static @NotNull double[] multiply(@NotNull double[] a, int rows, int inner,
+                                                                    @NotNull double[] b, int columns) {
+        double[] c = new double[rows * columns];
+        multiplyAdd(1, a, rows, inner, b, columns, c);
+        return c;
+    }
+
+    /*
+     * Adds a scaled product to a matrix in place, c += alpha * a * b, without an array for the product. With alpha
+     * 1 and c zero the result is the same as the one of multiply.
+     * @param a left matrix with the given number of rows and inner columns
+     * @param b right matrix with inner rows and the given number of columns
+     * @param c matrix with rows rows and columns columns the product is added to
+     */
+    public static void multiplyAdd(final double alpha, @NotNull final double[] a, final int rows, final int inner,
+                                   @NotNull final double[] b, final int columns, @NotNull final double[] c) {
+        if (a.length != rows * inner || b.length != inner * columns || c.length != rows * columns)
+            throw new IllegalArgumentException("Dimensions do not fit the arrays");
+
+        if (!isLarge(rows, inner, columns)) {
+            multiplyRows(alpha, a, inner, b, columns, c, 0, rows);
+            return;
+        }
+
+        int chunkRows = Math.max(1, Math.min(BLOCK, rows / (4 * Parallel.getParallelism())));
+        Parallel.forEach(rows, chunkRows, new Parallel.Chunk() {
+            @Override public void run(int from, int to) {
+                multiplyRows(alpha, a, inner, b, columns, c, from, to);
+            }
+        });
+    }
+
+    /*
+     * Computes the rows [from, to) of c += alpha * a * b, blocked over the inner dimension and the columns so the block of b
+     * is reused by all rows of the chunk while it is in the cache. Every entry still sums its products in the order
+     * of the inner index, like the product of commons-math does.
+     */
+    private static void multiplyRows(double alpha, @NotNull double[] a, int inner, @NotNull double[] b,
+                                     int columns, @NotNull double[] c, int from, int to) {
+        for (int kk = 0; kk < inner; kk += BLOCK) {
+            int kEnd = Math.min(inner, kk + BLOCK);
+            for (int jj = 0; jj < columns; jj += BLOCK) {
+                int jEnd = Math.min(columns, jj + BLOCK);
+                int i = from;
+                // Four rows at once, so every value of b loaded is used four times
+                for (; i + 3 < to; i += 4) {
+                    int c0 = i * columns, c1 = c0 + columns, c2 = c1 + columns, c3 = c2 + columns;
+                    for (int k = kk; k < kEnd; k++) {
+                        double a0 = alpha * a[i * inner + k];
+                        double a1 = alpha * a[(i + 1) * inner + k];
+                        double a2 = alpha * a[(i + 2) * inner + k];
+                        double a3 = alpha * a[(i + 3) * inner + k];
+                        int bRow = k * columns;
+                        for (int j = jj; j < jEnd; j++) {
+                            double bkj = b[bRow + j];
+                            c[c0 + j] += a0 * bkj;
+                            c[c1 + j] += a1 * bkj;
+                            c[c2 + j] += a2 * bkj;
+                            c[c3 + j] += a3 * bkj;
+                        }
+                    }
+                }
+                for (; i < to; i++) {
+                    int cRow = i * columns;
+                    for (int k = kk; k < kEnd; k++) {
+                        double aik = alpha * a[i * inner + k];
+                        int bRow = k * columns;
+                        for (int j = jj; j < jEnd; j++)
+                            c[cRow + j] += aik * b[bRow + j];
+                    }
+                }
+            }
+        }
+    }
+
+    /*
+     * Adds a scaled product to a matrix in place like multiplyAdd, on the rows of the matrices instead of flat
+     * arrays, so the matrices of commons-math are used without copying them
+     * @param a left matrix, inner columns
+     * @param b right matrix, inner rows
+     * @param c matrix of the rows of a and the columns of b the product is added to
+     */
+    public static void multiplyAdd(final double alpha, @NotNull final double[][] a, @NotNull final double[][] b,
+                                   @NotNull final double[][] c) {
+        final int rows = c.length, inner = b.length, columns = rows == 0 ? 0 : c[0].length;
+        if (a.length != rows || (rows > 0 && a[0].length != inner) || (inner > 0 && b[0].length != columns))
+            throw new IllegalArgumentException("Dimensions do not fit the arrays");
+        if (rows == 0) return;
+
+        if (!isLarge(rows, inner, columns)) {
+            multiplyRows(alpha, a, b, c, 0, rows);
+            return;
+        }
+
+        int chunkRows = Math.max(1, Math.min(BLOCK, rows / (4 * Parallel.getParallelism())));
+        Parallel.forEach(rows, chunkRows, new Parallel.Chunk() {
+            @Override public void run(int from, int to) {
+                multiplyRows(alpha, a, b, c, from, to);
+            }
+        });
+    }
+
+    /*
+     * Computes the rows [from, to) of c += alpha * a * b, blocked like the kernel on flat arrays
+     */
+    private static void multiplyRows(double alpha, @NotNull double[][] a, @NotNull double[][] b,
+                                     @NotNull double[][] c, int from, int to) {
+        int inner = b.length, columns = c[0].length;
+        for (int kk = 0; kk < inner; kk += BLOCK) {
+            int kEnd = Math.min(inner, kk + BLOCK);
+            for (int jj = 0; jj < columns; jj += BLOCK) {
+                int jEnd = Math.min(columns, jj + BLOCK);
+                int i = from;
+                for (; i + 3 < to; i += 4) {
+                    double[] c0 = c[i], c1 = c[i + 1], c2 = c[i + 2], c3 = c[i + 3];
+                    double[] r0 = a[i], r1 = a[i + 1], r2 = a[i + 2], r3 = a[i + 3];
+                    for (int k = kk; k < kEnd; k++) {
+                        double a0 = alpha * r0[k], a1 = alpha * r1[k], a2 = alpha * r2[k], a3 = alpha * r3[k];
+                        double[] bRow = b[k];
+                        for (int j = jj; j < jEnd; j++) {
+                            double bkj = bRow[j];
+                            c0[j] += a0 * bkj;
+                            c1[j] += a1 * bkj;
+                            c2[j] += a2 * bkj;
+                            c3[j] += a3 * bkj;
+                        }
+                    }
+                }
+                for (; i < to; i++) {
+                    double[] cRow = c[i], aRow = a[i];
+                    for (int k = kk; k < kEnd; k++) {
+                        double aik = alpha * aRow[k];
+                        double[] bRow = b[k];
+                        for (int j = jj; j < jEnd; j++) cRow[j] += aik * bRow[j];
+                    }
+                }
+            }
+        }
+    }
+
+    /*
+     * @param n number of rows and columns
+     * @return identity matrix
+     */
+    @Contract(pure = true) public static @NotNull double[] identity(int n) {
+        double[] identity = new double[n * n];
+        for (int i = 0; i < n; i++) identity[i * n + i] = 1;
+        return identity;
+    }
+
+    /*
+     * @return the entries of the matrix in row-major order
+     */
+    @Contract(pure = true) public static @NotNull double[] flatten(@NotNull RealMatrix matrix) {
+        int rows = matrix.getRowDimension();
+        int columns = matrix.getColumnDimension();
+        double[] flat = new double[rows * columns];
+        if (matrix instanceof Array2DRowRealMatrix) {
+            double[][] data = ((Array2DRowRealMatrix) matrix).getDataRef();
+            for (int i = 0; i < rows; i++) System.arraycopy(data[i], 0, flat, i * columns, columns);
+        } else {
+            for (int i = 0; i < rows; i++)
+                for (int j = 0; j < columns; j++) flat[i * columns + j] = matrix.getEntry(i, j);
+        }
+        return flat;
+    }
+
+    /*
+     * @return the rows of the matrix, shared with it if it keeps them in an array
+     */
+    @Contract(pure = true) public static @NotNull double[][] rows(@NotNull RealMatrix matrix) {
+        return matrix instanceof Array2DRowRealMatrix ? ((Array2DRowRealMatrix) matrix).getDataRef() : matrix.getData();
+    }
+
+    /*
+     * @param flat entries in row-major order
+     * @return matrix of the entries, the rows are copied once into a matrix that keeps them without another copy
+     */
+    @Contract(pure = true) public static @NotNull RealMatrix toMatrix(@NotNull double[] flat, int rows, int columns) {
+        double[][] data = new double[rows][columns];
+        for (int i = 0; i < rows; i++) System.arraycopy(flat, i * columns, data[i], 0, columns);
+        return new Array2DRowRealMatrix(data, false);
+    }
+
+}
@@ -1,12 +1,19 @@
 package de.fhdw.wip.rpntilecalculator.model.calculation;
 
+import org.apache.commons.math3.linear.RealMatrix;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
-import de.fhdw.wip.rpntilecalculator.model.operands.OSet;
+import de.fhdw.wip.rpntilecalculator.model.operands.OSparseMatrix;
 import de.fhdw.wip.rpntilecalculator.model.operands.OTuple;
-import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
 
 /*
  * Summary: Solving systems of linear equations with "LR decomposition with column pivot search"
@@ -18,100 +25,181 @@ public class MatrixUtil extends Action {
     @NotNull
     private static final MatrixUtil MATRIX_UTIL  = new MatrixUtil();
 
+    // Matrix entries of all factorizations kept, each holds twice as many doubles, the least recently used one is
+    // dropped first. Larger matrices are not kept at all.
+    private static final int CACHE_ENTRIES = 1 << 20;
+
     @Contract(pure = true) @NotNull public static MatrixUtil getInstance() { return MATRIX_UTIL; }
     private MatrixUtil() { requiredNumOfOperands = new int[] {2}; }
 
-    @NotNull @Override
-    public Operand with(@NotNull Operand... operands) throws CalculationException {
-        scopedAction = this;
-        return super.with(operands);
-    }
+    // Factorizations of the matrices solved lately, keyed by their content, in the order of their last use
+    @NotNull private final Map<MatrixKey, CacheEntry> factorizations =
+            new LinkedHashMap<MatrixKey, CacheEntry>(16, 0.75f, true);
+    // Sum of the entries of the matrices in factorizations
+    private long cachedEntries;
 
     @Contract(pure = true) @NotNull OTuple on (@NotNull OMatrix A, @NotNull OTuple b) throws CalculationException {
         return solveLinearSystem(A, b);
     }
+
+    @Contract(pure = true) @NotNull OTuple on (@NotNull OSparseMatrix A, @NotNull OTuple b) throws CalculationException {
+        return solveLinearSystem(A, b);
+    }
+
     /**
      * On the condition that A*x = b
      * @param A Matrix
      * @param b Solution vector
      * @return Returns the vector 'x'
      */
-    public OTuple solveLinearSystem(@NotNull OMatrix A, OTuple b) throws CalculationException
+    public OTuple solveLinearSystem(@NotNull OMatrix A, @NotNull OTuple b) throws CalculationException
     {
-        if(A.getMatrix().isSquare()) {
-            if (b.getTuple().length == A.getMatrix().getRowDimension()) {
-                return new OTuple(solveLGSForX(A.getMatrix().getData(), b.getTuple()));
-            }
-            throw new CalculationException("A should have the same number of rows/columns as b values.");
+        return new OTuple(factorize(A).solve(b.getTuple()));
+    }
+
+    /**
+     * On the condition that A*x = b
+     * @param A Matrix
+     * @param b Solution vector, not changed
+     * @return Returns the vector 'x'
+     * @throws IllegalArgumentException if A isn't square, singular or b doesn't fit A
+     */
+    public OTuple solveLinearSystem(@NotNull OMatrix A, @NotNull double[] b)
+    {
+        try {
+            return new OTuple(factorize(A).solve(b));
+        } catch (CalculationException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
         }
-        throw new CalculationException("A isn't a square matrix");
+    }
 
+    /**
+     * On the condition that A*x = b, solved iteratively without a dense copy of A
+     * @param A Sparse matrix
+     * @param b Solution vector
+     * @return Returns the vector 'x'
+     */
+    public OTuple solveLinearSystem(@NotNull OSparseMatrix A, @NotNull OTuple b) throws CalculationException
+    {
+        return new OTuple(SparseSolver.solve(A, b.getTuple()));
     }
 
     /**
-     * Determines pivot vector
-     * @param A The linear system in double[][]
-     * @return
+     * Solves A*x = b for many right-hand sides with a single factorization of A
+     * @param A Matrix
+     * @param bs Solution vectors
+     * @return Returns one vector 'x' per solution vector
      */
-    private int[] pivot(@NotNull double A[][])
+    public OTuple[] solveLinearSystems(@NotNull OMatrix A, @NotNull OTuple[] bs) throws CalculationException
     {
-        int n = A.length;
-        int[] pivot = new int[n];
-        for (int j = 0; j < n-1; j++)
-        {
-            double max = Math.abs(A[j][j]);
-            int imax = j;
-            for (int i = j+1; i < n; i++)
-                if (Math.abs(A[i][j]) > max)
-                {
-                    max  = Math.abs(A[i][j]);
-                    imax = i;
-                }
-            double[] h = A[j];
-            A[j] = A[imax];
-            A[imax] = h;
-            pivot[j] = imax;
-            for (int i = j+1; i < n; i++)
-            {
-                double f = -A[i][j]/A[j][j];
-                for (int k = j+1; k < n; k++)
-                    A[i][k] += f*A[j][k];
-                A[i][j] = -f;
+        double[][] values = new double[bs.length][];
+        for (int i = 0; i < bs.length; i++) values[i] = bs[i].getTuple();
+
+        double[][] xs = factorize(A).solve(values);
+        OTuple[] solutions = new OTuple[xs.length];
+        for (int i = 0; i < xs.length; i++) solutions[i] = new OTuple(xs[i]);
+        return solutions;
+    }
+
+    /**
+     * Factorization of A, reused while A or a matrix with the same entries is among the last ones solved with.
+     * A matrix is not expected to change once it was solved with.
+     * @param A Matrix
+     * @return Returns the factorization P*A = L*U
+     */
+    @NotNull public LUFactorization factorize(@NotNull OMatrix A) throws CalculationException
+    {
+        LUFactorization factorization = cachedByOperand(A);
+        if (factorization != null) return factorization;
+
+        MatrixKey key = new MatrixKey(A.getMatrix());
+        synchronized (factorizations) {
+            CacheEntry entry = factorizations.get(key);
+            if (entry != null) {
+                entry.operand = new WeakReference<>(A);
+                return entry.factorization;
             }
         }
-        return pivot;
+
+        // Factored outside of the lock, two threads may factor the same matrix, but neither waits for the other
+        factorization = new LUFactorization(A.getMatrix());
+        int entries = key.values.length;
+        if (entries > CACHE_ENTRIES) return factorization;
+        synchronized (factorizations) {
+            CacheEntry replaced = factorizations.put(key, new CacheEntry(key, factorization, A));
+            cachedEntries += entries - (replaced == null ? 0 : replaced.key.values.length);
+            Iterator<CacheEntry> eldest = factorizations.values().iterator();
+            while (cachedEntries > CACHE_ENTRIES) {
+                cachedEntries -= eldest.next().key.values.length;
+                eldest.remove();
+            }
+        }
+        return factorization;
     }
 
     /**
-     * Löst das LGS A*x = b nach x auf
-     * @param A The linear system in double[][]
-     * @param b Solution vector
-     * @return Returns the vector 'x'
+     * Drops all cached factorizations
      */
-    private double[] solveLGSForX(double[][] A, double[] b)
+    public void clearFactorizations()
     {
-        double[][] B = A.clone();
-        double[] x = b.clone();
-        int[] pivot = pivot(B);
-        int n = B.length;
-        for (int i = 0; i < n-1; i++)
-        {
-            double h = b[pivot[i]];
-            b[pivot[i]] = b[i];
-            b[i] = h;
+        synchronized (factorizations) {
+            factorizations.clear();
+            cachedEntries = 0;
         }
-        for (int j = 0; j < n; j++)
-        {
-            x[j] = b[j];
-            for (int i = 0; i < j; i++)
-                x[j] -= B[j][i]*x[i];
+    }
+
+    @Nullable private LUFactorization cachedByOperand(@NotNull OMatrix A)
+    {
+        synchronized (factorizations) {
+            for (CacheEntry entry : factorizations.values()) {
+                if (entry.operand.get() != A) continue;
+                factorizations.get(entry.key);
+                return entry.factorization;
+            }
         }
-        for (int j = n-1; j >= 0; j--)
-        {
-            for (int k = j+1; k < n; k++)
-                x[j] -= B[j][k]*x[k];
-            x[j] /= B[j][j];
+        return null;
+    }
+
+    /*
+     * Copy of the entries of a matrix, equal for matrices with the same entries
+     */
+    private static final class MatrixKey {
+
+        private final int columns;
+        @NotNull private final double[] values;
+        private final int hash;
+
+        MatrixKey(@NotNull RealMatrix matrix) {
+            this.columns = matrix.getColumnDimension();
+            this.values = MatrixKernel.flatten(matrix);
+            this.hash = 31 * columns + Arrays.hashCode(values);
+        }
+
+        @Override public boolean equals(Object object) {
+            if (this == object) return true;
+            if (!(object instanceof MatrixKey)) return false;
+            MatrixKey other = (MatrixKey) object;
+            return hash == other.hash && columns == other.columns && Arrays.equals(values, other.values);
+        }
+
+        @Override public int hashCode() {
+            return hash;
+        }
+    }
+
+    /*
+     * Factorization and the operand it was last used for, which is only referenced weakly
+     */
+    private static final class CacheEntry {
+
+        @NotNull final MatrixKey key;
+        @NotNull final LUFactorization factorization;
+        @NotNull WeakReference<OMatrix> operand;
+
+        CacheEntry(@NotNull MatrixKey key, @NotNull LUFactorization factorization, @NotNull OMatrix operand) {
+            this.key = key;
+            this.factorization = factorization;
+            this.operand = new WeakReference<>(operand);
         }
-        return x;
     }
-}
\ No newline at end of file
+}
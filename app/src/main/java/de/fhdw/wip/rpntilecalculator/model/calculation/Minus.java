@@ -5,9 +5,10 @@ import de.fhdw.wip.rpntilecalculator.model.operands.OFraction;
 import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
 import de.fhdw.wip.rpntilecalculator.model.operands.OPolynom;
 import de.fhdw.wip.rpntilecalculator.model.operands.OSet;
+import de.fhdw.wip.rpntilecalculator.model.operands.OSparseMatrix;
 import de.fhdw.wip.rpntilecalculator.model.operands.OTuple;
-import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
 
+import org.apache.commons.math3.linear.RealMatrix;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
@@ -26,12 +27,6 @@ public class Minus extends Action {
         requiredNumOfOperands = new int[]{2};
     }
 
-    @NotNull @Override
-    public Operand with(@NotNull Operand... operands) throws CalculationException {
-        scopedAction = this;
-        return super.with(operands);
-    }
-
     //region Double
     //------------------------------------------------------------------------------------
 
@@ -75,15 +70,33 @@ public class Minus extends Action {
     //------------------------------------------------------------------------------------
 
     @Contract(pure = true) @NotNull OMatrix on(@NotNull OMatrix oMatrix1, @NotNull OMatrix oMatrix2) {
-        return new OMatrix(oMatrix1.getMatrix().subtract(oMatrix2.getMatrix()));
+        return MatrixCombination.add(1, oMatrix1, -1, oMatrix2);
     }
 
     @Contract(pure = true) @NotNull OMatrix on(@NotNull OMatrix oMatrix, @NotNull ODouble oDouble) {
-        return new OMatrix(oMatrix.getMatrix().scalarAdd(oDouble.turnAroundSign().getDouble()));
+        return MatrixCombination.shift(oMatrix, oDouble.turnAroundSign().getDouble());
     }
 
     @Contract(pure = true) @NotNull OMatrix on(@NotNull OMatrix oMatrix, @NotNull OFraction oFraction) {
-        return new OMatrix(oMatrix.getMatrix().scalarAdd(oFraction.turnAroundSign().getDouble()));
+        return MatrixCombination.shift(oMatrix, oFraction.turnAroundSign().getDouble());
+    }
+
+    @Contract(pure = true) @NotNull OSparseMatrix on(@NotNull OSparseMatrix oSparse1, @NotNull OSparseMatrix oSparse2) {
+        return SparseKernel.add(oSparse1, oSparse2, -1);
+    }
+
+    @Contract(pure = true) @NotNull OMatrix on(@NotNull OSparseMatrix oSparse, @NotNull OMatrix oMatrix) {
+        RealMatrix matrix = oMatrix.getMatrix().scalarMultiply(-1);
+        double[] difference = MatrixKernel.flatten(matrix);
+        SparseKernel.addTo(difference, oSparse, 1);
+        return new OMatrix(MatrixKernel.toMatrix(difference, matrix.getRowDimension(), matrix.getColumnDimension()));
+    }
+
+    @Contract(pure = true) @NotNull OMatrix on(@NotNull OMatrix oMatrix, @NotNull OSparseMatrix oSparse) {
+        RealMatrix matrix = oMatrix.getMatrix();
+        double[] difference = MatrixKernel.flatten(matrix);
+        SparseKernel.addTo(difference, oSparse, -1);
+        return new OMatrix(MatrixKernel.toMatrix(difference, matrix.getRowDimension(), matrix.getColumnDimension()));
     }
 
     //endregion
@@ -109,7 +122,7 @@ public class Minus extends Action {
     //------------------------------------------------------------------------------------
 
     @Contract(pure = true) @NotNull OTuple on(@NotNull OTuple oTuple1, @NotNull OTuple oTuple2) {
-        return PLUS.on(oTuple1, oTuple2.turnAroundSign());
+        return new OTuple(ElementKernel.subtract(oTuple1.getTuple(), oTuple2.getTuple()));
     }
 
     @Contract(pure = true) @NotNull OTuple on(@NotNull OTuple oTuple, @NotNull ODouble oDouble) {
@@ -1,7 +1,6 @@
 package de.fhdw.wip.rpntilecalculator.model.calculation;
 
 import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
-import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Contract;
@@ -18,12 +17,6 @@ public class Modulo extends Action {
         requiredNumOfOperands = new int[]{2};
     }
 
-    @NotNull @Override
-    public Operand with(@NotNull Operand... operands) throws CalculationException {
-        scopedAction = this;
-        return super.with(operands);
-    }
-
     //region Integer
     //------------------------------------------------------------------------------------
     /*
@@ -0,0 +1,55 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Method;
+
+/*
+ * Summary: The on(...) method of an action for fixed operand classes, resolved once and called any number of times
+ *          without another lookup. Safe for concurrent use like the action itself.
+ * Date:    2026/10/17
+ */
+public final class Overload {
+
+    @NotNull private final Action action;
+    @NotNull private final Method method;
+    @NotNull private final Class<? extends Operand> resultType;
+
+    Overload(@NotNull Action action, @NotNull Method method) {
+        this.action = action;
+        this.method = method;
+        this.resultType = method.getReturnType().asSubclass(Operand.class);
+    }
+
+    /*
+     * Calls the method, the operands must be of the classes the overload was resolved for
+     * @param operands arguments, the top of the stack first
+     * @return result of the calculation
+     * @throws CalculationException in case the calculation fails
+     */
+    @Contract(pure = true) public @NotNull Operand invoke(@NotNull Operand... operands) throws CalculationException {
+        return Dispatcher.invoke(action, method, operands);
+    }
+
+    @NotNull public Action getAction() {
+        return action;
+    }
+
+    /*
+     * @return declared result type of the method, Operand itself if the method does not tell
+     */
+    @NotNull public Class<? extends Operand> getResultType() {
+        return resultType;
+    }
+
+    /*
+     * @return number of operands the method takes
+     */
+    public int getNumOfOperands() {
+        return method.getParameterTypes().length;
+    }
+
+}
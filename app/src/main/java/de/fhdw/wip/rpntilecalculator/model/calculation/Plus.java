@@ -5,16 +5,14 @@ import de.fhdw.wip.rpntilecalculator.model.operands.OFraction;
 import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
 import de.fhdw.wip.rpntilecalculator.model.operands.OPolynom;
 import de.fhdw.wip.rpntilecalculator.model.operands.OSet;
+import de.fhdw.wip.rpntilecalculator.model.operands.OSparseMatrix;
 import de.fhdw.wip.rpntilecalculator.model.operands.OTuple;
-import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
 
 import org.apache.commons.math3.analysis.polynomials.PolynomialFunction;
+import org.apache.commons.math3.linear.RealMatrix;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.HashSet;
-import java.util.Set;
-
 /*
  * Summary: Defines the Plus click. Lets the user subtract operands.
  * Author:  Tim Schwenke
@@ -29,12 +27,6 @@ public class Plus extends Action {
         requiredNumOfOperands = new int[]{2};
     }
 
-    @NotNull @Override
-    public Operand with(@NotNull Operand... operands) throws CalculationException {
-        scopedAction = this;
-        return super.with(operands);
-    }
-
     @Contract(pure = true) @NotNull ODouble on(@NotNull ODouble oDouble1, @NotNull ODouble oDouble2) {
         return new ODouble(oDouble1.getDouble() + oDouble2.getDouble());
     }
@@ -48,10 +40,7 @@ public class Plus extends Action {
     }
 
     @Contract(pure = true) @NotNull OSet on(@NotNull ODouble oDouble, @NotNull OSet oSet) {
-        Set<Double> newSet = new HashSet<>();
-        for (double d : oSet.getSet())
-            newSet.add(d + oDouble.getDouble());
-        return new OSet(newSet);
+        return new OSet(ElementKernel.add(oSet.toArray(), oDouble.getDouble()));
     }
 
     @Contract(pure = true) @NotNull OSet on(@NotNull OSet oSet, @NotNull ODouble oDouble) {
@@ -59,7 +48,7 @@ public class Plus extends Action {
     }
 
     @Contract(pure = true) @NotNull OMatrix on(@NotNull ODouble oDouble, @NotNull OMatrix oMatrix) {
-        return new OMatrix(oMatrix.getMatrix().scalarAdd(oDouble.getDouble()));
+        return MatrixCombination.shift(oMatrix, oDouble.getDouble());
     }
 
     @Contract(pure = true) @NotNull OMatrix on(@NotNull OMatrix oMatrix, @NotNull ODouble oDouble) {
@@ -77,11 +66,7 @@ public class Plus extends Action {
     }
 
     @Contract(pure = true) @NotNull OTuple on(@NotNull ODouble oDouble, @NotNull OTuple oTuple) {
-        double[] oldTuple = oTuple.getTuple();
-        double[] newTuple = new double[oldTuple.length];
-        for (int i = 0; i < newTuple.length; i++)
-            newTuple[i] = oDouble.getDouble() + oldTuple[i];
-        return new OTuple(newTuple);
+        return new OTuple(ElementKernel.add(oTuple.getTuple(), oDouble.getDouble()));
     }
 
     @Contract(pure = true) @NotNull OTuple on(@NotNull OTuple oTuple, @NotNull ODouble oDouble) {
@@ -93,10 +78,7 @@ public class Plus extends Action {
     }
 
     @Contract(pure = true) @NotNull OSet on(@NotNull OFraction oFraction, @NotNull OSet oSet) {
-        Set<Double> newSet = new HashSet<>();
-        for (double d : oSet.getSet())
-            newSet.add(d + oFraction.getDouble());
-        return new OSet(newSet);
+        return new OSet(ElementKernel.add(oSet.toArray(), oFraction.getDouble()));
     }
 
     @Contract(pure = true) @NotNull OSet on(@NotNull OSet oSet, @NotNull OFraction oFraction) {
@@ -104,7 +86,7 @@ public class Plus extends Action {
     }
 
     @Contract(pure = true) @NotNull OMatrix on(@NotNull OFraction oFraction, @NotNull OMatrix oMatrix) {
-        return new OMatrix(oMatrix.getMatrix().scalarAdd(oFraction.getDouble()));
+        return MatrixCombination.shift(oMatrix, oFraction.getDouble());
     }
 
     @Contract(pure = true) @NotNull OMatrix on(@NotNull OMatrix oMatrix, @NotNull OFraction oFraction) {
@@ -122,12 +104,7 @@ public class Plus extends Action {
     }
 
     @Contract(pure = true) @NotNull OTuple on(@NotNull OFraction oFraction, @NotNull OTuple oTuple) {
-        double[] oldTuple = oTuple.getTuple();
-        double[] newTuple = new double[oldTuple.length];
-        double fractionDouble = oFraction.getDouble();
-        for (int i = 0; i < newTuple.length; i++)
-            newTuple[i] = fractionDouble + oldTuple[i];
-        return new OTuple(newTuple);
+        return new OTuple(ElementKernel.add(oTuple.getTuple(), oFraction.getDouble()));
     }
 
     @Contract(pure = true) @NotNull OTuple on(@NotNull OTuple oTuple, @NotNull OFraction oFraction) {
@@ -135,7 +112,7 @@ public class Plus extends Action {
     }
 
     @Contract(pure = true) @NotNull OMatrix on(@NotNull OMatrix oMatrix1, @NotNull OMatrix oMatrix2) {
-        return new OMatrix(oMatrix1.getMatrix().add(oMatrix2.getMatrix()));
+        return MatrixCombination.add(1, oMatrix1, 1, oMatrix2);
     }
 
     @Contract(pure = true) @NotNull OPolynom on(@NotNull OPolynom oPolynom1, @NotNull OPolynom oPolynom2) {
@@ -143,17 +120,22 @@ public class Plus extends Action {
     }
 
     @Contract(pure = true) @NotNull OTuple on(@NotNull OTuple oTuple1, @NotNull OTuple oTuple2) {
-        double[] tuple1 = oTuple1.getTuple();
-        double[] tuple2 = oTuple2.getTuple();
-        double[] tupleSum = new double[tuple1.length];
+        return new OTuple(ElementKernel.add(oTuple1.getTuple(), oTuple2.getTuple()));
+    }
 
-        if (tuple1.length != tuple2.length)
-            throw new IllegalArgumentException("Tuples must have matching size.");
+    @Contract(pure = true) @NotNull OSparseMatrix on(@NotNull OSparseMatrix oSparse1, @NotNull OSparseMatrix oSparse2) {
+        return SparseKernel.add(oSparse1, oSparse2, 1);
+    }
 
-        for (int i = 0; i < tupleSum.length; i++)
-            tupleSum[i] = tuple1[i] + tuple2[i];
+    @Contract(pure = true) @NotNull OMatrix on(@NotNull OSparseMatrix oSparse, @NotNull OMatrix oMatrix) {
+        RealMatrix matrix = oMatrix.getMatrix();
+        double[] sum = MatrixKernel.flatten(matrix);
+        SparseKernel.addTo(sum, oSparse, 1);
+        return new OMatrix(MatrixKernel.toMatrix(sum, matrix.getRowDimension(), matrix.getColumnDimension()));
+    }
 
-        return new OTuple(tupleSum);
+    @Contract(pure = true) @NotNull OMatrix on(@NotNull OMatrix oMatrix, @NotNull OSparseMatrix oSparse) {
+        return on(oSparse, oMatrix);
     }
 
 }
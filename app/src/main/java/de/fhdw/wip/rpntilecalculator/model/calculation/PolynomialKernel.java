@@ -0,0 +1,259 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/*
+ * Summary: Multiplies polynomials given by their coefficients in ascending order of the powers. Short factors are
+ *          multiplied term by term in O(n m), like PolynomialFunction.multiply and with the same result. Longer ones
+ *          by Karatsuba's method in O(n^1.58), which replaces one of four half-size products by additions. The
+ *          longest ones by the fast Fourier transform in O(n log n): both factors are packed into one complex
+ *          signal, whose squared spectrum holds the product. Karatsuba and the FFT round every coefficient with an
+ *          error relative to the size of the factors, not of the coefficient itself, so multiply recomputes the
+ *          coefficients below that rounding level term by term. Factors with coefficients that are not finite are
+ *          multiplied by Karatsuba.
+ * Date:    2026/10/17
+ */
+public final class PolynomialKernel {
+
+    // Length of the shorter factor from which Karatsuba beats the term by term product
+    public static final int KARATSUBA_THRESHOLD = 128;
+
+    // Length of the shorter factor from which the FFT beats Karatsuba
+    public static final int FFT_THRESHOLD = 512;
+
+    // Coefficients of a fast product are kept if their rounding error estimate is at most this fraction of them
+    private static final double ACCURACY = 0x1p-30;
+
+    // Twiddle factors of the largest transform so far, smaller transforms use every k-th of them
+    private static volatile Twiddles twiddles = new Twiddles(2);
+
+    private PolynomialKernel() {}
+
+    /*
+     * Product of two polynomials by the fastest method for their lengths. Every coefficient is accurate relative to
+     * itself, like the term by term product: those too small for the fast product, as in decaying series, are
+     * recomputed term by term.
+     * @param a coefficients of the first factor, not empty
+     * @param b coefficients of the second factor, not empty
+     * @return the a.length + b.length - 1 coefficients of the product
+     */
+    @Contract(pure = true) public static @NotNull double[] multiply(@NotNull double[] a, @NotNull double[] b) {
+        int shorter = Math.min(a.length, b.length);
+        if (shorter < KARATSUBA_THRESHOLD) return multiplySchoolbook(a, b);
+        if (!isFinite(a) || !isFinite(b)) return multiplyKaratsuba(a, b);
+        double[] c = shorter < FFT_THRESHOLD ? multiplyKaratsuba(a, b) : multiplyFft(a, b);
+        refine(a, b, c);
+        return c;
+    }
+
+    /*
+     * Recomputes the coefficients of a fast product that are not large against its rounding error term by term. The
+     * error of both fast products grows with log2 of the length and with ||a||_2 * ||b||_2, which bounds the
+     * coefficients of the product.
+     */
+    private static void refine(@NotNull double[] a, @NotNull double[] b, @NotNull double[] c) {
+        double levels = 32 - Integer.numberOfLeadingZeros(c.length);
+        double rounding = 8 * levels * Math.ulp(1d) * norm(a) * norm(b);
+        double limit = rounding / ACCURACY;
+        for (int k = 0; k < c.length; k++) {
+            if (Math.abs(c[k]) >= limit) continue;
+            // Same terms in the same order as multiplySchoolbook
+            double sum = 0;
+            for (int i = Math.max(0, k - b.length + 1), end = Math.min(k, a.length - 1); i <= end; i++)
+                sum += a[i] * b[k - i];
+            c[k] = sum;
+        }
+    }
+
+    /*
+     * Term by term product, adds the products for every power in ascending order of the powers of a
+     */
+    @Contract(pure = true) static @NotNull double[] multiplySchoolbook(@NotNull double[] a, @NotNull double[] b) {
+        double[] c = new double[a.length + b.length - 1];
+        for (int i = 0; i < a.length; i++)
+            for (int j = 0; j < b.length; j++) c[i + j] += a[i] * b[j];
+        return c;
+    }
+
+    /*
+     * Karatsuba product, the longer factor is cut into pieces as long as the shorter one
+     */
+    @Contract(pure = true) static @NotNull double[] multiplyKaratsuba(@NotNull double[] a, @NotNull double[] b) {
+        double[] longer = a.length >= b.length ? a : b, shorter = longer == a ? b : a;
+        int n = shorter.length;
+        double[] c = new double[a.length + b.length - 1];
+        double[] piece = new double[n];
+        for (int from = 0; from < longer.length; from += n) {
+            int length = Math.min(n, longer.length - from);
+            System.arraycopy(longer, from, piece, 0, length);
+            if (length < n) Arrays.fill(piece, length, n, 0);
+            double[] product = new double[2 * n - 1];
+            karatsuba(piece, 0, shorter, 0, n, product, 0);
+            int end = Math.min(product.length, c.length - from);
+            for (int k = 0; k < end; k++) c[from + k] += product[k];
+        }
+        return c;
+    }
+
+    /*
+     * Adds the product of a[aFrom, aFrom + n) and b[bFrom, bFrom + n) to c from cFrom on
+     */
+    private static void karatsuba(@NotNull double[] a, int aFrom, @NotNull double[] b, int bFrom, int n,
+                                  @NotNull double[] c, int cFrom) {
+        if (n < KARATSUBA_THRESHOLD) {
+            for (int i = 0; i < n; i++) {
+                double ai = a[aFrom + i];
+                for (int j = 0; j < n; j++) c[cFrom + i + j] += ai * b[bFrom + j];
+            }
+            return;
+        }
+
+        // a = a0 + a1 x^low, b likewise, the high halves are not shorter than the low ones
+        int low = n / 2, high = n - low;
+        double[] low0 = new double[2 * low - 1];
+        double[] high1 = new double[2 * high - 1];
+        karatsuba(a, aFrom, b, bFrom, low, low0, 0);
+        karatsuba(a, aFrom + low, b, bFrom + low, high, high1, 0);
+
+        // (a0 + a1)(b0 + b1) - a0 b0 - a1 b1 = a0 b1 + a1 b0
+        double[] aSum = new double[high], bSum = new double[high];
+        for (int i = 0; i < high; i++) {
+            aSum[i] = a[aFrom + low + i] + (i < low ? a[aFrom + i] : 0);
+            bSum[i] = b[bFrom + low + i] + (i < low ? b[bFrom + i] : 0);
+        }
+        double[] middle = new double[2 * high - 1];
+        karatsuba(aSum, 0, bSum, 0, high, middle, 0);
+        for (int k = 0; k < low0.length; k++) middle[k] -= low0[k];
+        for (int k = 0; k < high1.length; k++) middle[k] -= high1[k];
+
+        for (int k = 0; k < low0.length; k++) c[cFrom + k] += low0[k];
+        for (int k = 0; k < middle.length; k++) c[cFrom + low + k] += middle[k];
+        for (int k = 0; k < high1.length; k++) c[cFrom + 2 * low + k] += high1[k];
+    }
+
+    /*
+     * FFT product. With z = a + i b the square of z is a^2 - b^2 + 2i ab, so one transform of z, squaring its
+     * spectrum and one inverse transform give the product as half the imaginary part. b is scaled by a power of two
+     * to the size of a first, so neither square drowns the product.
+     */
+    @Contract(pure = true) static @NotNull double[] multiplyFft(@NotNull double[] a, @NotNull double[] b) {
+        double[] c = new double[a.length + b.length - 1];
+        double aMax = maxAbs(a), bMax = maxAbs(b);
+        if (aMax == 0 || bMax == 0) return c;
+        int scale = Math.getExponent(aMax) - Math.getExponent(bMax);
+
+        int n = Integer.highestOneBit(c.length);
+        if (n < c.length) n <<= 1;
+        double[] re = new double[n], im = new double[n];
+        System.arraycopy(a, 0, re, 0, a.length);
+        for (int i = 0; i < b.length; i++) im[i] = Math.scalb(b[i], scale);
+
+        Twiddles table = twiddles(n);
+        transform(re, im, table, false);
+        for (int k = 0; k < n; k++) {
+            double r = re[k], i = im[k];
+            re[k] = r * r - i * i;
+            im[k] = 2 * r * i;
+        }
+        transform(re, im, table, true);
+        for (int k = 0; k < c.length; k++) c[k] = Math.scalb(im[k] / (2d * n), -scale);
+        return c;
+    }
+
+    /*
+     * Iterative radix-2 transform in place, the inverse one without the division by n
+     */
+    private static void transform(@NotNull double[] re, @NotNull double[] im, @NotNull Twiddles table,
+                                  boolean inverse) {
+        int n = re.length;
+        for (int i = 1, j = 0; i < n; i++) {
+            int bit = n >> 1;
+            for (; (j & bit) != 0; bit >>= 1) j ^= bit;
+            j ^= bit;
+            if (i < j) {
+                double t = re[i]; re[i] = re[j]; re[j] = t;
+                t = im[i]; im[i] = im[j]; im[j] = t;
+            }
+        }
+
+        double sign = inverse ? 1 : -1;
+        for (int length = 2; length <= n; length <<= 1) {
+            int half = length >> 1, stride = table.size / length;
+            for (int k = 0; k < half; k++) {
+                double wRe = table.cos[k * stride], wIm = sign * table.sin[k * stride];
+                for (int i = k; i < n; i += length) {
+                    int j = i + half;
+                    double tRe = re[j] * wRe - im[j] * wIm;
+                    double tIm = re[j] * wIm + im[j] * wRe;
+                    re[j] = re[i] - tRe;
+                    im[j] = im[i] - tIm;
+                    re[i] += tRe;
+                    im[i] += tIm;
+                }
+            }
+        }
+    }
+
+    /*
+     * @return twiddle factors for transforms of size n or more
+     */
+    private static @NotNull Twiddles twiddles(int n) {
+        Twiddles table = twiddles;
+        if (table.size >= n) return table;
+        // Threads racing here compute equal tables, whichever is kept serves them all
+        table = new Twiddles(n);
+        twiddles = table;
+        return table;
+    }
+
+    @Contract(pure = true) private static double maxAbs(@NotNull double[] values) {
+        double max = 0;
+        for (double value : values) max = Math.max(max, Math.abs(value));
+        return max;
+    }
+
+    /*
+     * @return Euclidean norm, scaled by the largest value so the squares neither overflow nor underflow
+     */
+    @Contract(pure = true) private static double norm(@NotNull double[] values) {
+        double max = maxAbs(values), sum = 0;
+        if (max == 0) return 0;
+        for (double value : values) {
+            double scaled = value / max;
+            sum += scaled * scaled;
+        }
+        return max * Math.sqrt(sum);
+    }
+
+    @Contract(pure = true) private static boolean isFinite(@NotNull double[] values) {
+        for (double value : values)
+            if (Double.isNaN(value) || Double.isInfinite(value)) return false;
+        return true;
+    }
+
+    /*
+     * cos and sin of 2 pi k / size for k below size / 2, computed directly and not by a recurrence whose rounding
+     * errors would add up
+     */
+    private static final class Twiddles {
+
+        private final int size;
+        @NotNull private final double[] cos;
+        @NotNull private final double[] sin;
+
+        private Twiddles(int size) {
+            this.size = size;
+            cos = new double[size / 2];
+            sin = new double[size / 2];
+            for (int k = 0; k < size / 2; k++) {
+                double angle = 2 * Math.PI * k / size;
+                cos[k] = Math.cos(angle);
+                sin[k] = Math.sin(angle);
+            }
+        }
+    }
+
+}
@@ -3,12 +3,16 @@ package de.fhdw.wip.rpntilecalculator.model.calculation;
 import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
 import de.fhdw.wip.rpntilecalculator.model.operands.OFraction;
 import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
+import de.fhdw.wip.rpntilecalculator.model.operands.OSparseMatrix;
 import de.fhdw.wip.rpntilecalculator.model.operands.OTuple;
-import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
 
 import java.lang.Math;
 import java.lang.reflect.Array;
 
+import org.apache.commons.math3.linear.EigenDecomposition;
+import org.apache.commons.math3.linear.LUDecomposition;
+import org.apache.commons.math3.linear.MatrixUtils;
+import org.apache.commons.math3.linear.RealMatrix;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Contract;
 
@@ -20,19 +24,21 @@ import org.jetbrains.annotations.Contract;
 public class Power extends Action{
 
     @NotNull private static final Power POWER = new Power();
-    @NotNull private static final Times TIMES = Times.getInstance();
+
+    // Integer exponents up to this one are computed by squaring, their value is exact in a double
+    private static final double MAX_INTEGER_EXPONENT = 1L << 53;
+    private static final double SYMMETRY_EPSILON = 1e-12;
+    // Square roots are taken until the root is this close to the identity, where the binomial series converges fast
+    private static final double ROOT_DISTANCE = 0.25;
+    private static final int MAX_SQUARE_ROOTS = 64;
+    private static final int MAX_ROOT_ITERATIONS = 100;
+    private static final double ROOT_TOLERANCE = 1e-10;
 
     @Contract(pure = true) @NotNull public static Power getInstance() { return POWER; }
     private Power() {
         requiredNumOfOperands = new int[]{2};
     }
 
-    @NotNull @Override
-    public Operand with(@NotNull Operand... operands) throws CalculationException {
-        scopedAction = this;
-        return super.with(operands);
-    }
-
     //region Double
     //------------------------------------------------------------------------------------
 
@@ -59,22 +65,164 @@ public class Power extends Action{
     //------------------------------------------------------------------------------------
 
     @Contract(pure = true) @NotNull OMatrix on(@NotNull OMatrix base, @NotNull ODouble exponent) {
-        if(base.getMatrix().isSquare()) {
-            OMatrix resultMatrix = TIMES.on(base, base);
-
-            if (exponent.getDouble() > 2) {
-                for (int i = 2; i < exponent.getDouble(); i++)
-                    resultMatrix = TIMES.on(resultMatrix, base);
-            }
-            return resultMatrix;
-        }else
-        {
+        RealMatrix matrix = base.getMatrix();
+        if (!matrix.isSquare())
             throw new IllegalArgumentException("You need a square matrix for power operation.");
+
+        double e = exponent.getDouble();
+        if (Double.isNaN(e) || Double.isInfinite(e))
+            throw new IllegalArgumentException("Exponent must be finite.");
+        if (e != Math.rint(e) || Math.abs(e) > MAX_INTEGER_EXPONENT) {
+            if (MatrixUtils.isSymmetric(matrix, SYMMETRY_EPSILON)) return new OMatrix(eigenPower(matrix, e));
+            return new OMatrix(rootPower(matrix, e));
+        }
+
+        // Integer exponents are always squared, so integer matrices keep exact powers
+        long k = (long) e;
+        if (k < 0) {
+            matrix = MatrixUtils.inverse(matrix);
+            k = -k;
         }
+        return new OMatrix(squaringPower(matrix, k));
     }
 
     @Contract(pure = true) @NotNull OMatrix on(@NotNull OMatrix base, @NotNull OFraction exponent){
-        return TIMES.on(TIMES.on(exponent, base), base);
+        return on(base, new ODouble(exponent.getDouble()));
+    }
+
+    /*
+     * Exponentiation by squaring, needs about 2 * log2(k) products instead of k - 1
+     * @param matrix square matrix
+     * @param k non-negative exponent
+     * @return matrix^k, the identity for k = 0
+     */
+    @Contract(pure = true) @NotNull private static RealMatrix squaringPower(@NotNull RealMatrix matrix, long k) {
+        int n = matrix.getRowDimension();
+        double[] square = MatrixKernel.flatten(matrix);
+        double[] result = null;
+        while (k > 0) {
+            if ((k & 1) == 1)
+                result = result == null ? square : MatrixKernel.multiply(result, n, n, square, n);
+            k >>= 1;
+            if (k > 0) square = MatrixKernel.multiply(square, n, n, square, n);
+        }
+        return MatrixKernel.toMatrix(result == null ? MatrixKernel.identity(n) : result, n, n);
+    }
+
+    /*
+     * Power through the eigendecomposition A = V * D * V^T of a symmetric matrix, so A^e = V * D^e * V^T
+     * @param matrix symmetric matrix
+     * @param e any exponent, non-integer ones need non-negative eigenvalues
+     * @return matrix^e
+     * @throws IllegalArgumentException if e is non-integer and an eigenvalue is negative, because then the power is
+     *         not real
+     */
+    @Contract(pure = true) @NotNull private static RealMatrix eigenPower(@NotNull RealMatrix matrix, double e) {
+        EigenDecomposition eigen = new EigenDecomposition(matrix);
+        int n = matrix.getRowDimension();
+        double[] eigenvalues = eigen.getRealEigenvalues();
+        double[] powers = new double[n];
+        for (int i = 0; i < n; i++) {
+            powers[i] = Math.pow(eigenvalues[i], e);
+            if (Double.isNaN(powers[i]))
+                throw new IllegalArgumentException("Negative eigenvalue for a non-integer exponent.");
+        }
+
+        // V * D^e scales the columns of V
+        double[] scaled = MatrixKernel.flatten(eigen.getV());
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < n; j++) scaled[i * n + j] *= powers[j];
+
+        double[] vt = MatrixKernel.flatten(eigen.getVT());
+        return MatrixKernel.toMatrix(MatrixKernel.multiply(scaled, n, n, vt, n), n, n);
+    }
+
+    /*
+     * Principal power of a non-symmetric matrix, which may have complex or repeated eigenvalues. A^e = A^k * A^f with
+     * the integer k = floor(e) and 0 < f < 1. Square roots R = A^(1/2^s) are taken until R is close to the identity,
+     * there (I + X)^f is the binomial series in X = R - I, and squaring it s times gives A^f.
+     * @param matrix square matrix
+     * @param e exponent, integer ones only beyond the range of squaring
+     * @return matrix^e
+     * @throws IllegalArgumentException if the square roots do not converge, because an eigenvalue is negative or zero
+     *         and the power is not real
+     */
+    @Contract(pure = true) @NotNull private static RealMatrix rootPower(@NotNull RealMatrix matrix, double e) {
+        int n = matrix.getRowDimension();
+        double floor = Math.floor(e), f = e - floor;
+        RealMatrix base = floor < 0 ? MatrixUtils.inverse(matrix) : matrix;
+        if (f == 0) return squaringPower(base, (long) Math.abs(floor));
+
+        RealMatrix root = matrix;
+        int s = 0;
+        while (distanceToIdentity(root) > ROOT_DISTANCE) {
+            if (++s > MAX_SQUARE_ROOTS) throw new IllegalArgumentException("Matrix has no real power.");
+            root = squareRoot(root);
+        }
+
+        // (I + X)^f = sum of binomial(f, j) X^j, the terms shrink at least by ROOT_DISTANCE each
+        double[] x = MatrixKernel.flatten(root.subtract(MatrixUtils.createRealIdentityMatrix(n)));
+        double[] term = MatrixKernel.identity(n);
+        double[] power = MatrixKernel.identity(n);
+        for (int j = 1; ; j++) {
+            term = MatrixKernel.multiply(term, n, n, x, n);
+            double factor = (f - j + 1) / j, size = 0;
+            for (int i = 0; i < term.length; i++) {
+                term[i] *= factor;
+                power[i] += term[i];
+                size = Math.max(size, Math.abs(term[i]));
+            }
+            if (size <= Math.ulp(1d) || j > 200) break;
+        }
+        for (int i = 0; i < s; i++) power = MatrixKernel.multiply(power, n, n, power, n);
+
+        RealMatrix result = MatrixKernel.toMatrix(power, n, n);
+        if (floor == 0) return result;
+        return squaringPower(base, (long) Math.abs(floor)).multiply(result);
+    }
+
+    /*
+     * Principal square root by the product form of the Denman-Beavers iteration, M' = (I + (M + M^-1) / 2) / 2 and
+     * Y' = Y (I + M^-1) / 2 with M = Y = A first. M converges quadratically to I and Y to A^(1/2), with one inverse
+     * per step.
+     * @throws IllegalArgumentException if the iteration does not converge
+     */
+    @Contract(pure = true) @NotNull private static RealMatrix squareRoot(@NotNull RealMatrix matrix) {
+        RealMatrix identity = MatrixUtils.createRealIdentityMatrix(matrix.getRowDimension());
+        RealMatrix m = matrix, y = matrix;
+        for (int i = 0; i < MAX_ROOT_ITERATIONS; i++) {
+            RealMatrix inverse = new LUDecomposition(m).getSolver().getInverse();
+            y = y.multiply(identity.add(inverse)).scalarMultiply(0.5);
+            m = identity.add(m.add(inverse).scalarMultiply(0.5)).scalarMultiply(0.5);
+            if (distanceToIdentity(m) <= ROOT_TOLERANCE) return y;
+        }
+        throw new IllegalArgumentException("Matrix has no real power.");
+    }
+
+    /*
+     * @return largest absolute column sum of matrix - I, the 1-norm that getNorm computes. It is submultiplicative,
+     *         so the terms of the binomial series in rootPower shrink with it.
+     */
+    @Contract(pure = true) private static double distanceToIdentity(@NotNull RealMatrix matrix) {
+        return matrix.subtract(MatrixUtils.createRealIdentityMatrix(matrix.getRowDimension())).getNorm();
+    }
+
+    //region Sparse matrix
+    //------------------------------------------------------------------------------------
+
+    /*
+     * Powers of sparse matrices stay sparse only for non-negative integer exponents, others need a dense inverse
+     * or decomposition, so they are left to dense matrices
+     */
+    @Contract(pure = true) @NotNull OSparseMatrix on(@NotNull OSparseMatrix base, @NotNull ODouble exponent) {
+        double e = exponent.getDouble();
+        if (e != Math.rint(e) || e < 0 || e > MAX_INTEGER_EXPONENT)
+            throw new IllegalArgumentException("Sparse matrices can only be raised to non-negative integers.");
+        return SparseKernel.power(base, (long) e);
+    }
+
+    @Contract(pure = true) @NotNull OSparseMatrix on(@NotNull OSparseMatrix base, @NotNull OFraction exponent) {
+        return on(base, new ODouble(exponent.getDouble()));
     }
 
     //region Vector
@@ -84,8 +232,7 @@ public class Power extends Action{
         double[] arrayTuple = base.getTuple();
         if(arrayTuple.length == 1)
         {
-            arrayTuple[0] = Math.pow(Array.getDouble(arrayTuple,0), exponent.getDouble());
-            return new OTuple(arrayTuple);
+            return new OTuple(Math.pow(Array.getDouble(arrayTuple,0), exponent.getDouble()));
         }else
         {
             throw new IllegalArgumentException("You need a square matrix for power operation.");
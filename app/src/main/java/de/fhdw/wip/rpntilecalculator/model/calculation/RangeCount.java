@@ -0,0 +1,30 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.OSet;
+import de.fhdw.wip.rpntilecalculator.model.operands.OTuple;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/*
+ * Summary: Defines the RangeCount click. Counts the values of a set between the two bounds of a tuple, both
+ *          inclusive, by binary search in the sorted set.
+ * Date:    2026/10/17
+ */
+public class RangeCount extends Action {
+
+    @NotNull private static final RangeCount RANGE_COUNT = new RangeCount();
+
+    @Contract(pure = true) @NotNull public static RangeCount getInstance() { return RANGE_COUNT; }
+    private RangeCount() {
+        requiredNumOfOperands = new int[]{2};
+    }
+
+    @Contract(pure = true) @NotNull ODouble on(@NotNull OSet oSet, @NotNull OTuple bounds) {
+        double[] tuple = bounds.getTuple();
+        if (tuple.length != 2) throw new IllegalArgumentException("Range must be a tuple of two bounds.");
+        return new ODouble(oSet.countRange(tuple[0], tuple[1]));
+    }
+
+}
@@ -3,7 +3,6 @@ package de.fhdw.wip.rpntilecalculator.model.calculation;
 import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
 import de.fhdw.wip.rpntilecalculator.model.operands.OFraction;
 import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
-import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Contract;
@@ -22,12 +21,6 @@ public class Root extends Action{
         requiredNumOfOperands = new int[]{2};
     }
 
-    @NotNull @Override
-    public Operand with(@NotNull Operand... operands) throws CalculationException {
-        scopedAction = this;
-        return super.with(operands);
-    }
-
     //region Double
     //------------------------------------------------------------------------------------
 
@@ -59,5 +52,4 @@ public class Root extends Action{
         return POWER.on(radicand, new ODouble(1/exponent.getDouble()));
     }
 
-
 }
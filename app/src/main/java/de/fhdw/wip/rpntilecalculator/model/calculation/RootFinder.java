@@ -0,0 +1,494 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import de.fhdw.wip.rpntilecalculator.model.concurrent.Parallel;
+import de.fhdw.wip.rpntilecalculator.model.operands.OPolynom;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/*
+ * Summary: Finds all complex roots of polynomials of any degree with the Aberth-Ehrlich method, which improves
+ *          all approximations at once, each by its Newton correction pushed away from the others. The start values
+ *          lie on circles given by the Newton polygon of the coefficients, so roots of very different magnitudes
+ *          are found as fast as similar ones. A root counts as found once the polynomial is zero at it up to the
+ *          rounding of its evaluation, this is the accuracy of the coefficients and independent of the degree.
+ *          Roots of lower degrees are computed directly, roots at zero are factored out first.
+ * Date:    2026/10/17
+ */
+public final class RootFinder {
+
+    private static final double EPSILON = Math.ulp(1d);
+
+    // Iterations after which the approximations are returned as they are, Aberth usually needs a few dozen
+    private static final int MAX_ITERATIONS = 200;
+
+    // Angle by which the start values on every circle are turned, avoids symmetric starts like for x^n - 1
+    private static final double START_ANGLE = 0.7;
+
+    // Largest multiplicity whose cluster of approximations is replaced by the multiple root
+    private static final int MAX_MULTIPLICITY = 8;
+
+    // Radius of a cluster of m approximations relative to EPSILON^(1 / m)
+    private static final double CLUSTER_RADIUS = 4;
+
+    // Newton iterations polishing a multiple root
+    private static final int POLISH_ITERATIONS = 20;
+
+    private RootFinder() {}
+
+    /*
+     * Finds the roots of many polynomials in parallel
+     * @param polynoms polynomials, none of them zero
+     * @return the roots of every polynomial, in the order of the polynomials
+     * @throws IllegalArgumentException if a polynomial is zero or has a coefficient that is not finite
+     */
+    @Contract(pure = true) public static @NotNull ComplexRoots[] roots(@NotNull OPolynom[] polynoms) {
+        ComplexRoots[] roots = new ComplexRoots[polynoms.length];
+        Parallel.map(polynoms, roots, new Parallel.Task<OPolynom, ComplexRoots>() {
+            @Override public ComplexRoots apply(OPolynom polynom) {
+                return roots(polynom);
+            }
+        });
+        return roots;
+    }
+
+    /*
+     * @throws IllegalArgumentException if the polynomial is zero or has a coefficient that is not finite
+     */
+    @Contract(pure = true) public static @NotNull ComplexRoots roots(@NotNull OPolynom polynom) {
+        return roots(polynom.getPolynom().getCoefficients());
+    }
+
+    /*
+     * Finds all roots of a polynomial
+     * @param coefficients coefficients in ascending order of the powers, like those of a PolynomialFunction
+     * @return as many roots as the degree of the polynomial
+     * @throws IllegalArgumentException if the polynomial is zero or has a coefficient that is not finite
+     */
+    @Contract(pure = true) public static @NotNull ComplexRoots roots(@NotNull double[] coefficients) {
+        int high = coefficients.length - 1;
+        while (high >= 0 && coefficients[high] == 0) high--;
+        if (high < 0) throw new IllegalArgumentException("The zero polynomial has no finite number of roots.");
+        double scale = 0;
+        for (double c : coefficients) {
+            if (Double.isNaN(c) || Double.isInfinite(c))
+                throw new IllegalArgumentException("Coefficients must be finite: " + c);
+            scale = Math.max(scale, Math.abs(c));
+        }
+
+        // x^low divides the polynomial, its roots at zero are exact, the others are those of the quotient
+        int low = 0;
+        while (coefficients[low] == 0) low++;
+        double[] c = new double[high - low + 1];
+        for (int i = 0; i < c.length; i++) c[i] = coefficients[low + i] / scale;
+
+        double[] real = new double[high];
+        double[] imaginary = new double[high];
+        double[] re = new double[c.length - 1];
+        double[] im = new double[c.length - 1];
+        if (re.length == 1) re[0] = -c[0] / c[1];
+        else if (re.length == 2) quadratic(c, re, im);
+        else if (re.length > 2) aberth(c, re, im);
+
+        sort(re, im);
+        if (re.length > 2) {
+            mergeClusters(c, re, im);
+            pairConjugates(re, im);
+        }
+        double[] value = new double[3];
+        for (int k = 0; k < re.length; k++) {
+            if (im[k] == 0) continue;
+            double x = realRoot(c, re[k], im[k], value);
+            if (!Double.isNaN(x)) {
+                re[k] = x;
+                im[k] = 0;
+            }
+        }
+        if (re.length > 2) realizeUnpaired(c, re, im, value);
+        System.arraycopy(re, 0, real, low, re.length);
+        System.arraycopy(im, 0, imaginary, low, im.length);
+        sort(real, imaginary);
+        return new ComplexRoots(real, imaginary);
+    }
+
+    /*
+     * Roots of c[2] x^2 + c[1] x + c[0] without cancellation, c[0] is not zero
+     */
+    private static void quadratic(@NotNull double[] c, @NotNull double[] re, @NotNull double[] im) {
+        double discriminant = c[1] * c[1] - 4 * c[2] * c[0];
+        if (discriminant >= 0) {
+            double q = -0.5 * (c[1] + Math.copySign(Math.sqrt(discriminant), c[1]));
+            re[0] = q / c[2];
+            re[1] = c[0] / q;
+        } else {
+            // + 0.0 turns the -0.0 of c[1] == 0 into 0.0
+            re[0] = re[1] = -c[1] / (2 * c[2]) + 0.0;
+            im[0] = Math.abs(Math.sqrt(-discriminant) / (2 * c[2]));
+            im[1] = -im[0];
+        }
+    }
+
+    /*
+     * Aberth-Ehrlich iteration in Gauss-Seidel style, every correction already uses the corrected roots before it.
+     * Roots stop moving after the correction of the iteration they are found in.
+     * @param c coefficients, neither the first nor the last one is zero
+     */
+    private static void aberth(@NotNull double[] c, @NotNull double[] re, @NotNull double[] im) {
+        int n = re.length;
+        double[] abs = new double[c.length];
+        for (int i = 0; i < c.length; i++) abs[i] = Math.abs(c[i]);
+        start(abs, re, im);
+
+        boolean[] found = new boolean[n];
+        double[] newton = new double[2];
+        int remaining = n;
+        for (int iteration = 0; iteration < MAX_ITERATIONS && remaining > 0; iteration++) {
+            for (int k = 0; k < n; k++) {
+                if (found[k]) continue;
+                // A found root still takes this correction, which polishes it before it stops moving
+                if (newton(c, abs, re[k], im[k], newton)) {
+                    found[k] = true;
+                    remaining--;
+                }
+
+                // Sum of 1 / (z_k - z_j) over all other roots
+                double sumRe = 0, sumIm = 0;
+                for (int j = 0; j < n; j++) {
+                    if (j == k) continue;
+                    double dRe = re[k] - re[j], dIm = im[k] - im[j];
+                    double norm = dRe * dRe + dIm * dIm;
+                    if (norm == 0) continue;
+                    double inverse = 1 / norm;
+                    sumRe += dRe * inverse;
+                    sumIm -= dIm * inverse;
+                }
+
+                // w = N / (1 - N * sum)
+                double nRe = newton[0], nIm = newton[1];
+                double denominatorRe = 1 - (nRe * sumRe - nIm * sumIm);
+                double denominatorIm = -(nRe * sumIm + nIm * sumRe);
+                double norm = denominatorRe * denominatorRe + denominatorIm * denominatorIm;
+                double wRe = nRe, wIm = nIm;
+                if (norm != 0) {
+                    wRe = (nRe * denominatorRe + nIm * denominatorIm) / norm;
+                    wIm = (nIm * denominatorRe - nRe * denominatorIm) / norm;
+                }
+                re[k] -= wRe;
+                im[k] -= wIm;
+            }
+        }
+    }
+
+    /*
+     * Evaluates the Newton correction p(z) / p'(z). Where |z| > 1 the reversed polynomial is evaluated at 1 / z
+     * instead, so no power of z can overflow.
+     * @param abs absolute values of the coefficients, bound the rounding error of the evaluation
+     * @param newton receives the real and imaginary part of the correction, zero where p(z) is exactly zero
+     * @return if z is a root up to the rounding of the evaluation
+     */
+    private static boolean newton(@NotNull double[] c, @NotNull double[] abs, double zRe, double zIm,
+                                  @NotNull double[] newton) {
+        int n = c.length - 1;
+        double modulus = modulus(zRe, zIm);
+        boolean reversed = modulus > 1;
+        double xRe = zRe, xIm = zIm;
+        if (reversed) {
+            double norm = zRe * zRe + zIm * zIm;
+            xRe = zRe / norm;
+            xIm = -zIm / norm;
+        }
+        double xAbs = reversed ? 1 / modulus : modulus;
+
+        // Horner for p and p' at x, and for the sum of |c_i| |x|^i
+        double pRe = reversed ? c[0] : c[n], pIm = 0;
+        double dRe = 0, dIm = 0;
+        double bound = reversed ? abs[0] : abs[n];
+        for (int i = 1; i <= n; i++) {
+            double coefficient = reversed ? c[i] : c[n - i];
+            double t = dRe * xRe - dIm * xIm + pRe;
+            dIm = dRe * xIm + dIm * xRe + pIm;
+            dRe = t;
+            t = pRe * xRe - pIm * xIm + coefficient;
+            pIm = pRe * xIm + pIm * xRe;
+            pRe = t;
+            bound = bound * xAbs + (reversed ? abs[i] : abs[n - i]);
+        }
+        boolean found = modulus(pRe, pIm) <= 4 * n * EPSILON * bound;
+        if (pRe == 0 && pIm == 0) {
+            newton[0] = newton[1] = 0;
+            return true;
+        }
+
+        if (!reversed) {
+            divide(pRe, pIm, dRe, dIm, newton);
+        } else {
+            // p(z) / p'(z) = z / (n - x q'(x) / q(x)) for the reversed polynomial q and x = 1 / z
+            divide(dRe, dIm, pRe, pIm, newton);
+            double tRe = newton[0] * xRe - newton[1] * xIm;
+            double tIm = newton[0] * xIm + newton[1] * xRe;
+            divide(zRe, zIm, n - tRe, -tIm, newton);
+        }
+        if (Double.isNaN(newton[0]) || Double.isNaN(newton[1]) || Double.isInfinite(newton[0])
+                || Double.isInfinite(newton[1])) {
+            // p'(z) vanished, a small step off the critical point
+            newton[0] = found ? 0 : EPSILON * Math.max(1, modulus);
+            newton[1] = newton[0];
+        }
+        return found;
+    }
+
+    /*
+     * |re + i im|, Math.hypot only where the squares would overflow or underflow as it is much slower
+     */
+    private static double modulus(double re, double im) {
+        double square = re * re + im * im;
+        return square < Double.POSITIVE_INFINITY && square >= Double.MIN_NORMAL ? Math.sqrt(square)
+                : Math.hypot(re, im);
+    }
+
+    private static void divide(double aRe, double aIm, double bRe, double bIm, @NotNull double[] quotient) {
+        double norm = bRe * bRe + bIm * bIm;
+        quotient[0] = (aRe * bRe + aIm * bIm) / norm;
+        quotient[1] = (aIm * bRe - aRe * bIm) / norm;
+    }
+
+    /*
+     * Start values on the circles of the Newton polygon, the upper convex hull of the points (i, log |c_i|). Every
+     * edge from i to j stands for j - i roots of about the modulus (|c_i| / |c_j|)^(1 / (j - i)).
+     */
+    private static void start(@NotNull double[] abs, @NotNull double[] re, @NotNull double[] im) {
+        int n = re.length;
+        double[] log = new double[abs.length];
+        for (int i = 0; i < abs.length; i++) log[i] = Math.log(abs[i]);
+
+        int[] hull = new int[abs.length];
+        int size = 0;
+        for (int i = 0; i < abs.length; i++) {
+            if (abs[i] == 0) continue;
+            while (size >= 2 && (hull[size - 1] - hull[size - 2]) * (log[i] - log[hull[size - 2]])
+                    - (log[hull[size - 1]] - log[hull[size - 2]]) * (i - hull[size - 2]) >= 0)
+                size--;
+            hull[size++] = i;
+        }
+
+        int k = 0;
+        for (int h = 1; h < size; h++) {
+            int i = hull[h - 1], j = hull[h];
+            double radius = Math.exp((log[i] - log[j]) / (j - i));
+            for (int m = 0; m < j - i; m++) {
+                double angle = 2 * Math.PI * m / (j - i) + 2 * Math.PI * i / n + START_ANGLE;
+                re[k] = radius * Math.cos(angle);
+                im[k] = radius * Math.sin(angle);
+                k++;
+            }
+        }
+    }
+
+    /*
+     * A root of multiplicity m is only found up to about EPSILON^(1 / m), as a cluster of m approximations around
+     * it. The root is a simple root of the (m - 1)-th derivative, so Newton on the derivative finds it from the
+     * mean of the cluster. Clusters are replaced by that root if the lower derivatives vanish there as well.
+     * @param re real parts in ascending order, clusters are neighbours
+     */
+    private static void mergeClusters(@NotNull double[] c, @NotNull double[] re, @NotNull double[] im) {
+        double[] root = new double[2];
+        for (int i = 0; i < re.length; ) {
+            int multiplicity = 1;
+            for (int m = Math.min(MAX_MULTIPLICITY, re.length - i); m >= 2 && multiplicity == 1; m--)
+                if (isCluster(re, im, i, m) && multipleRoot(c, re, im, i, m, root)) multiplicity = m;
+            if (multiplicity > 1) {
+                Arrays.fill(re, i, i + multiplicity, root[0]);
+                Arrays.fill(im, i, i + multiplicity, root[1]);
+            }
+            i += multiplicity;
+        }
+    }
+
+    /*
+     * Whether the m approximations from i on lie in a disc about as large as the error of a root of multiplicity m
+     */
+    private static boolean isCluster(@NotNull double[] re, @NotNull double[] im, int i, int m) {
+        double centerRe = 0, centerIm = 0;
+        for (int k = i; k < i + m; k++) {
+            centerRe += re[k] / m;
+            centerIm += im[k] / m;
+        }
+        double radius = CLUSTER_RADIUS * Math.pow(EPSILON, 1d / m) * Math.max(1, modulus(centerRe, centerIm));
+        for (int k = i; k < i + m; k++)
+            if (modulus(re[k] - centerRe, im[k] - centerIm) > radius) return false;
+        return true;
+    }
+
+    /*
+     * Finds the root of multiplicity m the cluster from i on stands for
+     * @param root receives the real and imaginary part of the root
+     * @return if the polynomial and its first m - 1 derivatives vanish at the root
+     */
+    private static boolean multipleRoot(@NotNull double[] c, @NotNull double[] re, @NotNull double[] im, int i,
+                                        int m, @NotNull double[] root) {
+        double zRe = 0, zIm = 0;
+        for (int k = i; k < i + m; k++) {
+            zRe += re[k] / m;
+            zIm += im[k] / m;
+        }
+
+        double[] derivative = c;
+        double[][] derivatives = new double[m][];
+        for (int order = 0; order < m; order++) {
+            derivatives[order] = derivative;
+            derivative = derive(derivative);
+        }
+        double[] top = derivatives[m - 1];
+        double[] abs = new double[top.length];
+        for (int k = 0; k < top.length; k++) abs[k] = Math.abs(top[k]);
+        double[] newton = new double[2];
+        for (int iteration = 0; iteration < POLISH_ITERATIONS && !newton(top, abs, zRe, zIm, newton); iteration++) {
+            zRe -= newton[0];
+            zIm -= newton[1];
+        }
+
+        for (int order = 0; order < m - 1; order++) {
+            double[] d = derivatives[order];
+            double[] dAbs = new double[d.length];
+            for (int k = 0; k < d.length; k++) dAbs[k] = Math.abs(d[k]);
+            if (!newton(d, dAbs, zRe, zIm, newton)) return false;
+        }
+        root[0] = zRe;
+        root[1] = zIm;
+        return true;
+    }
+
+    @NotNull private static double[] derive(@NotNull double[] c) {
+        double[] derivative = new double[c.length - 1];
+        for (int i = 1; i < c.length; i++) derivative[i - 1] = i * c[i];
+        return derivative;
+    }
+
+    /*
+     * Makes the non-real roots exact conjugate pairs, as they are for real coefficients
+     */
+    private static void pairConjugates(@NotNull double[] re, @NotNull double[] im) {
+        boolean[] paired = new boolean[re.length];
+        for (int k = 0; k < re.length; k++) {
+            if (im[k] <= 0 || paired[k]) continue;
+            int partner = -1;
+            double distance = Double.POSITIVE_INFINITY;
+            for (int j = 0; j < re.length; j++) {
+                if (im[j] >= 0 || paired[j]) continue;
+                double d = modulus(re[k] - re[j], im[k] + im[j]);
+                if (d < distance) {
+                    distance = d;
+                    partner = j;
+                }
+            }
+            if (partner < 0 || distance > Math.sqrt(EPSILON) * Math.max(1, modulus(re[k], im[k]))) continue;
+            paired[k] = paired[partner] = true;
+            double meanRe = (re[k] + re[partner]) / 2, meanIm = (im[k] - im[partner]) / 2;
+            re[k] = re[partner] = meanRe;
+            im[k] = meanIm;
+            im[partner] = -meanIm;
+        }
+    }
+
+    /*
+     * Polishes the real part of a root by Newton on the real line. The root is real if the polynomial is zero at
+     * the polished point up to the rounding of the evaluation, and the root lies as close to that point as the
+     * rounding allows to tell roots apart: a disc of n times the rounding error over |p'| holds a root.
+     * @param value scratch array for evaluateReal
+     * @return the real root or NaN if the root is not real
+     */
+    private static double realRoot(@NotNull double[] c, double re, double im, @NotNull double[] value) {
+        int n = c.length - 1;
+        double x = re;
+        for (int iteration = 0; ; iteration++) {
+            evaluateReal(c, x, value);
+            double rounding = 16 * n * EPSILON * value[2];
+            if (Math.abs(value[0]) <= rounding)
+                return modulus(x - re, im) <= n * rounding / Math.abs(value[1]) ? x : Double.NaN;
+            // Too far off the real line to be within the rounding of any real root nearby
+            if (iteration == 0 && Math.abs(im) > 4 * n * rounding / Math.abs(value[1])) return Double.NaN;
+            double next = x - value[0] / value[1];
+            if (iteration == POLISH_ITERATIONS || Double.isNaN(next) || Double.isInfinite(next)) return Double.NaN;
+            x = next;
+        }
+    }
+
+    /*
+     * Evaluates p, p' and the bound sum of |c_i| |x|^i at a real x. Where |x| > 1 all three are divided by x^n,
+     * evaluated on the reversed polynomial, so no power of x can overflow.
+     * @param value receives p, p' and the bound, divided by the same factor
+     */
+    private static void evaluateReal(@NotNull double[] c, double x, @NotNull double[] value) {
+        int n = c.length - 1;
+        boolean reversed = Math.abs(x) > 1;
+        double y = reversed ? 1 / x : x;
+        double p = reversed ? c[0] : c[n], d = 0, bound = Math.abs(p);
+        for (int i = 1; i <= n; i++) {
+            double coefficient = reversed ? c[i] : c[n - i];
+            d = d * y + p;
+            p = p * y + coefficient;
+            bound = bound * Math.abs(y) + Math.abs(coefficient);
+        }
+        value[0] = p;
+        // p'(x) / x^n = y (n q(y) - y q'(y)) for the reversed polynomial q
+        value[1] = reversed ? y * (n * p - y * d) : d;
+        value[2] = bound;
+    }
+
+    /*
+     * Non-real roots of a real polynomial come in conjugate pairs. A root left without its conjugate is paired with
+     * the nearest unpaired root of the other half-plane if that lies nearer to its conjugate than to the real axis,
+     * otherwise it is real, its imaginary part is rounding, and it is polished on the real line.
+     */
+    private static void realizeUnpaired(@NotNull double[] c, @NotNull double[] re, @NotNull double[] im,
+                                        @NotNull double[] value) {
+        for (int k = 0; k < re.length; k++) {
+            if (im[k] == 0 || isPaired(re, im, k)) continue;
+            int partner = -1;
+            double distance = Double.POSITIVE_INFINITY;
+            for (int j = 0; j < re.length; j++) {
+                if (im[j] == 0 || (im[j] > 0) == (im[k] > 0) || isPaired(re, im, j)) continue;
+                double d = modulus(re[k] - re[j], im[k] + im[j]);
+                if (d < distance) {
+                    distance = d;
+                    partner = j;
+                }
+            }
+            if (partner >= 0 && distance < Math.min(Math.abs(im[k]), Math.abs(im[partner]))) {
+                double meanRe = (re[k] + re[partner]) / 2, meanIm = (Math.abs(im[k]) + Math.abs(im[partner])) / 2;
+                re[k] = re[partner] = meanRe;
+                im[k] = Math.copySign(meanIm, im[k]);
+                im[partner] = -im[k];
+                continue;
+            }
+            double x = realRoot(c, re[k], 0, value);
+            if (!Double.isNaN(x)) re[k] = x;
+            im[k] = 0;
+        }
+    }
+
+    private static boolean isPaired(@NotNull double[] re, @NotNull double[] im, int k) {
+        for (int j = 0; j < re.length; j++)
+            if (re[j] == re[k] && im[j] == -im[k]) return true;
+        return false;
+    }
+
+    /*
+     * Sorts the roots by real and then by imaginary part, insertion sort as the degrees are small
+     */
+    private static void sort(@NotNull double[] re, @NotNull double[] im) {
+        for (int i = 1; i < re.length; i++) {
+            double r = re[i], m = im[i];
+            int j = i - 1;
+            for (; j >= 0 && (re[j] > r || (re[j] == r && im[j] > m)); j--) {
+                re[j + 1] = re[j];
+                im[j + 1] = im[j];
+            }
+            re[j + 1] = r;
+            im[j + 1] = m;
+        }
+    }
+
+}
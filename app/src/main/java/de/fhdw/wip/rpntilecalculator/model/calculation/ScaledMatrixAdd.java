@@ -0,0 +1,41 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.OFraction;
+import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/*
+ * Summary: Defines the ScaledMatrixAdd click. Computes alpha * A + B in one action and one pass over the entries,
+ *          the scaled matrix is never built on its own.
+ * Date:    2026/10/17
+ */
+public class ScaledMatrixAdd extends Action {
+
+    @NotNull private static final ScaledMatrixAdd SCALED_MATRIX_ADD = new ScaledMatrixAdd();
+
+    @Contract(pure = true) @NotNull public static ScaledMatrixAdd getInstance() { return SCALED_MATRIX_ADD; }
+    private ScaledMatrixAdd() {
+        requiredNumOfOperands = new int[]{3};
+    }
+
+    /*
+     * Scaling an OMatrix and adding an OMatrix
+     * @param alpha factor of the first matrix
+     * @param oMatrix1 matrix to scale
+     * @param oMatrix2 summand
+     * @return alpha * oMatrix1 + oMatrix2
+     */
+    @Contract(pure = true) @NotNull OMatrix on(@NotNull ODouble alpha, @NotNull OMatrix oMatrix1,
+                                               @NotNull OMatrix oMatrix2) {
+        return MatrixCombination.add(alpha.getDouble(), oMatrix1, 1, oMatrix2);
+    }
+
+    @Contract(pure = true) @NotNull OMatrix on(@NotNull OFraction alpha, @NotNull OMatrix oMatrix1,
+                                               @NotNull OMatrix oMatrix2) {
+        return MatrixCombination.add(alpha.getDouble(), oMatrix1, 1, oMatrix2);
+    }
+
+}
@@ -1,7 +1,6 @@
 package de.fhdw.wip.rpntilecalculator.model.calculation;
 
 import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
-import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
 
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -25,12 +24,6 @@ public class Sinus extends Action {
         requiredNumOfOperands = new int[]{1, 2};
     }
 
-    @NotNull @Override
-    public Operand with(@NotNull Operand... operands) throws CalculationException {
-        scopedAction = this;
-        return super.with(operands);
-    }
-
     // Calculates the sinus with a given angle.
     @Contract(pure = true) @NotNull ODouble on(@NotNull ODouble angle) {
         return new ODouble(Math.sin(Math.toRadians((angle.getDouble()))));
@@ -0,0 +1,352 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import de.fhdw.wip.rpntilecalculator.model.concurrent.Parallel;
+import de.fhdw.wip.rpntilecalculator.model.operands.OSparseMatrix;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/*
+ * Summary: Kernels of sparse matrices in CSR form, alone and with dense matrices on flat row-major arrays like the
+ *          ones of MatrixKernel. Rows are independent in all of them, so the rows of large matrices are computed
+ *          in parallel chunks. Results are the same for any number of threads.
+ * Date:    2026/10/17
+ */
+public final class SparseKernel {
+
+    // Multiply-adds from which the rows are computed in parallel
+    private static final long PARALLEL_THRESHOLD = 1 << 15;
+
+    private SparseKernel() {}
+
+    /*
+     * @return a + factor * b, entries that cancel out are dropped
+     * @throws IllegalArgumentException if the dimensions differ
+     */
+    @Contract(pure = true) public static @NotNull OSparseMatrix add(@NotNull final OSparseMatrix a,
+                                                                    @NotNull final OSparseMatrix b,
+                                                                    final double factor) {
+        checkSameDimensions(a, b);
+        final int rows = a.getRowDimension();
+        final int[] rowPointers = new int[rows + 1];
+
+        // The first pass counts the entries of every row, the second one writes them
+        forEachRow(rows, a.getNumOfNonZeros() + b.getNumOfNonZeros(), new Parallel.Chunk() {
+            @Override public void run(int from, int to) {
+                for (int i = from; i < to; i++) rowPointers[i + 1] = addRow(a, b, factor, i, null, null, 0);
+            }
+        });
+        for (int i = 0; i < rows; i++) rowPointers[i + 1] += rowPointers[i];
+
+        final int[] columnIndices = new int[rowPointers[rows]];
+        final double[] values = new double[rowPointers[rows]];
+        forEachRow(rows, a.getNumOfNonZeros() + b.getNumOfNonZeros(), new Parallel.Chunk() {
+            @Override public void run(int from, int to) {
+                for (int i = from; i < to; i++) addRow(a, b, factor, i, columnIndices, values, rowPointers[i]);
+            }
+        });
+        return new OSparseMatrix(rows, a.getColumnDimension(), rowPointers, columnIndices, values);
+    }
+
+    /*
+     * Merges row i of a and b, writing the sums from offset on if the arrays are given
+     * @return number of entries of the row that are not zero
+     */
+    private static int addRow(@NotNull OSparseMatrix a, @NotNull OSparseMatrix b, double factor, int i,
+                              int[] columnIndices, double[] values, int offset) {
+        int[] aColumns = a.getColumnIndices(), bColumns = b.getColumnIndices();
+        double[] aValues = a.getValues(), bValues = b.getValues();
+        int p = a.getRowPointers()[i], pEnd = a.getRowPointers()[i + 1];
+        int q = b.getRowPointers()[i], qEnd = b.getRowPointers()[i + 1];
+
+        int count = 0;
+        while (p < pEnd || q < qEnd) {
+            int aColumn = p < pEnd ? aColumns[p] : Integer.MAX_VALUE;
+            int bColumn = q < qEnd ? bColumns[q] : Integer.MAX_VALUE;
+            int column = Math.min(aColumn, bColumn);
+            double sum = 0;
+            if (aColumn == column) sum += aValues[p++];
+            if (bColumn == column) sum += factor * bValues[q++];
+            if (sum == 0) continue;
+            if (columnIndices != null) {
+                columnIndices[offset + count] = column;
+                values[offset + count] = sum;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    /*
+     * Adds factor * a to a dense matrix of the same dimensions
+     * @param dense flat row-major matrix, changed in place
+     */
+    public static void addTo(@NotNull double[] dense, @NotNull OSparseMatrix a, double factor) {
+        if (dense.length != a.getRowDimension() * a.getColumnDimension())
+            throw new IllegalArgumentException("Matrix dimensions do not match.");
+        int columns = a.getColumnDimension();
+        int[] rowPointers = a.getRowPointers();
+        int[] columnIndices = a.getColumnIndices();
+        double[] values = a.getValues();
+        for (int i = 0; i < a.getRowDimension(); i++)
+            for (int p = rowPointers[i]; p < rowPointers[i + 1]; p++)
+                dense[i * columns + columnIndices[p]] += factor * values[p];
+    }
+
+    /*
+     * @return factor * a, the empty matrix for a factor of zero
+     */
+    @Contract(pure = true) public static @NotNull OSparseMatrix scale(@NotNull OSparseMatrix a, double factor) {
+        if (factor == 0) return new OSparseMatrix(a.getRowDimension(), a.getColumnDimension(),
+                new int[a.getRowDimension() + 1], new int[0], new double[0]);
+
+        double[] values = a.getValues();
+        double[] scaled = new double[a.getNumOfNonZeros()];
+        for (int p = 0; p < scaled.length; p++) scaled[p] = factor * values[p];
+        return new OSparseMatrix(a.getRowDimension(), a.getColumnDimension(), a.getRowPointers(),
+                a.getColumnIndices(), scaled);
+    }
+
+    /*
+     * @return a * x
+     * @throws IllegalArgumentException if x does not have one value per column of a
+     */
+    @Contract(pure = true) public static @NotNull double[] multiply(@NotNull OSparseMatrix a,
+                                                                    @NotNull double[] x) {
+        if (x.length != a.getColumnDimension())
+            throw new IllegalArgumentException("Matrix has " + a.getColumnDimension() + " columns, not "
+                    + x.length + ".");
+        double[] y = new double[a.getRowDimension()];
+        multiplyInto(a, x, y);
+        return y;
+    }
+
+    /*
+     * Computes y = a * x into an existing array, e.g. in the iterations of a solver
+     */
+    static void multiplyInto(@NotNull OSparseMatrix a, @NotNull final double[] x, @NotNull final double[] y) {
+        final int[] rowPointers = a.getRowPointers();
+        final int[] columnIndices = a.getColumnIndices();
+        final double[] values = a.getValues();
+        forEachRow(a.getRowDimension(), a.getNumOfNonZeros(), new Parallel.Chunk() {
+            @Override public void run(int from, int to) {
+                for (int i = from; i < to; i++) {
+                    double sum = 0;
+                    for (int p = rowPointers[i]; p < rowPointers[i + 1]; p++) sum += values[p] * x[columnIndices[p]];
+                    y[i] = sum;
+                }
+            }
+        });
+    }
+
+    /*
+     * Product of a sparse and a dense matrix
+     * @param b flat row-major matrix with one row per column of a
+     * @return a * b as flat row-major matrix
+     */
+    @Contract(pure = true) public static @NotNull double[] multiply(@NotNull OSparseMatrix a,
+                                                                    @NotNull final double[] b, final int columns) {
+        if (b.length != a.getColumnDimension() * columns)
+            throw new IllegalArgumentException("Matrix dimensions do not match.");
+        final int[] rowPointers = a.getRowPointers();
+        final int[] columnIndices = a.getColumnIndices();
+        final double[] values = a.getValues();
+        final double[] c = new double[a.getRowDimension() * columns];
+        forEachRow(a.getRowDimension(), (long) a.getNumOfNonZeros() * columns, new Parallel.Chunk() {
+            @Override public void run(int from, int to) {
+                for (int i = from; i < to; i++) {
+                    int cRow = i * columns;
+                    for (int p = rowPointers[i]; p < rowPointers[i + 1]; p++) {
+                        double aik = values[p];
+                        int bRow = columnIndices[p] * columns;
+                        for (int j = 0; j < columns; j++) c[cRow + j] += aik * b[bRow + j];
+                    }
+                }
+            }
+        });
+        return c;
+    }
+
+    /*
+     * Product of a dense and a sparse matrix
+     * @param a flat row-major matrix with one column per row of b
+     * @return a * b as flat row-major matrix
+     */
+    @Contract(pure = true) public static @NotNull double[] multiply(@NotNull final double[] a, final int rows,
+                                                                    @NotNull OSparseMatrix b) {
+        final int inner = b.getRowDimension();
+        final int columns = b.getColumnDimension();
+        if (a.length != rows * inner) throw new IllegalArgumentException("Matrix dimensions do not match.");
+        final int[] rowPointers = b.getRowPointers();
+        final int[] columnIndices = b.getColumnIndices();
+        final double[] values = b.getValues();
+        final double[] c = new double[rows * columns];
+        forEachRow(rows, (long) rows * b.getNumOfNonZeros(), new Parallel.Chunk() {
+            @Override public void run(int from, int to) {
+                for (int i = from; i < to; i++) {
+                    int aRow = i * inner, cRow = i * columns;
+                    for (int k = 0; k < inner; k++) {
+                        double aik = a[aRow + k];
+                        if (aik == 0) continue;
+                        for (int p = rowPointers[k]; p < rowPointers[k + 1]; p++)
+                            c[cRow + columnIndices[p]] += aik * values[p];
+                    }
+                }
+            }
+        });
+        return c;
+    }
+
+    /*
+     * Product of two sparse matrices, every row is accumulated in a dense row of the chunk computing it
+     * @return a * b
+     * @throws IllegalArgumentException if the columns of a do not match the rows of b
+     */
+    @Contract(pure = true) public static @NotNull OSparseMatrix multiply(@NotNull final OSparseMatrix a,
+                                                                         @NotNull final OSparseMatrix b) {
+        if (a.getColumnDimension() != b.getRowDimension())
+            throw new IllegalArgumentException("Matrix dimensions do not match.");
+        final int rows = a.getRowDimension();
+        final int columns = b.getColumnDimension();
+        final int chunkRows = chunkRows(rows, estimateProducts(a, b));
+        int numOfChunks = rows == 0 ? 0 : (rows - 1) / chunkRows + 1;
+
+        final int[] rowPointers = new int[rows + 1];
+        final int[][] chunkColumns = new int[numOfChunks][];
+        final double[][] chunkValues = new double[numOfChunks][];
+        Parallel.forEach(rows, chunkRows, new Parallel.Chunk() {
+            @Override public void run(int from, int to) {
+                int[] aPointers = a.getRowPointers(), aColumns = a.getColumnIndices();
+                int[] bPointers = b.getRowPointers(), bColumns = b.getColumnIndices();
+                double[] aValues = a.getValues(), bValues = b.getValues();
+
+                double[] row = new double[columns];
+                int[] lastRow = new int[columns];
+                Arrays.fill(lastRow, -1);
+                int[] touched = new int[columns];
+
+                int size = 0;
+                int[] outColumns = new int[16];
+                double[] outValues = new double[16];
+                for (int i = from; i < to; i++) {
+                    int numOfTouched = 0;
+                    for (int p = aPointers[i]; p < aPointers[i + 1]; p++) {
+                        int k = aColumns[p];
+                        double aik = aValues[p];
+                        for (int q = bPointers[k]; q < bPointers[k + 1]; q++) {
+                            int j = bColumns[q];
+                            if (lastRow[j] != i) {
+                                lastRow[j] = i;
+                                row[j] = aik * bValues[q];
+                                touched[numOfTouched++] = j;
+                            } else {
+                                row[j] += aik * bValues[q];
+                            }
+                        }
+                    }
+                    Arrays.sort(touched, 0, numOfTouched);
+
+                    if (size + numOfTouched > outColumns.length) {
+                        int capacity = Math.max(2 * outColumns.length, size + numOfTouched);
+                        outColumns = Arrays.copyOf(outColumns, capacity);
+                        outValues = Arrays.copyOf(outValues, capacity);
+                    }
+                    int count = 0;
+                    for (int t = 0; t < numOfTouched; t++) {
+                        double d = row[touched[t]];
+                        if (d == 0) continue;
+                        outColumns[size] = touched[t];
+                        outValues[size] = d;
+                        size++;
+                        count++;
+                    }
+                    rowPointers[i + 1] = count;
+                }
+                chunkColumns[from / chunkRows] = outColumns;
+                chunkValues[from / chunkRows] = outValues;
+            }
+        });
+        for (int i = 0; i < rows; i++) rowPointers[i + 1] += rowPointers[i];
+
+        int[] columnIndices = new int[rowPointers[rows]];
+        double[] values = new double[rowPointers[rows]];
+        for (int chunk = 0; chunk < numOfChunks; chunk++) {
+            int offset = rowPointers[chunk * chunkRows];
+            int length = rowPointers[Math.min(rows, (chunk + 1) * chunkRows)] - offset;
+            System.arraycopy(chunkColumns[chunk], 0, columnIndices, offset, length);
+            System.arraycopy(chunkValues[chunk], 0, values, offset, length);
+        }
+        return new OSparseMatrix(rows, columns, rowPointers, columnIndices, values);
+    }
+
+    /*
+     * Raises a square matrix by squaring, every product stays sparse as long as the powers do
+     * @param exponent non-negative exponent, zero gives the identity
+     */
+    @Contract(pure = true) public static @NotNull OSparseMatrix power(@NotNull OSparseMatrix a, long exponent) {
+        if (!a.isSquare()) throw new IllegalArgumentException("You need a square matrix for power operation.");
+        if (exponent < 0) throw new IllegalArgumentException("Exponent must not be negative.");
+
+        OSparseMatrix result = null;
+        OSparseMatrix square = a;
+        while (exponent > 0) {
+            if ((exponent & 1) == 1) result = result == null ? square : multiply(result, square);
+            exponent >>= 1;
+            if (exponent > 0) square = multiply(square, square);
+        }
+        return result == null ? OSparseMatrix.identity(a.getRowDimension()) : result;
+    }
+
+    /*
+     * @return if a is square and every entry equals the one mirrored at the diagonal
+     */
+    @Contract(pure = true) public static boolean isSymmetric(@NotNull OSparseMatrix a) {
+        if (!a.isSquare()) return false;
+        int[] rowPointers = a.getRowPointers();
+        int[] columnIndices = a.getColumnIndices();
+        double[] values = a.getValues();
+        for (int i = 0; i < a.getRowDimension(); i++) {
+            for (int p = rowPointers[i]; p < rowPointers[i + 1]; p++) {
+                int j = columnIndices[p];
+                if (j > i && a.getEntry(j, i) != values[p]) return false;
+                if (j < i) {
+                    // Entries below the diagonal without a partner above it are missed by the check above
+                    int mirrored = Arrays.binarySearch(columnIndices, rowPointers[j], rowPointers[j + 1], i);
+                    if (mirrored < 0) return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /*
+     * @return number of multiply-adds of a * b
+     */
+    private static long estimateProducts(@NotNull OSparseMatrix a, @NotNull OSparseMatrix b) {
+        int[] aColumns = a.getColumnIndices();
+        int[] bPointers = b.getRowPointers();
+        long products = 0;
+        for (int p = 0; p < a.getNumOfNonZeros(); p++) {
+            int k = aColumns[p];
+            products += bPointers[k + 1] - bPointers[k];
+        }
+        return products;
+    }
+
+    private static void checkSameDimensions(@NotNull OSparseMatrix a, @NotNull OSparseMatrix b) {
+        if (a.getRowDimension() != b.getRowDimension() || a.getColumnDimension() != b.getColumnDimension())
+            throw new IllegalArgumentException("Matrix dimensions do not match.");
+    }
+
+    private static int chunkRows(int rows, long work) {
+        if (work < PARALLEL_THRESHOLD) return Math.max(1, rows);
+        return Math.max(1, rows / (4 * Parallel.getParallelism()));
+    }
+
+    private static void forEachRow(int rows, long work, @NotNull Parallel.Chunk chunk) {
+        Parallel.forEach(rows, chunkRows(rows, work), chunk);
+    }
+
+}
@@ -0,0 +1,176 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.OSparseMatrix;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/*
+ * Summary: Iterative solvers of A * x = b for sparse A, which never build a dense matrix. Symmetric matrices with a
+ *          positive diagonal are solved with conjugate gradients (CG), all others and those CG breaks down on with
+ *          the stabilized bi-conjugate gradient method (BiCGSTAB). Both are preconditioned with the diagonal of A.
+ * Date:    2026/10/17
+ */
+public final class SparseSolver {
+
+    // Residual relative to b at which an iteration stops
+    private static final double TOLERANCE = 1e-10;
+
+    // Iterations per row of A after which a solver gives up, but at least MIN_ITERATIONS
+    private static final int ITERATIONS_PER_ROW = 10;
+    private static final int MIN_ITERATIONS = 1000;
+
+    private SparseSolver() {}
+
+    /*
+     * Solves A * x = b
+     * @param b right-hand side, not changed
+     * @return x
+     * @throws CalculationException if A isn't square, b doesn't fit A or neither method converges
+     */
+    @Contract(pure = true) public static @NotNull double[] solve(@NotNull OSparseMatrix a, @NotNull double[] b)
+            throws CalculationException {
+        if (!a.isSquare()) throw new CalculationException("A isn't a square matrix");
+        if (b.length != a.getRowDimension())
+            throw new CalculationException("A should have the same number of rows/columns as b values.");
+
+        int n = b.length;
+        double bNorm = norm(b);
+        if (bNorm == 0) return new double[n];
+
+        double tolerance = TOLERANCE * bNorm;
+        int maxIterations = (int) Math.min(Integer.MAX_VALUE,
+                Math.max(MIN_ITERATIONS, (long) ITERATIONS_PER_ROW * n));
+        double[] inverseDiagonal = new double[n];
+        boolean positiveDiagonal = inverseDiagonal(a, inverseDiagonal);
+
+        double[] x = null;
+        if (positiveDiagonal && SparseKernel.isSymmetric(a))
+            x = conjugateGradient(a, b, inverseDiagonal, tolerance, maxIterations);
+        if (x == null) x = biCgStab(a, b, inverseDiagonal, tolerance, maxIterations);
+        if (x == null) throw new CalculationException("The iterative solver did not converge, A may be singular");
+        return x;
+    }
+
+    /*
+     * Fills the inverse of the diagonal of A, 1 where the diagonal is zero
+     * @return if all entries of the diagonal are positive
+     */
+    private static boolean inverseDiagonal(@NotNull OSparseMatrix a, @NotNull double[] inverse) {
+        boolean positive = true;
+        for (int i = 0; i < inverse.length; i++) {
+            double d = a.getEntry(i, i);
+            if (d <= 0) positive = false;
+            inverse[i] = d == 0 ? 1 : 1 / d;
+        }
+        return positive;
+    }
+
+    /*
+     * Preconditioned conjugate gradients, for symmetric positive definite A
+     * @return x or null if A turned out not to be positive definite or the iteration did not converge
+     */
+    @Nullable private static double[] conjugateGradient(@NotNull OSparseMatrix a, @NotNull double[] b,
+                                                        @NotNull double[] inverseDiagonal, double tolerance,
+                                                        int maxIterations) {
+        int n = b.length;
+        double[] x = new double[n];
+        double[] r = b.clone();
+        double[] z = new double[n];
+        precondition(inverseDiagonal, r, z);
+        double[] p = z.clone();
+        double[] ap = new double[n];
+        double rz = dot(r, z);
+
+        for (int iteration = 0; iteration < maxIterations; iteration++) {
+            SparseKernel.multiplyInto(a, p, ap);
+            double pAp = dot(p, ap);
+            if (!(pAp > 0)) return null;
+
+            double alpha = rz / pAp;
+            for (int i = 0; i < n; i++) {
+                x[i] += alpha * p[i];
+                r[i] -= alpha * ap[i];
+            }
+            if (norm(r) <= tolerance) return x;
+
+            precondition(inverseDiagonal, r, z);
+            double rzNext = dot(r, z);
+            double beta = rzNext / rz;
+            rz = rzNext;
+            for (int i = 0; i < n; i++) p[i] = z[i] + beta * p[i];
+        }
+        return null;
+    }
+
+    /*
+     * Right-preconditioned BiCGSTAB, for any non-singular A
+     * @return x or null if the iteration broke down or did not converge
+     */
+    @Nullable private static double[] biCgStab(@NotNull OSparseMatrix a, @NotNull double[] b,
+                                               @NotNull double[] inverseDiagonal, double tolerance,
+                                               int maxIterations) {
+        int n = b.length;
+        double[] x = new double[n];
+        double[] r = b.clone();
+        double[] rHat = b.clone();
+        double[] p = new double[n];
+        double[] v = new double[n];
+        double[] s = new double[n];
+        double[] t = new double[n];
+        double[] pHat = new double[n];
+        double[] sHat = new double[n];
+        double rho = 1, alpha = 1, omega = 1;
+
+        for (int iteration = 0; iteration < maxIterations; iteration++) {
+            double rhoNext = dot(rHat, r);
+            if (rhoNext == 0 || Double.isNaN(rhoNext)) return null;
+
+            double beta = (rhoNext / rho) * (alpha / omega);
+            for (int i = 0; i < n; i++) p[i] = r[i] + beta * (p[i] - omega * v[i]);
+            rho = rhoNext;
+
+            precondition(inverseDiagonal, p, pHat);
+            SparseKernel.multiplyInto(a, pHat, v);
+            double rHatV = dot(rHat, v);
+            if (rHatV == 0) return null;
+            alpha = rho / rHatV;
+
+            for (int i = 0; i < n; i++) s[i] = r[i] - alpha * v[i];
+            if (norm(s) <= tolerance) {
+                for (int i = 0; i < n; i++) x[i] += alpha * pHat[i];
+                return x;
+            }
+
+            precondition(inverseDiagonal, s, sHat);
+            SparseKernel.multiplyInto(a, sHat, t);
+            double tt = dot(t, t);
+            if (tt == 0) return null;
+            omega = dot(t, s) / tt;
+
+            for (int i = 0; i < n; i++) {
+                x[i] += alpha * pHat[i] + omega * sHat[i];
+                r[i] = s[i] - omega * t[i];
+            }
+            if (norm(r) <= tolerance) return x;
+            if (omega == 0) return null;
+        }
+        return null;
+    }
+
+    private static void precondition(@NotNull double[] inverseDiagonal, @NotNull double[] r, @NotNull double[] z) {
+        for (int i = 0; i < r.length; i++) z[i] = inverseDiagonal[i] * r[i];
+    }
+
+    private static double dot(@NotNull double[] a, @NotNull double[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) sum += a[i] * b[i];
+        return sum;
+    }
+
+    private static double norm(@NotNull double[] a) {
+        return Math.sqrt(dot(a, a));
+    }
+
+}
@@ -5,15 +5,14 @@ import de.fhdw.wip.rpntilecalculator.model.operands.OFraction;
 import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
 import de.fhdw.wip.rpntilecalculator.model.operands.OPolynom;
 import de.fhdw.wip.rpntilecalculator.model.operands.OSet;
+import de.fhdw.wip.rpntilecalculator.model.operands.OSparseMatrix;
 import de.fhdw.wip.rpntilecalculator.model.operands.OTuple;
-import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
 
 import org.apache.commons.math3.analysis.polynomials.PolynomialFunction;
+import org.apache.commons.math3.linear.RealMatrix;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.HashSet;
-import java.util.Set;
 
 /*
  * Summary: Defines the Times click. Lets the user Multiplies operands.
@@ -33,17 +32,6 @@ public class Times extends Action {
         requiredNumOfOperands = new int[]{2};
     }
 
-    /*
-     * Multiplying ODouble and ODouble
-     * @param operands params
-     * @return product of operands
-     */
-    @NotNull @Override
-    public Operand with(@NotNull Operand... operands) throws CalculationException {
-        scopedAction = this;
-        return super.with(operands);
-    }
-
     //region Double
     //------------------------------------------------------------------------------------
 
@@ -83,10 +71,7 @@ public class Times extends Action {
      * @return product of params
      */
     @Contract(pure = true) @NotNull OSet on(@NotNull ODouble oDouble, @NotNull OSet oSet) {
-        Set<Double> newSet = new HashSet<>();
-        for (double d : oSet.getSet())
-            newSet.add(d * oDouble.getDouble());
-        return new OSet(newSet);
+        return new OSet(ElementKernel.multiply(oSet.toArray(), oDouble.getDouble()));
     }
 
     @Contract(pure = true) @NotNull OSet on(@NotNull OSet oSet, @NotNull ODouble oDouble) {
@@ -100,7 +85,7 @@ public class Times extends Action {
      * @return product of params
      */
     @Contract(pure = true) @NotNull OMatrix on(@NotNull ODouble oDouble, @NotNull OMatrix oMatrix) {
-        return new OMatrix(oMatrix.getMatrix().scalarMultiply(oDouble.getDouble()));
+        return MatrixCombination.scale(oDouble.getDouble(), oMatrix);
     }
 
     @Contract(pure = true) @NotNull OMatrix on(@NotNull OMatrix oMatrix, @NotNull ODouble oDouble) {
@@ -131,11 +116,7 @@ public class Times extends Action {
      * @return product of params
      */
     @Contract(pure = true) @NotNull OTuple on(@NotNull ODouble oDouble, @NotNull OTuple oTuple) {
-        double[] oldTuple = oTuple.getTuple();
-        double[] newTuple = new double[oldTuple.length];
-        for (int i = 0; i < newTuple.length; i++)
-            newTuple[i] = oldTuple[i] * oDouble.getDouble();
-        return new OTuple(newTuple);
+        return new OTuple(ElementKernel.multiply(oTuple.getTuple(), oDouble.getDouble()));
     }
 
     @Contract(pure = true) @NotNull OTuple on(@NotNull OTuple oTuple, @NotNull ODouble oDouble) {
@@ -174,7 +155,7 @@ public class Times extends Action {
      * @return product of params
      */
     @Contract(pure = true) @NotNull OMatrix on(@NotNull OFraction oFraction, @NotNull OMatrix oMatrix) {
-        return new OMatrix(oMatrix.getMatrix().scalarMultiply(oFraction.getDouble()));
+        return MatrixCombination.scale(oFraction.getDouble(), oMatrix);
     }
 
     @Contract(pure = true) @NotNull OMatrix on(@NotNull OMatrix oMatrix, @NotNull OFraction oFraction) {
@@ -210,17 +191,85 @@ public class Times extends Action {
      * @return product of params
      */
     @Contract(pure = true) @NotNull OMatrix on(@NotNull OMatrix oMatrix1, @NotNull OMatrix oMatrix2) {
-        return new OMatrix(oMatrix1.getMatrix().multiply(oMatrix2.getMatrix()));
+        return MatrixCombination.product(oMatrix1, oMatrix2);
+    }
+
+    //region Sparse matrix
+    //------------------------------------------------------------------------------------
+
+    /*
+     * Multiplying OSparseMatrix and OSparseMatrix
+     * @param oSparse1 first operand
+     * @param oSparse2 second operand
+     * @return product of params, sparse as well
+     */
+    @Contract(pure = true) @NotNull OSparseMatrix on(@NotNull OSparseMatrix oSparse1, @NotNull OSparseMatrix oSparse2) {
+        return SparseKernel.multiply(oSparse1, oSparse2);
+    }
+
+    /*
+     * Multiplying OSparseMatrix and OMatrix
+     * @param oSparse first operand
+     * @param oMatrix second operand
+     * @return product of params, dense like the second one
+     */
+    @Contract(pure = true) @NotNull OMatrix on(@NotNull OSparseMatrix oSparse, @NotNull OMatrix oMatrix) {
+        RealMatrix matrix = oMatrix.getMatrix();
+        int columns = matrix.getColumnDimension();
+        double[] product = SparseKernel.multiply(oSparse, MatrixKernel.flatten(matrix), columns);
+        return new OMatrix(MatrixKernel.toMatrix(product, oSparse.getRowDimension(), columns));
+    }
+
+    /*
+     * Multiplying OMatrix and OSparseMatrix
+     * @param oMatrix first operand
+     * @param oSparse second operand
+     * @return product of params, dense like the first one
+     */
+    @Contract(pure = true) @NotNull OMatrix on(@NotNull OMatrix oMatrix, @NotNull OSparseMatrix oSparse) {
+        RealMatrix matrix = oMatrix.getMatrix();
+        int rows = matrix.getRowDimension();
+        double[] product = SparseKernel.multiply(MatrixKernel.flatten(matrix), rows, oSparse);
+        return new OMatrix(MatrixKernel.toMatrix(product, rows, oSparse.getColumnDimension()));
     }
 
     /*
-     * Multiplying OPolynom and OPolynom
+     * Multiplying OSparseMatrix and OTuple as a column vector
+     * @param oSparse first operand
+     * @param oTuple second operand
+     * @return product of params
+     */
+    @Contract(pure = true) @NotNull OTuple on(@NotNull OSparseMatrix oSparse, @NotNull OTuple oTuple) {
+        return new OTuple(SparseKernel.multiply(oSparse, oTuple.getTuple()));
+    }
+
+    @Contract(pure = true) @NotNull OSparseMatrix on(@NotNull ODouble oDouble, @NotNull OSparseMatrix oSparse) {
+        return SparseKernel.scale(oSparse, oDouble.getDouble());
+    }
+
+    @Contract(pure = true) @NotNull OSparseMatrix on(@NotNull OSparseMatrix oSparse, @NotNull ODouble oDouble) {
+        return on(oDouble, oSparse);
+    }
+
+    @Contract(pure = true) @NotNull OSparseMatrix on(@NotNull OFraction oFraction, @NotNull OSparseMatrix oSparse) {
+        return SparseKernel.scale(oSparse, oFraction.getDouble());
+    }
+
+    @Contract(pure = true) @NotNull OSparseMatrix on(@NotNull OSparseMatrix oSparse, @NotNull OFraction oFraction) {
+        return on(oFraction, oSparse);
+    }
+
+    //endregion
+
+    /*
+     * Multiplying OPolynom and OPolynom, long polynomials by Karatsuba or FFT, see PolynomialKernel
      * @param oPolynom1 first operand
      * @param oPolynom2 second operand
      * @return product of params
      */
     @Contract(pure = true) @NotNull OPolynom on(@NotNull OPolynom oPolynom1, @NotNull OPolynom oPolynom2) {
-        return new OPolynom(oPolynom1.getPolynom().multiply(oPolynom2.getPolynom()));
+        return new OPolynom(PolynomialKernel.multiply(oPolynom1.getPolynom().getCoefficients(),
+                oPolynom2.getPolynom().getCoefficients()));
     }
 
     /*
@@ -230,17 +279,7 @@ public class Times extends Action {
      * @return product of params
      */
     @Contract(pure = true) @NotNull OTuple on(@NotNull OTuple oTuple1, @NotNull OTuple oTuple2) {
-        double[] tuple1 = oTuple1.getTuple();
-        double[] tuple2 = oTuple2.getTuple();
-        double[] tupleSum = new double[tuple2.length];
-
-        if (tuple1.length != tuple2.length)
-            throw new IllegalArgumentException("Tuples must have matching size.");
-
-        for (int i = 0; i < tuple1.length; i++)
-            tupleSum[i] = tuple1[i] * tuple2[i];
-
-        return new OTuple(tupleSum);
+        return new OTuple(ElementKernel.multiply(oTuple1.getTuple(), oTuple2.getTuple()));
     }
 
 }
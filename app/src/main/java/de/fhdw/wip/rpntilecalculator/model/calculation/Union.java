@@ -0,0 +1,26 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.OSet;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/*
+ * Summary: Defines the Union click. Unites two sets.
+ *          Sets held sorted are merged, all others are hashed, both in linear time.
+ * Date:    2026/10/17
+ */
+public class Union extends Action {
+
+    @NotNull private static final Union UNION = new Union();
+
+    @Contract(pure = true) @NotNull public static Union getInstance() { return UNION; }
+    private Union() {
+        requiredNumOfOperands = new int[]{2};
+    }
+
+    @Contract(pure = true) @NotNull OSet on(@NotNull OSet oSet1, @NotNull OSet oSet2) {
+        return oSet1.union(oSet2);
+    }
+
+}
@@ -3,16 +3,11 @@ package de.fhdw.wip.rpntilecalculator.model.calculation;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Collections;
-
-import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
 import de.fhdw.wip.rpntilecalculator.model.operands.OPolynom;
 import de.fhdw.wip.rpntilecalculator.model.operands.OSet;
-import de.fhdw.wip.rpntilecalculator.model.operands.OTuple;
-import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
 
 /*
- * Summary: A Class that can calculate the zeros of functions and quadratic functions.
+ * Summary: A Class that can calculate the real zeros of polynomial functions of any degree.
  * Author:  Jannis Luca Keienburg
  * Date:    2020/01/15
  */
@@ -23,65 +18,16 @@ public class Zeros extends Action {
     @Contract(pure = true) @NotNull public static Zeros getInstance() { return ZEROS; }
     private Zeros() {requiredNumOfOperands = new int[] {1}; }
 
-    @NotNull @Override
-    public Operand with(@NotNull Operand... operands) throws CalculationException {
-        scopedAction = this;
-        return super.with(operands);
-    }
-
     @Contract(pure = true) @NotNull OSet on(@NotNull OPolynom oPolynom) throws CalculationException {
         double[] results = calculateZeros(oPolynom);
-        for(double result : results) if(Double.isNaN(result))
-            throw new CalculationException("Could not calculate Zero with " + result);
+        if (results.length == 0) throw new CalculationException("The polynom has no real zeros.");
         return new OSet(results);
     }
 
-    // Function that calculates the zeros when called
+    // Function that calculates the real zeros when called, for polynoms of any degree.
+    // Multiple zeros are repeated, all zeros including the complex ones are found by RootFinder.
     public double [] calculateZeros(OPolynom oPolynom)
     {
-        double [] zeros = new double[] {};
-        double[] functionAsDouble = oPolynom.getPolynom().getCoefficients();
-        int type = normalOrQuadraticFunction(functionAsDouble);
-        if (type == 1)
-        {
-            zeros = zerosTypeOne(functionAsDouble);
-        }
-        else if(type == 2)
-        {
-            zeros = zerosTypeTwo(functionAsDouble);
-        }
-        return zeros;
-    }
-
-    // Checks if it is a normal function or an quadratic funtion
-    private int normalOrQuadraticFunction(double [] functionAsDouble)
-    {
-        int result = 1;
-        if(functionAsDouble.length == 3)
-        {
-            result = 2;
-        }
-        return result;
-    }
-
-    // Calculates the zeros for functions like:
-    // a * x + b = 0
-    private double[] zerosTypeOne(double [] functionAsDouble)
-    {
-        double [] zeros = new double[1];
-        zeros[0] = (functionAsDouble[0] * (-1)) / functionAsDouble[1];
-        return zeros;
-    }
-
-    // Calculates the zeros for functions like:
-    // a * x^2 + b * x + c = 0
-    // uses the Mitternachtsformel
-    private double[] zerosTypeTwo(double [] functionAsDouble)
-    {
-        double [] zeros = new double[2];
-        double part1 = Math.sqrt((Math.pow(functionAsDouble[1], 2) - (4 * functionAsDouble[2] * functionAsDouble[0])));
-        zeros[0] = (-functionAsDouble[1] - part1) / (2 * functionAsDouble[2]);
-        zeros[1] = (-functionAsDouble[1] + part1) / (2 * functionAsDouble[2]);
-        return zeros;
+        return RootFinder.roots(oPolynom).getRealRoots();
     }
 }
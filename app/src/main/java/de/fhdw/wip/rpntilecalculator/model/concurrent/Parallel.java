@@ -0,0 +1,182 @@
+package de.fhdw.wip.rpntilecalculator.model.concurrent;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+ * Summary: Runs loops over index ranges in chunks on a shared pool of daemon threads. The calling thread works on
+ *          chunks as well and only waits for chunks that are already running, so loops may be nested inside chunks
+ *          without exhausting the pool.
+ * Date:    2026/10/17
+ */
+public final class Parallel {
+
+    /*
+     * Body of a loop, called once per chunk
+     */
+    public interface Chunk {
+
+        /*
+         * @param from first index of the chunk
+         * @param to index behind the last one of the chunk
+         */
+        void run(int from, int to);
+    }
+
+    /*
+     * Work on one item of a batch
+     */
+    public interface Task<T, R> {
+
+        /*
+         * @param item item of the batch
+         * @return result for the item
+         */
+        R apply(T item);
+    }
+
+    private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+    // Items per chunk of a batch. An item takes microseconds, e.g. finding the roots of a polynomial, so eight of
+    // them outweigh claiming a chunk while small batches are still shared by all threads.
+    private static final int BATCH_CHUNK_SIZE = 8;
+
+    private static volatile ExecutorService pool;
+
+    private Parallel() {}
+
+    /*
+     * @return number of threads working on a loop, including the calling one
+     */
+    @Contract(pure = true) public static int getParallelism() {
+        return PARALLELISM;
+    }
+
+    /*
+     * Runs a loop over [0, size) in chunks of the given size. Loops of a single chunk or on a single core run on
+     * the calling thread only, chunk after chunk.
+     * @param size number of indices
+     * @param chunkSize number of indices per chunk
+     * @param chunk body of the loop
+     * @throws RuntimeException the first exception thrown by any chunk, after all started chunks have finished
+     */
+    public static void forEach(int size, int chunkSize, @NotNull Chunk chunk) {
+        if (chunkSize < 1) throw new IllegalArgumentException("Chunk size must be positive");
+        if (size <= 0) return;
+
+        int numOfChunks = (size - 1) / chunkSize + 1;
+        if (numOfChunks == 1 || PARALLELISM == 1) {
+            for (int from = 0; from < size; from += chunkSize)
+                chunk.run(from, Math.min(size, from + chunkSize));
+            return;
+        }
+
+        Loop loop = new Loop(size, chunkSize, numOfChunks, chunk);
+        ExecutorService executor = getPool();
+        int helpers = Math.min(PARALLELISM, numOfChunks) - 1;
+        for (int i = 0; i < helpers; i++) executor.execute(loop);
+        loop.run();
+        loop.await();
+    }
+
+    /*
+     * Applies a task to every item of a batch, chunks of items run in parallel
+     * @param items items of the batch
+     * @param results array the result for items[i] is stored in at index i, at least as long as items
+     * @param task work on one item
+     * @throws RuntimeException the first exception thrown by the task, after all started chunks have finished
+     */
+    public static <T, R> void map(@NotNull final T[] items, @NotNull final R[] results,
+                                  @NotNull final Task<? super T, ? extends R> task) {
+        forEach(items.length, BATCH_CHUNK_SIZE, new Chunk() {
+            @Override public void run(int from, int to) {
+                for (int i = from; i < to; i++) results[i] = task.apply(items[i]);
+            }
+        });
+    }
+
+    @NotNull private static ExecutorService getPool() {
+        ExecutorService executor = pool;
+        if (executor != null) return executor;
+
+        synchronized (Parallel.class) {
+            if (pool == null) {
+                pool = Executors.newFixedThreadPool(PARALLELISM, new ThreadFactory() {
+                    private final AtomicInteger count = new AtomicInteger();
+
+                    @Override public Thread newThread(@NotNull Runnable runnable) {
+                        Thread thread = new Thread(runnable, "parallel-" + count.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+            }
+            return pool;
+        }
+    }
+
+    /*
+     * State of one loop, every thread running it claims chunks until none are left
+     */
+    private static final class Loop implements Runnable {
+
+        private final int size;
+        private final int chunkSize;
+        private final int numOfChunks;
+        @NotNull private final Chunk chunk;
+
+        @NotNull private final AtomicInteger next = new AtomicInteger();
+        @NotNull private final CountDownLatch done;
+        @NotNull private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Loop(int size, int chunkSize, int numOfChunks, @NotNull Chunk chunk) {
+            this.size = size;
+            this.chunkSize = chunkSize;
+            this.numOfChunks = numOfChunks;
+            this.chunk = chunk;
+            this.done = new CountDownLatch(numOfChunks);
+        }
+
+        @Override public void run() {
+            int index;
+            while ((index = next.getAndIncrement()) < numOfChunks) {
+                try {
+                    // Chunks after a failure are skipped, but still counted so the caller does not wait for them
+                    if (failure.get() == null) {
+                        int from = index * chunkSize;
+                        chunk.run(from, Math.min(size, from + chunkSize));
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                } finally {
+                    done.countDown();
+                }
+            }
+        }
+
+        void await() {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    done.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) Thread.currentThread().interrupt();
+
+            Throwable t = failure.get();
+            if (t instanceof RuntimeException) throw (RuntimeException) t;
+            if (t instanceof Error) throw (Error) t;
+        }
+    }
+
+}
@@ -0,0 +1,119 @@
+package de.fhdw.wip.rpntilecalculator.model.engine;
+
+import de.fhdw.wip.rpntilecalculator.model.concurrent.Parallel;
+import de.fhdw.wip.rpntilecalculator.model.operands.OTuple;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/*
+ * Summary: Evaluates a scalar expression over columns of values, e.g. one program over a million x-values. The rows
+ *          are cut into chunks and every opcode of the expression runs as one loop over the primitive values of a
+ *          chunk, the chunks are evaluated in parallel. Rows for which a calculation fails, like a division by zero
+ *          or the logarithm of a negative value, are NaN instead of failing the whole column.
+ *          Evaluators are immutable and can be used by several threads at once.
+ * Date:    2026/10/17
+ */
+public final class ColumnEvaluator {
+
+    // Rows per chunk, the registers of a chunk stay in the cache of the core evaluating it
+    public static final int CHUNK_SIZE = 4096;
+
+    @NotNull private final Expression.Scalar expression;
+    private final int height;
+    private final int numOfVariables;
+
+    // Registers of every thread, allocated on its first chunk
+    @NotNull private final ThreadLocal<double[][]> registers = new ThreadLocal<double[][]>() {
+        @Override protected double[][] initialValue() {
+            return new double[height][CHUNK_SIZE];
+        }
+    };
+
+    /*
+     * @param expression scalar expression, its variables are the columns
+     * @throws IllegalArgumentException if the expression is not scalar
+     */
+    public ColumnEvaluator(@NotNull Expression expression) {
+        if (!expression.isScalar())
+            throw new IllegalArgumentException("Expression of type " + expression.getType().getSimpleName()
+                    + " is not scalar");
+        this.expression = (Expression.Scalar) expression;
+        this.height = this.expression.height();
+        this.numOfVariables = this.expression.numOfVariables();
+    }
+
+    /*
+     * Compiles a program whose variables are all doubles
+     * @param program tokens separated by whitespace, see ExpressionCompiler
+     * @param variables names of the variables, in the order of the columns
+     * @return evaluator of the program
+     * @throws IllegalArgumentException if the program cannot be compiled or does not work on doubles only
+     */
+    @Contract(pure = true) public static @NotNull ColumnEvaluator compile(@NotNull String program,
+                                                                          @NotNull String... variables) {
+        return new ColumnEvaluator(ExpressionCompiler.compile(program, variables));
+    }
+
+    /*
+     * Evaluates the expression for every row of the columns
+     * @param columns one column per variable, all of the same length
+     * @return one result per row
+     * @throws IllegalArgumentException if there are too few columns or their lengths differ
+     */
+    @NotNull public double[] evaluate(@NotNull double[]... columns) {
+        double[] result = new double[rows(columns)];
+        evaluateInto(result, columns);
+        return result;
+    }
+
+    /*
+     * Evaluates the expression for every row of the columns into an existing array, e.g. to reuse a large one
+     * @param result array the results are written to, at least as long as the columns
+     * @param columns one column per variable, all of the same length
+     * @throws IllegalArgumentException if there are too few columns, their lengths differ or the result is too short
+     */
+    public void evaluateInto(@NotNull final double[] result, @NotNull final double[]... columns) {
+        int rows = rows(columns);
+        if (result.length < rows)
+            throw new IllegalArgumentException("Result has " + result.length + " of " + rows + " rows");
+
+        Parallel.forEach(rows, CHUNK_SIZE, new Parallel.Chunk() {
+            @Override public void run(int from, int to) {
+                double[][] chunk = registers.get();
+                expression.column(columns, from, to - from, chunk, 0);
+                System.arraycopy(chunk[0], 0, result, from, to - from);
+            }
+        });
+    }
+
+    /*
+     * Evaluates the expression for every row of the columns
+     * @param columns one column per variable, all of the same length
+     * @return tuple of the results, one value per row
+     * @throws IllegalArgumentException if there are too few columns or their lengths differ
+     */
+    @NotNull public OTuple evaluateTuple(@NotNull double[]... columns) {
+        return new OTuple(evaluate(columns));
+    }
+
+    /*
+     * @return number of columns the expression reads
+     */
+    public int getNumOfVariables() {
+        return numOfVariables;
+    }
+
+    private int rows(@NotNull double[][] columns) {
+        if (columns.length == 0) throw new IllegalArgumentException("At least one column is needed");
+        if (columns.length < numOfVariables)
+            throw new IllegalArgumentException("Expression reads " + numOfVariables + " columns, not "
+                    + columns.length);
+
+        int rows = columns[0].length;
+        for (double[] column : columns)
+            if (column.length != rows) throw new IllegalArgumentException("Columns differ in length");
+        return rows;
+    }
+
+}
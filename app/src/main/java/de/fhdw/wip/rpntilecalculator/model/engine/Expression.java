@@ -0,0 +1,287 @@
+package de.fhdw.wip.rpntilecalculator.model.engine;
+
+import de.fhdw.wip.rpntilecalculator.model.calculation.CalculationException;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Overload;
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/*
+ * Summary: Compiled RPN program as a typed expression tree. Every node knows the class of its result and calls an
+ *          on(...) method that was resolved once at compile time. Nodes on doubles only compute primitive doubles.
+ *          Expressions are immutable and can be evaluated by several threads at once.
+ * Date:    2026/10/17
+ */
+public abstract class Expression {
+
+    Expression() {}
+
+    /*
+     * @return class of the operand the expression evaluates to
+     */
+    @NotNull public abstract Class<? extends Operand> getType();
+
+    /*
+     * Evaluates the expression for one binding of the variables
+     * @param bindings one operand per variable, in the order of the variables given to the compiler
+     * @return result of the expression
+     * @throws CalculationException in case a calculation fails for these values, e.g. a division by zero
+     * @throws IllegalArgumentException if a binding is not of the class its variable was compiled for
+     */
+    @NotNull public abstract Operand evaluate(@NotNull Operand... bindings) throws CalculationException;
+
+    /*
+     * @return if the whole expression works on doubles only, so it can be evaluated with evaluateDouble
+     */
+    public boolean isScalar() {
+        return false;
+    }
+
+    /*
+     * Evaluates a scalar expression on primitive doubles, without any operand objects
+     * @param values one value per variable, in the order of the variables given to the compiler
+     * @return result of the expression
+     * @throws CalculationException in case a calculation fails for these values, e.g. a division by zero
+     * @throws IllegalStateException if the expression is not scalar
+     */
+    public double evaluateDouble(@NotNull double... values) throws CalculationException {
+        throw new IllegalStateException("Expression of type " + getType().getSimpleName() + " is not scalar");
+    }
+
+    //region Nodes
+    //------------------------------------------------------------------------------------
+
+    /*
+     * Operand that is the same for every evaluation
+     */
+    static final class Constant extends Expression {
+
+        @NotNull private final Operand operand;
+
+        Constant(@NotNull Operand operand) {
+            this.operand = operand;
+        }
+
+        @NotNull @Override public Class<? extends Operand> getType() {
+            return operand.getClass();
+        }
+
+        @NotNull @Override public Operand evaluate(@NotNull Operand... bindings) {
+            return operand;
+        }
+    }
+
+    /*
+     * Operand bound at evaluation
+     */
+    static final class Variable extends Expression {
+
+        private final int index;
+        @NotNull private final Class<? extends Operand> type;
+
+        Variable(int index, @NotNull Class<? extends Operand> type) {
+            this.index = index;
+            this.type = type;
+        }
+
+        @NotNull @Override public Class<? extends Operand> getType() {
+            return type;
+        }
+
+        @NotNull @Override public Operand evaluate(@NotNull Operand... bindings) {
+            Operand operand = bindings[index];
+            if (operand == null || operand.getClass() != type)
+                throw new IllegalArgumentException("Variable " + index + " must be " + type.getSimpleName());
+            return operand;
+        }
+    }
+
+    /*
+     * Action applied to the results of the children through an overload resolved at compile time
+     */
+    static final class Apply extends Expression {
+
+        @NotNull private final Overload overload;
+        @NotNull private final Expression[] children;
+
+        /*
+         * @param children operands of the action, the top of the stack first
+         */
+        Apply(@NotNull Overload overload, @NotNull Expression[] children) {
+            this.overload = overload;
+            this.children = children;
+        }
+
+        @NotNull @Override public Class<? extends Operand> getType() {
+            return overload.getResultType();
+        }
+
+        @NotNull @Override public Operand evaluate(@NotNull Operand... bindings) throws CalculationException {
+            Operand[] operands = new Operand[children.length];
+            for (int i = 0; i < children.length; i++)
+                operands[i] = children[i].evaluate(bindings);
+            return overload.invoke(operands);
+        }
+    }
+
+    /*
+     * Node that evaluates to a double, only boxed where a non-scalar node or the caller needs an operand
+     */
+    abstract static class Scalar extends Expression {
+
+        abstract double scalar(@NotNull Operand[] bindings) throws CalculationException;
+
+        abstract double scalar(@NotNull double[] values) throws CalculationException;
+
+        /*
+         * Evaluates the node for a chunk of rows of columnar values, rows that fail become NaN
+         * @param columns one column of values per variable
+         * @param from first row of the chunk
+         * @param length number of rows, at most the length of a register
+         * @param registers scratch columns, the result is written to registers[depth] and deeper ones are overwritten
+         * @param depth register of the result
+         */
+        abstract void column(@NotNull double[][] columns, int from, int length, @NotNull double[][] registers,
+                             int depth);
+
+        /*
+         * @return number of registers column needs
+         */
+        abstract int height();
+
+        /*
+         * @return highest index of a variable plus one
+         */
+        abstract int numOfVariables();
+
+        @NotNull @Override public final Class<? extends Operand> getType() {
+            return ODouble.class;
+        }
+
+        @NotNull @Override public final Operand evaluate(@NotNull Operand... bindings) throws CalculationException {
+            return new ODouble(scalar(bindings));
+        }
+
+        @Override public final boolean isScalar() {
+            return true;
+        }
+
+        @Override public final double evaluateDouble(@NotNull double... values) throws CalculationException {
+            return scalar(values);
+        }
+    }
+
+    static final class ScalarConstant extends Scalar {
+
+        private final double value;
+
+        ScalarConstant(double value) {
+            this.value = value;
+        }
+
+        @Override double scalar(@NotNull Operand[] bindings) {
+            return value;
+        }
+
+        @Override double scalar(@NotNull double[] values) {
+            return value;
+        }
+
+        @Override void column(@NotNull double[][] columns, int from, int length, @NotNull double[][] registers,
+                              int depth) {
+            Arrays.fill(registers[depth], 0, length, value);
+        }
+
+        @Override int height() {
+            return 1;
+        }
+
+        @Override int numOfVariables() {
+            return 0;
+        }
+    }
+
+    static final class ScalarVariable extends Scalar {
+
+        private final int index;
+
+        ScalarVariable(int index) {
+            this.index = index;
+        }
+
+        @Override double scalar(@NotNull Operand[] bindings) {
+            Operand operand = bindings[index];
+            if (!(operand instanceof ODouble))
+                throw new IllegalArgumentException("Variable " + index + " must be ODouble");
+            return ((ODouble) operand).getDouble();
+        }
+
+        @Override double scalar(@NotNull double[] values) {
+            return values[index];
+        }
+
+        @Override void column(@NotNull double[][] columns, int from, int length, @NotNull double[][] registers,
+                              int depth) {
+            System.arraycopy(columns[index], from, registers[depth], 0, length);
+        }
+
+        @Override int height() {
+            return 1;
+        }
+
+        @Override int numOfVariables() {
+            return index + 1;
+        }
+    }
+
+    static final class ScalarApply extends Scalar {
+
+        @NotNull private final ScalarOp op;
+        @NotNull private final Scalar top;
+        @Nullable private final Scalar second;
+
+        /*
+         * @param second operand below the top, null for unary opcodes
+         */
+        ScalarApply(@NotNull ScalarOp op, @NotNull Scalar top, @Nullable Scalar second) {
+            this.op = op;
+            this.top = top;
+            this.second = second;
+        }
+
+        @Override double scalar(@NotNull Operand[] bindings) throws CalculationException {
+            return apply(top.scalar(bindings), second == null ? Double.NaN : second.scalar(bindings));
+        }
+
+        @Override double scalar(@NotNull double[] values) throws CalculationException {
+            return apply(top.scalar(values), second == null ? Double.NaN : second.scalar(values));
+        }
+
+        @Override void column(@NotNull double[][] columns, int from, int length, @NotNull double[][] registers,
+                              int depth) {
+            top.column(columns, from, length, registers, depth);
+            if (second != null) second.column(columns, from, length, registers, depth + 1);
+            op.apply(registers[depth], registers[second == null ? depth : depth + 1], length);
+        }
+
+        @Override int height() {
+            return second == null ? top.height() : Math.max(top.height(), second.height() + 1);
+        }
+
+        @Override int numOfVariables() {
+            return second == null ? top.numOfVariables() : Math.max(top.numOfVariables(), second.numOfVariables());
+        }
+
+        private double apply(double topValue, double secondValue) throws CalculationException {
+            if (op.fails(topValue, secondValue)) throw new CalculationException(op.getFailure());
+            return op.apply(topValue, secondValue);
+        }
+    }
+
+    //endregion
+
+}
@@ -0,0 +1,125 @@
+package de.fhdw.wip.rpntilecalculator.model.engine;
+
+import de.fhdw.wip.rpntilecalculator.model.calculation.Action;
+import de.fhdw.wip.rpntilecalculator.model.calculation.ActionMapping;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Overload;
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * Summary: Compiles an RPN program with variables into an expression tree. The stack is simulated with the types of
+ *          the operands, so the number of operands of every action and its on(...) method are chosen once, the same
+ *          way a click on the action tile chooses them. Evaluating the tree only does the calculations.
+ * Date:    2026/10/17
+ */
+public final class ExpressionCompiler {
+
+    private ExpressionCompiler() {}
+
+    /*
+     * Compiles a program whose variables are all doubles
+     * @param program tokens separated by whitespace, see ProgramParser, variables are given by their names
+     * @param variables names of the variables, in the order of the bindings
+     * @return the expression for the single operand the program leaves on the stack
+     * @throws IllegalArgumentException if a token is unknown or the program does not leave exactly one operand
+     */
+    @Contract(pure = true) public static @NotNull Expression compile(@NotNull String program, @NotNull String... variables) {
+        Class<?>[] types = new Class<?>[variables.length];
+        Arrays.fill(types, ODouble.class);
+        return compile(ProgramParser.tokenize(program), variables, types);
+    }
+
+    /*
+     * Compiles a program with variables of any operand class
+     * @param tokens one token per operand, variable or action
+     * @param variables names of the variables, in the order of the bindings
+     * @param types operand class of each variable
+     * @return the expression for the single operand the program leaves on the stack
+     * @throws IllegalArgumentException if a token is unknown or the program does not leave exactly one operand
+     */
+    @Contract(pure = true) public static @NotNull Expression compile(@NotNull List<String> tokens,
+                                                                     @NotNull String[] variables,
+                                                                     @NotNull Class<?>[] types) {
+        if (variables.length != types.length)
+            throw new IllegalArgumentException("Every variable needs a type");
+        for (Class<?> type : types)
+            if (!Operand.class.isAssignableFrom(type))
+                throw new IllegalArgumentException(type.getSimpleName() + " is no operand");
+
+        List<Expression> stack = new ArrayList<>();
+        for (String token : tokens) {
+            int variable = Arrays.asList(variables).indexOf(token);
+            if (variable >= 0) {
+                stack.add(variable(variable, types[variable].asSubclass(Operand.class)));
+                continue;
+            }
+            ActionMapping mapping = ActionMapping.of(token);
+            if (mapping != null) apply(stack, mapping.getAction());
+            else stack.add(constant(ProgramParser.parseOperand(token)));
+        }
+
+        if (stack.size() != 1)
+            throw new IllegalArgumentException("Program leaves " + stack.size() + " operands instead of one");
+        return stack.get(0);
+    }
+
+    /*
+     * Replaces the operands of an action on the simulated stack by the node applying it. An action that cannot be
+     * applied to the types leaves the stack unchanged, like a click on its tile does.
+     */
+    private static void apply(@NotNull List<Expression> stack, @NotNull Action action) {
+        int[] requiredNumOfOperands = action.getRequiredNumOfOperands();
+        if (requiredNumOfOperands[0] == -1) return;
+
+        for (int i = requiredNumOfOperands.length - 1; i >= 0; i--) {
+            int numOfOperands = Math.min(requiredNumOfOperands[i], stack.size());
+            Expression[] children = new Expression[numOfOperands];
+            Class<?>[] types = new Class<?>[numOfOperands];
+            for (int j = 0; j < numOfOperands; j++) {
+                children[j] = stack.get(stack.size() - 1 - j);
+                types[j] = children[j].getType();
+            }
+
+            Overload overload = numOfOperands == 0 ? null : action.overload(types);
+            if (overload == null) continue;
+
+            for (int j = 0; j < numOfOperands; j++) stack.remove(stack.size() - 1);
+            stack.add(node(overload, children));
+            return;
+        }
+    }
+
+    @NotNull private static Expression node(@NotNull Overload overload, @NotNull Expression[] children) {
+        // Scalar nodes take up to two children, ternary opcodes are applied like any other overload
+        ScalarOp op = children.length > 2 ? null : ScalarOp.of(overload.getAction(), children.length);
+        if (op != null && overload.getResultType() == ODouble.class
+                && allScalar(children)) {
+            Expression.Scalar second = children.length == 2 ? (Expression.Scalar) children[1] : null;
+            return new Expression.ScalarApply(op, (Expression.Scalar) children[0], second);
+        }
+        return new Expression.Apply(overload, children);
+    }
+
+    private static boolean allScalar(@NotNull Expression[] children) {
+        for (Expression child : children)
+            if (!(child instanceof Expression.Scalar)) return false;
+        return true;
+    }
+
+    @NotNull private static Expression variable(int index, @NotNull Class<? extends Operand> type) {
+        return type == ODouble.class ? new Expression.ScalarVariable(index) : new Expression.Variable(index, type);
+    }
+
+    @NotNull private static Expression constant(@NotNull Operand operand) {
+        return operand.getClass() == ODouble.class
+                ? new Expression.ScalarConstant(((ODouble) operand).getDouble()) : new Expression.Constant(operand);
+    }
+
+}
@@ -0,0 +1,145 @@
+package de.fhdw.wip.rpntilecalculator.model.engine;
+
+import de.fhdw.wip.rpntilecalculator.model.calculation.Action;
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/*
+ * Summary: A single step of an RPN program, either pushing an operand or applying an action.
+ *          A fused instruction applies one action in place of a sequence of instructions, which are executed
+ *          instead if the action cannot be applied. Instructions are immutable, so programs and their instructions
+ *          can be shared.
+ * Date:    2026/10/17
+ */
+public final class Instruction {
+
+    @NotNull private static final Instruction[] NONE = new Instruction[0];
+
+    @Nullable private final Operand operand;
+    @Nullable private final Action action;
+    // Instructions a fused instruction replaces, empty for all others
+    @NotNull private final Instruction[] expansion;
+    // Opcodes of the action in the order of its required numbers of operands, null where there is no opcode
+    @NotNull private final ScalarOp[] scalarOps;
+    private final boolean scalar;
+    private final double value;
+
+    private Instruction(@Nullable Operand operand, @Nullable Action action, @NotNull Instruction[] expansion) {
+        this.operand = operand;
+        this.action = action;
+        this.expansion = expansion;
+        this.scalarOps = scalarOps(action);
+        this.scalar = operand instanceof ODouble || hasScalarOp(scalarOps);
+        this.value = operand instanceof ODouble ? ((ODouble) operand).getDouble() : Double.NaN;
+    }
+
+    /*
+     * Instruction that pushes an operand onto the stack
+     * @param operand operand to push
+     */
+    @Contract(pure = true) public static @NotNull Instruction push(@NotNull Operand operand) {
+        return new Instruction(operand, null, NONE);
+    }
+
+    /*
+     * Instruction that pushes a double onto the stack
+     * @param value value to push
+     */
+    @Contract(pure = true) public static @NotNull Instruction push(double value) {
+        return new Instruction(new ODouble(value), null, NONE);
+    }
+
+    /*
+     * Instruction that applies an action to the top of the stack
+     * @param action action to apply
+     */
+    @Contract(pure = true) public static @NotNull Instruction apply(@NotNull Action action) {
+        return new Instruction(null, action, NONE);
+    }
+
+    /*
+     * Instruction that applies an action in place of a sequence of instructions with the same effect
+     * @param action action to apply, with exactly the operands the sequence consumes
+     * @param expansion instructions to execute instead if the action cannot be applied to the operands
+     */
+    @Contract(pure = true) public static @NotNull Instruction fuse(@NotNull Action action,
+                                                                   @NotNull Instruction... expansion) {
+        return new Instruction(null, action, expansion.clone());
+    }
+
+    /*
+     * @return the operand pushed or null if an action is applied
+     */
+    @Nullable public Operand getOperand() {
+        return operand;
+    }
+
+    /*
+     * @return the action applied or null if an operand is pushed
+     */
+    @Nullable public Action getAction() {
+        return action;
+    }
+
+    /*
+     * @return whether the instruction replaces a sequence of instructions
+     */
+    public boolean isFused() {
+        return expansion.length > 0;
+    }
+
+    /*
+     * @return the instructions a fused instruction replaces, empty for all others, not to be changed
+     */
+    @NotNull Instruction[] getExpansion() {
+        return expansion;
+    }
+
+    /*
+     * @param numOfOperands number of ODoubles the action is applied to
+     * @return opcode of the action or null if there is no primitive counterpart for this number of operands
+     */
+    @Nullable public ScalarOp getScalarOp(int numOfOperands) {
+        for (ScalarOp op : scalarOps)
+            if (op != null && op.getNumOfOperands() == numOfOperands) return op;
+        return null;
+    }
+
+    /*
+     * @return whether the instruction pushes an ODouble or applies an action that has an opcode
+     */
+    public boolean isScalar() {
+        return scalar;
+    }
+
+    /*
+     * @return the pushed double, only meaningful for scalar pushes
+     */
+    public double getValue() {
+        return value;
+    }
+
+    @NotNull private static ScalarOp[] scalarOps(@Nullable Action action) {
+        if (action == null) return new ScalarOp[0];
+        int[] requiredNumOfOperands = action.getRequiredNumOfOperands();
+        ScalarOp[] ops = new ScalarOp[requiredNumOfOperands.length];
+        for (int i = 0; i < ops.length; i++)
+            ops[i] = ScalarOp.of(action, requiredNumOfOperands[i]);
+        return ops;
+    }
+
+    private static boolean hasScalarOp(@NotNull ScalarOp[] ops) {
+        for (ScalarOp op : ops)
+            if (op != null) return true;
+        return false;
+    }
+
+    @NotNull @Override public String toString() {
+        return operand != null ? operand.toString() : action.getClass().getSimpleName();
+    }
+
+}
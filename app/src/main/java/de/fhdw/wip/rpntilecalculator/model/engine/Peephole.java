@@ -0,0 +1,54 @@
+package de.fhdw.wip.rpntilecalculator.model.engine;
+
+import de.fhdw.wip.rpntilecalculator.model.calculation.FusedMultiplyAdd;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Plus;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Times;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/*
+ * Summary: Optional pass over a parsed program that replaces Times directly followed by Plus by a single fused
+ *          FusedMultiplyAdd instruction, which saves an action call and an intermediate operand per pair. Operands
+ *          the fused action has no method for are computed by Times and Plus as before, so only the rounding of
+ *          doubles changes: x * y + z is rounded once instead of twice.
+ * Date:    2026/10/17
+ */
+public final class Peephole {
+
+    @NotNull private static final Instruction TIMES = Instruction.apply(Times.getInstance());
+    @NotNull private static final Instruction PLUS = Instruction.apply(Plus.getInstance());
+    @NotNull private static final Instruction MULTIPLY_ADD =
+            Instruction.fuse(FusedMultiplyAdd.getInstance(), TIMES, PLUS);
+
+    private Peephole() {}
+
+    /*
+     * Replaces every Times followed by Plus by a fused instruction
+     * @param program instructions in the order they are executed, not changed
+     * @return the rewritten program or the program itself if there is nothing to replace
+     */
+    @Contract(pure = true) public static @NotNull Instruction[] optimize(@NotNull Instruction[] program) {
+        Instruction[] optimized = null;
+        int size = 0;
+        for (int i = 0; i < program.length; i++) {
+            if (i + 1 < program.length && isMultiplyAdd(program[i], program[i + 1])) {
+                if (optimized == null) optimized = Arrays.copyOf(program, program.length - 1);
+                optimized[size++] = MULTIPLY_ADD;
+                i++;
+            } else if (optimized != null) {
+                optimized[size++] = program[i];
+            } else {
+                size++;
+            }
+        }
+        return optimized == null ? program : Arrays.copyOf(optimized, size);
+    }
+
+    private static boolean isMultiplyAdd(@NotNull Instruction first, @NotNull Instruction second) {
+        return first.getAction() == Times.getInstance() && second.getAction() == Plus.getInstance();
+    }
+
+}
@@ -0,0 +1,94 @@
+package de.fhdw.wip.rpntilecalculator.model.engine;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+import de.fhdw.wip.rpntilecalculator.model.stack.ArrayOperandStack;
+import de.fhdw.wip.rpntilecalculator.model.stack.StackInterface;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/*
+ * Summary: Headless engine that runs RPN programs against an operand stack without any tiles or Android context.
+ *          Operands are pushed and actions are applied with the highest possible number of operands, exactly as
+ *          clicks on the matching tiles do. Not thread-safe, use one executor per thread.
+ * Date:    2026/10/17
+ */
+public final class ProgramExecutor {
+
+    @NotNull private final ScalarMachine machine;
+    private boolean fusing = false;
+
+    /*
+     * Executor on a new, empty stack
+     */
+    public ProgramExecutor() {
+        this(new ArrayOperandStack());
+    }
+
+    /*
+     * Executor on a given stack, the program starts with the operands already on it
+     * @param stack stack the program runs against
+     */
+    public ProgramExecutor(@NotNull StackInterface<Operand> stack) {
+        this.machine = new ScalarMachine(stack);
+    }
+
+    /*
+     * Parses and executes a program
+     * @param program tokens separated by whitespace, see ProgramParser
+     * @return number of actions that could not be applied
+     * @throws IllegalArgumentException if a token is neither an operand nor an action, nothing is executed then
+     */
+    public int execute(@NotNull String program) {
+        return execute(ProgramParser.parse(program));
+    }
+
+    /*
+     * Parses and executes a program that is already split into tokens
+     * @param tokens one token per operand or action
+     * @return number of actions that could not be applied
+     * @throws IllegalArgumentException if a token is neither an operand nor an action, nothing is executed then
+     */
+    public int execute(@NotNull List<String> tokens) {
+        return execute(ProgramParser.parse(tokens));
+    }
+
+    /*
+     * Executes a parsed program, parsing once and executing many times saves the parsing
+     * @param program instructions in the order they are executed
+     * @return number of actions that could not be applied
+     */
+    public int execute(@NotNull Instruction[] program) {
+        return machine.run(fusing ? Peephole.optimize(program) : program);
+    }
+
+    /*
+     * Sets whether programs are rewritten by the Peephole pass before they are executed, off by default.
+     * Programs executed many times are better rewritten once with Peephole.optimize.
+     * @param fusing whether Times followed by Plus is executed as a single fused action
+     */
+    public void setFusing(boolean fusing) {
+        this.fusing = fusing;
+    }
+
+    public boolean isFusing() {
+        return fusing;
+    }
+
+    /*
+     * @return the stack with the results of all programs executed so far
+     */
+    @NotNull public StackInterface<Operand> getStack() {
+        machine.flush();
+        return machine.getStack();
+    }
+
+    /*
+     * Empties the stack, so the executor can be reused for the next program
+     */
+    public void clear() {
+        getStack().clear();
+    }
+
+}
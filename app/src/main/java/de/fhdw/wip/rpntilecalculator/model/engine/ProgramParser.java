@@ -0,0 +1,171 @@
+package de.fhdw.wip.rpntilecalculator.model.engine;
+
+import de.fhdw.wip.rpntilecalculator.model.calculation.ActionMapping;
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.OFraction;
+import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
+import de.fhdw.wip.rpntilecalculator.model.operands.OPolynom;
+import de.fhdw.wip.rpntilecalculator.model.operands.OSet;
+import de.fhdw.wip.rpntilecalculator.model.operands.OSparseMatrix;
+import de.fhdw.wip.rpntilecalculator.model.operands.OTuple;
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/*
+ * Summary: Reads RPN programs written as tokens. Operands use the texts the operands print and the operand tiles
+ *          parse, e.g. 2.5, (1/2), (1, 2), [1, 2], [[1, 2], [3, 4]], {2x2: (0, 1) 3} and 4.1x^0 + 2x^1. Actions are
+ *          given by their tile name (A_PLUS) or their text (+).
+ * Date:    2026/10/17
+ */
+public final class ProgramParser {
+
+    private static final Pattern POLYNOM_TERM = Pattern.compile("-?[0-9.]+(E-?[0-9]+)?x\\^[0-9]+");
+
+    // Action instructions hold no state, one per action is enough
+    @NotNull private static final Map<ActionMapping, Instruction> ACTIONS = new EnumMap<>(ActionMapping.class);
+    static {
+        for (ActionMapping mapping : ActionMapping.values())
+            ACTIONS.put(mapping, Instruction.apply(mapping.getAction()));
+    }
+
+    // First words of the action texts that contain spaces
+    @NotNull private static final Set<String> MULTI_WORD_STARTS = new HashSet<>();
+    static {
+        for (ActionMapping mapping : ActionMapping.values())
+            if (mapping.getText().contains(" ")) MULTI_WORD_STARTS.add(mapping.getText().split(" ")[0]);
+    }
+
+    private ProgramParser() {}
+
+    /*
+     * Parses a whole program
+     * @param program tokens separated by whitespace
+     * @return instructions in the order of the tokens
+     * @throws IllegalArgumentException if a token is neither an operand nor an action
+     */
+    @Contract(pure = true) public static @NotNull Instruction[] parse(@NotNull String program) {
+        return parse(tokenize(program));
+    }
+
+    /*
+     * Parses a program that is already split into tokens
+     * @param tokens one token per operand or action
+     * @return instructions in the order of the tokens
+     * @throws IllegalArgumentException if a token is neither an operand nor an action
+     */
+    @Contract(pure = true) public static @NotNull Instruction[] parse(@NotNull List<String> tokens) {
+        Instruction[] program = new Instruction[tokens.size()];
+        for (int i = 0; i < program.length; i++)
+            program[i] = parseToken(tokens.get(i));
+        return program;
+    }
+
+    /*
+     * Parses a single operand or action
+     * @param token text of the operand or name or text of the action
+     * @return the instruction pushing the operand or applying the action
+     * @throws IllegalArgumentException if the token is neither an operand nor an action
+     */
+    @Contract(pure = true) public static @NotNull Instruction parseToken(@NotNull String token) {
+        ActionMapping mapping = ActionMapping.of(token);
+        if (mapping != null) return ACTIONS.get(mapping);
+        return Instruction.push(parseOperand(token));
+    }
+
+    /*
+     * Parses the text of an operand with the string constructor of its type
+     * @param token text of the operand
+     * @return the operand
+     * @throws IllegalArgumentException if the text is no operand
+     */
+    @Contract(pure = true) public static @NotNull Operand parseOperand(@NotNull String token) {
+        try {
+            if (token.startsWith("{")) return new OSparseMatrix(token);
+            if (token.startsWith("[[")) return new OMatrix(token);
+            if (token.startsWith("[")) return new OSet(token);
+            if (token.startsWith("(")) return token.contains("/") ? new OFraction(token) : new OTuple(token);
+            if (token.contains("x^")) return new OPolynom(token);
+            return new ODouble(Double.parseDouble(token));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Unknown token: " + token, e);
+        }
+    }
+
+    /*
+     * Splits a program into tokens at whitespace. Brackets, braces, the terms of a polynom and action texts
+     * containing spaces (e.g. dy / dx) are kept together. Terms joined by + form one polynom only while their powers
+     * increase, otherwise the + is an action.
+     * @param program tokens separated by whitespace
+     * @return the tokens
+     */
+    @Contract(pure = true) public static @NotNull List<String> tokenize(@NotNull String program) {
+        List<String> words = new ArrayList<>();
+        int depth = 0;
+        int start = -1;
+        for (int i = 0; i < program.length(); i++) {
+            char c = program.charAt(i);
+            if (c == '[' || c == '(' || c == '{') depth++;
+            else if ((c == ']' || c == ')' || c == '}') && depth > 0) depth--;
+
+            if (Character.isWhitespace(c) && depth == 0) {
+                if (start >= 0) words.add(program.substring(start, i));
+                start = -1;
+            } else if (start < 0) {
+                start = i;
+            }
+        }
+        if (start >= 0) words.add(program.substring(start));
+
+        List<String> tokens = new ArrayList<>(words.size());
+        for (int i = 0; i < words.size(); i++) {
+            String word = words.get(i);
+            if (word.contains("x^") && POLYNOM_TERM.matcher(word).matches()) {
+                // Only terms of increasing powers belong to one polynom, as OPolynom prints them, so 2x^0 3x^0 + adds
+                StringBuilder polynom = new StringBuilder(word);
+                int power = power(word);
+                while (i + 2 < words.size() && words.get(i + 1).equals("+")
+                        && POLYNOM_TERM.matcher(words.get(i + 2)).matches() && power(words.get(i + 2)) > power) {
+                    power = power(words.get(i + 2));
+                    polynom.append(" + ").append(words.get(i + 2));
+                    i += 2;
+                }
+                tokens.add(polynom.toString());
+            } else if (!MULTI_WORD_STARTS.contains(word)) {
+                tokens.add(word);
+            } else if (i + 2 < words.size() && ActionMapping.of(join(words, i, 3)) != null) {
+                tokens.add(join(words, i, 3));
+                i += 2;
+            } else if (i + 1 < words.size() && ActionMapping.of(join(words, i, 2)) != null) {
+                tokens.add(join(words, i, 2));
+                i += 1;
+            } else {
+                tokens.add(word);
+            }
+        }
+        return tokens;
+    }
+
+    /*
+     * @return power of a polynom term, the number after x^
+     */
+    private static int power(String term) {
+        return Integer.parseInt(term.substring(term.indexOf("x^") + 2));
+    }
+
+    private static String join(List<String> words, int from, int count) {
+        StringBuilder builder = new StringBuilder(words.get(from));
+        for (int i = from + 1; i < from + count; i++) builder.append(' ').append(words.get(i));
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,194 @@
+package de.fhdw.wip.rpntilecalculator.model.engine;
+
+import de.fhdw.wip.rpntilecalculator.model.calculation.Action;
+import de.fhdw.wip.rpntilecalculator.model.calculation.CalculationException;
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+import de.fhdw.wip.rpntilecalculator.model.stack.StackInterface;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/*
+ * Summary: Runs RPN programs against an operand stack. Runs of ODouble pushes and scalar actions are evaluated on a
+ *          primitive double stack that lies on top of the operand stack, without boxing and without reflection.
+ *          The doubles are only written back as ODoubles at type boundaries, i.e. before any other instruction.
+ *          Not thread-safe, use one machine per thread.
+ * Date:    2026/10/17
+ */
+public final class ScalarMachine {
+
+    @NotNull private final StackInterface<Operand> stack;
+
+    // Doubles above the operand stack, values[count - 1] is the top of the whole stack
+    @NotNull private double[] values = new double[16];
+    private int count = 0;
+
+    @NotNull private Operand[][] operandBuffers = new Operand[4][];
+
+    public ScalarMachine(@NotNull StackInterface<Operand> stack) {
+        this.stack = stack;
+    }
+
+    /*
+     * Executes all instructions of a program. Failing instructions leave the stack unchanged, like a click on a
+     * tile whose calculation is not possible.
+     * @param program instructions in the order they are executed
+     * @return number of instructions that could not be executed
+     */
+    public int run(@NotNull Instruction[] program) {
+        int failed = 0;
+        for (Instruction instruction : program)
+            failed += executeFused(instruction);
+        return failed;
+    }
+
+    /*
+     * Executes a single instruction
+     * @param instruction instruction to execute
+     * @return if the instruction could be executed, otherwise the stack is unchanged. A fused instruction whose
+     *         action cannot be applied executes the instructions it replaces instead and succeeds if all of them do.
+     */
+    public boolean execute(@NotNull Instruction instruction) {
+        return executeFused(instruction) == 0;
+    }
+
+    /*
+     * Executes an instruction, the instructions a fused one replaces if its action cannot be applied
+     * @return number of instructions that could not be executed
+     */
+    private int executeFused(@NotNull Instruction instruction) {
+        if (step(instruction)) return 0;
+        if (!instruction.isFused()) return 1;
+        int failed = 0;
+        for (Instruction replaced : instruction.getExpansion())
+            failed += executeFused(replaced);
+        return failed;
+    }
+
+    /*
+     * Pushes the operand or applies the action of an instruction
+     * @return if the instruction could be executed, otherwise the stack is unchanged
+     */
+    private boolean step(@NotNull Instruction instruction) {
+        if (instruction.isScalar()) {
+            if (instruction.getOperand() != null) {
+                if (count == values.length) values = Arrays.copyOf(values, count * 2);
+                values[count++] = instruction.getValue();
+                return true;
+            }
+            Boolean applied = applyScalar(instruction);
+            if (applied != null) return applied;
+        }
+        flush();
+        if (instruction.getOperand() != null) {
+            stack.push(instruction.getOperand());
+            return true;
+        }
+        return calculate(instruction.getAction());
+    }
+
+    /*
+     * Applies the opcodes of an action with the highest possible number of operands, like calculate does
+     * @param instruction instruction that applies an action with opcodes
+     * @return if the action could be applied or null if the operands are not all doubles, so only the generic
+     *         calculation can tell
+     */
+    @Nullable private Boolean applyScalar(@NotNull Instruction instruction) {
+        int[] requiredNumOfOperands = instruction.getAction().getRequiredNumOfOperands();
+        for (int i = requiredNumOfOperands.length - 1; i >= 0; i--) {
+            int numOfOperands = requiredNumOfOperands[i];
+            if (!load(numOfOperands)) return null;
+
+            // Without an opcode the action has no method for this many ODoubles, so calculate would fail too
+            ScalarOp op = instruction.getScalarOp(numOfOperands);
+            if (op == null) continue;
+
+            double top = values[count - 1];
+            double second = numOfOperands >= 2 ? values[count - 2] : Double.NaN;
+            double third = numOfOperands == 3 ? values[count - 3] : Double.NaN;
+            if (op.fails(top, second)) continue;
+            count -= numOfOperands - 1;
+            values[count - 1] = op.apply(top, second, third);
+            return true;
+        }
+        return false;
+    }
+
+    /*
+     * Writes the doubles back to the operand stack, afterwards the operand stack holds the whole state
+     */
+    public void flush() {
+        for (int i = 0; i < count; i++)
+            stack.push(new ODouble(values[i]));
+        count = 0;
+    }
+
+    /*
+     * @return the operand stack, only up to date after flush()
+     */
+    @NotNull public StackInterface<Operand> getStack() {
+        return stack;
+    }
+
+    /*
+     * @return number of operands on the whole stack, including the ones not yet flushed
+     */
+    public int size() {
+        return count + stack.size();
+    }
+
+    /*
+     * Makes sure the given number of doubles lies on the double stack by moving ODoubles up from the operand stack
+     * @param numOfOperands doubles needed
+     * @return false if the operand stack has too few ODoubles on top
+     */
+    private boolean load(int numOfOperands) {
+        while (count < numOfOperands) {
+            Operand operand = stack.peek();
+            if (!(operand instanceof ODouble)) return false;
+            if (count == values.length) values = Arrays.copyOf(values, count * 2);
+            System.arraycopy(values, 0, values, 1, count);
+            values[0] = ((ODouble) stack.pop()).getDouble();
+            count++;
+        }
+        return true;
+    }
+
+    /*
+     * Applies an action with the highest possible number of operands, the same way a click on an action tile does
+     * @param action action to apply
+     * @return if any number of operands could be applied
+     */
+    private boolean calculate(@NotNull Action action) {
+        int[] requiredNumOfOperands = action.getRequiredNumOfOperands();
+        if (requiredNumOfOperands[0] == -1) return false;
+
+        for (int i = requiredNumOfOperands.length - 1; i >= 0; i--) {
+            Operand[] operands = operandBuffer(Math.min(requiredNumOfOperands[i], stack.size()));
+            stack.peek(operands);
+            try {
+                Operand result = action.with(operands);
+                stack.drop(operands.length);
+                stack.push(result);
+                return true;
+            } catch (CalculationException e) {
+                //try the next lower one
+            } finally {
+                Arrays.fill(operands, null);
+            }
+        }
+        return false;
+    }
+
+    private Operand[] operandBuffer(int size) {
+        if (size >= operandBuffers.length)
+            operandBuffers = Arrays.copyOf(operandBuffers, size + 1);
+        if (operandBuffers[size] == null)
+            operandBuffers[size] = new Operand[size];
+        return operandBuffers[size];
+    }
+
+}
@@ -0,0 +1,191 @@
+package de.fhdw.wip.rpntilecalculator.model.engine;
+
+import de.fhdw.wip.rpntilecalculator.model.calculation.Action;
+import de.fhdw.wip.rpntilecalculator.model.calculation.ArcCosinus;
+import de.fhdw.wip.rpntilecalculator.model.calculation.ArcSinus;
+import de.fhdw.wip.rpntilecalculator.model.calculation.ArcTangens;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Cosinus;
+import de.fhdw.wip.rpntilecalculator.model.calculation.FusedMultiplyAdd;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Logarithm;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Logarithm10;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Minus;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Modulo;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Plus;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Power;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Root;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Sinus;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Slash;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Tangens;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Times;
+import de.fhdw.wip.rpntilecalculator.model.operands.DoubleComparator;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/*
+ * Summary: Opcodes for the actions that have a primitive counterpart on up to three ODoubles.
+ *          Each opcode computes exactly what the on(ODouble, ...) method of its action returns, an action with
+ *          methods for one and two ODoubles has one opcode per number of operands.
+ * Date:    2026/10/17
+ */
+public enum ScalarOp {
+
+    PLUS(Plus.getInstance(), 2),
+    MINUS(Minus.getInstance(), 2),
+    TIMES(Times.getInstance(), 2),
+    SLASH(Slash.getInstance(), 2),
+    POWER(Power.getInstance(), 2),
+    MODULO(Modulo.getInstance(), 2),
+    ROOT(Root.getInstance(), 2),
+    SINUS(Sinus.getInstance(), 1),
+    COSINUS(Cosinus.getInstance(), 1),
+    TANGENS(Tangens.getInstance(), 1),
+    ARC_SINUS(ArcSinus.getInstance(), 1),
+    ARC_COSINUS(ArcCosinus.getInstance(), 1),
+    ARC_TANGENS(ArcTangens.getInstance(), 1),
+    LOGARITHM(Logarithm.getInstance(), 1),
+    LOGARITHM_BASE(Logarithm.getInstance(), 2),
+    LOGARITHM10(Logarithm10.getInstance(), 1),
+    MULTIPLY_ADD(FusedMultiplyAdd.getInstance(), 3);
+
+    @NotNull private final Action action;
+    private final int numOfOperands;
+
+    ScalarOp(@NotNull Action action, int numOfOperands) {
+        this.action = action;
+        this.numOfOperands = numOfOperands;
+    }
+
+    /*
+     * Opcode of an action applied to a number of ODoubles
+     * @param action action to look up
+     * @param numOfOperands number of ODoubles the action is applied to
+     * @return the opcode or null if the action has no method for this number of ODoubles
+     */
+    @Contract(pure = true) public static @Nullable ScalarOp of(@NotNull Action action, int numOfOperands) {
+        for (ScalarOp op : values())
+            if (op.action == action && op.numOfOperands == numOfOperands) return op;
+        return null;
+    }
+
+    /*
+     * Whether the action fails on these values, like a division by zero
+     * @param top value on top of the stack
+     * @param second value below the top, ignored by unary opcodes
+     */
+    @Contract(pure = true) public boolean fails(double top, double second) {
+        switch (this) {
+            case SLASH: return DoubleComparator.isZero(second);
+            case LOGARITHM: case LOGARITHM10: return top <= 0;
+            case LOGARITHM_BASE: return top <= 0 || second <= 0;
+            default: return false;
+        }
+    }
+
+    /*
+     * @return message of the exception the action throws for values this opcode fails on
+     */
+    @Contract(pure = true) @NotNull public String getFailure() {
+        return this == SLASH ? "Division by Zero not allowed" : "Value must be higher than Zero.";
+    }
+
+    /*
+     * Applies the opcode in the operand order of Action.with, the top of the stack is the first operand
+     * @param top value on top of the stack
+     * @param second value below the top, ignored by unary opcodes
+     * @return result of the action
+     */
+    @Contract(pure = true) public double apply(double top, double second) {
+        return apply(top, second, Double.NaN);
+    }
+
+    /*
+     * Applies the opcode in the operand order of Action.with, the top of the stack is the first operand
+     * @param top value on top of the stack
+     * @param second value below the top, ignored by unary opcodes
+     * @param third value below the second, ignored by all but ternary opcodes
+     * @return result of the action
+     */
+    @Contract(pure = true) public double apply(double top, double second, double third) {
+        switch (this) {
+            case PLUS: return top + second;
+            case MINUS: return top - second;
+            case TIMES: return top * second;
+            case SLASH: return top / second;
+            case POWER: return Math.pow(top, second);
+            case MODULO: return top % second;
+            case ROOT: return Math.pow(top, 1 / second);
+            case SINUS: return Math.sin(Math.toRadians(top));
+            case COSINUS: return Math.cos(Math.toRadians(top));
+            case TANGENS: return Math.tan(Math.toRadians(top));
+            case ARC_SINUS: return Math.asin(Math.toRadians(top));
+            case ARC_COSINUS: return Math.acos(Math.toRadians(top));
+            case ARC_TANGENS: return Math.atan(Math.toRadians(top));
+            case LOGARITHM: return Math.log(top);
+            case LOGARITHM_BASE: return Math.log(second) / Math.log(top);
+            case LOGARITHM10: return Math.log10(top);
+            case MULTIPLY_ADD: return FusedMultiplyAdd.fma(top, second, third);
+            default: throw new AssertionError(this);
+        }
+    }
+
+    /*
+     * Applies the opcode to whole columns of values, the loop of every opcode runs without a branch per value
+     * except for the check of failing values, which become NaN
+     * @param top values on top of the stack, overwritten with the results
+     * @param second values below the top, ignored by unary opcodes
+     * @param length number of values to compute, starting at index 0
+     */
+    public void apply(@NotNull double[] top, @NotNull double[] second, int length) {
+        apply(top, second, second, length);
+    }
+
+    /*
+     * Applies the opcode to whole columns of values, see apply(double[], double[], int)
+     * @param third values below the second, ignored by all but ternary opcodes
+     */
+    public void apply(@NotNull double[] top, @NotNull double[] second, @NotNull double[] third, int length) {
+        switch (this) {
+            case PLUS: for (int i = 0; i < length; i++) top[i] += second[i]; return;
+            case MINUS: for (int i = 0; i < length; i++) top[i] -= second[i]; return;
+            case TIMES: for (int i = 0; i < length; i++) top[i] *= second[i]; return;
+            case SLASH:
+                for (int i = 0; i < length; i++)
+                    top[i] = DoubleComparator.isZero(second[i]) ? Double.NaN : top[i] / second[i];
+                return;
+            case POWER: for (int i = 0; i < length; i++) top[i] = Math.pow(top[i], second[i]); return;
+            case MODULO: for (int i = 0; i < length; i++) top[i] %= second[i]; return;
+            case ROOT: for (int i = 0; i < length; i++) top[i] = Math.pow(top[i], 1 / second[i]); return;
+            case SINUS: for (int i = 0; i < length; i++) top[i] = Math.sin(Math.toRadians(top[i])); return;
+            case COSINUS: for (int i = 0; i < length; i++) top[i] = Math.cos(Math.toRadians(top[i])); return;
+            case TANGENS: for (int i = 0; i < length; i++) top[i] = Math.tan(Math.toRadians(top[i])); return;
+            case ARC_SINUS: for (int i = 0; i < length; i++) top[i] = Math.asin(Math.toRadians(top[i])); return;
+            case ARC_COSINUS: for (int i = 0; i < length; i++) top[i] = Math.acos(Math.toRadians(top[i])); return;
+            case ARC_TANGENS: for (int i = 0; i < length; i++) top[i] = Math.atan(Math.toRadians(top[i])); return;
+            case LOGARITHM:
+                for (int i = 0; i < length; i++) top[i] = top[i] <= 0 ? Double.NaN : Math.log(top[i]);
+                return;
+            case LOGARITHM_BASE:
+                for (int i = 0; i < length; i++)
+                    top[i] = top[i] <= 0 || second[i] <= 0 ? Double.NaN : Math.log(second[i]) / Math.log(top[i]);
+                return;
+            case LOGARITHM10:
+                for (int i = 0; i < length; i++) top[i] = top[i] <= 0 ? Double.NaN : Math.log10(top[i]);
+                return;
+            case MULTIPLY_ADD:
+                for (int i = 0; i < length; i++) top[i] = FusedMultiplyAdd.fma(top[i], second[i], third[i]);
+                return;
+            default: throw new AssertionError(this);
+        }
+    }
+
+    @NotNull public Action getAction() {
+        return action;
+    }
+
+    public int getNumOfOperands() {
+        return numOfOperands;
+    }
+
+}
@@ -0,0 +1,123 @@
+package de.fhdw.wip.rpntilecalculator.model.engine;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+import de.fhdw.wip.rpntilecalculator.model.stack.OperandStack;
+import de.fhdw.wip.rpntilecalculator.model.stack.StackInterface;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+
+/*
+ * Summary: State of a single calculator session: the operand stack, the history and the current input term.
+ *          The presenter works on one session, any number of others can be evaluated headless next to it.
+ *          Not thread-safe, a session belongs to one thread at a time.
+ * Date:    2026/10/17
+ */
+public final class Session {
+
+    @NotNull private StackInterface<Operand> operandStack;
+    @NotNull private final ArrayList<Operand> historyStack = new ArrayList<>();
+    @NotNull private StringBuilder inputTerm = new StringBuilder();
+    private boolean inputFinalized = false;
+
+    @Nullable private ProgramExecutor executor;
+
+    public Session() {
+        this(new OperandStack());
+    }
+
+    public Session(@NotNull StackInterface<Operand> operandStack) {
+        this.operandStack = operandStack;
+    }
+
+    /*
+     * Runs a program headless on the stack of this session. Only the final top of the stack is added to the
+     * history and becomes the input term, the intermediate results are not recorded.
+     * @param program instructions in the order they are executed
+     * @return number of actions that could not be applied
+     */
+    public int execute(@NotNull Instruction[] program) {
+        if (executor == null) executor = new ProgramExecutor(operandStack);
+        int failed = executor.execute(program);
+        Operand top = executor.getStack().peek();
+        if (top != null) {
+            add2History(top);
+            resetInputTerm(top);
+        }
+        finalizeInput();
+        return failed;
+    }
+
+    /*
+     * Parses and runs a program headless on the stack of this session
+     * @param program tokens separated by whitespace, see ProgramParser
+     * @return number of actions that could not be applied
+     * @throws IllegalArgumentException if a token is neither an operand nor an action, nothing is executed then
+     */
+    public int execute(@NotNull String program) {
+        return execute(ProgramParser.parse(program));
+    }
+
+    /*
+     * Try adding an operand to the history stack, operands with an equal value are only added once
+     * @param operand the operand to be added
+     */
+    public void add2History(@NotNull Operand operand) {
+        for (Operand op : historyStack)
+            if (op.equalsValue(operand)) return;
+        historyStack.add(operand);
+    }
+
+    /*
+     * Clears the current input term
+     * @param operand one operand that should remain in the input term
+     */
+    public void resetInputTerm(@Nullable Operand operand) {
+        definalizeInput();
+        inputTerm = new StringBuilder();
+        if (operand != null) inputTerm.append(operand);
+    }
+
+    @NotNull public StackInterface<Operand> getOperandStack() {
+        return operandStack;
+    }
+
+    /*
+     * Selects the stack implementation. The operands of the current stack are moved over in their order.
+     * @param operandStack stack that replaces the current one
+     */
+    public void setOperandStack(@NotNull StackInterface<Operand> operandStack) {
+        Operand[] operands = this.operandStack.get();
+        operandStack.clear();
+        for (int i = operands.length - 1; i >= 0; i--) operandStack.push(operands[i]);
+        this.operandStack = operandStack;
+        this.executor = null;
+    }
+
+    @NotNull public ArrayList<Operand> getHistoryStack() {
+        return historyStack;
+    }
+
+    @NotNull public StringBuilder getInputTerm() {
+        return inputTerm;
+    }
+
+    public void setInputTerm(@NotNull StringBuilder inputTerm) {
+        this.inputTerm = inputTerm;
+    }
+
+    public boolean isInputFinalized() {
+        return inputFinalized;
+    }
+
+    public void finalizeInput() {
+        inputFinalized = true;
+    }
+
+    public void definalizeInput() {
+        inputFinalized = false;
+    }
+
+}
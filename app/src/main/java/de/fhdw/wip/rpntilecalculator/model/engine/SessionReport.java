@@ -0,0 +1,93 @@
+package de.fhdw.wip.rpntilecalculator.model.engine;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/*
+ * Summary: Result of evaluating many sessions, with the latency percentiles per session and the throughput
+ * Date:    2026/10/17
+ */
+public final class SessionReport {
+
+    @NotNull private final Session[] sessions;
+    @NotNull private final long[] latencies;
+    @NotNull private final long[] sortedLatencies;
+    private final long wallTime;
+    private final int failedActions;
+    private final int invalidPrograms;
+
+    SessionReport(@NotNull Session[] sessions, @NotNull long[] latencies, long wallTime,
+                  int failedActions, int invalidPrograms) {
+        this.sessions = sessions;
+        this.latencies = latencies;
+        this.sortedLatencies = latencies.clone();
+        Arrays.sort(sortedLatencies);
+        this.wallTime = wallTime;
+        this.failedActions = failedActions;
+        this.invalidPrograms = invalidPrograms;
+    }
+
+    /*
+     * Latency a given share of the sessions did not exceed (nearest rank)
+     * @param percentile between 0 and 100, e.g. 99 for the p99
+     * @return latency in nanoseconds, 0 if there were no sessions
+     */
+    @Contract(pure = true) public long getLatencyPercentile(double percentile) {
+        if (sortedLatencies.length == 0) return 0;
+        int rank = (int) Math.ceil(percentile / 100 * sortedLatencies.length);
+        return sortedLatencies[Math.max(0, Math.min(rank, sortedLatencies.length) - 1)];
+    }
+
+    /*
+     * @return sessions evaluated per second of wall time
+     */
+    @Contract(pure = true) public double getThroughput() {
+        return wallTime == 0 ? 0 : sessions.length * 1e9 / wallTime;
+    }
+
+    /*
+     * @return the sessions in the order of their programs
+     */
+    @NotNull public Session[] getSessions() {
+        return sessions;
+    }
+
+    /*
+     * @return latency of each session in nanoseconds, in the order of their programs
+     */
+    @NotNull public long[] getLatencies() {
+        return latencies;
+    }
+
+    /*
+     * @return nanoseconds from the start of the first until the end of the last session
+     */
+    public long getWallTime() {
+        return wallTime;
+    }
+
+    /*
+     * @return actions of all sessions that could not be applied
+     */
+    public int getFailedActions() {
+        return failedActions;
+    }
+
+    /*
+     * @return sessions whose program contained an unknown token and was not executed
+     */
+    public int getInvalidPrograms() {
+        return invalidPrograms;
+    }
+
+    @NotNull @Override public String toString() {
+        return String.format(Locale.US,
+                "%d sessions in %.1f ms, %.0f sessions/s, latency p50 %.1f us, p90 %.1f us, p99 %.1f us, max %.1f us",
+                sessions.length, wallTime / 1e6, getThroughput(), getLatencyPercentile(50) / 1e3,
+                getLatencyPercentile(90) / 1e3, getLatencyPercentile(99) / 1e3, getLatencyPercentile(100) / 1e3);
+    }
+
+}
@@ -0,0 +1,95 @@
+package de.fhdw.wip.rpntilecalculator.model.engine;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * Summary: Evaluates many independent sessions at once on a fixed pool with one thread per core.
+ *          Workers claim small chunks of sessions, so a few long sessions do not leave the other cores idle.
+ * Date:    2026/10/17
+ */
+public final class SessionService {
+
+    // Sessions claimed by a worker at once
+    private static final int CHUNK = 16;
+
+    @NotNull private final ExecutorService pool;
+    private final int numOfThreads;
+
+    /*
+     * Service with one thread per available core
+     */
+    public SessionService() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public SessionService(int numOfThreads) {
+        this.numOfThreads = numOfThreads;
+        this.pool = Executors.newFixedThreadPool(numOfThreads);
+    }
+
+    /*
+     * Runs every program in a new session of its own
+     * @param programs one program per session, tokens separated by whitespace
+     * @return the sessions in the order of the programs together with their latencies
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    @NotNull public SessionReport evaluate(@NotNull final List<String> programs) throws InterruptedException {
+        final Session[] sessions = new Session[programs.size()];
+        final long[] latencies = new long[programs.size()];
+        final AtomicInteger next = new AtomicInteger();
+        final AtomicInteger failedActions = new AtomicInteger();
+        final AtomicInteger invalidPrograms = new AtomicInteger();
+
+        long start = System.nanoTime();
+        List<Future<Void>> workers = new ArrayList<>(numOfThreads);
+        for (int t = 0; t < numOfThreads; t++) {
+            workers.add(pool.submit(new Callable<Void>() {
+                @Override public Void call() {
+                    int from;
+                    while ((from = next.getAndAdd(CHUNK)) < sessions.length) {
+                        int to = Math.min(from + CHUNK, sessions.length);
+                        for (int i = from; i < to; i++) {
+                            long sessionStart = System.nanoTime();
+                            Session session = new Session();
+                            try {
+                                failedActions.addAndGet(session.execute(programs.get(i)));
+                            } catch (IllegalArgumentException e) {
+                                invalidPrograms.incrementAndGet();
+                            }
+                            sessions[i] = session;
+                            latencies[i] = System.nanoTime() - sessionStart;
+                        }
+                    }
+                    return null;
+                }
+            }));
+        }
+        for (Future<Void> worker : workers) {
+            try {
+                worker.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Evaluating a session failed", e.getCause());
+            }
+        }
+        long wallTime = System.nanoTime() - start;
+
+        return new SessionReport(sessions, latencies, wallTime, failedActions.get(), invalidPrograms.get());
+    }
+
+    /*
+     * Stops the worker threads, the service cannot be used afterwards
+     */
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+}
@@ -13,6 +13,9 @@ import java.util.Set;
  */
 public class DoubleComparator {
 
+    // Largest difference of two doubles that are still considered equal
+    public static final double TOLERANCE = 0.000001;
+
     /**
      * Check if two doubles are equal (with a certain margin).
      * @param d1 First double
@@ -20,7 +23,7 @@ public class DoubleComparator {
      * @return Boolean
      */
     @Contract(pure = true) public static boolean isEqual(double d1, double d2) {
-        return Math.abs(d1 - d2) < 0.000001;
+        return Math.abs(d1 - d2) < TOLERANCE;
     }
 
     /**
@@ -63,7 +66,7 @@ public class DoubleComparator {
     }
 
     /**
-     * Compares two sets of Doubles for equality.
+     * Compares two sets of Doubles for equality, independent of their iteration order.
      * @param d1 First set
      * @param d2 Second set
      * @return Boolean
@@ -72,18 +75,18 @@ public class DoubleComparator {
             @NotNull Set<Double> d1,
             @NotNull Set<Double> d2
     ) {
-        Double[] d1Array = new Double[d1.size()];
-        d1.toArray(d1Array);
-
-        Double[] d2Array = new Double[d2.size()];
-        d2.toArray(d2Array);
+        if (d1.size() != d2.size()) return false;
 
         double[] d1ArrayPrim = new double[d1.size()];
-        for (int i = 0; i < d1.size(); i++) d1ArrayPrim[i] = d1Array[i];
+        int i = 0;
+        for (double d : d1) d1ArrayPrim[i++] = d;
 
         double[] d2ArrayPrim = new double[d2.size()];
-        for (int i = 0; i < d1.size(); i++) d2ArrayPrim[i] = d2Array[i];
+        i = 0;
+        for (double d : d2) d2ArrayPrim[i++] = d;
 
+        Arrays.sort(d1ArrayPrim);
+        Arrays.sort(d2ArrayPrim);
         return isEqual(d1ArrayPrim, d2ArrayPrim);
     }
 
@@ -13,8 +13,12 @@ import java.util.Locale;
  */
 public final class DoubleFormatter {
 
-    // Decimal Format
-    private static final DecimalFormat DF = new DecimalFormat("#.##", new DecimalFormatSymbols(Locale.US));
+    // Decimal Format, one per thread because DecimalFormat is not thread-safe
+    private static final ThreadLocal<DecimalFormat> DF = new ThreadLocal<DecimalFormat>() {
+        @Override protected DecimalFormat initialValue() {
+            return new DecimalFormat("#.##", new DecimalFormatSymbols(Locale.US));
+        }
+    };
 
     /*
      * Format the given double in the format to a string
@@ -22,7 +26,7 @@ public final class DoubleFormatter {
      * @return the formatted string
      */
     @NotNull public static String format(double d) {
-        return DF.format(d);
+        return DF.get().format(d);
     }
 
 }
@@ -0,0 +1,260 @@
+package de.fhdw.wip.rpntilecalculator.model.operands;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/*
+ * Summary: Set of primitive doubles in one open-addressing table with linear probing, about 8 to 21 bytes per value
+ *          instead of the 50 of a HashSet<Double>. Values within DoubleComparator.TOLERANCE of each other count as
+ *          the same value, the first one added is kept. For that, values are hashed by the bucket of width twice the
+ *          tolerance they fall into, so an equal value is always in the same bucket or the neighbour on the near side.
+ *          0.0 and -0.0 as well as all NaNs are the same value.
+ * Date:    2026/10/17
+ */
+public final class DoubleHashSet implements Iterable<Double> {
+
+    // Width of the buckets values are hashed by
+    private static final double WIDTH = 2 * DoubleComparator.TOLERANCE;
+
+    // Bits of an empty slot, a NaN no value is stored as since NaNs are stored as Double.NaN
+    private static final long EMPTY = 0x7ff0000000000001L;
+
+    private static final int MIN_CAPACITY = 8;
+    private static final float LOAD_FACTOR = .75f;
+
+    @NotNull private long[] slots;
+    private int size;
+    private int shift;
+
+    public DoubleHashSet() {
+        this(0);
+    }
+
+    /*
+     * @param expectedSize number of values that can be added without growing the table
+     */
+    public DoubleHashSet(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /*
+     * Adds all values, later ones equal to earlier ones are dropped
+     */
+    public DoubleHashSet(@NotNull double... values) {
+        this(values.length);
+        for (double d : values) add(d);
+    }
+
+    private static int capacityFor(int size) {
+        int capacity = MIN_CAPACITY;
+        while (capacity * LOAD_FACTOR < size) capacity <<= 1;
+        return capacity;
+    }
+
+    private void allocate(int capacity) {
+        slots = new long[capacity];
+        Arrays.fill(slots, EMPTY);
+        shift = 64 - Integer.numberOfTrailingZeros(capacity);
+    }
+
+    @Contract(pure = true) private static double canonical(double d) {
+        if (d != d) return Double.NaN;
+        return d == 0 ? 0.0 : d;
+    }
+
+    @Contract(pure = true) private static boolean same(double a, double b) {
+        return a == b || (a != a && b != b) || Math.abs(a - b) < DoubleComparator.TOLERANCE;
+    }
+
+    /*
+     * Fibonacci hashing of a bucket, the high bits of the product are the slot
+     */
+    @Contract(pure = true) private int slotOf(double bucket) {
+        long bits = Double.doubleToLongBits(bucket + 0.0);
+        return (int) ((bits ^ bits >>> 32) * 0x9E3779B97F4A7C15L >>> shift);
+    }
+
+    /*
+     * @return the slot holding a value equal to d, or the complement of the empty slot its bucket's chain ends in
+     */
+    private int find(double d) {
+        double position = d / WIDTH;
+        double bucket = Math.floor(position);
+        int mask = slots.length - 1;
+
+        int slot = slotOf(bucket);
+        for (long bits; (bits = slots[slot]) != EMPTY; slot = (slot + 1) & mask)
+            if (same(Double.longBitsToDouble(bits), d)) return slot;
+        int free = slot;
+
+        // An equal value in the neighbouring bucket on the side d is closer to
+        double neighbour = position - bucket < .5 ? bucket - 1 : bucket + 1;
+        if (neighbour != bucket && !Double.isInfinite(neighbour) && !Double.isNaN(neighbour)) {
+            slot = slotOf(neighbour);
+            for (long bits; (bits = slots[slot]) != EMPTY; slot = (slot + 1) & mask)
+                if (same(Double.longBitsToDouble(bits), d)) return slot;
+        }
+        return ~free;
+    }
+
+    /*
+     * @return if d was added, false if an equal value is already in the set
+     */
+    public boolean add(double d) {
+        d = canonical(d);
+        int slot = find(d);
+        if (slot >= 0) return false;
+
+        if (size + 1 > slots.length * LOAD_FACTOR) {
+            grow();
+            slot = find(d);
+        }
+        slots[~slot] = Double.doubleToRawLongBits(d);
+        size++;
+        return true;
+    }
+
+    /*
+     * Adds a value known to be unequal to all values of the set, e.g. one of another set, without comparing
+     */
+    private void addDistinct(long bits) {
+        if (size + 1 > slots.length * LOAD_FACTOR) grow();
+        put(bits);
+        size++;
+    }
+
+    private void put(long bits) {
+        int mask = slots.length - 1;
+        int slot = slotOf(Math.floor(Double.longBitsToDouble(bits) / WIDTH));
+        while (slots[slot] != EMPTY) slot = (slot + 1) & mask;
+        slots[slot] = bits;
+    }
+
+    private void grow() {
+        long[] old = slots;
+        allocate(old.length << 1);
+        for (long bits : old) if (bits != EMPTY) put(bits);
+    }
+
+    @Contract(pure = true) public boolean contains(double d) {
+        return find(canonical(d)) >= 0;
+    }
+
+    @Contract(pure = true) public int size() {
+        return size;
+    }
+
+    @Contract(pure = true) public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /*
+     * @return new array of the values in the order of the table
+     */
+    @Contract(pure = true) public @NotNull double[] toArray() {
+        double[] values = new double[size];
+        int i = 0;
+        for (long bits : slots) if (bits != EMPTY) values[i++] = Double.longBitsToDouble(bits);
+        return values;
+    }
+
+    /*
+     * @return values of a and those of b that are not in a
+     */
+    @Contract(pure = true) public static @NotNull DoubleHashSet union(@NotNull DoubleHashSet a,
+                                                                      @NotNull DoubleHashSet b) {
+        DoubleHashSet union = new DoubleHashSet(a.size + b.size);
+        for (long bits : a.slots) if (bits != EMPTY) union.addDistinct(bits);
+        for (long bits : b.slots) if (bits != EMPTY) union.add(Double.longBitsToDouble(bits));
+        return union;
+    }
+
+    /*
+     * @return values of a that are in b
+     */
+    @Contract(pure = true) public static @NotNull DoubleHashSet intersection(@NotNull DoubleHashSet a,
+                                                                             @NotNull DoubleHashSet b) {
+        DoubleHashSet intersection = new DoubleHashSet(Math.min(a.size, b.size));
+        for (long bits : a.slots) {
+            if (bits == EMPTY) continue;
+            double d = Double.longBitsToDouble(bits);
+            if (b.find(d) >= 0) intersection.addDistinct(bits);
+        }
+        return intersection;
+    }
+
+    /*
+     * @return values of a that are not in b
+     */
+    @Contract(pure = true) public static @NotNull DoubleHashSet difference(@NotNull DoubleHashSet a,
+                                                                           @NotNull DoubleHashSet b) {
+        DoubleHashSet difference = new DoubleHashSet(a.size);
+        for (long bits : a.slots) {
+            if (bits == EMPTY) continue;
+            double d = Double.longBitsToDouble(bits);
+            if (b.find(d) < 0) difference.addDistinct(bits);
+        }
+        return difference;
+    }
+
+    /*
+     * @return if both sets have the same size and every value of one is in the other
+     */
+    @Contract(pure = true) public boolean equalsValues(@NotNull DoubleHashSet other) {
+        if (size != other.size) return false;
+        for (long bits : slots) if (bits != EMPTY && other.find(Double.longBitsToDouble(bits)) < 0) return false;
+        return true;
+    }
+
+    @NotNull @Override public Iterator<Double> iterator() {
+        return new Iterator<Double>() {
+            private int next = advance(0);
+
+            private int advance(int slot) {
+                while (slot < slots.length && slots[slot] == EMPTY) slot++;
+                return slot;
+            }
+
+            @Override public boolean hasNext() {
+                return next < slots.length;
+            }
+
+            @Override public Double next() {
+                if (next >= slots.length) throw new NoSuchElementException();
+                double d = Double.longBitsToDouble(slots[next]);
+                next = advance(next + 1);
+                return d;
+            }
+
+            @Override public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    /*
+     * @return read-only view of the values, each one boxed when it is read
+     */
+    @Contract(pure = true) public @NotNull Set<Double> asSet() {
+        return new AbstractSet<Double>() {
+            @NotNull @Override public Iterator<Double> iterator() {
+                return DoubleHashSet.this.iterator();
+            }
+
+            @Override public int size() {
+                return size;
+            }
+
+            @Override public boolean contains(Object o) {
+                return o instanceof Double && DoubleHashSet.this.contains((Double) o);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,23 @@
+package de.fhdw.wip.rpntilecalculator.model.operands;
+
+import org.apache.commons.math3.linear.RealMatrix;
+import org.jetbrains.annotations.NotNull;
+
+/*
+ * Summary: Deferred value of an OMatrix, computed when the matrix is needed first. Actions build expressions from
+ *          their operands, so a chain of them can be computed at once by a fused kernel.
+ * Date:    2026/10/17
+ */
+public abstract class MatrixExpression {
+
+    public abstract int getRowDimension();
+
+    public abstract int getColumnDimension();
+
+    /*
+     * Computes the matrix, called at most once per OMatrix
+     * @return new matrix
+     */
+    @NotNull public abstract RealMatrix evaluate();
+
+}
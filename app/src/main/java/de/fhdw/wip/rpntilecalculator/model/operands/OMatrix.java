@@ -4,24 +4,36 @@ import org.apache.commons.math3.linear.Array2DRowRealMatrix;
 import org.apache.commons.math3.linear.MatrixUtils;
 import org.apache.commons.math3.linear.RealMatrix;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /*
- * Summary: Wrapper for the Matrix Operand
+ * Summary: Wrapper for the Matrix Operand. The matrix of an action result may be deferred as an expression, which is
+ *          computed when the matrix is needed first and dropped afterwards.
  * Author:  Tim Jonas Meinerzhagen
  * Date:    2019/11/13
  */
 public class OMatrix extends Operand {
 
-    @NotNull private RealMatrix matrix;
+    // Patterns of the String constructor, compiled once
+    private static final Pattern ROW = Pattern.compile("\\[[^\\[\\]].*?\\]");
+    private static final Pattern VALUE = Pattern.compile("[\\-0-9.]+");
+
+    // At least one of them is set, the expression only until the matrix is computed
+    @Nullable private volatile RealMatrix matrix;
+    @Nullable private volatile MatrixExpression expression;
 
     public OMatrix(@NotNull RealMatrix matrix) {
         this.matrix = matrix;
     }
 
+    public OMatrix(@NotNull MatrixExpression expression) {
+        this.expression = expression;
+    }
+
     public OMatrix(@NotNull double[][] doubleMatrix) {
         int longest = 0;
 
@@ -41,15 +53,13 @@ public class OMatrix extends Operand {
     public OMatrix(@NotNull String matrix) {
         //[[1.23, 1.32], [0.23, 1.23]]
         ArrayList<double[]> listMatrix = new ArrayList<>();
-        Pattern pat1 = Pattern.compile("\\[[^\\[\\]].*?\\]");
-        Matcher mat1 = pat1.matcher(matrix);
+        Matcher mat1 = ROW.matcher(matrix);
 
         while(mat1.find()) {
             String row = matrix.substring(mat1.start(), mat1.end());
 
             ArrayList<Double> listArray = new ArrayList<>();
-            pat1 = Pattern.compile("[\\-0-9.]+");
-            Matcher mat2 = pat1.matcher(row);
+            Matcher mat2 = VALUE.matcher(row);
 
             while(mat2.find()) {
                 String value = row.substring(mat2.start(), mat2.end());
@@ -65,16 +75,45 @@ public class OMatrix extends Operand {
         this.matrix = new Array2DRowRealMatrix(doubleMatrix);
     }
 
+    /*
+     * @return the matrix, computed from the expression on the first call
+     */
     public @NotNull RealMatrix getMatrix() {
+        RealMatrix matrix = this.matrix;
+        if (matrix != null) return matrix;
+        synchronized (this) {
+            matrix = this.matrix;
+            if (matrix == null) {
+                this.matrix = matrix = expression.evaluate();
+                expression = null;
+            }
+        }
         return matrix;
     }
 
+    /*
+     * @return the expression the matrix is not computed from yet, null if it is computed
+     */
+    public @Nullable MatrixExpression getExpression() {
+        return expression;
+    }
+
+    public int getRowDimension() {
+        MatrixExpression expression = this.expression;
+        return expression != null ? expression.getRowDimension() : getMatrix().getRowDimension();
+    }
+
+    public int getColumnDimension() {
+        MatrixExpression expression = this.expression;
+        return expression != null ? expression.getColumnDimension() : getMatrix().getColumnDimension();
+    }
+
     @NotNull @Override public OMatrix turnAroundSign() {
-        return new OMatrix(matrix.scalarMultiply(-1));
+        return new OMatrix(getMatrix().scalarMultiply(-1));
     }
 
     @NotNull @Override public OMatrix negateValue() {
-        double[][] dim1 = matrix.getData();
+        double[][] dim1 = getMatrix().getData();
         for (int i = 0; i < dim1.length; i++)
             for (int k = 0; k < dim1[i].length; k++)
                 dim1[i][k] = Math.abs(dim1[i][k]) * -1;
@@ -82,7 +121,7 @@ public class OMatrix extends Operand {
     }
 
     @Override public @NotNull OMatrix inverseValue() {
-        return new OMatrix(MatrixUtils.inverse(matrix));
+        return new OMatrix(MatrixUtils.inverse(getMatrix()));
     }
 
     @Override
@@ -91,7 +130,7 @@ public class OMatrix extends Operand {
         if (!(operand instanceof OMatrix)) return false;
 
         return DoubleComparator.isEqual(
-                matrix.getData(),
+                getMatrix().getData(),
                 ((OMatrix) operand).getMatrix().getData()
         );
     }
@@ -99,7 +138,7 @@ public class OMatrix extends Operand {
     @NotNull @Override public String toString() {
         StringBuilder builder = new StringBuilder();
         builder.append("[");
-        for (double[] doubles : matrix.getData()) {
+        for (double[] doubles : getMatrix().getData()) {
             builder.append("[");
             for (double d : doubles) {
                 builder.append(DoubleFormatter.format(d));
@@ -4,6 +4,7 @@ import org.apache.commons.math3.analysis.polynomials.PolynomialFunction;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.regex.Pattern;
 
 /*
  * Summary: Wrapper for the Polynom Operand
@@ -12,6 +13,9 @@ import java.util.ArrayList;
  */
 public class OPolynom extends Operand {
 
+    // Splits 4.1x^0 + 2x^1 into the coefficients, compiled once
+    private static final Pattern TERM_SEPARATOR = Pattern.compile("(x\\^[0-9]+)( \\+)*");
+
     @NotNull private PolynomialFunction polynom;
 
     public OPolynom(@NotNull PolynomialFunction polynom) {
@@ -24,7 +28,7 @@ public class OPolynom extends Operand {
 
     public OPolynom(@NotNull String polynom) {
         //4.1x^0 + 2x^1 + -3.1x^2
-        String[] vars = polynom.trim().split("(x\\^[0-9])( \\+)*");
+        String[] vars = TERM_SEPARATOR.split(polynom.trim());
         double[] coefficients = new double[vars.length];
         for(int i = 0; i < vars.length; i++) coefficients[i] = Double.valueOf(vars[i].trim());
         this.polynom = new PolynomialFunction(coefficients);
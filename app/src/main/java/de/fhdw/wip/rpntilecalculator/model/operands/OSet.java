@@ -1,28 +1,35 @@
 package de.fhdw.wip.rpntilecalculator.model.operands;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /*
- * Summary: Every entry can only exist one time
+ * Summary: Every entry can only exist one time. Held as a hash set, as a sorted array or both, the missing one is
+ *          built from the other when it is needed first.
  * Author:  Tim Jonas Meinerzhagen
  * Date:    2019/11/13
  */
 public class OSet extends Operand {
 
-    @NotNull private Set<Double> set;
+    // Pattern of the String constructor, compiled once
+    private static final Pattern VALUE = Pattern.compile("[\\-0-9.]+");
+
+    // At least one of them is set, both are never changed once assigned
+    @Nullable private volatile DoubleHashSet set;
+    @Nullable private volatile SortedDoubleSet sorted;
 
     /**
      * Create Set from set.
      * @param set Set
      */
     public OSet(@NotNull Set<Double> set) {
-        this.set = set;
+        DoubleHashSet values = new DoubleHashSet(set.size());
+        for (double d : set) values.add(d);
+        this.set = values;
     }
 
     /**
@@ -30,11 +37,23 @@ public class OSet extends Operand {
      * @param doubles Double array
      */
     public OSet(@NotNull double... doubles) {
-        ArrayList<Double> list = new ArrayList<>();
-        for (double d : doubles) list.add(d);
+        this.set = new DoubleHashSet(doubles);
+    }
+
+    /**
+     * Create OSet from a primitive set, which must not be changed afterwards
+     * @param set Primitive set
+     */
+    public OSet(@NotNull DoubleHashSet set) {
+        this.set = set;
+    }
 
-        this.set = new HashSet<>();
-        this.set.addAll(list);
+    /**
+     * Create OSet from a sorted set
+     * @param sorted Sorted set
+     */
+    public OSet(@NotNull SortedDoubleSet sorted) {
+        this.sorted = sorted;
     }
 
     /**
@@ -42,30 +61,127 @@ public class OSet extends Operand {
      * @param set String representation of the Set
      */
     public OSet(@NotNull String set) {
-        this.set = new HashSet<>();
-        Pattern pat = Pattern.compile("[\\-0-9.]+");
-        Matcher mat = pat.matcher(set);
+        DoubleHashSet values = new DoubleHashSet();
+        Matcher mat = VALUE.matcher(set);
 
         while(mat.find()) {
-            this.set.add(Double.valueOf(set.substring(mat.start(), mat.end())));
+            values.add(Double.parseDouble(set.substring(mat.start(), mat.end())));
         }
+        this.set = values;
     }
 
     /**
-     * Get underlying Set
+     * Get a read-only view of the set, values are boxed when read
      * @return Set
      */
     @NotNull public Set<Double> getSet() {
+        return getDoubleSet().asSet();
+    }
+
+    /**
+     * Get the underlying primitive set, which must not be changed
+     * @return Primitive set
+     */
+    @NotNull public DoubleHashSet getDoubleSet() {
+        DoubleHashSet set = this.set;
+        if (set == null) this.set = set = new DoubleHashSet(sorted.toArray());
         return set;
     }
 
+    /**
+     * Get the values in ascending order
+     * @return Sorted set
+     */
+    @NotNull public SortedDoubleSet getSortedSet() {
+        SortedDoubleSet sorted = this.sorted;
+        if (sorted == null) this.sorted = sorted = SortedDoubleSet.of(set);
+        return sorted;
+    }
+
+    /**
+     * Get the number of values
+     * @return Size
+     */
+    public int size() {
+        SortedDoubleSet sorted = this.sorted;
+        return sorted != null ? sorted.size() : set.size();
+    }
+
+    /**
+     * Check if a value is in the set, in O(log n) once the set is sorted
+     * @param d Value
+     * @return Boolean
+     */
+    public boolean contains(double d) {
+        DoubleHashSet set = this.set;
+        return set != null ? set.contains(d) : sorted.contains(d);
+    }
+
+    /**
+     * Count the values between two bounds in O(log n)
+     * @param from Lower bound, inclusive
+     * @param to Upper bound, inclusive
+     * @return Number of values
+     */
+    public int countRange(double from, double to) {
+        return getSortedSet().countRange(from, to);
+    }
+
+    /**
+     * Get the values of the set, e.g. to compute with all of them at once
+     * @return New array of the values in the order of the set
+     */
+    @NotNull public double[] toArray() {
+        DoubleHashSet set = this.set;
+        return set != null ? set.toArray() : sorted.toArray();
+    }
+
+    /**
+     * Check if both sets are held sorted, then set algebra merges them instead of hashing
+     * @param other Another set
+     * @return Boolean
+     */
+    private boolean bothSorted(@NotNull OSet other) {
+        return sorted != null && other.sorted != null;
+    }
+
+    /**
+     * Unite with another set in linear time
+     * @param other Another set
+     * @return New OSet
+     */
+    @NotNull public OSet union(@NotNull OSet other) {
+        if (bothSorted(other)) return new OSet(SortedDoubleSet.union(sorted, other.sorted));
+        return new OSet(DoubleHashSet.union(getDoubleSet(), other.getDoubleSet()));
+    }
+
+    /**
+     * Intersect with another set in linear time
+     * @param other Another set
+     * @return New OSet
+     */
+    @NotNull public OSet intersection(@NotNull OSet other) {
+        if (bothSorted(other)) return new OSet(SortedDoubleSet.intersection(sorted, other.sorted));
+        return new OSet(DoubleHashSet.intersection(getDoubleSet(), other.getDoubleSet()));
+    }
+
+    /**
+     * Remove the values of another set in linear time
+     * @param other Another set
+     * @return New OSet
+     */
+    @NotNull public OSet difference(@NotNull OSet other) {
+        if (bothSorted(other)) return new OSet(SortedDoubleSet.difference(sorted, other.sorted));
+        return new OSet(DoubleHashSet.difference(getDoubleSet(), other.getDoubleSet()));
+    }
+
     /**
      * Turn around all signs
      * @return New OSet
      */
     @NotNull @Override public OSet turnAroundSign() {
-        Set<Double> newSet = new HashSet<>();
-        for (double d : set)
+        DoubleHashSet newSet = new DoubleHashSet(size());
+        for (double d : toArray())
             newSet.add(d * -1);
         return new OSet(newSet);
     }
@@ -75,8 +191,8 @@ public class OSet extends Operand {
      * @return New OSet
      */
     @NotNull @Override public OSet negateValue() {
-        Set<Double> newSet = new HashSet<>();
-        for (double d : set)
+        DoubleHashSet newSet = new DoubleHashSet(size());
+        for (double d : toArray())
             newSet.add(Math.abs(d) * -1);
         return new OSet(newSet);
     }
@@ -86,8 +202,8 @@ public class OSet extends Operand {
      * @return new OSet
      */
     @Override public @NotNull OSet inverseValue() {
-        Set<Double> newSet = new HashSet<>();
-        for (double d : set)
+        DoubleHashSet newSet = new DoubleHashSet(size());
+        for (double d : toArray())
             newSet.add(1 / d);
         return new OSet(newSet);
     }
@@ -101,21 +217,23 @@ public class OSet extends Operand {
         if (operand == this) return true;
         if (!(operand instanceof OSet)) return false;
 
-        return DoubleComparator.isEqual(set, ((OSet) operand).getSet());
+        OSet other = (OSet) operand;
+        if (bothSorted(other)) return sorted.equalsValues(other.sorted);
+        return getDoubleSet().equalsValues(other.getDoubleSet());
     }
 
     /**
-     * Turn this instance into an string.
+     * Turn this instance into an string, the values in ascending order.
      * @return String
      */
     @NotNull @Override public String toString() {
         StringBuilder builder = new StringBuilder();
         builder.append("[");
-        for (double d : set) {
+        for (double d : getSortedSet().toArray()) {
             builder.append(DoubleFormatter.format(d));
             builder.append(", ");
         }
-        builder.delete(builder.length() - 2, builder.length());
+        if (size() > 0) builder.delete(builder.length() - 2, builder.length());
         builder.append("]");
         return builder.toString();
     }
@@ -0,0 +1,303 @@
+package de.fhdw.wip.rpntilecalculator.model.operands;
+
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.MatrixUtils;
+import org.apache.commons.math3.linear.RealMatrix;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * Summary: Wrapper for matrices that are mostly zeros, stored as compressed sparse rows (CSR). The entries of row i
+ *          are at [rowPointers[i], rowPointers[i + 1]) of columnIndices and values, ordered by column and without
+ *          zeros. Written as {rows x columns: (row, column) value, ...}, e.g. {3x3: (0, 0) 4, (2, 1) -1.5}.
+ *          Sparse matrices are not changed once built, so their arrays may be shared between them.
+ * Date:    2026/10/17
+ */
+public class OSparseMatrix extends Operand {
+
+    // Patterns of the String constructor, compiled once
+    private static final Pattern HEADER = Pattern.compile("\\{\\s*([0-9]+)\\s*x\\s*([0-9]+)");
+    private static final Pattern ENTRY =
+            Pattern.compile("\\(\\s*([0-9]+)\\s*,\\s*([0-9]+)\\s*\\)\\s*(-?[0-9.]+(?:E-?[0-9]+)?)");
+
+    private final int rows;
+    private final int columns;
+    @NotNull private final int[] rowPointers;
+    @NotNull private final int[] columnIndices;
+    @NotNull private final double[] values;
+
+    /*
+     * Wraps arrays in CSR form without copying them
+     * @param rowPointers rows + 1 offsets, the entries of row i are at [rowPointers[i], rowPointers[i + 1])
+     * @param columnIndices column of every entry, ascending within a row
+     * @param values value of every entry, none of them zero
+     * @throws IllegalArgumentException if the lengths of the arrays do not fit the dimensions
+     */
+    public OSparseMatrix(int rows, int columns, @NotNull int[] rowPointers, @NotNull int[] columnIndices,
+                         @NotNull double[] values) {
+        if (rows < 0 || columns < 0) throw new IllegalArgumentException("Dimensions must not be negative.");
+        if (rowPointers.length != rows + 1 || rowPointers[0] != 0
+                || columnIndices.length < rowPointers[rows] || values.length < rowPointers[rows])
+            throw new IllegalArgumentException("Arrays do not fit a " + rows + "x" + columns + " matrix.");
+        this.rows = rows;
+        this.columns = columns;
+        this.rowPointers = rowPointers;
+        this.columnIndices = columnIndices;
+        this.values = values;
+    }
+
+    /*
+     * Keeps the non-zero entries of a dense matrix
+     */
+    public OSparseMatrix(@NotNull RealMatrix matrix) {
+        this(compress(matrix));
+    }
+
+    /*
+     * Create a sparse matrix from a String like {3x3: (0, 0) 4, (2, 1) -1.5}, entries given twice are summed
+     * @param matrix sparse matrix as String
+     * @throws IllegalArgumentException if the String has no dimensions or an entry lies outside of them
+     */
+    public OSparseMatrix(@NotNull String matrix) {
+        this(parse(matrix.trim()));
+    }
+
+    private OSparseMatrix(@NotNull OSparseMatrix other) {
+        this(other.rows, other.columns, other.rowPointers, other.columnIndices, other.values);
+    }
+
+    /*
+     * Builds a sparse matrix from entries in any order, entries at the same position are summed and zeros dropped
+     * @param count number of entries, the first count values of the arrays are used
+     * @throws IllegalArgumentException if an entry lies outside of the dimensions
+     */
+    @Contract(pure = true) public static @NotNull OSparseMatrix fromTriplets(int rows, int columns,
+                                                                             @NotNull int[] rowIndices,
+                                                                             @NotNull int[] columnIndices,
+                                                                             @NotNull double[] values, int count) {
+        for (int t = 0; t < count; t++)
+            if (rowIndices[t] < 0 || rowIndices[t] >= rows || columnIndices[t] < 0 || columnIndices[t] >= columns)
+                throw new IllegalArgumentException("Entry (" + rowIndices[t] + ", " + columnIndices[t]
+                        + ") lies outside of a " + rows + "x" + columns + " matrix.");
+
+        // Sorting by column and then stably by row leaves the columns of every row ascending
+        int[] byColumn = new int[columns + 1];
+        for (int t = 0; t < count; t++) byColumn[columnIndices[t] + 1]++;
+        for (int j = 0; j < columns; j++) byColumn[j + 1] += byColumn[j];
+        int[] order = new int[count];
+        for (int t = 0; t < count; t++) order[byColumn[columnIndices[t]]++] = t;
+
+        int[] rowPointers = new int[rows + 1];
+        for (int t = 0; t < count; t++) rowPointers[rowIndices[t] + 1]++;
+        for (int i = 0; i < rows; i++) rowPointers[i + 1] += rowPointers[i];
+        int[] next = Arrays.copyOf(rowPointers, rows);
+        int[] sortedColumns = new int[count];
+        double[] sortedValues = new double[count];
+        for (int t : order) {
+            int slot = next[rowIndices[t]]++;
+            sortedColumns[slot] = columnIndices[t];
+            sortedValues[slot] = values[t];
+        }
+
+        // Sums neighbours of the same column and drops zeros, writing never overtakes reading
+        int size = 0;
+        int start = 0;
+        for (int i = 0; i < rows; i++) {
+            int end = rowPointers[i + 1];
+            for (int p = start; p < end; ) {
+                int column = sortedColumns[p];
+                double sum = 0;
+                for (; p < end && sortedColumns[p] == column; p++) sum += sortedValues[p];
+                if (sum == 0) continue;
+                sortedColumns[size] = column;
+                sortedValues[size] = sum;
+                size++;
+            }
+            start = end;
+            rowPointers[i + 1] = size;
+        }
+        return new OSparseMatrix(rows, columns, rowPointers, sortedColumns, sortedValues);
+    }
+
+    /*
+     * @param n number of rows and columns
+     * @return identity matrix
+     */
+    @Contract(pure = true) public static @NotNull OSparseMatrix identity(int n) {
+        int[] rowPointers = new int[n + 1];
+        int[] columnIndices = new int[n];
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            rowPointers[i + 1] = i + 1;
+            columnIndices[i] = i;
+            values[i] = 1;
+        }
+        return new OSparseMatrix(n, n, rowPointers, columnIndices, values);
+    }
+
+    @NotNull private static OSparseMatrix compress(@NotNull RealMatrix matrix) {
+        int rows = matrix.getRowDimension();
+        int columns = matrix.getColumnDimension();
+        int[] rowPointers = new int[rows + 1];
+        int size = 0;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) if (matrix.getEntry(i, j) != 0) size++;
+            rowPointers[i + 1] = size;
+        }
+
+        int[] columnIndices = new int[size];
+        double[] values = new double[size];
+        int p = 0;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                double d = matrix.getEntry(i, j);
+                if (d == 0) continue;
+                columnIndices[p] = j;
+                values[p++] = d;
+            }
+        }
+        return new OSparseMatrix(rows, columns, rowPointers, columnIndices, values);
+    }
+
+    @NotNull private static OSparseMatrix parse(@NotNull String matrix) {
+        Matcher header = HEADER.matcher(matrix);
+        if (!header.lookingAt())
+            throw new IllegalArgumentException("Sparse matrix must start with {rows x columns: " + matrix);
+        int rows = Integer.parseInt(header.group(1));
+        int columns = Integer.parseInt(header.group(2));
+
+        int count = 0;
+        int[] rowIndices = new int[8];
+        int[] columnIndices = new int[8];
+        double[] values = new double[8];
+        Matcher entry = ENTRY.matcher(matrix);
+        entry.region(header.end(), matrix.length());
+        while (entry.find()) {
+            if (count == values.length) {
+                rowIndices = Arrays.copyOf(rowIndices, 2 * count);
+                columnIndices = Arrays.copyOf(columnIndices, 2 * count);
+                values = Arrays.copyOf(values, 2 * count);
+            }
+            rowIndices[count] = Integer.parseInt(entry.group(1));
+            columnIndices[count] = Integer.parseInt(entry.group(2));
+            values[count] = Double.parseDouble(entry.group(3));
+            count++;
+        }
+        return fromTriplets(rows, columns, rowIndices, columnIndices, values, count);
+    }
+
+    public int getRowDimension() {
+        return rows;
+    }
+
+    public int getColumnDimension() {
+        return columns;
+    }
+
+    public boolean isSquare() {
+        return rows == columns;
+    }
+
+    /*
+     * @return number of entries that are not zero
+     */
+    public int getNumOfNonZeros() {
+        return rowPointers[rows];
+    }
+
+    public @NotNull int[] getRowPointers() {
+        return rowPointers;
+    }
+
+    public @NotNull int[] getColumnIndices() {
+        return columnIndices;
+    }
+
+    public @NotNull double[] getValues() {
+        return values;
+    }
+
+    /*
+     * @return the entry in row i and column j, found by binary search in the row
+     */
+    @Contract(pure = true) public double getEntry(int i, int j) {
+        if (i < 0 || i >= rows || j < 0 || j >= columns)
+            throw new IndexOutOfBoundsException("(" + i + ", " + j + ") lies outside of the matrix.");
+        int p = Arrays.binarySearch(columnIndices, rowPointers[i], rowPointers[i + 1], j);
+        return p < 0 ? 0 : values[p];
+    }
+
+    /*
+     * @return dense copy of the matrix
+     */
+    @Contract(pure = true) public @NotNull RealMatrix toMatrix() {
+        double[][] data = new double[rows][columns];
+        for (int i = 0; i < rows; i++)
+            for (int p = rowPointers[i]; p < rowPointers[i + 1]; p++) data[i][columnIndices[p]] = values[p];
+        return new Array2DRowRealMatrix(data, false);
+    }
+
+    @NotNull @Override public OSparseMatrix turnAroundSign() {
+        double[] negated = new double[getNumOfNonZeros()];
+        for (int p = 0; p < negated.length; p++) negated[p] = -values[p];
+        return new OSparseMatrix(rows, columns, rowPointers, columnIndices, negated);
+    }
+
+    @NotNull @Override public OSparseMatrix negateValue() {
+        double[] negated = new double[getNumOfNonZeros()];
+        for (int p = 0; p < negated.length; p++) negated[p] = -Math.abs(values[p]);
+        return new OSparseMatrix(rows, columns, rowPointers, columnIndices, negated);
+    }
+
+    /*
+     * The inverse of a sparse matrix is dense in general, so it is computed and returned as a dense matrix
+     */
+    @NotNull @Override public OMatrix inverseValue() {
+        return new OMatrix(MatrixUtils.inverse(toMatrix()));
+    }
+
+    @Override
+    public boolean equalsValue(Operand operand) {
+        if (operand == this) return true;
+        if (!(operand instanceof OSparseMatrix)) return false;
+
+        OSparseMatrix other = (OSparseMatrix) operand;
+        if (rows != other.rows || columns != other.columns) return false;
+
+        // Merges the rows, an entry missing in one of them is zero there
+        for (int i = 0; i < rows; i++) {
+            int p = rowPointers[i], pEnd = rowPointers[i + 1];
+            int q = other.rowPointers[i], qEnd = other.rowPointers[i + 1];
+            while (p < pEnd || q < qEnd) {
+                int column = p < pEnd ? columnIndices[p] : Integer.MAX_VALUE;
+                int otherColumn = q < qEnd ? other.columnIndices[q] : Integer.MAX_VALUE;
+                double value = column <= otherColumn ? values[p] : 0;
+                double otherValue = otherColumn <= column ? other.values[q] : 0;
+                if (!DoubleComparator.isEqual(value, otherValue)) return false;
+                if (column <= otherColumn) p++;
+                if (otherColumn <= column) q++;
+            }
+        }
+        return true;
+    }
+
+    @NotNull @Override public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("{").append(rows).append("x").append(columns);
+        String separator = ": ";
+        for (int i = 0; i < rows; i++) {
+            for (int p = rowPointers[i]; p < rowPointers[i + 1]; p++) {
+                builder.append(separator).append("(").append(i).append(", ").append(columnIndices[p]).append(") ");
+                builder.append(DoubleFormatter.format(values[p]));
+                separator = ", ";
+            }
+        }
+        builder.append("}");
+        return builder.toString();
+    }
+
+}
@@ -1,36 +1,84 @@
 package de.fhdw.wip.rpntilecalculator.model.operands;
 
+import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
-import java.util.ArrayList;
-import java.util.List;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /*
- * Summary: Wrapper for the Tuple Operand
+ * Summary: Wrapper for the Tuple Operand. A tuple is either a view of every stride-th value of an array from an
+ *          offset on, or the concatenation of two tuples. Slicing, reversing and concatenating share the values
+ *          instead of copying them, only getTuple copies a view into an array of its own, once. Tuples are not
+ *          changed once built, neither are the arrays they share.
  * Author:  Tim Jonas Meinerzhagen
  * Date:    2019/11/13
  */
 public class OTuple extends Operand {
 
-    @NotNull private double[] tuple;
+    // Pattern of the String constructor, compiled once
+    private static final Pattern VALUE = Pattern.compile("[\\-0-9.]+");
+
+    // Concatenations up to this length are copied right away, a view of them would not save anything
+    private static final int COPY_LENGTH = 64;
+
+    // Depth of nested concatenations from which they are copied into one array, bounds the recursion of get
+    private static final int MAX_DEPTH = 32;
+
+    // Values of a view, null for a concatenation
+    @Nullable private final double[] data;
+    private final int offset;
+    private final int stride;
+    private final int length;
+
+    // Parts of a concatenation, null for a view
+    @Nullable private final OTuple head;
+    @Nullable private final OTuple tail;
+    private final int depth;
+
+    // Array of the values, made by getTuple if the tuple is not a view of a whole array
+    @Nullable private volatile double[] materialized;
 
     /**
-     * Create tuple from array of doubles.
+     * Create tuple from array of doubles, which is not copied.
      * @param doubles
      */
     public OTuple(@NotNull double... doubles) {
-        this.tuple = doubles;
+        this(doubles, 0, doubles.length, 1);
     }
 
     /**
-     * Create tuple from list of doubles
-     * @param tuple
+     * Create a view of an array
+     * @param data Shared values
+     * @param offset Index of the first value
+     * @param length Number of values
+     * @param stride Distance between two values, negative for a reversed view
      */
-    private OTuple(@NotNull List<Double> tuple) {
-        this.tuple = new double[tuple.size()];
-        for (int i = 0; i < this.tuple.length; i++)
-            this.tuple[i] = tuple.get(i);
+    private OTuple(@NotNull double[] data, int offset, int length, int stride) {
+        this.data = data;
+        this.offset = offset;
+        this.length = length;
+        this.stride = stride;
+        this.head = null;
+        this.tail = null;
+        this.depth = 0;
+    }
+
+    /**
+     * Create the concatenation of two tuples
+     * @param head First values
+     * @param tail Last values
+     */
+    private OTuple(@NotNull OTuple head, @NotNull OTuple tail) {
+        this.data = null;
+        this.offset = 0;
+        this.length = head.length + tail.length;
+        this.stride = 1;
+        this.head = head;
+        this.tail = tail;
+        this.depth = 1 + Math.max(head.depth, tail.depth);
     }
 
     /**
@@ -38,24 +86,140 @@ public class OTuple extends Operand {
      * @param tuple Tuple as String
      */
     public OTuple(@NotNull String tuple) {
-        ArrayList<Double> listTuple = new ArrayList<>();
-        Pattern pat = Pattern.compile("[\\-0-9.]+");
-        Matcher mat = pat.matcher(tuple);
+        this(parse(tuple));
+    }
+
+    @NotNull private static double[] parse(@NotNull String tuple) {
+        double[] values = new double[8];
+        int size = 0;
+        Matcher mat = VALUE.matcher(tuple);
 
         while(mat.find()) {
-            String value = tuple.substring(mat.start(), mat.end());
-            listTuple.add(Double.valueOf(value));
+            if (size == values.length) values = Arrays.copyOf(values, 2 * size);
+            values[size++] = Double.parseDouble(tuple.substring(mat.start(), mat.end()));
         }
-        this.tuple = new double[2];
-        for(int i = 0; i < 2; i++) this.tuple[i] = listTuple.get(i);
+        return Arrays.copyOf(values, size);
     }
 
     /**
-     * Get the underlying Tuple.
+     * Get the underlying Tuple, which must not be changed. A view of a part of an array or a concatenation is
+     * copied into an array of its own the first time.
      * @return Tuple
      */
     public @NotNull double[] getTuple() {
-        return tuple;
+        if (data != null && offset == 0 && stride == 1 && length == data.length) return data;
+        double[] values = materialized;
+        if (values == null) {
+            values = new double[length];
+            copyTo(values, 0);
+            materialized = values;
+        }
+        return values;
+    }
+
+    /**
+     * Get the number of values
+     * @return Length
+     */
+    public int size() {
+        return length;
+    }
+
+    /**
+     * Get a single value, concatenations are descended
+     * @param index Index of the value
+     * @return Value
+     */
+    @Contract(pure = true) public double get(int index) {
+        if (index < 0 || index >= length)
+            throw new IndexOutOfBoundsException("Index " + index + " of a tuple of " + length + " values.");
+        if (data != null) return data[offset + index * stride];
+        double[] values = materialized;
+        if (values != null) return values[index];
+        return index < head.length ? head.get(index) : tail.get(index - head.length);
+    }
+
+    /**
+     * Copy the values into an array
+     * @param destination Array to copy to
+     * @param position Index of the first value in the destination
+     */
+    public void copyTo(@NotNull double[] destination, int position) {
+        if (data != null) {
+            if (stride == 1) System.arraycopy(data, offset, destination, position, length);
+            else for (int i = 0, j = offset; i < length; i++, j += stride) destination[position + i] = data[j];
+            return;
+        }
+        double[] values = materialized;
+        if (values != null) {
+            System.arraycopy(values, 0, destination, position, length);
+        } else {
+            head.copyTo(destination, position);
+            tail.copyTo(destination, position + head.length);
+        }
+    }
+
+    /**
+     * View of a part of the values, sharing them
+     * @param from Index of the first value, inclusive
+     * @param to Index of the last value, exclusive
+     * @return Tuple of to - from values
+     */
+    @Contract(pure = true) public @NotNull OTuple slice(int from, int to) {
+        if (from < 0 || to > length || from > to)
+            throw new IndexOutOfBoundsException("Slice [" + from + ", " + to + ") of a tuple of " + length + " values.");
+        if (from == 0 && to == length) return this;
+
+        if (data != null) return new OTuple(data, offset + from * stride, to - from, stride);
+        double[] values = materialized;
+        if (values != null) return new OTuple(values, from, to - from, 1);
+        if (to <= head.length) return head.slice(from, to);
+        if (from >= head.length) return tail.slice(from - head.length, to - head.length);
+        return new OTuple(head.slice(from, head.length), tail.slice(0, to - head.length));
+    }
+
+    /**
+     * View of every step-th value from the first one on, sharing them
+     * @param step Distance between two values of the view
+     * @return Tuple of about size / step values
+     */
+    @Contract(pure = true) public @NotNull OTuple stride(int step) {
+        if (step < 1) throw new IllegalArgumentException("Step must be positive.");
+        if (step == 1) return this;
+
+        // A concatenation has no stride of its own, it is copied first
+        int count = (length + step - 1) / step;
+        if (data != null) return new OTuple(data, offset, count, stride * step);
+        return new OTuple(getTuple(), 0, count, step);
+    }
+
+    /**
+     * View of the values in reverse order, sharing them
+     * @return Reversed tuple
+     */
+    @Contract(pure = true) public @NotNull OTuple reverse() {
+        if (length < 2) return this;
+        if (data != null) return new OTuple(data, offset + (length - 1) * stride, length, -stride);
+        double[] values = materialized;
+        if (values != null) return new OTuple(values, length - 1, length, -1);
+        return new OTuple(tail.reverse(), head.reverse());
+    }
+
+    /**
+     * Concatenation of both tuples, sharing their values unless they are short or nested deeply
+     * @param other Values that follow the ones of this tuple
+     * @return Tuple of both
+     */
+    @Contract(pure = true) public @NotNull OTuple concat(@NotNull OTuple other) {
+        if (other.length == 0) return this;
+        if (length == 0) return other;
+        if (length + other.length <= COPY_LENGTH || Math.max(depth, other.depth) >= MAX_DEPTH) {
+            double[] values = new double[length + other.length];
+            copyTo(values, 0);
+            other.copyTo(values, length);
+            return new OTuple(values);
+        }
+        return new OTuple(this, other);
     }
 
     /**
@@ -63,9 +227,10 @@ public class OTuple extends Operand {
      * @return new Tuple.
      */
     @NotNull @Override public OTuple turnAroundSign() {
-        List<Double> newTuple = new ArrayList<>();
-        for (double d : tuple)
-            newTuple.add(d * -1);
+        double[] newTuple = new double[length];
+        copyTo(newTuple, 0);
+        for (int i = 0; i < length; i++)
+            newTuple[i] = newTuple[i] * -1;
         return new OTuple(newTuple);
     }
 
@@ -74,9 +239,10 @@ public class OTuple extends Operand {
      * @return new Tuple
      */
     @NotNull @Override public OTuple negateValue() {
-        List<Double> newTuple = new ArrayList<>();
-        for (double d : tuple)
-            newTuple.add(Math.abs(d) * -1);
+        double[] newTuple = new double[length];
+        copyTo(newTuple, 0);
+        for (int i = 0; i < length; i++)
+            newTuple[i] = Math.abs(newTuple[i]) * -1;
         return new OTuple(newTuple);
     }
 
@@ -86,9 +252,10 @@ public class OTuple extends Operand {
      */
     @Override
     public @NotNull OTuple inverseValue() {
-        List<Double> newTuple = new ArrayList<>();
-        for (double d : tuple)
-            newTuple.add(1 / d);
+        double[] newTuple = new double[length];
+        copyTo(newTuple, 0);
+        for (int i = 0; i < length; i++)
+            newTuple[i] = 1 / newTuple[i];
         return new OTuple(newTuple);
     }
 
@@ -102,7 +269,7 @@ public class OTuple extends Operand {
         if (operand == this) return true;
         if (!(operand instanceof OTuple)) return false;
 
-        return DoubleComparator.isEqual(tuple, ((OTuple) operand).getTuple());
+        return DoubleComparator.isEqual(getTuple(), ((OTuple) operand).getTuple());
     }
 
     /**
@@ -112,11 +279,11 @@ public class OTuple extends Operand {
     @NotNull @Override public String toString() {
         StringBuilder builder = new StringBuilder();
         builder.append("(");
-        for (double d : tuple) {
+        for (double d : getTuple()) {
             builder.append(DoubleFormatter.format(d));
             builder.append(", ");
         }
-        builder.delete(builder.length() - 2, builder.length());
+        if (length > 0) builder.delete(builder.length() - 2, builder.length());
         builder.append(")");
         return builder.toString();
     }
@@ -0,0 +1,188 @@
+package de.fhdw.wip.rpntilecalculator.model.operands;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/*
+ * Summary: Set of doubles as one ascending array, the order of Double.compare with NaN last. Like DoubleHashSet it
+ *          treats values within DoubleComparator.TOLERANCE of each other as one value, here the smallest of them
+ *          is kept. Membership and range counts are binary searches, union, intersection and difference merge both
+ *          arrays in linear time. Not changed once built.
+ * Date:    2026/10/17
+ */
+public final class SortedDoubleSet {
+
+    @NotNull private static final SortedDoubleSet EMPTY = new SortedDoubleSet(new double[0], 0);
+
+    @NotNull private final double[] values;
+    private final int size;
+
+    /*
+     * @param values ascending and pairwise unequal values, only the first size of them are used
+     */
+    private SortedDoubleSet(@NotNull double[] values, int size) {
+        this.values = values;
+        this.size = size;
+    }
+
+    /*
+     * Sorts a copy of the values and drops those equal to a smaller one
+     */
+    @Contract(pure = true) public static @NotNull SortedDoubleSet of(@NotNull double... values) {
+        double[] sorted = values.clone();
+        for (int i = 0; i < sorted.length; i++) sorted[i] = canonical(sorted[i]);
+        Arrays.sort(sorted);
+        int size = 0;
+        for (double d : sorted) if (size == 0 || !same(sorted[size - 1], d)) sorted[size++] = d;
+        return new SortedDoubleSet(sorted, size);
+    }
+
+    /*
+     * Sorts the values of a hash set, which are pairwise unequal already
+     */
+    @Contract(pure = true) public static @NotNull SortedDoubleSet of(@NotNull DoubleHashSet set) {
+        double[] sorted = set.toArray();
+        Arrays.sort(sorted);
+        return new SortedDoubleSet(sorted, sorted.length);
+    }
+
+    @Contract(pure = true) private static double canonical(double d) {
+        if (d != d) return Double.NaN;
+        return d == 0 ? 0.0 : d;
+    }
+
+    @Contract(pure = true) private static boolean same(double a, double b) {
+        return a == b || (a != a && b != b) || Math.abs(a - b) < DoubleComparator.TOLERANCE;
+    }
+
+    @Contract(pure = true) public int size() {
+        return size;
+    }
+
+    @Contract(pure = true) public double get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index " + index + ", size " + size);
+        return values[index];
+    }
+
+    /*
+     * @return new ascending array of the values
+     */
+    @Contract(pure = true) public @NotNull double[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /*
+     * @return index of the first value v with Double.compare(v, d) >= 0, size if there is none
+     */
+    @Contract(pure = true) private int lowerBound(double d) {
+        int low = 0, high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (Double.compare(values[middle], d) < 0) low = middle + 1;
+            else high = middle;
+        }
+        return low;
+    }
+
+    /*
+     * @return index of the first value v with Double.compare(v, d) > 0, size if there is none
+     */
+    @Contract(pure = true) private int upperBound(double d) {
+        int low = 0, high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (Double.compare(values[middle], d) <= 0) low = middle + 1;
+            else high = middle;
+        }
+        return low;
+    }
+
+    /*
+     * @return if a value within the tolerance of d is in the set, found in O(log n)
+     */
+    @Contract(pure = true) public boolean contains(double d) {
+        d = canonical(d);
+        return matches(d, lowerBound(d));
+    }
+
+    /*
+     * The values are at least the tolerance apart, so only the neighbours of d can be equal to it. They are compared
+     * directly, d - tolerance would round back to d for large d.
+     * @param i index of the first value v with Double.compare(v, d) >= 0
+     * @return if the value below or at i is equal to d
+     */
+    @Contract(pure = true) private boolean matches(double d, int i) {
+        return i < size && same(values[i], d) || i > 0 && same(values[i - 1], d);
+    }
+
+    /*
+     * @return number of values v with from <= v <= to, found in O(log n)
+     */
+    @Contract(pure = true) public int countRange(double from, double to) {
+        from = canonical(from);
+        to = canonical(to);
+        if (Double.isNaN(from) || Double.isNaN(to) || from > to) return 0;
+        return upperBound(to) - lowerBound(from);
+    }
+
+    /*
+     * @return values of a and those of b that are not in a
+     */
+    @Contract(pure = true) public static @NotNull SortedDoubleSet union(@NotNull SortedDoubleSet a,
+                                                                        @NotNull SortedDoubleSet b) {
+        SortedDoubleSet rest = difference(b, a);
+        double[] union = new double[a.size + rest.size];
+        int i = 0, j = 0, size = 0;
+        while (i < a.size || j < rest.size) {
+            if (j == rest.size || i < a.size && Double.compare(a.values[i], rest.values[j]) < 0)
+                union[size++] = a.values[i++];
+            else union[size++] = rest.values[j++];
+        }
+        return new SortedDoubleSet(union, size);
+    }
+
+    /*
+     * @return values of a that are in b
+     */
+    @Contract(pure = true) public static @NotNull SortedDoubleSet intersection(@NotNull SortedDoubleSet a,
+                                                                               @NotNull SortedDoubleSet b) {
+        return select(a, b, true);
+    }
+
+    /*
+     * @return values of a that are not in b
+     */
+    @Contract(pure = true) public static @NotNull SortedDoubleSet difference(@NotNull SortedDoubleSet a,
+                                                                             @NotNull SortedDoubleSet b) {
+        return select(a, b, false);
+    }
+
+    /*
+     * Walks both arrays once. Like a lookup in DoubleHashSet, every value of a is compared with both of its
+     * neighbours in b, so one value of b may be equal to two values of a.
+     * @return values of a that are in b, or that are not in b
+     */
+    @Contract(pure = true) private static @NotNull SortedDoubleSet select(@NotNull SortedDoubleSet a,
+                                                                          @NotNull SortedDoubleSet b, boolean inB) {
+        double[] selected = new double[a.size];
+        int j = 0, size = 0;
+        for (int i = 0; i < a.size; i++) {
+            double d = a.values[i];
+            while (j < b.size && Double.compare(b.values[j], d) < 0) j++;
+            if (b.matches(d, j) == inB) selected[size++] = d;
+        }
+        return size == 0 ? EMPTY : new SortedDoubleSet(selected, size);
+    }
+
+    /*
+     * @return if both sets have the same size and their values are pairwise equal
+     */
+    @Contract(pure = true) public boolean equalsValues(@NotNull SortedDoubleSet other) {
+        if (size != other.size) return false;
+        for (int i = 0; i < size; i++) if (!same(values[i], other.values[i])) return false;
+        return true;
+    }
+
+}
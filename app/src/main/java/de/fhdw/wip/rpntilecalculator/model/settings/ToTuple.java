@@ -9,7 +9,8 @@ import java.util.List;
 import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
 import de.fhdw.wip.rpntilecalculator.model.operands.OEmpty;
 import de.fhdw.wip.rpntilecalculator.model.operands.OTuple;
-import de.fhdw.wip.rpntilecalculator.model.stack.OperandStack;
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+import de.fhdw.wip.rpntilecalculator.model.stack.StackInterface;
 import de.fhdw.wip.rpntilecalculator.presenter.Presenter;
 
 /**
@@ -25,7 +26,7 @@ public class ToTuple extends Setting {
     @Override
     public boolean call() {
         Presenter presenter = Presenter.getInstance();
-        OperandStack operandStack = presenter.getOperandStack();
+        StackInterface<Operand> operandStack = presenter.getOperandStack();
         List<Double> doubles = new ArrayList<>();
         while(operandStack.peek() instanceof ODouble) {
             double d = ((ODouble) operandStack.pop()).getDouble();
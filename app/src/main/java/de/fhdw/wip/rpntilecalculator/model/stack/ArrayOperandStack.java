@@ -0,0 +1,196 @@
+package de.fhdw.wip.rpntilecalculator.model.stack;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Summary: Stack for the operands backed by a growable ring array. Push and pop are O(1), removing typed
+ *          operands only moves the entries above the deepest removed one.
+ * Date:    2026/10/17
+ */
+public final class ArrayOperandStack implements StackInterface<Operand> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // Capacity is always a power of two, index of the top is head, the i-th entry below lies at (head + i) & mask
+    @NotNull private Operand[] elements = new Operand[INITIAL_CAPACITY];
+    private int mask = INITIAL_CAPACITY - 1;
+    private int head = 0;
+    private int size = 0;
+
+    @Override public void push(@NotNull Operand operand) {
+        if (size == elements.length) grow();
+        head = (head - 1) & mask;
+        elements[head] = operand;
+        size++;
+    }
+
+    @Override public void push(@NotNull Operand[] operands) {
+        for (Operand operand : operands) push(operand);
+    }
+
+    @Override public @Nullable Operand pop() {
+        if (size == 0) return null;
+        Operand operand = elements[head];
+        elements[head] = null;
+        head = (head + 1) & mask;
+        size--;
+        return operand;
+    }
+
+    @Override public @NotNull List<Operand> pop(int max) {
+        List<Operand> list = new ArrayList<>(Math.max(0, Math.min(max, size)));
+        while (size > 0 && list.size() < max)
+            list.add(pop());
+        return list;
+    }
+
+    @Override public int drop(int max) {
+        int count = Math.max(0, Math.min(max, size));
+        for (int i = 0; i < count; i++) set(i, null);
+        head = (head + count) & mask;
+        size -= count;
+        return count;
+    }
+
+    @Override public @Nullable <G extends Operand> G pop(Class<G> type) {
+        for (int i = 0; i < size; i++) {
+            Operand operand = get(i);
+            if (type.isInstance(operand)) {
+                removeAt(i);
+                return type.cast(operand);
+            }
+        }
+        return null;
+    }
+
+    @Override public @NotNull <G extends Operand> List<G> pop(int max, Class<G> type) {
+        List<G> list = new ArrayList<>();
+        int deepest = -1;
+        for (int i = 0; i < size && list.size() < max; i++) {
+            Operand operand = get(i);
+            if (type.isInstance(operand)) {
+                list.add(type.cast(operand));
+                deepest = i;
+            }
+        }
+        if (deepest < 0) return list;
+
+        // Every instance of type above the deepest match was popped, so the kept entries close ranks downwards
+        int write = deepest;
+        for (int read = deepest; read >= 0; read--) {
+            Operand operand = get(read);
+            if (!type.isInstance(operand)) set(write--, operand);
+        }
+        drop(list.size());
+        return list;
+    }
+
+    @Override public @Nullable Operand peek() {
+        return size == 0 ? null : elements[head];
+    }
+
+    @Override public @NotNull List<Operand> peek(int max) {
+        int count = Math.max(0, Math.min(max, size));
+        List<Operand> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+            list.add(get(i));
+        return list;
+    }
+
+    @Override public int peek(@NotNull Operand[] buffer) {
+        int count = Math.min(buffer.length, size);
+        for (int i = 0; i < count; i++)
+            buffer[i] = get(i);
+        return count;
+    }
+
+    @Override public @Nullable <G extends Operand> G peek(Class<G> type) {
+        for (int i = 0; i < size; i++) {
+            Operand operand = get(i);
+            if (type.isInstance(operand))
+                return type.cast(operand);
+        }
+        return null;
+    }
+
+    @Override public @NotNull <G extends Operand> List<G> peek(int max, Class<G> type) {
+        List<G> list = new ArrayList<>();
+        for (int i = 0; i < size && list.size() < max; i++) {
+            Operand operand = get(i);
+            if (type.isInstance(operand))
+                list.add(type.cast(operand));
+        }
+        return list;
+    }
+
+    @Override public boolean contains(Operand object) {
+        for (int i = 0; i < size; i++) {
+            Operand operand = get(i);
+            if (object == null ? operand == null : object.equals(operand)) return true;
+        }
+        return false;
+    }
+
+    @Override public void clear() {
+        for (int i = 0; i < size; i++) set(i, null);
+        head = 0;
+        size = 0;
+    }
+
+    @NotNull @Override public Operand[] get() {
+        Operand[] copy = new Operand[size];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, copy, 0, firstPart);
+        System.arraycopy(elements, 0, copy, firstPart, size - firstPart);
+        return copy;
+    }
+
+    @NotNull @Override public <G extends Operand> List<G> get(Class<G> type) {
+        List<G> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Operand operand = get(i);
+            if (type.isInstance(operand))
+                list.add(type.cast(operand));
+        }
+        return list;
+    }
+
+    @Override public int size() {
+        return size;
+    }
+
+    /**
+     * Entry at the given rank, 0 is the top of the stack
+     */
+    private Operand get(int rank) {
+        return elements[(head + rank) & mask];
+    }
+
+    private void set(int rank, Operand operand) {
+        elements[(head + rank) & mask] = operand;
+    }
+
+    /**
+     * Removes a single entry and moves the entries above it one rank down.
+     */
+    private void removeAt(int rank) {
+        for (int i = rank; i > 0; i--)
+            set(i, get(i - 1));
+        drop(1);
+    }
+
+    private void grow() {
+        Operand[] grown = get();
+        elements = new Operand[elements.length * 2];
+        System.arraycopy(grown, 0, elements, 0, grown.length);
+        mask = elements.length - 1;
+        head = 0;
+    }
+
+}
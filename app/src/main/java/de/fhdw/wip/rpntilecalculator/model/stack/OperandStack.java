@@ -7,6 +7,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Deque;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -41,6 +42,15 @@ public final class OperandStack implements StackInterface<Operand> {
         return list;
     }
 
+    @Override public int drop(int max) {
+        int count = 0;
+        while (!linkedList.isEmpty() && count < max) {
+            dequeView.pop();
+            count++;
+        }
+        return count;
+    }
+
     @Override public @Nullable <G extends Operand> G pop(Class<G> type) {
         for (int i = 0; i < listView.size(); i++) {
             if (type.isInstance(listView.get(i)))
@@ -72,6 +82,14 @@ public final class OperandStack implements StackInterface<Operand> {
         return list;
     }
 
+    @Override public int peek(@NotNull Operand[] buffer) {
+        int count = 0;
+        Iterator<Operand> iterator = linkedList.iterator();
+        while (count < buffer.length && iterator.hasNext())
+            buffer[count++] = iterator.next();
+        return count;
+    }
+
     @Override public @Nullable <G extends Operand> G peek(Class<G> type) {
         for (int i = 0; i < listView.size(); i++) {
             Operand operand = listView.get(i);
@@ -37,6 +37,13 @@ public interface StackInterface<T> {
      */
     @NotNull List<T> pop(int max);
 
+    /**
+     * Remove a certain amount of objects from the stack without returning them
+     * @param max Max amount of objects to remove
+     * @return Number of removed items
+     */
+    int drop(int max);
+
     /**
      * Pop a element of a certain class from the stack
      * @param type Type of the element to be popped
@@ -67,6 +74,13 @@ public interface StackInterface<T> {
      */
     @NotNull List<T> peek(int max);
 
+    /**
+     * Peek the top items of the stack into a buffer supplied by the caller, so no list is created.
+     * @param buffer Buffer that is filled from index 0 (top of the stack), its length is the max amount of items
+     * @return Number of items that were peeked, entries behind this number are left untouched
+     */
+    int peek(@NotNull T[] buffer);
+
     /**
      * Peek the first item of a certain type on the stack.
      * @param type Type the item should be
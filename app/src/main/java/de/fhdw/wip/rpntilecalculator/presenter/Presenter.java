@@ -10,17 +10,18 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 import javax.xml.parsers.FactoryConfigurationError;
 
 import de.fhdw.wip.rpntilecalculator.model.calculation.Action;
 import de.fhdw.wip.rpntilecalculator.model.calculation.CalculationException;
+import de.fhdw.wip.rpntilecalculator.model.engine.Session;
 import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
 import de.fhdw.wip.rpntilecalculator.model.operands.OEmpty;
 import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
 import de.fhdw.wip.rpntilecalculator.model.settings.Setting;
-import de.fhdw.wip.rpntilecalculator.model.stack.OperandStack;
+import de.fhdw.wip.rpntilecalculator.model.stack.StackInterface;
 import de.fhdw.wip.rpntilecalculator.view.Tile;
 import de.fhdw.wip.rpntilecalculator.view.TileMapping;
 import de.fhdw.wip.rpntilecalculator.view.layout.TileLayout;
@@ -42,14 +43,13 @@ public class Presenter implements View.OnClickListener {
     @Contract(pure = true) @NotNull
     public static Presenter getInstance() { return PRESENTER; }
 
-    private final OperandStack OPERAND_STACK = new OperandStack();
-    private ArrayList<Operand> HISTORY_STACK = new ArrayList<>();
-    private StringBuilder INPUT_TERM = new StringBuilder();
+    // Stack, history and input term of the session shown on the tiles
+    @NotNull private Session SESSION = new Session();
 
     private TileLayout layout;
     private Context context;
 
-    private boolean INPUT_FINALIZED = false;
+    private Operand[][] operandBuffers = new Operand[4][];
 
     /**
      * Handles all tile input and decides on the follow up procedure
@@ -101,12 +101,12 @@ public class Presenter implements View.OnClickListener {
                 resetInputTerm(operand);
                 break;
             case 2: //
-                OPERAND_STACK.pop();
-                operand = readCombinedOperand(INPUT_TERM).getOperand();
+                SESSION.getOperandStack().pop();
+                operand = readCombinedOperand(SESSION.getInputTerm()).getOperand();
                 break;
         }
 
-        OPERAND_STACK.push(operand);
+        SESSION.getOperandStack().push(operand);
         updateStack();
         //System.out.println("[Operand] " + operand.getClass());
     }
@@ -119,15 +119,10 @@ public class Presenter implements View.OnClickListener {
         Action action = ((ActionTileScheme) tile.getScheme()).getAction();
         int[] requiredNumOfOperands = action.getRequiredNumOfOperands();
 
-        if(action.getRequiredNumOfOperands()[0] != -1) {
-            //Create a list of all possible parameter lists
-            List<List<Operand>> operands = new ArrayList<>();
-            for(int num : requiredNumOfOperands) {
-                operands.add(OPERAND_STACK.peek(num));
-            }
-            //Try calculating using the given list
+        if(requiredNumOfOperands[0] != -1) {
+            //Try calculating with the possible numbers of operands
             try {
-                calculate(action, operands);
+                calculate(action, requiredNumOfOperands);
             } catch (CalculationException e) {
                 e.printStackTrace();
             }
@@ -140,31 +135,45 @@ public class Presenter implements View.OnClickListener {
     /**
      * Calculates the result with highest possible number of parameters
      * @param action action that is invoked
-     * @param possibleOperands list of lists of operands that will be tested from bottom upwards
+     * @param requiredNumOfOperands numbers of operands that will be tested from the last one downwards
      * @return returns if the calculation has been successful
      * @throws CalculationException thrown if no calculation is possible
      */
-    private boolean calculate(@NotNull Action action, @NotNull List<List<Operand>> possibleOperands) throws CalculationException {
-        if(possibleOperands.size() == 0) {
-            // No calculation has been successful
-            Toast.makeText(context, "Calculation not possible", Toast.LENGTH_LONG).show();
-            throw new CalculationException("No calculation could be applied... :(");
-        }
-        int nextOperandsToTry = possibleOperands.size() - 1;
-        try {
-            //try the one with the highest number of parameters
-            List<Operand> operands = possibleOperands.get(nextOperandsToTry);
-            Operand result = action.with(operands);
-            OPERAND_STACK.pop(operands.size());
-            OPERAND_STACK.push(result);
-            add2History(result);
-            resetInputTerm(result);
-            return true;
-        } catch (CalculationException e) {
-            //try the next lower one
-            possibleOperands.remove(nextOperandsToTry);
-            return calculate(action, possibleOperands);
+    private boolean calculate(@NotNull Action action, @NotNull int[] requiredNumOfOperands) throws CalculationException {
+        StackInterface<Operand> operandStack = SESSION.getOperandStack();
+        for(int i = requiredNumOfOperands.length - 1; i >= 0; i--) {
+            //the buffers are reused, so trying a number of operands allocates nothing
+            Operand[] operands = operandBuffer(Math.min(requiredNumOfOperands[i], operandStack.size()));
+            operandStack.peek(operands);
+            try {
+                Operand result = action.with(operands);
+                operandStack.drop(operands.length);
+                operandStack.push(result);
+                add2History(result);
+                resetInputTerm(result);
+                return true;
+            } catch (CalculationException e) {
+                //try the next lower one
+            } finally {
+                Arrays.fill(operands, null);
+            }
         }
+        // No calculation has been successful
+        Toast.makeText(context, "Calculation not possible", Toast.LENGTH_LONG).show();
+        throw new CalculationException("No calculation could be applied... :(");
+    }
+
+    /**
+     * Buffer for passing a certain number of operands to an action
+     * @param size number of operands
+     * @return reused array of exactly this size
+     */
+    private Operand[] operandBuffer(int size) {
+        if(size >= operandBuffers.length)
+            operandBuffers = Arrays.copyOf(operandBuffers, size + 1);
+        if(operandBuffers[size] == null)
+            operandBuffers[size] = new Operand[size];
+        return operandBuffers[size];
     }
 
     /**
@@ -185,11 +194,11 @@ public class Presenter implements View.OnClickListener {
         if(isInputFinalized()) return 0;
 
         if(operand instanceof ODouble) {
-            Operand top = OPERAND_STACK.peek();
+            Operand top = SESSION.getOperandStack().peek();
             if(top instanceof OEmpty || top instanceof ODouble) {
-                String[] splits = (INPUT_TERM.toString() + operand.toString()).split(".");
+                String[] splits = (SESSION.getInputTerm().toString() + operand.toString()).split(".");
                 if(splits.length < 3) {
-                    INPUT_TERM.append(operand);
+                    SESSION.getInputTerm().append(operand);
                     return 2;
                 }
             }
@@ -202,11 +211,7 @@ public class Presenter implements View.OnClickListener {
      * @param operand the operand ot be added
      */
     public void add2History(Operand operand) {
-        boolean add = true;
-        for(Operand op : HISTORY_STACK) {
-            if(op.equalsValue(operand)) add = false;
-        }
-        if(add) HISTORY_STACK.add(operand);
+        SESSION.add2History(operand);
     }
 
     /**
@@ -223,9 +228,7 @@ public class Presenter implements View.OnClickListener {
      * @param operand one operand that should remain in the input term
      */
     public void resetInputTerm(@Nullable Operand operand) {
-        definalizeInput();
-        INPUT_TERM = new StringBuilder();
-        if(operand != null) INPUT_TERM.append(operand);
+        SESSION.resetInputTerm(operand);
     }
 
     /**
@@ -240,42 +243,64 @@ public class Presenter implements View.OnClickListener {
      * Lets the layout update its stack
      */
     public void updateStack() {
-        layout.updateStack(OPERAND_STACK);
+        layout.updateStack(SESSION.getOperandStack());
     }
 
     /**
      * Lets the layout update its history stack
      */
     public void updateHistoryStack() {
-        layout.updateHistoryStack(HISTORY_STACK);
+        layout.updateHistoryStack(SESSION.getHistoryStack());
     }
 
     public ArrayList<Operand> getHistoryStack() {
-        return HISTORY_STACK;
+        return SESSION.getHistoryStack();
     }
 
     public StringBuilder getInputTerm () {
-        return INPUT_TERM;
+        return SESSION.getInputTerm();
     }
 
     public void setInputTerm(StringBuilder inputTerm) {
-        this.INPUT_TERM = inputTerm;
+        SESSION.setInputTerm(inputTerm);
     }
 
-    public OperandStack getOperandStack() {
-        return OPERAND_STACK;
+    public StackInterface<Operand> getOperandStack() {
+        return SESSION.getOperandStack();
     }
 
-    public boolean isInputFinalized() {
-        return INPUT_FINALIZED;
+    /**
+     * Selects the stack implementation (e.g. {@link de.fhdw.wip.rpntilecalculator.model.stack.ArrayOperandStack}
+     * for deep stacks). The operands of the current stack are moved over in their order.
+     * @param operandStack empty stack that replaces the current one
+     */
+    public void setOperandStack(@NotNull StackInterface<Operand> operandStack) {
+        SESSION.setOperandStack(operandStack);
     }
 
-    public void finalizeInput() {
-        INPUT_FINALIZED = true;
+    /**
+     * @return the session shown on the tiles
+     */
+    @NotNull public Session getSession() {
+        return SESSION;
     }
 
-    private void definalizeInput() {
-        INPUT_FINALIZED = false;
+    /**
+     * Shows another session on the tiles
+     * @param session session whose stack, history and input term are shown from now on
+     */
+    public void setSession(@NotNull Session session) {
+        SESSION = session;
+        updateStack();
+        updateHistoryStack();
+    }
+
+    public boolean isInputFinalized() {
+        return SESSION.isInputFinalized();
+    }
+
+    public void finalizeInput() {
+        SESSION.finalizeInput();
     }
 
 }
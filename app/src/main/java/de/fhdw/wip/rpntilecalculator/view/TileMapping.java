@@ -1,32 +1,13 @@
 package de.fhdw.wip.rpntilecalculator.view;
 
 import de.fhdw.wip.rpntilecalculator.model.calculation.Action;
-import de.fhdw.wip.rpntilecalculator.model.calculation.ArcCosinus;
-import de.fhdw.wip.rpntilecalculator.model.calculation.ArcSinus;
-import de.fhdw.wip.rpntilecalculator.model.calculation.ArcTangens;
-import de.fhdw.wip.rpntilecalculator.model.calculation.Cosinus;
-import de.fhdw.wip.rpntilecalculator.model.calculation.Derivation;
-import de.fhdw.wip.rpntilecalculator.model.calculation.HighAndLowPoints;
-import de.fhdw.wip.rpntilecalculator.model.calculation.Integral;
-import de.fhdw.wip.rpntilecalculator.model.calculation.Limes;
-import de.fhdw.wip.rpntilecalculator.model.calculation.Logarithm;
-import de.fhdw.wip.rpntilecalculator.model.calculation.Logarithm10;
-import de.fhdw.wip.rpntilecalculator.model.calculation.MatrixUtil;
-import de.fhdw.wip.rpntilecalculator.model.calculation.Minus;
-import de.fhdw.wip.rpntilecalculator.model.calculation.Modulo;
-import de.fhdw.wip.rpntilecalculator.model.calculation.Plus;
-import de.fhdw.wip.rpntilecalculator.model.calculation.Power;
-import de.fhdw.wip.rpntilecalculator.model.calculation.Root;
-import de.fhdw.wip.rpntilecalculator.model.calculation.Sinus;
-import de.fhdw.wip.rpntilecalculator.model.calculation.Slash;
-import de.fhdw.wip.rpntilecalculator.model.calculation.Tangens;
-import de.fhdw.wip.rpntilecalculator.model.calculation.Times;
-import de.fhdw.wip.rpntilecalculator.model.calculation.Zeros;
+import de.fhdw.wip.rpntilecalculator.model.calculation.ActionMapping;
 import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
 import de.fhdw.wip.rpntilecalculator.model.operands.OFraction;
 import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
 import de.fhdw.wip.rpntilecalculator.model.operands.OPolynom;
 import de.fhdw.wip.rpntilecalculator.model.operands.OSet;
+import de.fhdw.wip.rpntilecalculator.model.operands.OSparseMatrix;
 import de.fhdw.wip.rpntilecalculator.model.operands.OTuple;
 import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
 import de.fhdw.wip.rpntilecalculator.model.operands.OEmpty;
@@ -54,32 +35,39 @@ public enum TileMapping {
     O_DOUBLE(TileType.OPERAND, ODouble.class, "Zahl"),
     O_FRACTION(TileType.OPERAND, OFraction.class, "Bruch"),
     O_MATRIX(TileType.OPERAND, OMatrix.class, "Matrix"),
+    O_SPARSE_MATRIX(TileType.OPERAND, OSparseMatrix.class, "Dünnbesetzte Matrix"),
     O_POLYNOM(TileType.OPERAND, OPolynom.class, "Funktion"),
     O_SET(TileType.OPERAND, OSet.class, "Menge"),
     O_TUPLE(TileType.OPERAND, OTuple.class, "Tuple"),
     O_Empty(TileType.OPERAND, OEmpty.class, "Empty"),
     
-    A_MINUS(TileType.ACTION, Minus.getInstance(), "-"),
-    A_PLUS(TileType.ACTION, Plus.getInstance(), "+"),
-    A_SLASH(TileType.ACTION, Slash.getInstance(), "/"),
-    A_TIMES(TileType.ACTION, Times.getInstance(), "*"),
-    A_MODULO(TileType.ACTION, Modulo.getInstance(), "%"),
-    A_LOG(TileType.ACTION, Logarithm.getInstance(), "log"),
-    A_LOG10(TileType.ACTION, Logarithm10.getInstance(), "log10"),
-    A_POWER(TileType.ACTION, Power.getInstance(), "bⁿ"),
-    A_ROOT(TileType.ACTION, Root.getInstance(), "√"),
-    A_DERIVE(TileType.ACTION, Derivation.getInstance(), "dy / dx"),
-    A_HIGHLOW(TileType.ACTION, HighAndLowPoints.getInstance(), "Extrema"),
-    A_ZEROS(TileType.ACTION, Zeros.getInstance(), "Zeros"),
-    A_INTEGRAL(TileType.ACTION, Integral.getInstance(), "Integral"),
-    A_LIMES(TileType.ACTION, Limes.getInstance(), "Limes"),
-    A_SIN(TileType.ACTION, Sinus.getInstance(), "sin"),
-    A_COS(TileType.ACTION, Cosinus.getInstance(), "cos"),
-    A_TAN(TileType.ACTION, Tangens.getInstance(), "tan"),
-    A_ASIN(TileType.ACTION, ArcSinus.getInstance(), "asin"),
-    A_ACOS(TileType.ACTION, ArcCosinus.getInstance(), "acos"),
-    A_ATAN(TileType.ACTION, ArcTangens.getInstance(), "atan"),
-    A_MATRIXUTIL(TileType.ACTION, MatrixUtil.getInstance(), "LGS lösen"),
+    A_MINUS(TileType.ACTION, ActionMapping.A_MINUS),
+    A_PLUS(TileType.ACTION, ActionMapping.A_PLUS),
+    A_SLASH(TileType.ACTION, ActionMapping.A_SLASH),
+    A_TIMES(TileType.ACTION, ActionMapping.A_TIMES),
+    A_MODULO(TileType.ACTION, ActionMapping.A_MODULO),
+    A_LOG(TileType.ACTION, ActionMapping.A_LOG),
+    A_LOG10(TileType.ACTION, ActionMapping.A_LOG10),
+    A_POWER(TileType.ACTION, ActionMapping.A_POWER),
+    A_ROOT(TileType.ACTION, ActionMapping.A_ROOT),
+    A_DERIVE(TileType.ACTION, ActionMapping.A_DERIVE),
+    A_HIGHLOW(TileType.ACTION, ActionMapping.A_HIGHLOW),
+    A_ZEROS(TileType.ACTION, ActionMapping.A_ZEROS),
+    A_INTEGRAL(TileType.ACTION, ActionMapping.A_INTEGRAL),
+    A_LIMES(TileType.ACTION, ActionMapping.A_LIMES),
+    A_SIN(TileType.ACTION, ActionMapping.A_SIN),
+    A_COS(TileType.ACTION, ActionMapping.A_COS),
+    A_TAN(TileType.ACTION, ActionMapping.A_TAN),
+    A_ASIN(TileType.ACTION, ActionMapping.A_ASIN),
+    A_ACOS(TileType.ACTION, ActionMapping.A_ACOS),
+    A_ATAN(TileType.ACTION, ActionMapping.A_ATAN),
+    A_MATRIXUTIL(TileType.ACTION, ActionMapping.A_MATRIXUTIL),
+    A_UNION(TileType.ACTION, ActionMapping.A_UNION),
+    A_INTERSECTION(TileType.ACTION, ActionMapping.A_INTERSECTION),
+    A_DIFFERENCE(TileType.ACTION, ActionMapping.A_DIFFERENCE),
+    A_RANGECOUNT(TileType.ACTION, ActionMapping.A_RANGECOUNT),
+    A_FMA(TileType.ACTION, ActionMapping.A_FMA),
+    A_SCALEDADD(TileType.ACTION, ActionMapping.A_SCALEDADD),
 
     S_AC(TileType.SETTING, AllClear.getInstance(), "AC"),
     S_DEL(TileType.SETTING, DeleteEntry.getInstance(), "Delete"),
@@ -132,6 +120,11 @@ public enum TileMapping {
         this.menuText = actionText;
     }
 
+    // Action, name and text are taken from the model
+    TileMapping(TileType type, ActionMapping action) {
+        this(type, action.getAction(), action.getText());
+    }
+
     // Operand
     TileMapping(TileType type, Class<? extends Operand>  operandType, String menuText) {
         this.type = type;
@@ -12,13 +12,14 @@ import android.widget.TableRow;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
 import de.fhdw.wip.rpntilecalculator.model.operands.OEmpty;
 import de.fhdw.wip.rpntilecalculator.presenter.Presenter;
 import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
-import de.fhdw.wip.rpntilecalculator.model.stack.OperandStack;
+import de.fhdw.wip.rpntilecalculator.model.stack.StackInterface;
 import de.fhdw.wip.rpntilecalculator.view.Tile;
 import de.fhdw.wip.rpntilecalculator.view.TileMapping;
 import de.fhdw.wip.rpntilecalculator.view.schemes.HistoryTileScheme;
@@ -35,6 +36,7 @@ public class TileLayout {
     private SparseArray<Tile> stack = new SparseArray<>();
     private SparseArray<Tile> historyStack = new SparseArray<>();
     private ArrayList<ArrayList<Tile>> tileLayout = new ArrayList<>();
+    private Operand[] stackBuffer = new Operand[0]; //reused by updateStack
 
     private ArrayList<ArrayList<TileScheme>> schemeLayout; //outdated after a single operation
     private ScreenOrientation orientation;
@@ -49,14 +51,15 @@ public class TileLayout {
     /**
      * Updates the stack and decides which ones are displayed
      */
-    public void updateStack(OperandStack operandStack) {
-        @NotNull List<Operand> stackOperands = operandStack.peek(stack.size());
+    public void updateStack(StackInterface<Operand> operandStack) {
+        if(stackBuffer.length != stack.size()) stackBuffer = new Operand[stack.size()];
+        int stackOperands = operandStack.peek(stackBuffer);
         Presenter presenter = Presenter.getInstance();
 
         for(int i = 0; i < stack.size(); i++) {
             Tile stackTile = stack.valueAt(i);
             Operand operand = null;
-            if(i < stackOperands.size()) operand = stackOperands.get(i);
+            if(i < stackOperands) operand = stackBuffer[i];
             stackTile.update(TileScheme.createTileScheme(TileMapping.S_STACK, operand, stack.keyAt(i)));
 
             //Sonderfall erster Stack Tile
@@ -66,6 +69,7 @@ public class TileLayout {
                         stackTile.setText(presenter.getInputTerm().toString());
             }
         }
+        Arrays.fill(stackBuffer, null);
     }
 
     /**
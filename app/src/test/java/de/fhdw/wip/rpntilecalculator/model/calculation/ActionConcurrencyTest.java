@@ -0,0 +1,129 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.OFraction;
+import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
+import de.fhdw.wip.rpntilecalculator.model.operands.OPolynom;
+import de.fhdw.wip.rpntilecalculator.model.operands.OSet;
+import de.fhdw.wip.rpntilecalculator.model.operands.OTuple;
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+
+import static org.junit.Assert.*;
+
+/*
+ * Summary: Stress test that calls every action from many threads at once on shared operands
+ * Date:    2026/10/17
+ */
+public class ActionConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 500;
+
+    /*
+     * One call of an action with fixed operands
+     */
+    private static class Call {
+        final Action action;
+        final Operand[] operands;
+
+        Call(Action action, Operand... operands) {
+            this.action = action;
+            this.operands = operands;
+        }
+
+        Operand run() {
+            try {
+                return action.with(operands);
+            } catch (CalculationException e) {
+                return null;
+            }
+        }
+    }
+
+    private static List<Call> allActions() {
+        OMatrix matrix = new OMatrix(new double[][]{{4, -2, 1}, {3, 6, -4}, {2, 1, 8}});
+        OPolynom polynom = new OPolynom(1, -3, 2);
+        List<Call> calls = new ArrayList<>();
+
+        calls.add(new Call(Plus.getInstance(), new ODouble(1.5), new ODouble(2)));
+        calls.add(new Call(Plus.getInstance(), new OFraction(1, 2), new OTuple(1, 2, 3)));
+        calls.add(new Call(Plus.getInstance(), matrix, matrix));
+        calls.add(new Call(Minus.getInstance(), new OSet(1, 2, 3), new ODouble(1)));
+        calls.add(new Call(Minus.getInstance(), polynom, polynom));
+        calls.add(new Call(Times.getInstance(), matrix, matrix));
+        calls.add(new Call(Times.getInstance(), polynom, polynom));
+        calls.add(new Call(Slash.getInstance(), new ODouble(7), new ODouble(2)));
+        calls.add(new Call(Slash.getInstance(), new ODouble(7), new ODouble(0)));
+        calls.add(new Call(Modulo.getInstance(), new ODouble(7), new ODouble(4)));
+        calls.add(new Call(Logarithm.getInstance(), new ODouble(8)));
+        calls.add(new Call(Logarithm.getInstance(), new ODouble(2), new ODouble(8)));
+        calls.add(new Call(Logarithm10.getInstance(), new ODouble(1000)));
+        calls.add(new Call(Power.getInstance(), matrix, new ODouble(3)));
+        calls.add(new Call(Power.getInstance(), new OTuple(3), new ODouble(2)));
+        calls.add(new Call(Root.getInstance(), new ODouble(27), new ODouble(3)));
+        calls.add(new Call(Sinus.getInstance(), new ODouble(30)));
+        calls.add(new Call(Cosinus.getInstance(), new ODouble(60)));
+        calls.add(new Call(Tangens.getInstance(), new ODouble(45)));
+        calls.add(new Call(ArcSinus.getInstance(), new ODouble(0.5)));
+        calls.add(new Call(ArcCosinus.getInstance(), new ODouble(0.5)));
+        calls.add(new Call(ArcTangens.getInstance(), new ODouble(1)));
+        calls.add(new Call(Derivation.getInstance(), polynom));
+        calls.add(new Call(HighAndLowPoints.getInstance(), polynom));
+        calls.add(new Call(Zeros.getInstance(), polynom));
+        calls.add(new Call(Integral.getInstance(), polynom, new ODouble(0), new ODouble(2)));
+        calls.add(new Call(Limes.getInstance(), polynom, new ODouble(2)));
+        calls.add(new Call(MatrixUtil.getInstance(), matrix, new OTuple(1, 2, 3)));
+        calls.add(new Call(MatrixUtil.getInstance(), new OTuple(1, 2, 3), matrix));
+        return calls;
+    }
+
+    @Test public void with_ManyThreads_matchesSingleThread() throws Exception {
+        final List<Call> calls = allActions();
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        List<Future<Operand[]>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            final int offset = t;
+            futures.add(executor.submit(new Callable<Operand[]>() {
+                @Override public Operand[] call() throws Exception {
+                    start.await();
+                    Operand[] results = new Operand[calls.size() * ROUNDS];
+                    for (int i = 0; i < results.length; i++) {
+                        int index = (i + offset) % calls.size();
+                        results[index * ROUNDS + i / calls.size()] = calls.get(index).run();
+                    }
+                    return results;
+                }
+            }));
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(2, TimeUnit.MINUTES));
+
+        for (Future<Operand[]> future : futures) {
+            Operand[] results = future.get();
+            for (int index = 0; index < calls.size(); index++) {
+                Operand expected = calls.get(index).run();
+                for (int round = 0; round < ROUNDS; round++) {
+                    Operand actual = results[index * ROUNDS + round];
+                    String name = calls.get(index).action.getClass().getSimpleName();
+                    if (expected == null) assertNull(name, actual);
+                    else assertTrue(name, expected.equalsValue(actual));
+                }
+            }
+        }
+    }
+
+}
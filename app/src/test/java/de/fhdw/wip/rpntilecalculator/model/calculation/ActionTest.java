@@ -0,0 +1,96 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.junit.Test;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.OFraction;
+import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
+import de.fhdw.wip.rpntilecalculator.model.operands.OPolynom;
+import de.fhdw.wip.rpntilecalculator.model.operands.OTuple;
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+
+import static org.junit.Assert.*;
+
+/*
+ * Summary: Tests for the dispatch of Action.with to the on(...) methods
+ * Date:    2026/10/17
+ */
+public class ActionTest {
+
+    private Plus PLUS = Plus.getInstance();
+    private Slash SLASH = Slash.getInstance();
+
+    /*
+     * Operand that is only known through its superclass
+     */
+    private static class OCountedDouble extends ODouble {
+        OCountedDouble(double aDouble) { super(aDouble); }
+    }
+
+    /*
+     * Action whose on(OCountedDouble, Operand) beats on(ODouble, Operand) but not on(Operand, ODouble)
+     */
+    private static class Overlapping extends Action {
+        Operand on(OCountedDouble first, Operand second) { return first; }
+        Operand on(Operand first, ODouble second) { return second; }
+        Operand on(ODouble first, Operand second) { return first; }
+    }
+
+    @Test public void with_DoubleDouble_isCorrect() throws CalculationException {
+        assertTrue(PLUS.with(new ODouble(2), new ODouble(3)).equalsValue(new ODouble(5)));
+    }
+
+    @Test public void with_List_isCorrect() throws CalculationException {
+        assertTrue(PLUS.with(java.util.Arrays.<Operand>asList(new OFraction(1, 2), new OFraction(1, 2)))
+                .equalsValue(new OFraction(1, 1)));
+    }
+
+    @Test public void with_Subclass_fallsBackToSuperclass() throws CalculationException {
+        assertTrue(PLUS.with(new OCountedDouble(2), new ODouble(3)).equalsValue(new ODouble(5)));
+        assertTrue(PLUS.with(new OCountedDouble(1), new OTuple(1, 2)).equalsValue(new OTuple(2, 3)));
+    }
+
+    @Test public void with_Unsupported_throws() {
+        try {
+            SLASH.with(new ODouble(1), new OMatrix(new double[][]{{1}}));
+            fail();
+        } catch (CalculationException e) {
+            assertNotNull(e.getMessage());
+        }
+    }
+
+    @Test public void with_WrongNumberOfOperands_throws() {
+        try {
+            PLUS.with(new ODouble(1));
+            fail();
+        } catch (CalculationException e) {
+            assertNotNull(e.getMessage());
+        }
+    }
+
+    @Test public void with_FailingCalculation_keepsMessage() {
+        try {
+            SLASH.with(new ODouble(1), new ODouble(0));
+            fail();
+        } catch (CalculationException e) {
+            assertEquals("Division by Zero not allowed", e.getMessage());
+        }
+    }
+
+    @Test public void resolve_isCached() {
+        Dispatcher dispatcher = Dispatcher.of(Plus.class);
+        Operand[] operands = {new OPolynom(1, 2), new ODouble(1)};
+        assertSame(dispatcher.resolve(operands), dispatcher.resolve(operands));
+        assertSame(dispatcher, Dispatcher.of(Plus.class));
+        assertNull(dispatcher.resolve(new Operand[]{new OMatrix(new double[][]{{1}}), new OPolynom(1)}));
+    }
+
+    @Test public void resolve_Incomparable_isAmbiguous() throws NoSuchMethodException {
+        Dispatcher dispatcher = Dispatcher.of(Overlapping.class);
+        assertNull(dispatcher.resolve(new Operand[]{new OCountedDouble(1), new ODouble(2)}));
+        assertNull(dispatcher.resolve(new Operand[]{new ODouble(1), new ODouble(2)}));
+        assertEquals(Overlapping.class.getDeclaredMethod("on", OCountedDouble.class, Operand.class),
+                dispatcher.resolve(new Operand[]{new OCountedDouble(1), new OTuple(1, 2)}));
+    }
+
+}
@@ -0,0 +1,135 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.OSet;
+import de.fhdw.wip.rpntilecalculator.model.operands.OTuple;
+
+import static org.junit.Assert.*;
+
+/*
+ * Summary: Property-based test of the element-wise kernels. Random arrays of random lengths around the parallel
+ *          threshold, including special values, must give bit for bit the results of the former sequential loops.
+ * Date:    2026/10/17
+ */
+public class ElementKernelTest {
+
+    private static final int RUNS = 60;
+
+    private static final double[] SPECIAL = {0.0, -0.0, Double.NaN, Double.POSITIVE_INFINITY,
+            Double.NEGATIVE_INFINITY, Double.MIN_VALUE, -Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, 1, -1};
+
+    private static int length(Random random) {
+        int threshold = ElementKernel.PARALLEL_THRESHOLD;
+        switch (random.nextInt(4)) {
+            case 0: return random.nextInt(8);
+            case 1: return threshold - 2 + random.nextInt(5);
+            case 2: return random.nextInt(3 * threshold);
+            default: return random.nextInt(1000);
+        }
+    }
+
+    private static double value(Random random) {
+        switch (random.nextInt(4)) {
+            case 0: return SPECIAL[random.nextInt(SPECIAL.length)];
+            case 1: return random.nextGaussian() * Math.pow(10, random.nextInt(600) - 300);
+            default: return random.nextGaussian() * 1000;
+        }
+    }
+
+    private static double[] array(Random random, int length) {
+        double[] array = new double[length];
+        for (int i = 0; i < length; i++) array[i] = value(random);
+        return array;
+    }
+
+    private static void assertSameBits(double[] expected, double[] actual) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++)
+            if (Double.doubleToLongBits(expected[i]) != Double.doubleToLongBits(actual[i]))
+                fail("Element " + i + ": expected " + expected[i] + " but was " + actual[i]);
+    }
+
+    @Test public void kernels_equalSequentialLoops() {
+        Random random = new Random(41);
+        for (int run = 0; run < RUNS; run++) {
+            int length = length(random);
+            double[] a = array(random, length);
+            double[] b = array(random, length);
+            double scalar = value(random);
+
+            double[] sum = new double[length], scalarSum = new double[length], difference = new double[length];
+            double[] product = new double[length], scalarProduct = new double[length];
+            for (int i = 0; i < length; i++) {
+                sum[i] = a[i] + b[i];
+                scalarSum[i] = scalar + a[i];
+                difference[i] = a[i] + -b[i];
+                product[i] = a[i] * b[i];
+                scalarProduct[i] = a[i] * scalar;
+            }
+
+            assertSameBits(sum, ElementKernel.add(a, b));
+            assertSameBits(scalarSum, ElementKernel.add(a, scalar));
+            assertSameBits(difference, ElementKernel.subtract(a, b));
+            assertSameBits(product, ElementKernel.multiply(a, b));
+            assertSameBits(scalarProduct, ElementKernel.multiply(a, scalar));
+        }
+    }
+
+    @Test public void tupleActions_equalSequentialLoops() throws CalculationException {
+        Random random = new Random(42);
+        for (int run = 0; run < RUNS / 4; run++) {
+            int length = length(random);
+            double[] a = array(random, length);
+            double[] b = array(random, length);
+            double scalar = value(random);
+
+            double[] sum = new double[length], difference = new double[length], product = new double[length];
+            double[] scalarSum = new double[length], scalarDifference = new double[length];
+            for (int i = 0; i < length; i++) {
+                sum[i] = a[i] + b[i];
+                difference[i] = a[i] + b[i] * -1;
+                product[i] = a[i] * b[i];
+                scalarSum[i] = scalar + a[i];
+                scalarDifference[i] = scalar * -1 + a[i];
+            }
+
+            OTuple tupleA = new OTuple(a), tupleB = new OTuple(b);
+            assertSameBits(sum, ((OTuple) Plus.getInstance().with(tupleA, tupleB)).getTuple());
+            assertSameBits(difference, ((OTuple) Minus.getInstance().with(tupleA, tupleB)).getTuple());
+            assertSameBits(product, ((OTuple) Times.getInstance().with(tupleA, tupleB)).getTuple());
+            assertSameBits(scalarSum, ((OTuple) Plus.getInstance().with(new ODouble(scalar), tupleA)).getTuple());
+            assertSameBits(scalarDifference,
+                    ((OTuple) Minus.getInstance().with(tupleA, new ODouble(scalar))).getTuple());
+        }
+    }
+
+    @Test public void setActions_equalSequentialLoops() throws CalculationException {
+        Random random = new Random(43);
+        for (int run = 0; run < RUNS / 4; run++) {
+            OSet set = new OSet(array(random, length(random)));
+            double scalar = value(random);
+
+            double[] values = set.toArray();
+            double[] sum = new double[values.length], product = new double[values.length];
+            for (int i = 0; i < values.length; i++) {
+                sum[i] = values[i] + scalar;
+                product[i] = values[i] * scalar;
+            }
+
+            assertSameBits(new OSet(sum).toArray(),
+                    ((OSet) Plus.getInstance().with(set, new ODouble(scalar))).toArray());
+            assertSameBits(new OSet(product).toArray(),
+                    ((OSet) Times.getInstance().with(new ODouble(scalar), set)).toArray());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void add_LengthsDiffer_throws() {
+        ElementKernel.add(new double[3], new double[4]);
+    }
+
+}
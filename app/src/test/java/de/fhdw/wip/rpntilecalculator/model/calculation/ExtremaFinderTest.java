@@ -0,0 +1,120 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.OPolynom;
+
+import static de.fhdw.wip.rpntilecalculator.model.calculation.Extrema.Kind.*;
+import static org.junit.Assert.*;
+
+/*
+ * Summary: Tests the critical points of polynomials of any degree and their classification
+ * Date:    2026/10/17
+ */
+public class ExtremaFinderTest {
+
+    private static void assertExtrema(double[] expected, Extrema.Kind[] kinds, Extrema actual) {
+        assertEquals(kinds.length, actual.size());
+        for (int i = 0; i < kinds.length; i++) {
+            assertEquals(expected[2 * i], actual.getX(i), 1e-12);
+            assertEquals(expected[2 * i + 1], actual.getY(i), 1e-12);
+            assertEquals(kinds[i], actual.getKind(i));
+        }
+    }
+
+    @Test public void extrema_Quadratic_isVertex() {
+        // 6x^2 + 4x + 2
+        assertExtrema(new double[]{-1 / 3d, 4 / 3d}, new Extrema.Kind[]{MINIMUM},
+                ExtremaFinder.extrema(new OPolynom(2, 4, 6)));
+    }
+
+    @Test public void extrema_HigherDegrees_areEvaluatedCompletely() {
+        // x^3 - 3x
+        assertExtrema(new double[]{-1, 2, 1, -2}, new Extrema.Kind[]{MAXIMUM, MINIMUM},
+                ExtremaFinder.extrema(new OPolynom(0, -3, 0, 1)));
+        // x^4 - 2x^2 + 1
+        assertExtrema(new double[]{-1, 0, 0, 1, 1, 0}, new Extrema.Kind[]{MINIMUM, MAXIMUM, MINIMUM},
+                ExtremaFinder.extrema(new OPolynom(1, 0, -2, 0, 1)));
+    }
+
+    @Test public void extrema_VanishingSecondDerivative_usesHigherDerivatives() {
+        // x^3, x^4 and -(x - 2)^4 + 1
+        assertExtrema(new double[]{0, 0}, new Extrema.Kind[]{SADDLE}, ExtremaFinder.extrema(new OPolynom(0, 0, 0, 1)));
+        assertExtrema(new double[]{0, 0}, new Extrema.Kind[]{MINIMUM},
+                ExtremaFinder.extrema(new OPolynom(0, 0, 0, 0, 1)));
+        assertExtrema(new double[]{2, 1}, new Extrema.Kind[]{MAXIMUM},
+                ExtremaFinder.extrema(new OPolynom(-15, 32, -24, 8, -1)));
+        // (x - 1)^5 + 3
+        assertExtrema(new double[]{1, 3}, new Extrema.Kind[]{SADDLE},
+                ExtremaFinder.extrema(new OPolynom(2, 5, -10, 10, -5, 1)));
+    }
+
+    @Test public void extrema_Wilkinson_areAllFound() {
+        // (x - 1)(x - 2)...(x - 12) has a minimum or maximum between every two neighbouring roots
+        double[] coefficients = {1};
+        for (int k = 1; k <= 12; k++) {
+            double[] product = new double[coefficients.length + 1];
+            for (int i = 0; i < coefficients.length; i++) {
+                product[i + 1] += coefficients[i];
+                product[i] -= k * coefficients[i];
+            }
+            coefficients = product;
+        }
+        Extrema extrema = ExtremaFinder.extrema(coefficients);
+        assertEquals(11, extrema.size());
+        for (int i = 0; i < 11; i++) {
+            assertTrue(extrema.getX(i) > i + 1 && extrema.getX(i) < i + 2);
+            assertEquals(i % 2 == 0 ? MINIMUM : MAXIMUM, extrema.getKind(i));
+        }
+    }
+
+    @Test public void extrema_Lines_haveNone() {
+        assertEquals(0, ExtremaFinder.extrema(new OPolynom(3, 2)).size());
+        assertEquals(0, ExtremaFinder.extrema(new OPolynom(3)).size());
+        assertEquals(0, ExtremaFinder.extrema(new OPolynom(0)).size());
+    }
+
+    @Test public void extrema_Random_areCriticalPoints() {
+        Random random = new Random(24);
+        double[] coefficients = new double[31];
+        for (int i = 0; i < coefficients.length; i++) coefficients[i] = 2 * random.nextDouble() - 1;
+        Extrema extrema = ExtremaFinder.extrema(coefficients);
+        for (int i = 0; i < extrema.size(); i++) {
+            double x = extrema.getX(i), derivative = 0, value = 0;
+            for (int j = coefficients.length - 1; j >= 0; j--) {
+                value = value * x + coefficients[j];
+                if (j > 0) derivative = derivative * x + j * coefficients[j];
+            }
+            assertEquals(value, extrema.getY(i), 1e-12 * Math.max(1, Math.abs(value)));
+            assertEquals(0, derivative, 1e-9 * Math.max(1, Math.pow(Math.abs(x), 29)));
+            // Maxima and minima alternate
+            if (i > 0) assertNotEquals(extrema.getKind(i - 1), extrema.getKind(i));
+        }
+    }
+
+    @Test public void extrema_Batch_equalsSingle() {
+        Random random = new Random(25);
+        OPolynom[] polynoms = new OPolynom[200];
+        for (int p = 0; p < polynoms.length; p++) {
+            double[] coefficients = new double[1 + random.nextInt(20)];
+            for (int i = 0; i < coefficients.length; i++) coefficients[i] = random.nextInt(21) - 10;
+            polynoms[p] = new OPolynom(coefficients);
+        }
+
+        Extrema[] batch = ExtremaFinder.extrema(polynoms);
+        for (int p = 0; p < polynoms.length; p++)
+            assertEquals(ExtremaFinder.extrema(polynoms[p]).toString(), batch[p].toString());
+    }
+
+    @Test public void highAndLowPoints_SkipSaddles() {
+        // x^5 - 5x^3 has a saddle at 0 between a maximum and a minimum
+        Extrema extrema = ExtremaFinder.extrema(new OPolynom(0, 0, 0, -5, 0, 1));
+        assertEquals("[(-1.73, 10.39) max, (0, 0) saddle, (1.73, -10.39) min]", extrema.toString());
+        double[] points = HighAndLowPoints.getInstance().getHighAndLowPoints(new OPolynom(0, 0, 0, -5, 0, 1));
+        assertArrayEquals(new double[]{-Math.sqrt(3), 6 * Math.sqrt(3), Math.sqrt(3), -6 * Math.sqrt(3)}, points,
+                1e-12);
+    }
+
+}
@@ -0,0 +1,84 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.RealMatrix;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
+
+import static org.junit.Assert.*;
+
+/*
+ * Summary: Tests the fused multiply-add against exact arithmetic and against Times followed by Plus
+ * Date:    2026/10/17
+ */
+public class FusedMultiplyAddTest {
+
+    private FusedMultiplyAdd FMA = FusedMultiplyAdd.getInstance();
+
+    @Test public void fma_roundsOnce() {
+        // (1 + 2^-30) * (1 - 2^-30) - 1 is -2^-60 exactly, the rounded product loses it
+        double x = 1 + 0x1p-30, y = 1 - 0x1p-30;
+        assertEquals(0, x * y - 1, 0);
+        assertEquals(-0x1p-60, FusedMultiplyAdd.fma(x, y, -1), 0);
+    }
+
+    @Test public void fma_withinOneUlpOfExact() {
+        Random random = new Random(20);
+        int correctlyRounded = 0;
+        for (int i = 0; i < 10000; i++) {
+            double x = Math.scalb(random.nextDouble() - 0.5, random.nextInt(80) - 40);
+            double y = Math.scalb(random.nextDouble() - 0.5, random.nextInt(80) - 40);
+            // Summands close to -x * y cancel the leading digits
+            double z = i % 2 == 0 ? -x * y * (1 + Math.scalb(random.nextDouble(), -40))
+                    : Math.scalb(random.nextDouble() - 0.5, random.nextInt(80) - 40);
+            double exact = new BigDecimal(x).multiply(new BigDecimal(y)).add(new BigDecimal(z)).doubleValue();
+            double fused = FusedMultiplyAdd.fma(x, y, z);
+            assertEquals(x + " * " + y + " + " + z, exact, fused, Math.ulp(exact));
+            if (exact == fused) correctlyRounded++;
+        }
+        assertTrue(correctlyRounded > 9900);
+    }
+
+    @Test public void fma_specialValues() {
+        assertTrue(Double.isNaN(FusedMultiplyAdd.fma(Double.NaN, 1, 1)));
+        assertTrue(Double.isNaN(FusedMultiplyAdd.fma(Double.POSITIVE_INFINITY, 0, 1)));
+        assertEquals(Double.POSITIVE_INFINITY, FusedMultiplyAdd.fma(2, 3, Double.POSITIVE_INFINITY), 0);
+        assertEquals(Double.NEGATIVE_INFINITY, FusedMultiplyAdd.fma(-1e300, 1e300, 1), 0);
+        assertEquals(1e300, FusedMultiplyAdd.fma(1e300, 2, -1e300), 1e285);
+    }
+
+    @Test public void on_DoubleDoubleDouble_isCorrect() {
+        assertTrue(FMA.on(new ODouble(3), new ODouble(4), new ODouble(5)).equalsValue(new ODouble(17)));
+    }
+
+    @Test public void on_Matrices_equalsTimesPlus() throws CalculationException {
+        RealMatrix a = new Array2DRowRealMatrix(new double[][]{{1, 2, 3}, {4, 5, 6}});
+        RealMatrix b = new Array2DRowRealMatrix(new double[][]{{1, 0}, {-1, 2}, {0.5, 3}});
+        RealMatrix c = new Array2DRowRealMatrix(new double[][]{{1, 1}, {2, -2}});
+        OMatrix fused = FMA.on(new OMatrix(a), new OMatrix(b), new OMatrix(c));
+        assertTrue(fused.equalsValue(new OMatrix(a.multiply(b).add(c))));
+        assertTrue(FMA.with(new OMatrix(a), new OMatrix(b), new OMatrix(c))
+                .equalsValue(Plus.getInstance().with(Times.getInstance().with(new OMatrix(a), new OMatrix(b)),
+                        new OMatrix(c))));
+    }
+
+    @Test public void on_ScaledMatrix_isCorrect() {
+        RealMatrix a = new Array2DRowRealMatrix(new double[][]{{1, 2}, {3, 4}});
+        RealMatrix b = new Array2DRowRealMatrix(new double[][]{{0, 1}, {1, 0}});
+        OMatrix expected = new OMatrix(a.scalarMultiply(-2).add(b));
+        assertTrue(FMA.on(new ODouble(-2), new OMatrix(a), new OMatrix(b)).equalsValue(expected));
+        assertTrue(FMA.on(new OMatrix(a), new ODouble(-2), new OMatrix(b)).equalsValue(expected));
+    }
+
+    @Test(expected = CalculationException.class)
+    public void with_MismatchingMatrices_fails() throws CalculationException {
+        FMA.with(new OMatrix(new double[][]{{1, 2}}), new OMatrix(new double[][]{{1}, {2}}),
+                new OMatrix(new double[][]{{1, 2}, {3, 4}}));
+    }
+
+}
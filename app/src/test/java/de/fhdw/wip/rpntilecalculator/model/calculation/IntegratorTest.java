@@ -0,0 +1,113 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.apache.commons.math3.analysis.UnivariateFunction;
+import org.apache.commons.math3.exception.TooManyEvaluationsException;
+import org.junit.Test;
+
+import java.util.Random;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.OPolynom;
+
+import static org.junit.Assert.*;
+
+/*
+ * Summary: Tests the exact integration of polynomials, also in batches, and the adaptive Gauss-Kronrod quadrature
+ * Date:    2026/10/17
+ */
+public class IntegratorTest {
+
+    private static final UnivariateFunction SQRT = new UnivariateFunction() {
+        @Override public double value(double x) {
+            return Math.sqrt(x);
+        }
+    };
+
+    @Test public void integrate_Polynom_isExact() {
+        // x^2 - 8x + 17 from 2 to 5
+        assertEquals(6, Integrator.integrate(new OPolynom(17, -8, 1), 2, 5), 1e-14);
+        assertEquals(-6, Integrator.integrate(new OPolynom(17, -8, 1), 5, 2), 1e-14);
+        // x^20 from -1 to 1, where Simpson needs thousands of evaluations
+        double[] coefficients = new double[21];
+        coefficients[20] = 1;
+        assertEquals(2 / 21d, Integrator.integrate(new OPolynom(coefficients), -1, 1), 1e-16);
+    }
+
+    @Test public void integrate_Batch_equalsSingle() {
+        Random random = new Random(22);
+        OPolynom polynom = new OPolynom(3, -1, 0.5, 2, -0.25);
+        double[] lowerBounds = new double[5000], upperBounds = new double[5000];
+        for (int i = 0; i < lowerBounds.length; i++) {
+            lowerBounds[i] = 20 * random.nextDouble() - 10;
+            upperBounds[i] = 20 * random.nextDouble() - 10;
+        }
+
+        double[] integrals = Integrator.integrate(polynom, lowerBounds, upperBounds);
+        for (int i = 0; i < integrals.length; i++)
+            assertEquals(0, Double.compare(Integrator.integrate(polynom, lowerBounds[i], upperBounds[i]),
+                    integrals[i]));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void integrate_BatchOfDifferentLengths_fails() {
+        Integrator.integrate(new OPolynom(1), new double[2], new double[3]);
+    }
+
+    @Test public void integrate_Function_isAccurate() {
+        UnivariateFunction sinus = new UnivariateFunction() {
+            @Override public double value(double x) {
+                return Math.sin(x);
+            }
+        };
+        assertEquals(2, Integrator.integrate(sinus, 0, Math.PI), 1e-13);
+        assertEquals(-2, Integrator.integrate(sinus, Math.PI, 0), 1e-13);
+        assertEquals(0, Integrator.integrate(sinus, 1, 1), 0);
+
+        // Steep peak, 1 / (1 + 10000 x^2) from -1 to 1 is 2 atan(100) / 100
+        UnivariateFunction peak = new UnivariateFunction() {
+            @Override public double value(double x) {
+                return 1 / (1 + 10000 * x * x);
+            }
+        };
+        assertEquals(2 * Math.atan(100) / 100, Integrator.integrate(peak, -1, 1), 1e-13);
+    }
+
+    @Test public void integrate_SingularDerivative_isAdaptive() {
+        // The derivative of the square root is infinite at zero
+        assertEquals(2 / 3d, Integrator.integrate(SQRT, 0, 1), 1e-12);
+    }
+
+    @Test public void integrate_Nested_isIndependent() {
+        // Integral over x from 0 to 1 of the integral over y from 0 to x of sqrt(y), 4 / 15
+        UnivariateFunction inner = new UnivariateFunction() {
+            @Override public double value(double x) {
+                return Integrator.integrate(SQRT, 0, x, 1e-10, 1e-14);
+            }
+        };
+        assertEquals(4 / 15d, Integrator.integrate(inner, 0, 1, 1e-10, 1e-14), 1e-9);
+        // The heap of the thread is free again
+        assertEquals(2 / 3d, Integrator.integrate(SQRT, 0, 1), 1e-12);
+    }
+
+    @Test(expected = TooManyEvaluationsException.class)
+    public void integrate_Unreachable_fails() {
+        UnivariateFunction oscillating = new UnivariateFunction() {
+            @Override public double value(double x) {
+                return Math.sin(1 / x);
+            }
+        };
+        Integrator.integrate(oscillating, 1e-9, 1, 0, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void integrate_InfiniteLimit_fails() {
+        Integrator.integrate(SQRT, 0, Double.POSITIVE_INFINITY);
+    }
+
+    @Test public void integral_Action_isExact() throws CalculationException {
+        ODouble integral = (ODouble) Integral.getInstance().with(new OPolynom(17, -8, 1), new ODouble(2),
+                new ODouble(5));
+        assertEquals(6, integral.getDouble(), 1e-14);
+    }
+
+}
@@ -0,0 +1,28 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.junit.Test;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.OSet;
+import de.fhdw.wip.rpntilecalculator.model.operands.SortedDoubleSet;
+
+import static org.junit.Assert.*;
+
+public class IntersectionTest {
+
+    private Intersection INTERSECTION = Intersection.getInstance();
+
+    @Test public void on_SetSet_isCorrect() {
+        assertTrue(INTERSECTION.on(
+                new OSet(1, 2, 3),
+                new OSet(3, 2, 7)
+        ).equalsValue(new OSet(2, 3)));
+    }
+
+    @Test public void on_SortedSets_isCorrect() {
+        assertTrue(INTERSECTION.on(
+                new OSet(SortedDoubleSet.of(1, 2, 3)),
+                new OSet(SortedDoubleSet.of(4, 5))
+        ).equalsValue(new OSet(new double[0])));
+    }
+
+}
@@ -0,0 +1,150 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.LUDecomposition;
+import org.apache.commons.math3.linear.RealMatrix;
+import org.junit.Test;
+
+import java.util.Random;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
+import de.fhdw.wip.rpntilecalculator.model.operands.OTuple;
+
+import static org.junit.Assert.*;
+
+/*
+ * Summary: Tests the blocked LU factorization against the one of commons-math and the cache of 'MatrixUtil'
+ * Date:    2026/10/17
+ */
+public class LUFactorizationTest {
+
+    private static final MatrixUtil MATRIX_UTIL = MatrixUtil.getInstance();
+
+    private static RealMatrix random(Random random, int n) {
+        double[][] data = new double[n][n];
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < n; j++) data[i][j] = random.nextInt(2001) / 100.0 - 10;
+        return new Array2DRowRealMatrix(data, false);
+    }
+
+    private static double[] random(Random random, int n, double scale) {
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) values[i] = (random.nextDouble() - 0.5) * scale;
+        return values;
+    }
+
+    @Test public void solve_BlockEdges_matchesCommonsMath() throws CalculationException {
+        Random random = new Random(21);
+        for (int n : new int[] {1, 2, 5, 63, 64, 65, 130, 200}) {
+            RealMatrix matrix = random(random, n);
+            double[] b = random(random, n, 20);
+
+            LUFactorization factorization = new LUFactorization(matrix);
+            LUDecomposition expected = new LUDecomposition(matrix);
+            assertArrayEquals(expected.getSolver().solve(new Array2DRowRealMatrix(b)).getColumn(0),
+                    factorization.solve(b), 1e-8);
+            assertEquals(expected.getDeterminant(), factorization.getDeterminant(),
+                    Math.abs(expected.getDeterminant()) * 1e-9);
+        }
+    }
+
+    @Test public void solve_doesNotChangeMatrixOrB() throws CalculationException {
+        RealMatrix matrix = random(new Random(22), 70);
+        RealMatrix copy = matrix.copy();
+        double[] b = random(new Random(23), 70, 5);
+        double[] bCopy = b.clone();
+
+        new LUFactorization(matrix).solve(b);
+        assertEquals(copy, matrix);
+        assertArrayEquals(bCopy, b, 0);
+    }
+
+    @Test public void solve_batch_equalsSingleSolves() throws CalculationException {
+        Random random = new Random(24);
+        LUFactorization factorization = new LUFactorization(random(random, 80));
+        double[][] bs = new double[300][];
+        for (int i = 0; i < bs.length; i++) bs[i] = random(random, 80, 10);
+
+        double[][] xs = factorization.solve(bs);
+        for (int i = 0; i < bs.length; i++) assertArrayEquals(factorization.solve(bs[i]), xs[i], 0);
+    }
+
+    @Test public void singular_isDetectedOnSolve() throws CalculationException {
+        double[][] data = {{1, 2, 3}, {2, 4, 6}, {1, 0, 1}};
+        LUFactorization factorization = new LUFactorization(new Array2DRowRealMatrix(data));
+        assertTrue(factorization.isSingular());
+        assertEquals(0, factorization.getDeterminant(), 0);
+        try {
+            factorization.solve(new double[] {1, 2, 3});
+            fail();
+        } catch (CalculationException e) {
+            assertEquals("A is singular", e.getMessage());
+        }
+    }
+
+    @Test public void solve_BadlyScaled_isNotSingular() throws CalculationException {
+        double[][][] data = {{{1e13, 0}, {0, 1}}, {{1e13, 1e13}, {1, 2}}, {{1e13, 1}, {1e13, 2}}};
+        double[][] expected = {{1e-13, 1}, {-1 + 2e-13, 1 - 1e-13}, {1e-13, 0}};
+        for (int i = 0; i < data.length; i++) {
+            LUFactorization factorization = new LUFactorization(new Array2DRowRealMatrix(data[i]));
+            assertFalse(factorization.isSingular());
+            double[] x = factorization.solve(new double[] {1, 1});
+            for (int j = 0; j < 2; j++) assertEquals(expected[i][j], x[j], 1e-12 * Math.abs(expected[i][j]));
+        }
+        OTuple x = MATRIX_UTIL.solveLinearSystem(new OMatrix(new double[][]{{1e13, 0}, {0, 1}}), new OTuple(1, 1));
+        assertArrayEquals(new double[] {1e-13, 1}, x.getTuple(), 0);
+    }
+
+    @Test(expected = CalculationException.class)
+    public void notSquare_throws() throws CalculationException {
+        new LUFactorization(new Array2DRowRealMatrix(2, 3));
+    }
+
+    @Test(expected = CalculationException.class)
+    public void solve_bDoesNotFit_throws() throws CalculationException {
+        new LUFactorization(random(new Random(25), 4)).solve(new double[3]);
+    }
+
+    @Test public void factorize_isReusedForSameOperandAndContent() throws CalculationException {
+        MATRIX_UTIL.clearFactorizations();
+        RealMatrix matrix = random(new Random(26), 30);
+        OMatrix operand = new OMatrix(matrix);
+
+        LUFactorization factorization = MATRIX_UTIL.factorize(operand);
+        assertSame(factorization, MATRIX_UTIL.factorize(operand));
+        assertSame(factorization, MATRIX_UTIL.factorize(new OMatrix(matrix.copy())));
+
+        MATRIX_UTIL.clearFactorizations();
+        assertNotSame(factorization, MATRIX_UTIL.factorize(operand));
+    }
+
+    @Test public void factorize_cacheIsBoundedByEntries() throws CalculationException {
+        MATRIX_UTIL.clearFactorizations();
+        Random random = new Random(28);
+        // Three matrices of 600 x 600 exceed the 2^20 entries kept, so the least recently used one is dropped
+        OMatrix first = new OMatrix(random(random, 600));
+        LUFactorization factorization = MATRIX_UTIL.factorize(first);
+        MATRIX_UTIL.factorize(new OMatrix(random(random, 600)));
+        assertSame(factorization, MATRIX_UTIL.factorize(first));
+        MATRIX_UTIL.factorize(new OMatrix(random(random, 600)));
+        MATRIX_UTIL.factorize(new OMatrix(random(random, 600)));
+        assertNotSame(factorization, MATRIX_UTIL.factorize(first));
+
+        // A single matrix above the limit is not kept
+        OMatrix large = new OMatrix(random(random, 1025));
+        assertNotSame(MATRIX_UTIL.factorize(large), MATRIX_UTIL.factorize(large));
+        MATRIX_UTIL.clearFactorizations();
+    }
+
+    @Test public void solveLinearSystems_equalsSingleSolves() throws CalculationException {
+        Random random = new Random(27);
+        OMatrix matrix = new OMatrix(random(random, 12));
+        OTuple[] bs = new OTuple[5];
+        for (int i = 0; i < bs.length; i++) bs[i] = new OTuple(random(random, 12, 3));
+
+        OTuple[] xs = MATRIX_UTIL.solveLinearSystems(matrix, bs);
+        for (int i = 0; i < bs.length; i++)
+            assertArrayEquals(MATRIX_UTIL.solveLinearSystem(matrix, bs[i]).getTuple(), xs[i].getTuple(), 0);
+    }
+
+}
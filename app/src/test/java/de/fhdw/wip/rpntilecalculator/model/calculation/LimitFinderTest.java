@@ -0,0 +1,88 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.junit.Test;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.OPolynom;
+
+import static org.junit.Assert.*;
+
+/*
+ * Summary: Tests the limits of polynomials and rational functions at points, poles and infinity
+ * Date:    2026/10/17
+ */
+public class LimitFinderTest {
+
+    private static final double INFINITY = Double.POSITIVE_INFINITY;
+
+    @Test public void limit_Polynom_isValue() {
+        assertEquals(26, LimitFinder.limit(new OPolynom(1, 0, 1), 5), 0);
+        assertEquals(0, LimitFinder.limit(new OPolynom(0, 0), INFINITY), 0);
+        assertEquals(7, LimitFinder.limit(new OPolynom(7), -INFINITY), 0);
+    }
+
+    @Test public void limit_PolynomAtInfinity_followsLeadingCoefficient() {
+        // -x^3 + 2x^2 and 3x^4 - x
+        assertEquals(-INFINITY, LimitFinder.limit(new OPolynom(0, 0, 2, -1), INFINITY), 0);
+        assertEquals(INFINITY, LimitFinder.limit(new OPolynom(0, 0, 2, -1), -INFINITY), 0);
+        assertEquals(INFINITY, LimitFinder.limit(new OPolynom(0, -1, 0, 0, 3), -INFINITY), 0);
+        // Trailing zero coefficients do not count for the degree
+        assertEquals(INFINITY, LimitFinder.limit(new OPolynom(0, 0, 1, 0), -INFINITY), 0);
+    }
+
+    @Test public void limit_RationalAtInfinity_followsDegrees() {
+        // (2x^2 + 1) / (x^2 - 3), x / (x^2 + 1) and -x^3 / (x + 1)
+        assertEquals(2, LimitFinder.limit(new OPolynom(1, 0, 2), new OPolynom(-3, 0, 1), INFINITY), 0);
+        assertEquals(0, LimitFinder.limit(new OPolynom(0, 1), new OPolynom(1, 0, 1), -INFINITY), 0);
+        assertEquals(-INFINITY, LimitFinder.limit(new OPolynom(0, 0, 0, -1), new OPolynom(1, 1), -INFINITY), 0);
+        assertEquals(-INFINITY, LimitFinder.limit(new OPolynom(0, 0, 0, -1), new OPolynom(1, 1), INFINITY), 0);
+    }
+
+    @Test public void limit_RemovableGap_isQuotientOfDerivatives() {
+        // (x^2 - 1) / (x - 1) at 1
+        assertEquals(2, LimitFinder.limit(new OPolynom(-1, 0, 1), new OPolynom(-1, 1), 1), 0);
+        // (x^2 - 0.01) / (x - 0.1) at 0.1, the point is not exact in binary
+        assertEquals(0.2, LimitFinder.limit(new OPolynom(-0.01, 0, 1), new OPolynom(-0.1, 1), 0.1), 1e-15);
+        // (x - 1)^2 / (x - 1) at 1
+        assertEquals(0, LimitFinder.limit(new OPolynom(1, -2, 1), new OPolynom(-1, 1), 1), 0);
+        // Away from the roots of the denominator the limit is the value
+        assertEquals(1.5, LimitFinder.limit(new OPolynom(-1, 0, 1), new OPolynom(-1, 1), 0.5), 1e-15);
+    }
+
+    @Test public void limit_Pole_hasSignOfEachSide() {
+        // 1 / (x - 2) changes its sign at the pole
+        OPolynom one = new OPolynom(1);
+        OPolynom simple = new OPolynom(-2, 1);
+        assertEquals(-INFINITY, LimitFinder.limitFromBelow(one, simple, 2), 0);
+        assertEquals(INFINITY, LimitFinder.limitFromAbove(one, simple, 2), 0);
+        assertTrue(Double.isNaN(LimitFinder.limit(one, simple, 2)));
+
+        // -1 / (x - 2)^2 does not
+        OPolynom minusOne = new OPolynom(-1);
+        OPolynom twofold = new OPolynom(4, -4, 1);
+        assertEquals(-INFINITY, LimitFinder.limit(minusOne, twofold, 2), 0);
+        assertEquals(-INFINITY, LimitFinder.limitFromBelow(minusOne, twofold, 2), 0);
+    }
+
+    @Test public void limit_ZeroNumerator_isZero() {
+        assertEquals(0, LimitFinder.limit(new OPolynom(0), new OPolynom(-2, 1), 2), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void limit_ZeroDenominator_fails() {
+        LimitFinder.limit(new OPolynom(1), new OPolynom(0, 0), 1);
+    }
+
+    @Test public void limes_Rational_isCalculated() throws CalculationException {
+        ODouble limit = (ODouble) Limes.getInstance().with(new OPolynom(-1, 0, 1), new OPolynom(-1, 1),
+                new ODouble(1));
+        assertEquals(2, limit.getDouble(), 0);
+        try {
+            Limes.getInstance().with(new OPolynom(1), new OPolynom(0), new ODouble(1));
+            fail();
+        } catch (CalculationException e) {
+            // zero denominator
+        }
+    }
+
+}
@@ -0,0 +1,100 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.RealMatrix;
+import org.junit.Test;
+
+import java.util.Random;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+
+import static org.junit.Assert.*;
+
+/*
+ * Summary: Tests deferred matrix results against computing every step right away with commons-math
+ * Date:    2026/10/17
+ */
+public class MatrixCombinationTest {
+
+    private static RealMatrix random(Random random, int n) {
+        double[][] data = new double[n][n];
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < n; j++) data[i][j] = random.nextInt(201) / 100.0 - 1;
+        return new Array2DRowRealMatrix(data, false);
+    }
+
+    /*
+     * Random chains of the matrix actions, every intermediate result stays deferred as long as it can
+     */
+    @Test public void chains_equalEagerResults() throws CalculationException {
+        Random random = new Random(19);
+        for (int run = 0; run < 40; run++) {
+            int n = 1 + random.nextInt(run < 30 ? 8 : 70);
+            RealMatrix expected = random(random, n);
+            Operand lazy = new OMatrix(expected);
+
+            for (int step = 0; step < 12; step++) {
+                RealMatrix other = random(random, n);
+                double d = random.nextInt(9) - 4;
+                switch (random.nextInt(6)) {
+                    case 0:
+                        expected = expected.multiply(other);
+                        lazy = Times.getInstance().with(lazy, new OMatrix(other));
+                        break;
+                    case 1:
+                        expected = other.multiply(expected);
+                        lazy = Times.getInstance().with(new OMatrix(other), lazy);
+                        break;
+                    case 2:
+                        expected = expected.add(other);
+                        lazy = Plus.getInstance().with(lazy, new OMatrix(other));
+                        break;
+                    case 3:
+                        expected = expected.subtract(other);
+                        lazy = Minus.getInstance().with(lazy, new OMatrix(other));
+                        break;
+                    case 4:
+                        expected = expected.scalarMultiply(d);
+                        lazy = Times.getInstance().with(new ODouble(d), lazy);
+                        break;
+                    default:
+                        expected = expected.scalarAdd(d);
+                        lazy = Plus.getInstance().with(lazy, new ODouble(d));
+                        break;
+                }
+            }
+            // Entries grow large along a chain, so the tolerance is relative to the largest one
+            double scale = Math.max(1, expected.getNorm());
+            double[][] actual = ((OMatrix) lazy).getMatrix().getData();
+            for (int i = 0; i < n; i++)
+                assertArrayEquals(expected.getData()[i], actual[i], 1e-9 * scale);
+        }
+    }
+
+    @Test public void times_isDeferredUntilNeeded() throws CalculationException {
+        Random random = new Random(20);
+        RealMatrix a = random(random, 5), b = random(random, 5), c = random(random, 5);
+
+        OMatrix product = (OMatrix) Times.getInstance().with(new OMatrix(a), new OMatrix(b));
+        OMatrix result = (OMatrix) Plus.getInstance().with(
+                Times.getInstance().with(new ODouble(2), product), new OMatrix(c));
+        assertNotNull(product.getExpression());
+        assertNotNull(result.getExpression());
+        assertEquals(5, result.getRowDimension());
+
+        assertTrue(result.equalsValue(new OMatrix(a.multiply(b).scalarMultiply(2).add(c))));
+        assertNull(result.getExpression());
+        // The product was fused into the result and never computed on its own
+        assertNotNull(product.getExpression());
+    }
+
+    @Test(expected = CalculationException.class)
+    public void plus_DimensionsDoNotFit_throwsRightAway() throws CalculationException {
+        Random random = new Random(21);
+        Operand product = Times.getInstance().with(new OMatrix(random(random, 3)), new OMatrix(random(random, 3)));
+        Plus.getInstance().with(product, new OMatrix(random(random, 4)));
+    }
+
+}
@@ -0,0 +1,80 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.RealMatrix;
+import org.junit.Test;
+
+import java.util.Random;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+
+import static org.junit.Assert.*;
+
+/*
+ * Summary: Tests the blocked matrix kernel against the product of commons-math
+ * Date:    2026/10/17
+ */
+public class MatrixKernelTest {
+
+    private static RealMatrix random(Random random, int rows, int columns) {
+        double[][] data = new double[rows][columns];
+        for (int i = 0; i < rows; i++)
+            for (int j = 0; j < columns; j++) data[i][j] = random.nextInt(2001) / 100.0 - 10;
+        return new Array2DRowRealMatrix(data, false);
+    }
+
+    @Test public void multiply_BlockEdges_matchesCommonsMath() {
+        Random random = new Random(11);
+        int[][] dimensions = {{1, 1, 1}, {3, 70, 130}, {100, 65, 129}, {64, 64, 64}, {129, 1, 200}};
+        for (int[] d : dimensions) {
+            RealMatrix a = random(random, d[0], d[1]);
+            RealMatrix b = random(random, d[1], d[2]);
+            double[] product = MatrixKernel.multiply(MatrixKernel.flatten(a), d[0], d[1], MatrixKernel.flatten(b), d[2]);
+            // Every entry sums in the same order, so the results are equal, not just close
+            assertArrayEquals(MatrixKernel.flatten(a.multiply(b)), product, 0);
+        }
+    }
+
+    @Test public void multiplyAdd_Rows_matchesFlatKernel() {
+        Random random = new Random(15);
+        int[][] dimensions = {{1, 1, 1}, {5, 3, 7}, {100, 65, 129}};
+        for (int[] d : dimensions) {
+            RealMatrix a = random(random, d[0], d[1]);
+            RealMatrix b = random(random, d[1], d[2]);
+            RealMatrix c = random(random, d[0], d[2]);
+            double[] expected = MatrixKernel.flatten(c);
+            MatrixKernel.multiplyAdd(-2.5, MatrixKernel.flatten(a), d[0], d[1], MatrixKernel.flatten(b), d[2], expected);
+
+            double[][] actual = c.getData();
+            MatrixKernel.multiplyAdd(-2.5, MatrixKernel.rows(a), MatrixKernel.rows(b), actual);
+            assertArrayEquals(expected, MatrixKernel.flatten(new Array2DRowRealMatrix(actual, false)), 0);
+        }
+    }
+
+    @Test public void flattenToMatrix_roundTrips() {
+        RealMatrix matrix = random(new Random(12), 7, 5);
+        assertEquals(matrix, MatrixKernel.toMatrix(MatrixKernel.flatten(matrix), 7, 5));
+    }
+
+    @Test public void timesAndPower_LargeMatrices_matchSmallPath() throws CalculationException {
+        Random random = new Random(13);
+        RealMatrix a = random(random, 90, 90);
+        RealMatrix b = random(random, 90, 60);
+        assertTrue(MatrixKernel.isLarge(90, 90, 60));
+
+        Operand product = Times.getInstance().with(new OMatrix(a), new OMatrix(b));
+        assertTrue(product.equalsValue(new OMatrix(a.multiply(b))));
+
+        Operand power = Power.getInstance().with(new OMatrix(a), new ODouble(3));
+        assertTrue(power.equalsValue(new OMatrix(a.multiply(a).multiply(a))));
+    }
+
+    @Test(expected = CalculationException.class)
+    public void times_DimensionsDoNotFit_throws() throws CalculationException {
+        Random random = new Random(14);
+        Times.getInstance().with(new OMatrix(random(random, 80, 70)), new OMatrix(random(random, 80, 70)));
+    }
+
+}
@@ -0,0 +1,116 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.apache.commons.math3.analysis.polynomials.PolynomialFunction;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.OPolynom;
+
+import static org.junit.Assert.*;
+
+/*
+ * Summary: Tests that the Karatsuba and the FFT product agree with the term by term product, and that multiply keeps
+ *          small coefficients accurate
+ * Date:    2026/10/17
+ */
+public class PolynomialKernelTest {
+
+    private static double[] random(Random random, int length) {
+        double[] coefficients = new double[length];
+        for (int i = 0; i < length; i++) coefficients[i] = 2 * random.nextDouble() - 1;
+        return coefficients;
+    }
+
+    /*
+     * Every coefficient of the product is a sum of products, its rounding error is bounded relative to the sum of
+     * their absolute values, which is at most sum |a| * max |b|
+     */
+    private static void assertAgree(double[] a, double[] b, double[] expected, double[] actual, double relative) {
+        double aSum = 0, bMax = 0;
+        for (double value : a) aSum += Math.abs(value);
+        for (double value : b) bMax = Math.max(bMax, Math.abs(value));
+        assertEquals(expected.length, actual.length);
+        for (int k = 0; k < expected.length; k++) assertEquals(expected[k], actual[k], relative * aSum * bMax);
+    }
+
+    @Test public void schoolbook_equalsPolynomialFunction() {
+        Random random = new Random(25);
+        double[] a = random(random, 60), b = random(random, 45);
+        double[] expected = new PolynomialFunction(a).multiply(new PolynomialFunction(b)).getCoefficients();
+        assertArrayEquals(expected, PolynomialKernel.multiplySchoolbook(a, b), 0);
+    }
+
+    @Test public void karatsuba_agreesWithSchoolbook() {
+        Random random = new Random(26);
+        int[][] lengths = {{48, 48}, {100, 37}, {257, 255}, {1000, 1000}, {777, 3001}, {1, 500}};
+        for (int[] length : lengths) {
+            double[] a = random(random, length[0]), b = random(random, length[1]);
+            assertAgree(a, b, PolynomialKernel.multiplySchoolbook(a, b), PolynomialKernel.multiplyKaratsuba(a, b),
+                    1e-14);
+        }
+    }
+
+    @Test public void fft_agreesWithSchoolbook() {
+        Random random = new Random(27);
+        int[][] lengths = {{1, 1}, {3, 5}, {1024, 1024}, {5000, 3001}, {4096, 4097}, {20000, 17}};
+        for (int[] length : lengths) {
+            double[] a = random(random, length[0]), b = random(random, length[1]);
+            assertAgree(a, b, PolynomialKernel.multiplySchoolbook(a, b), PolynomialKernel.multiplyFft(a, b), 1e-14);
+        }
+    }
+
+    @Test public void fft_DifferentMagnitudes_areScaled() {
+        Random random = new Random(28);
+        double[] a = random(random, 2000), b = random(random, 1500);
+        for (int i = 0; i < b.length; i++) b[i] *= 1e-200;
+        assertAgree(a, b, PolynomialKernel.multiplySchoolbook(a, b), PolynomialKernel.multiplyFft(a, b), 1e-14);
+        assertArrayEquals(new double[2499], PolynomialKernel.multiplyFft(new double[1000], b), 0);
+    }
+
+    @Test public void fft_IntegerCoefficients_roundToExact() {
+        // (1 + x + ... + x^1999)^2 counts the ways to write every power as a sum of two
+        double[] ones = new double[2000];
+        Arrays.fill(ones, 1);
+        double[] product = PolynomialKernel.multiply(ones, ones);
+        for (int k = 0; k < product.length; k++)
+            assertEquals(Math.min(k + 1, 3999 - k), Math.rint(product[k]), 0);
+        for (int k = 0; k < product.length; k++)
+            assertEquals(Math.rint(product[k]), product[k], 1e-9);
+    }
+
+    @Test public void multiply_NotFinite_usesKaratsuba() {
+        double[] a = new double[2000], b = new double[2000];
+        a[0] = 1;
+        a[1999] = Double.NaN;
+        b[0] = 2;
+        double[] product = PolynomialKernel.multiply(a, b);
+        assertEquals(2, product[0], 0);
+        assertEquals(0, product[1000], 0);
+        assertTrue(Double.isNaN(product[1999]));
+    }
+
+    @Test public void times_DecayingSeries_keepsSmallCoefficients() throws CalculationException {
+        // (sum of 0.5^i x^i for i < n)^2 has the coefficients (k + 1) 0.5^k below n and (2n - 1 - k) 0.5^k above
+        for (int n : new int[]{300, 1000}) {
+            double[] series = new double[n];
+            for (int i = 0; i < n; i++) series[i] = Math.scalb(1d, -i);
+            OPolynom square = (OPolynom) Times.getInstance().with(new OPolynom(series), new OPolynom(series));
+            double[] coefficients = square.getPolynom().getCoefficients();
+            for (int k = 0; k < coefficients.length; k++) {
+                double expected = Math.min(k + 1, 2 * n - 1 - k) * Math.scalb(1d, -k);
+                assertEquals("k = " + k, expected, coefficients[k], 1e-12 * expected);
+            }
+        }
+    }
+
+    @Test public void times_LongPolynoms_agreeWithPolynomialFunction() throws CalculationException {
+        Random random = new Random(29);
+        double[] a = random(random, 3000), b = random(random, 2500);
+        OPolynom product = (OPolynom) Times.getInstance().with(new OPolynom(a), new OPolynom(b));
+        assertAgree(a, b, new PolynomialFunction(a).multiply(new PolynomialFunction(b)).getCoefficients(),
+                product.getPolynom().getCoefficients(), 1e-14);
+    }
+
+}
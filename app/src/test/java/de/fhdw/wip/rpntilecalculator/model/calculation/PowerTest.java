@@ -0,0 +1,120 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.apache.commons.math3.linear.MatrixUtils;
+import org.apache.commons.math3.linear.RealMatrix;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.OFraction;
+import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
+
+public class PowerTest {
+
+    private Power POWER = Power.getInstance();
+
+    private static final OMatrix MATRIX = new OMatrix(new double[][]{{1, 2}, {3, 4}});
+    // Symmetric with the eigenvalues 1 and 3
+    private static final OMatrix SYMMETRIC = new OMatrix(new double[][]{{2, 1}, {1, 2}});
+
+    private static RealMatrix repeated(RealMatrix matrix, int k) {
+        RealMatrix result = MatrixUtils.createRealIdentityMatrix(matrix.getRowDimension());
+        for (int i = 0; i < k; i++) result = result.multiply(matrix);
+        return result;
+    }
+
+    //region Double
+    @Test public void onDoubleDouble_isCorrect() {
+        assertTrue(POWER.on(new ODouble(2), new ODouble(10)).equalsValue(new ODouble(1024)));
+    }
+
+    //region Matrix
+    @Test public void onMatrixDouble_IntegerExponents_matchRepeatedProducts() {
+        Random random = new Random(21);
+        double[][] data = new double[6][6];
+        for (double[] row : data)
+            for (int j = 0; j < row.length; j++) row[j] = random.nextInt(5) - 2;
+        OMatrix matrix = new OMatrix(data);
+
+        for (int k = 0; k <= 13; k++)
+            assertTrue("k = " + k, POWER.on(matrix, new ODouble(k))
+                    .equalsValue(new OMatrix(repeated(matrix.getMatrix(), k))));
+    }
+
+    @Test public void onMatrixDouble_ExponentOne_isBase() {
+        assertTrue(POWER.on(MATRIX, new ODouble(1)).equalsValue(MATRIX));
+    }
+
+    @Test public void onMatrixDouble_NegativeExponent_isPowerOfInverse() {
+        OMatrix inverse = new OMatrix(new double[][]{{-2, 1}, {1.5, -0.5}});
+        assertTrue(POWER.on(MATRIX, new ODouble(-2)).equalsValue(new OMatrix(repeated(inverse.getMatrix(), 2))));
+    }
+
+    @Test public void onMatrixDouble_HighExponentSymmetric_matchesSquaring() {
+        // Scaled to eigenvalues 1/3 and 1, so the power stays finite: 1/2 * [[1, 1], [1, 1]] in the limit
+        OMatrix scaled = new OMatrix(SYMMETRIC.getMatrix().scalarMultiply(1 / 3.0));
+        assertTrue(POWER.on(scaled, new ODouble(1000000))
+                .equalsValue(new OMatrix(new double[][]{{0.5, 0.5}, {0.5, 0.5}})));
+        assertTrue(POWER.on(scaled, new ODouble(4097))
+                .equalsValue(new OMatrix(new double[][]{{0.5, 0.5}, {0.5, 0.5}})));
+    }
+
+    @Test public void onMatrixDouble_HalfExponent_isSquareRoot() {
+        OMatrix root = POWER.on(SYMMETRIC, new ODouble(0.5));
+        assertTrue(POWER.on(root, new ODouble(2)).equalsValue(SYMMETRIC));
+    }
+
+    @Test public void onMatrixDouble_IntegerExponentSymmetric_isExact() {
+        // [[1, 1], [1, 0]]^70 holds the Fibonacci numbers F71, F70 and F69, all exact in a double
+        OMatrix power = POWER.on(new OMatrix(new double[][]{{1, 1}, {1, 0}}), new ODouble(70));
+        assertArrayEquals(new double[]{308061521170129d, 190392490709135d}, power.getMatrix().getRow(0), 0);
+        assertArrayEquals(new double[]{190392490709135d, 117669030460994d}, power.getMatrix().getRow(1), 0);
+    }
+
+    @Test public void onMatrixDouble_NonSymmetricFractionalExponent_isPrincipalPower() {
+        // Upper triangular with the eigenvalues 4 and 9
+        OMatrix matrix = new OMatrix(new double[][]{{4, 5}, {0, 9}});
+        assertTrue(POWER.on(matrix, new ODouble(0.5)).equalsValue(new OMatrix(new double[][]{{2, 1}, {0, 3}})));
+        assertTrue(POWER.on(matrix, new ODouble(1.5)).equalsValue(new OMatrix(new double[][]{{8, 19}, {0, 27}})));
+        assertTrue(POWER.on(matrix, new ODouble(-0.5))
+                .equalsValue(new OMatrix(new double[][]{{0.5, -1 / 6d}, {0, 1 / 3d}})));
+    }
+
+    @Test public void onMatrixDouble_ComplexEigenvalues_haveRealRoots() {
+        // Eigenvalues 1 + i and 1 - i
+        OMatrix matrix = new OMatrix(new double[][]{{1, -1}, {1, 1}});
+        OMatrix root = POWER.on(matrix, new ODouble(1 / 3d));
+        assertTrue(POWER.on(root, new ODouble(3)).equalsValue(matrix));
+
+        OMatrix sample = new OMatrix(new double[][]{{4, -2, 1}, {3, 6, -4}, {2, 1, 8}});
+        assertTrue(POWER.on(POWER.on(sample, new ODouble(0.5)), new ODouble(2)).equalsValue(sample));
+    }
+
+    @Test public void onMatrixDouble_Defective_hasSquareRoot() {
+        // A single eigenvalue 1 with one eigenvector, not diagonalizable
+        OMatrix root = POWER.on(new OMatrix(new double[][]{{1, 1}, {0, 1}}), new ODouble(0.5));
+        assertTrue(root.equalsValue(new OMatrix(new double[][]{{1, 0.5}, {0, 1}})));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void onMatrixDouble_NonSymmetricNegativeEigenvalue_throws() {
+        POWER.on(new OMatrix(new double[][]{{-1, 5}, {0, 4}}), new ODouble(0.5));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void onMatrixDouble_NegativeEigenvalueFractionalExponent_throws() {
+        POWER.on(new OMatrix(new double[][]{{-1, 0}, {0, 4}}), new ODouble(0.5));
+    }
+
+    @Test public void onMatrixFraction_matchesDouble() {
+        assertTrue(POWER.on(SYMMETRIC, new OFraction(1, 2)).equalsValue(POWER.on(SYMMETRIC, new ODouble(0.5))));
+        assertTrue(POWER.on(MATRIX, new OFraction(3, 1)).equalsValue(new OMatrix(repeated(MATRIX.getMatrix(), 3))));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void onMatrixDouble_NotSquare_throws() {
+        POWER.on(new OMatrix(new double[][]{{1, 2, 3}, {4, 5, 6}}), new ODouble(2));
+    }
+}
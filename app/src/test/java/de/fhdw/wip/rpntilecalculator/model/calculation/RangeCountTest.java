@@ -0,0 +1,27 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.junit.Test;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.OSet;
+import de.fhdw.wip.rpntilecalculator.model.operands.OTuple;
+
+import static org.junit.Assert.*;
+
+public class RangeCountTest {
+
+    private RangeCount RANGE_COUNT = RangeCount.getInstance();
+
+    @Test public void on_SetTuple_isCorrect() {
+        assertTrue(RANGE_COUNT.on(
+                new OSet(1, 2, 3, 4, 5),
+                new OTuple(2, 4)
+        ).equalsValue(new ODouble(3)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void on_SetTuple_needsTwoBounds() {
+        RANGE_COUNT.on(new OSet(1, 2), new OTuple(1, 2, 3));
+    }
+
+}
@@ -0,0 +1,183 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.apache.commons.math3.analysis.polynomials.PolynomialFunction;
+import org.apache.commons.math3.complex.Complex;
+import org.junit.Test;
+
+import java.util.Random;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.OPolynom;
+import de.fhdw.wip.rpntilecalculator.model.operands.OSet;
+
+import static org.junit.Assert.*;
+
+/*
+ * Summary: Tests the roots of polynomials of any degree, real, complex, multiple and of very different magnitudes
+ * Date:    2026/10/17
+ */
+public class RootFinderTest {
+
+    private static void assertRoots(double[] expected, double[] actual, double delta) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) assertEquals(expected[i], actual[i], delta);
+    }
+
+    @Test public void roots_RandomDegree50_areRoots() {
+        Random random = new Random(21);
+        for (int run = 0; run < 20; run++) {
+            double[] coefficients = new double[51];
+            for (int i = 0; i < coefficients.length; i++) coefficients[i] = 2 * random.nextDouble() - 1;
+
+            ComplexRoots roots = RootFinder.roots(coefficients);
+            assertEquals(50, roots.size());
+            for (int k = 0; k < roots.size(); k++) {
+                // The polynomial vanishes at every root up to the rounding of its evaluation
+                Complex z = roots.getRoot(k), p = Complex.ZERO;
+                double bound = 0;
+                for (int i = coefficients.length - 1; i >= 0; i--) {
+                    p = p.multiply(z).add(coefficients[i]);
+                    bound = bound * z.abs() + Math.abs(coefficients[i]);
+                }
+                assertEquals(0, p.abs(), 1e-12 * bound);
+            }
+            // Vieta, the roots sum up to -c_49 / c_50
+            double sumRe = 0, sumIm = 0;
+            for (int k = 0; k < roots.size(); k++) {
+                sumRe += roots.getReal(k);
+                sumIm += roots.getImaginary(k);
+            }
+            assertEquals(-coefficients[49] / coefficients[50], sumRe, 1e-9 * Math.abs(1 / coefficients[50]));
+            assertEquals(0, sumIm, 1e-12);
+        }
+    }
+
+    @Test public void roots_RealRoots_areReal() {
+        // (x + 3)(x - 1)(x - 2)(x - 5)
+        ComplexRoots roots = RootFinder.roots(new double[]{-30, 41, -7, -5, 1});
+        assertRoots(new double[]{-3, 1, 2, 5}, roots.getRealRoots(), 1e-12);
+        for (int k = 0; k < roots.size(); k++) assertTrue(roots.isReal(k));
+    }
+
+    @Test public void roots_Wilkinson_areAllReal() {
+        // (x - 1)(x - 2)...(x - n), exact integer coefficients, the middle roots are badly conditioned
+        for (int degree : new int[]{12, 15}) {
+            double[] coefficients = {1};
+            for (int k = 1; k <= degree; k++) {
+                double[] product = new double[coefficients.length + 1];
+                for (int i = 0; i < coefficients.length; i++) {
+                    product[i + 1] += coefficients[i];
+                    product[i] -= k * coefficients[i];
+                }
+                coefficients = product;
+            }
+
+            double[] roots = RootFinder.roots(coefficients).getRealRoots();
+            assertEquals(degree, roots.length);
+            for (int k = 1; k <= degree; k++) assertEquals(k, roots[k - 1], 1e-5);
+        }
+    }
+
+    @Test public void roots_ComplexRoots_areConjugate() {
+        // x^4 + 1
+        ComplexRoots roots = RootFinder.roots(new double[]{1, 0, 0, 0, 1});
+        assertEquals(4, roots.size());
+        assertEquals(0, roots.getRealRoots().length);
+        double h = Math.sqrt(0.5);
+        double[][] expected = {{-h, -h}, {-h, h}, {h, -h}, {h, h}};
+        for (int k = 0; k < 4; k++) {
+            assertEquals(expected[k][0], roots.getReal(k), 1e-14);
+            assertEquals(expected[k][1], roots.getImaginary(k), 1e-14);
+        }
+        assertEquals("[-0.71 - 0.71i, -0.71 + 0.71i, 0.71 - 0.71i, 0.71 + 0.71i]", roots.toString());
+    }
+
+    @Test public void roots_RootsOfUnity_lieOnCircle() {
+        double[] coefficients = new double[129];
+        coefficients[0] = -1;
+        coefficients[128] = 1;
+        ComplexRoots roots = RootFinder.roots(coefficients);
+        assertEquals(128, roots.size());
+        assertRoots(new double[]{-1, 1}, roots.getRealRoots(), 1e-14);
+        for (int k = 0; k < roots.size(); k++) {
+            assertEquals(1, roots.getRoot(k).abs(), 1e-14);
+            assertEquals(1, roots.getRoot(k).pow(128).getReal(), 1e-12);
+        }
+    }
+
+    @Test public void roots_MultipleRoots_areRepeated() {
+        // (x - 1)^3 (x + 2)
+        ComplexRoots roots = RootFinder.roots(new double[]{-2, 5, -3, -1, 1});
+        assertRoots(new double[]{-2, 1, 1, 1}, roots.getRealRoots(), 1e-12);
+        // (x - 2)^4 (x + 1)
+        roots = RootFinder.roots(new double[]{16, -16, -8, 16, -7, 1});
+        assertRoots(new double[]{-1, 2, 2, 2, 2}, roots.getRealRoots(), 1e-12);
+    }
+
+    @Test public void roots_ZeroRoots_areExact() {
+        // x^5 - x^3
+        ComplexRoots roots = RootFinder.roots(new double[]{0, 0, 0, -1, 0, 1});
+        assertRoots(new double[]{-1, 0, 0, 0, 1}, roots.getRealRoots(), 1e-15);
+        assertEquals(0, roots.getReal(2), 0);
+    }
+
+    @Test public void roots_DifferentMagnitudes_areRelativelyAccurate() {
+        // (x - 1e-3)(x - 1)(x - 1e3)(x - 1e6)
+        double[] expected = {1e-3, 1, 1e3, 1e6};
+        PolynomialFunction product = new PolynomialFunction(new double[]{1});
+        for (double root : expected) product = product.multiply(new PolynomialFunction(new double[]{-root, 1}));
+        double[] roots = RootFinder.roots(product.getCoefficients()).getRealRoots();
+        assertEquals(expected.length, roots.length);
+        for (int i = 0; i < expected.length; i++) assertEquals(expected[i], roots[i], 1e-10 * expected[i]);
+    }
+
+    @Test public void roots_LowDegrees_areDirect() {
+        assertRoots(new double[]{-0.5}, RootFinder.roots(new double[]{2, 4}).getRealRoots(), 0);
+        assertRoots(new double[]{-4.828427, 0.828427}, RootFinder.roots(new double[]{-4, 4, 1}).getRealRoots(),
+                1e-6);
+        assertEquals(0, RootFinder.roots(new double[]{7}).size());
+        ComplexRoots roots = RootFinder.roots(new double[]{5, 2, 1});
+        assertEquals(-1, roots.getReal(0), 0);
+        assertEquals(-2, roots.getImaginary(0), 0);
+        assertEquals(2, roots.getImaginary(1), 0);
+        // x^2 + 1, the real part must not be -0.0
+        assertEquals("[0 - 1i, 0 + 1i]", RootFinder.roots(new double[]{1, 0, 1}).toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void roots_ZeroPolynom_fails() {
+        RootFinder.roots(new double[]{0, 0});
+    }
+
+    @Test public void roots_Batch_equalsSingle() {
+        Random random = new Random(22);
+        OPolynom[] polynoms = new OPolynom[300];
+        for (int p = 0; p < polynoms.length; p++) {
+            double[] coefficients = new double[2 + random.nextInt(60)];
+            for (int i = 0; i < coefficients.length; i++) coefficients[i] = random.nextInt(21) - 10;
+            coefficients[coefficients.length - 1] = 1 + random.nextInt(5);
+            polynoms[p] = new OPolynom(coefficients);
+        }
+
+        ComplexRoots[] batch = RootFinder.roots(polynoms);
+        for (int p = 0; p < polynoms.length; p++) {
+            ComplexRoots single = RootFinder.roots(polynoms[p]);
+            assertEquals(single.size(), batch[p].size());
+            for (int k = 0; k < single.size(); k++) {
+                assertEquals(0, Double.compare(single.getReal(k), batch[p].getReal(k)));
+                assertEquals(0, Double.compare(single.getImaginary(k), batch[p].getImaginary(k)));
+            }
+        }
+    }
+
+    @Test public void zeros_Cubic_isCorrect() throws CalculationException {
+        // (x + 1)(x - 2)(x - 4) and x^2 + 1 without real zeros
+        assertTrue(Zeros.getInstance().with(new OPolynom(8, 2, -5, 1)).equalsValue(new OSet(-1, 2, 4)));
+        try {
+            Zeros.getInstance().with(new OPolynom(1, 0, 1));
+            fail();
+        } catch (CalculationException e) {
+            // no real zeros
+        }
+    }
+
+}
@@ -0,0 +1,37 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.junit.Test;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.OFraction;
+import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
+
+import static org.junit.Assert.*;
+
+public class ScaledMatrixAddTest {
+
+    private ScaledMatrixAdd SCALED_MATRIX_ADD = ScaledMatrixAdd.getInstance();
+
+    @Test public void on_DoubleMatrixMatrix_isCorrect() {
+        assertTrue(SCALED_MATRIX_ADD.on(
+                new ODouble(3),
+                new OMatrix(new double[][]{{1, 2}, {3, 4}}),
+                new OMatrix(new double[][]{{1, 0}, {0, 1}})
+        ).equalsValue(new OMatrix(new double[][]{{4, 6}, {9, 13}})));
+    }
+
+    @Test public void on_FractionMatrixMatrix_isCorrect() {
+        assertTrue(SCALED_MATRIX_ADD.on(
+                new OFraction(1, 2),
+                new OMatrix(new double[][]{{2, 4}}),
+                new OMatrix(new double[][]{{1, -1}})
+        ).equalsValue(new OMatrix(new double[][]{{2, 1}})));
+    }
+
+    @Test(expected = CalculationException.class)
+    public void with_MismatchingMatrices_fails() throws CalculationException {
+        SCALED_MATRIX_ADD.with(new ODouble(1), new OMatrix(new double[][]{{1, 2}}),
+                new OMatrix(new double[][]{{1}, {2}}));
+    }
+
+}
@@ -0,0 +1,157 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.RealMatrix;
+import org.junit.Test;
+
+import java.util.Random;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
+import de.fhdw.wip.rpntilecalculator.model.operands.OSparseMatrix;
+import de.fhdw.wip.rpntilecalculator.model.operands.OTuple;
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+
+import static org.junit.Assert.*;
+
+/*
+ * Summary: Tests the sparse matrix kernels, the actions on sparse matrices and the iterative solvers against
+ *          the dense matrices of commons-math
+ * Date:    2026/10/17
+ */
+public class SparseKernelTest {
+
+    private static RealMatrix random(Random random, int rows, int columns, double density) {
+        double[][] data = new double[rows][columns];
+        for (int i = 0; i < rows; i++)
+            for (int j = 0; j < columns; j++)
+                if (random.nextDouble() < density) data[i][j] = random.nextInt(2001) / 100.0 - 10;
+        return new Array2DRowRealMatrix(data, false);
+    }
+
+    /*
+     * Matrix of the 2D Poisson equation on a grid of n x n points, symmetric and positive definite
+     */
+    private static OSparseMatrix laplacian(int n) {
+        int size = n * n, count = 0;
+        int[] rows = new int[5 * size], columns = new int[5 * size];
+        double[] values = new double[5 * size];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                int row = i * n + j;
+                rows[count] = row; columns[count] = row; values[count++] = 4;
+                if (i > 0) { rows[count] = row; columns[count] = row - n; values[count++] = -1; }
+                if (i < n - 1) { rows[count] = row; columns[count] = row + n; values[count++] = -1; }
+                if (j > 0) { rows[count] = row; columns[count] = row - 1; values[count++] = -1; }
+                if (j < n - 1) { rows[count] = row; columns[count] = row + 1; values[count++] = -1; }
+            }
+        }
+        return OSparseMatrix.fromTriplets(size, size, rows, columns, values, count);
+    }
+
+    private static double[] residual(OSparseMatrix a, double[] x, double[] b) {
+        double[] ax = SparseKernel.multiply(a, x);
+        for (int i = 0; i < ax.length; i++) ax[i] -= b[i];
+        return ax;
+    }
+
+    @Test public void fromTriplets_sumsDuplicatesAndDropsZeros() {
+        OSparseMatrix matrix = OSparseMatrix.fromTriplets(2, 3, new int[]{1, 0, 1, 0, 1}, new int[]{2, 1, 0, 1, 2},
+                new double[]{1, 2, 3, -2, 4}, 5);
+        assertEquals(2, matrix.getNumOfNonZeros());
+        assertEquals(0, matrix.getEntry(0, 1), 0);
+        assertEquals(3, matrix.getEntry(1, 0), 0);
+        assertEquals(5, matrix.getEntry(1, 2), 0);
+        assertEquals("{2x3: (1, 0) 3, (1, 2) 5}", matrix.toString());
+    }
+
+    @Test public void kernels_matchDenseMatrices() {
+        Random random = new Random(31);
+        for (int[] d : new int[][]{{1, 1, 1}, {7, 5, 9}, {60, 80, 70}, {300, 200, 250}}) {
+            RealMatrix a = random(random, d[0], d[1], 0.1);
+            RealMatrix b = random(random, d[1], d[2], 0.1);
+            RealMatrix c = random(random, d[0], d[1], 0.1);
+            RealMatrix dense = random(random, d[1], d[2], 1);
+            OSparseMatrix sparseA = new OSparseMatrix(a);
+            OSparseMatrix sparseB = new OSparseMatrix(b);
+
+            assertTrue(new OSparseMatrix(a.multiply(b)).equalsValue(SparseKernel.multiply(sparseA, sparseB)));
+            assertTrue(new OSparseMatrix(a.add(c)).equalsValue(SparseKernel.add(sparseA, new OSparseMatrix(c), 1)));
+            assertTrue(new OSparseMatrix(a.subtract(c)).equalsValue(
+                    SparseKernel.add(sparseA, new OSparseMatrix(c), -1)));
+            assertArrayEquals(MatrixKernel.flatten(a.multiply(dense)),
+                    SparseKernel.multiply(sparseA, MatrixKernel.flatten(dense), d[2]), 1e-9);
+            assertArrayEquals(MatrixKernel.flatten(c.transpose().multiply(a)),
+                    SparseKernel.multiply(MatrixKernel.flatten(c.transpose()), d[1], sparseA), 1e-9);
+
+            double[] x = MatrixKernel.flatten(random(random, 1, d[1], 1));
+            assertArrayEquals(a.operate(x), SparseKernel.multiply(sparseA, x), 1e-9);
+        }
+    }
+
+    @Test public void add_cancellingEntries_areDropped() {
+        OSparseMatrix a = new OSparseMatrix("{2x2: (0, 0) 1, (1, 1) 2}");
+        assertEquals(0, SparseKernel.add(a, a, -1).getNumOfNonZeros());
+    }
+
+    @Test public void actions_onSparseMatrices_matchDenseMatrices() throws CalculationException {
+        Random random = new Random(32);
+        RealMatrix a = random(random, 20, 20, 0.2);
+        RealMatrix b = random(random, 20, 20, 1);
+        OSparseMatrix sparse = new OSparseMatrix(a);
+        OMatrix dense = new OMatrix(b);
+
+        assertTrue(new OMatrix(a.add(b)).equalsValue(Plus.getInstance().with(sparse, dense)));
+        assertTrue(new OMatrix(a.subtract(b)).equalsValue(Minus.getInstance().with(sparse, dense)));
+        assertTrue(new OMatrix(b.subtract(a)).equalsValue(Minus.getInstance().with(dense, sparse)));
+        assertTrue(new OMatrix(a.multiply(b)).equalsValue(Times.getInstance().with(sparse, dense)));
+        assertTrue(new OMatrix(b.multiply(a)).equalsValue(Times.getInstance().with(dense, sparse)));
+        assertTrue(new OSparseMatrix(a.scalarMultiply(3)).equalsValue(Times.getInstance().with(new ODouble(3), sparse)));
+
+        Operand power = Power.getInstance().with(sparse, new ODouble(5));
+        assertTrue(power instanceof OSparseMatrix);
+        assertTrue(new OMatrix(a.power(5)).equalsValue(new OMatrix(((OSparseMatrix) power).toMatrix())));
+        assertTrue(OSparseMatrix.identity(20).equalsValue(Power.getInstance().with(sparse, new ODouble(0))));
+    }
+
+    @Test(expected = CalculationException.class)
+    public void power_NonIntegerExponent_throws() throws CalculationException {
+        Power.getInstance().with(OSparseMatrix.identity(3), new ODouble(0.5));
+    }
+
+    @Test(expected = CalculationException.class)
+    public void times_DimensionsDoNotFit_throws() throws CalculationException {
+        Times.getInstance().with(OSparseMatrix.identity(3), OSparseMatrix.identity(4));
+    }
+
+    @Test public void isSymmetric_isCorrect() {
+        assertTrue(SparseKernel.isSymmetric(laplacian(5)));
+        assertFalse(SparseKernel.isSymmetric(new OSparseMatrix("{2x2: (0, 1) 1}")));
+        assertFalse(SparseKernel.isSymmetric(new OSparseMatrix("{2x2: (1, 0) 1}")));
+        assertFalse(SparseKernel.isSymmetric(new OSparseMatrix("{2x2: (0, 1) 1, (1, 0) 2}")));
+    }
+
+    @Test public void solve_symmetricPositiveDefinite_converges() throws CalculationException {
+        OSparseMatrix a = laplacian(40);
+        double[] b = MatrixKernel.flatten(random(new Random(33), 1, 1600, 1));
+        OTuple x = MatrixUtil.getInstance().solveLinearSystem(a, new OTuple(b));
+        double[] r = residual(a, x.getTuple(), b);
+        for (double d : r) assertEquals(0, d, 1e-7);
+    }
+
+    @Test public void solve_nonSymmetric_matchesLU() throws CalculationException {
+        Random random = new Random(34);
+        RealMatrix a = random(random, 80, 80, 0.05);
+        for (int i = 0; i < 80; i++) a.addToEntry(i, i, 20);
+        double[] b = MatrixKernel.flatten(random(random, 1, 80, 1));
+
+        Operand x = MatrixUtil.getInstance().with(new OSparseMatrix(a), new OTuple(b));
+        assertArrayEquals(new LUFactorization(a).solve(b), ((OTuple) x).getTuple(), 1e-8);
+    }
+
+    @Test(expected = CalculationException.class)
+    public void solve_singular_throws() throws CalculationException {
+        SparseSolver.solve(new OSparseMatrix("{2x2: (0, 0) 1, (1, 0) 1}"), new double[]{1, 2});
+    }
+
+}
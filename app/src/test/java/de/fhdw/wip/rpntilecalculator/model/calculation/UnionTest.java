@@ -0,0 +1,28 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.junit.Test;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.OSet;
+import de.fhdw.wip.rpntilecalculator.model.operands.SortedDoubleSet;
+
+import static org.junit.Assert.*;
+
+public class UnionTest {
+
+    private Union UNION = Union.getInstance();
+
+    @Test public void on_SetSet_isCorrect() {
+        assertTrue(UNION.on(
+                new OSet(1, 2, 3),
+                new OSet(3, 4)
+        ).equalsValue(new OSet(1, 2, 3, 4)));
+    }
+
+    @Test public void on_SortedSets_isCorrect() {
+        assertTrue(UNION.on(
+                new OSet(SortedDoubleSet.of(1, 2, 3)),
+                new OSet(SortedDoubleSet.of(0.5, 3))
+        ).equalsValue(new OSet(0.5, 1, 2, 3)));
+    }
+
+}
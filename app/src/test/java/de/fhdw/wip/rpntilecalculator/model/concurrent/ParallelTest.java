@@ -0,0 +1,61 @@
+package de.fhdw.wip.rpntilecalculator.model.concurrent;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.Assert.*;
+
+/*
+ * Summary: Tests that parallel loops visit every index exactly once, batches keep their order and failures are
+ *          passed on
+ * Date:    2026/10/17
+ */
+public class ParallelTest {
+
+    @Test public void forEach_visitsEveryIndexOnce() {
+        final AtomicIntegerArray visits = new AtomicIntegerArray(10007);
+        Parallel.forEach(visits.length(), 100, new Parallel.Chunk() {
+            @Override public void run(int from, int to) {
+                for (int i = from; i < to; i++) visits.incrementAndGet(i);
+            }
+        });
+        for (int i = 0; i < visits.length(); i++) assertEquals(1, visits.get(i));
+    }
+
+    @Test public void forEach_Nested_finishes() {
+        final AtomicIntegerArray visits = new AtomicIntegerArray(64 * 64);
+        Parallel.forEach(64, 1, new Parallel.Chunk() {
+            @Override public void run(final int row, int to) {
+                Parallel.forEach(64, 4, new Parallel.Chunk() {
+                    @Override public void run(int from, int to) {
+                        for (int i = from; i < to; i++) visits.incrementAndGet(row * 64 + i);
+                    }
+                });
+            }
+        });
+        for (int i = 0; i < visits.length(); i++) assertEquals(1, visits.get(i));
+    }
+
+    @Test public void map_storesResultsInOrder() {
+        Integer[] items = new Integer[1001];
+        for (int i = 0; i < items.length; i++) items[i] = i;
+        String[] results = new String[items.length];
+        Parallel.map(items, results, new Parallel.Task<Integer, String>() {
+            @Override public String apply(Integer item) {
+                return "#" + item;
+            }
+        });
+        for (int i = 0; i < items.length; i++) assertEquals("#" + i, results[i]);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void forEach_FailingChunk_throws() {
+        Parallel.forEach(1000, 10, new Parallel.Chunk() {
+            @Override public void run(int from, int to) {
+                if (from == 500) throw new IllegalStateException();
+            }
+        });
+    }
+
+}
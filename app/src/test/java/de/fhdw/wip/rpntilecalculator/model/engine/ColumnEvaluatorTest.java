@@ -0,0 +1,81 @@
+package de.fhdw.wip.rpntilecalculator.model.engine;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import de.fhdw.wip.rpntilecalculator.model.calculation.CalculationException;
+import de.fhdw.wip.rpntilecalculator.model.operands.OTuple;
+
+import static org.junit.Assert.*;
+
+/*
+ * Summary: Tests the columnar evaluation against evaluating the expression row by row
+ * Date:    2026/10/17
+ */
+public class ColumnEvaluatorTest {
+
+    private static void assertRows(Expression expression, double[] actual, double[]... columns) {
+        double[] values = new double[columns.length];
+        for (int row = 0; row < actual.length; row++) {
+            for (int i = 0; i < columns.length; i++) values[i] = columns[i][row];
+            double expected;
+            try {
+                expected = expression.evaluateDouble(values);
+            } catch (CalculationException e) {
+                expected = Double.NaN;
+            }
+            assertEquals("row " + row, 0, Double.compare(expected, actual[row]));
+        }
+    }
+
+    @Test public void evaluate_ManyChunks_matchesEvaluateDouble() {
+        String program = "x 2 A_POWER 3 x * + sin y log + x cos y / - 2 x tan * %";
+        Expression expression = ExpressionCompiler.compile(program, "x", "y");
+        ColumnEvaluator evaluator = new ColumnEvaluator(expression);
+
+        Random random = new Random(9);
+        double[] x = new double[ColumnEvaluator.CHUNK_SIZE * 5 + 17];
+        double[] y = new double[x.length];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = random.nextInt(4000) / 10.0 - 200;
+            y[i] = random.nextInt(9) - 2;
+        }
+
+        double[] result = evaluator.evaluate(x, y);
+        assertEquals(x.length, result.length);
+        assertRows(expression, result, x, y);
+    }
+
+    @Test public void evaluate_FailingRows_areNaN() {
+        ColumnEvaluator evaluator = ColumnEvaluator.compile("x 1 /", "x");
+        double[] result = evaluator.evaluate(new double[]{2, 0, -4});
+        assertEquals(0.5, result[0], 1e-12);
+        assertTrue(Double.isNaN(result[1]));
+        assertEquals(-0.25, result[2], 1e-12);
+    }
+
+    @Test public void evaluateTuple_matchesEvaluate() {
+        ColumnEvaluator evaluator = ColumnEvaluator.compile("x x * 1 +", "x");
+        OTuple tuple = evaluator.evaluateTuple(new double[]{1, 2, 3});
+        assertTrue(tuple.equalsValue(new OTuple(2, 5, 10)));
+    }
+
+    @Test public void evaluate_IntoResult_reusesArray() {
+        ColumnEvaluator evaluator = ColumnEvaluator.compile("x 3 -", "x");
+        double[] result = new double[4];
+        evaluator.evaluateInto(result, new double[]{5, 6});
+        assertArrayEquals(new double[]{-2, -3, 0, 0}, result, 1e-12);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void evaluate_ColumnsOfDifferentLength_throws() {
+        ColumnEvaluator.compile("x y +", "x", "y").evaluate(new double[3], new double[4]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void new_NonScalarExpression_throws() {
+        ColumnEvaluator.compile("x (1, 2) +", "x");
+    }
+
+}
@@ -0,0 +1,84 @@
+package de.fhdw.wip.rpntilecalculator.model.engine;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import de.fhdw.wip.rpntilecalculator.model.calculation.CalculationException;
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
+import de.fhdw.wip.rpntilecalculator.model.operands.OPolynom;
+import de.fhdw.wip.rpntilecalculator.model.operands.OTuple;
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+
+import static org.junit.Assert.*;
+
+/*
+ * Summary: Tests compiled expressions against running the same programs with the values filled in
+ * Date:    2026/10/17
+ */
+public class ExpressionCompilerTest {
+
+    private static Operand run(String program) {
+        ProgramExecutor executor = new ProgramExecutor();
+        executor.execute(program);
+        return executor.getStack().peek();
+    }
+
+    @Test public void compile_ScalarProgram_matchesExecutor() throws CalculationException {
+        String program = "x 2 A_POWER 3 x * + sin y %";
+        Expression expression = ExpressionCompiler.compile(program, "x", "y");
+        assertTrue(expression.isScalar());
+
+        Random random = new Random(8);
+        for (int i = 0; i < 200; i++) {
+            double x = random.nextInt(2000) / 100.0 - 10;
+            double y = random.nextInt(9) + 1;
+            Operand expected = run(program.replace("x", Double.toString(x)).replace("y", Double.toString(y)));
+            assertTrue(expected.equalsValue(expression.evaluate(new ODouble(x), new ODouble(y))));
+            assertEquals(((ODouble) expected).getDouble(), expression.evaluateDouble(x, y), 1e-9);
+        }
+    }
+
+    @Test public void compile_TypedVariables_matchesExecutor() throws CalculationException {
+        Expression expression = ExpressionCompiler.compile(ProgramParser.tokenize("v m m * LGS lösen 2 *"),
+                new String[]{"m", "v"}, new Class<?>[]{OMatrix.class, OTuple.class});
+        assertFalse(expression.isScalar());
+        assertSame(OTuple.class, expression.getType());
+
+        OMatrix matrix = new OMatrix(new double[][]{{4, -2, 1}, {3, 6, -4}, {2, 1, 8}});
+        OTuple tuple = new OTuple(1, 2, 3);
+        Operand expected = run("(1, 2, 3) [[4, -2, 1], [3, 6, -4], [2, 1, 8]] [[4, -2, 1], [3, 6, -4], [2, 1, 8]] * "
+                + "LGS lösen 2 *");
+        assertTrue(expected.equalsValue(expression.evaluate(matrix, tuple)));
+    }
+
+    @Test public void compile_PolynomConstant_isUsed() throws CalculationException {
+        Expression expression = ExpressionCompiler.compile("x 1x^0 + 2x^1 + 3x^2 dy / dx Limes", "x");
+        assertTrue(expression.evaluate(new ODouble(2)).equalsValue(new ODouble(14)));
+        assertTrue(expression.evaluate(new ODouble(2)).equalsValue(run("2 1x^0 + 2x^1 + 3x^2 dy / dx Limes")));
+        assertFalse(expression.isScalar());
+        assertTrue(new OPolynom(2, 6).equalsValue(ExpressionCompiler.compile("1x^0 + 2x^1 + 3x^2 dy / dx").evaluate()));
+    }
+
+    @Test public void compile_ImpossibleAction_isSkipped() throws CalculationException {
+        // the derivation of a number does nothing on the tiles either
+        assertEquals(5, ExpressionCompiler.compile("x dy / dx 1 +", "x").evaluateDouble(4), 0);
+    }
+
+    @Test(expected = CalculationException.class)
+    public void evaluate_DivisionByZero_throws() throws CalculationException {
+        ExpressionCompiler.compile("y x /", "x", "y").evaluateDouble(1, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void evaluate_WrongBinding_throws() throws CalculationException {
+        ExpressionCompiler.compile("x 1 +", "x").evaluate(new OTuple(1, 2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void compile_SeveralResults_throws() {
+        ExpressionCompiler.compile("x 1", "x");
+    }
+
+}
@@ -0,0 +1,69 @@
+package de.fhdw.wip.rpntilecalculator.model.engine;
+
+import org.junit.Test;
+
+import de.fhdw.wip.rpntilecalculator.model.calculation.FusedMultiplyAdd;
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+import de.fhdw.wip.rpntilecalculator.model.stack.StackInterface;
+
+import static org.junit.Assert.*;
+
+/*
+ * Summary: Tests that fusing Times and Plus changes nothing but the rounding of doubles
+ * Date:    2026/10/17
+ */
+public class PeepholeTest {
+
+    private static final String[] PROGRAMS = {
+            "5 4 3 * +",
+            "1 2 3 * + 4 5 * + 6 * +",
+            "[[1, 0], [0, 1]] [[1, 2], [3, 4]] [[2, 0], [1, 1]] * +",
+            "[[1, 0], [0, 1]] [[1, 2], [3, 4]] 2 * +",
+            "[[1, 0], [0, 1]] 2 [[1, 2], [3, 4]] * +",
+            "(1, 2) (3, 4) 2 * +",
+            "(1/2) (1/3) (1/4) * +",
+            "[[1, 2]] [[1, 2], [3, 4]] [[1, 2]] * +",
+            "4 3 * +",
+            "3 * +",
+            "(1, 2) 3 4 * + 5 * +",
+    };
+
+    @Test public void optimize_fusesTimesPlus() {
+        Instruction[] program = Peephole.optimize(ProgramParser.parse("1 2 3 * + 4 * 5 +"));
+        assertEquals(8, program.length);
+        assertSame(FusedMultiplyAdd.getInstance(), program[3].getAction());
+        assertTrue(program[3].isFused());
+        assertEquals("Times", program[5].toString());
+        assertEquals("Plus", program[7].toString());
+    }
+
+    @Test public void optimize_withoutPairs_returnsProgram() {
+        Instruction[] program = ProgramParser.parse("1 2 + 3 * 4 -");
+        assertSame(program, Peephole.optimize(program));
+    }
+
+    @Test public void execute_fused_equalsUnfused() {
+        for (String program : PROGRAMS) {
+            ProgramExecutor plain = new ProgramExecutor();
+            ProgramExecutor fused = new ProgramExecutor();
+            fused.setFusing(true);
+            assertEquals(program, plain.execute(program), fused.execute(program));
+
+            StackInterface<Operand> expected = plain.getStack(), actual = fused.getStack();
+            assertEquals(program, expected.size(), actual.size());
+            while (expected.size() > 0)
+                assertTrue(program, expected.pop().equalsValue(actual.pop()));
+        }
+    }
+
+    @Test public void execute_fused_roundsOnce() {
+        ProgramExecutor executor = new ProgramExecutor();
+        executor.setFusing(true);
+        double x = 1 + 0x1p-30, y = 1 - 0x1p-30;
+        executor.execute(new Instruction[]{Instruction.push(-1), Instruction.push(x), Instruction.push(y),
+                ProgramParser.parseToken("*"), ProgramParser.parseToken("+")});
+        assertEquals(-0x1p-60, ((ODouble) executor.getStack().pop()).getDouble(), 0);
+    }
+
+}
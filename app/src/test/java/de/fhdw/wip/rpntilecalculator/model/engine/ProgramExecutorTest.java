@@ -0,0 +1,65 @@
+package de.fhdw.wip.rpntilecalculator.model.engine;
+
+import org.junit.Test;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.OFraction;
+import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
+import de.fhdw.wip.rpntilecalculator.model.operands.OPolynom;
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+import de.fhdw.wip.rpntilecalculator.model.stack.OperandStack;
+import de.fhdw.wip.rpntilecalculator.model.stack.StackInterface;
+
+import static org.junit.Assert.*;
+
+/*
+ * Summary: Tests running programs without tiles
+ * Date:    2026/10/17
+ */
+public class ProgramExecutorTest {
+
+    @Test public void execute_ScalarProgram_isCorrect() {
+        ProgramExecutor executor = new ProgramExecutor();
+        assertEquals(0, executor.execute("3 4 + 2 A_TIMES"));
+        assertTrue(executor.getStack().pop().equalsValue(new ODouble(14)));
+    }
+
+    @Test public void execute_MixedProgram_isCorrect() {
+        ProgramExecutor executor = new ProgramExecutor(new OperandStack());
+        // (1/2) + (1/4), then times the 2x2 identity
+        assertEquals(0, executor.execute("(1/4) (1/2) + [[1, 0], [0, 1]] *"));
+        assertTrue(executor.getStack().pop().equalsValue(new OMatrix(new double[][]{{0.75, 0}, {0, 0.75}})));
+    }
+
+    @Test public void execute_Polynom_isCorrect() {
+        ProgramExecutor executor = new ProgramExecutor();
+        assertEquals(0, executor.execute("1x^0 + 2x^1 + 3x^2 dy / dx"));
+        assertTrue(executor.getStack().pop().equalsValue(new OPolynom(2, 6)));
+    }
+
+    @Test public void execute_PolynomSum_isNoLiteral() {
+        // (2 + 3) * 1, the + between two constant terms adds them
+        ProgramExecutor executor = new ProgramExecutor();
+        assertEquals(0, executor.execute("2x^0 3x^0 + 1x^0 *"));
+        assertTrue(executor.getStack().pop().equalsValue(new OPolynom(5)));
+    }
+
+    @Test public void execute_ImpossibleAction_leavesStack() {
+        ProgramExecutor executor = new ProgramExecutor();
+        // 5 / 0 and the derivation of a number
+        assertEquals(2, executor.execute("(1/2) 0 5 / dy / dx"));
+        StackInterface<Operand> stack = executor.getStack();
+        assertEquals(3, stack.size());
+        assertTrue(stack.pop().equalsValue(new ODouble(5)));
+        assertTrue(stack.pop().equalsValue(new ODouble(0)));
+        assertTrue(stack.pop().equalsValue(new OFraction(1, 2)));
+    }
+
+    @Test public void clear_emptiesStack() {
+        ProgramExecutor executor = new ProgramExecutor();
+        executor.execute("1 2 3");
+        executor.clear();
+        assertEquals(0, executor.getStack().size());
+    }
+
+}
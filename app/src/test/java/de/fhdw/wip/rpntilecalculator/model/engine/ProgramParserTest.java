@@ -0,0 +1,70 @@
+package de.fhdw.wip.rpntilecalculator.model.engine;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import de.fhdw.wip.rpntilecalculator.model.calculation.Derivation;
+import de.fhdw.wip.rpntilecalculator.model.calculation.MatrixUtil;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Plus;
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.OFraction;
+import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
+import de.fhdw.wip.rpntilecalculator.model.operands.OPolynom;
+import de.fhdw.wip.rpntilecalculator.model.operands.OSet;
+import de.fhdw.wip.rpntilecalculator.model.operands.OSparseMatrix;
+import de.fhdw.wip.rpntilecalculator.model.operands.OTuple;
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+
+import static org.junit.Assert.*;
+
+/*
+ * Summary: Tests reading programs from tokens
+ * Date:    2026/10/17
+ */
+public class ProgramParserTest {
+
+    @Test public void tokenize_keepsOperandsTogether() {
+        assertEquals(Arrays.asList("(1/2)", "[[1, 2], [3, 4]]", "{2x2: (0, 1) 3}", "4.1x^0 + 2x^1", "+", "dy / dx",
+                "LGS lösen", "/"),
+                ProgramParser.tokenize(" (1/2) [[1, 2], [3, 4]] {2x2: (0, 1) 3} 4.1x^0 + 2x^1 + dy / dx LGS lösen /"));
+    }
+
+    @Test public void tokenize_PolynomTerms_mergeOnlyWithIncreasingPowers() {
+        assertEquals(Arrays.asList("2x^0", "3x^0", "+", "1x^0", "*"), ProgramParser.tokenize("2x^0 3x^0 + 1x^0 *"));
+        assertEquals(Arrays.asList("1x^0 + 2x^1", "+", "1x^1", "+"), ProgramParser.tokenize("1x^0 + 2x^1 + 1x^1 +"));
+        assertEquals(Arrays.asList("1x^0 + 2x^3"), ProgramParser.tokenize("1x^0 + 2x^3"));
+    }
+
+    @Test public void parseOperand_allFormats_isCorrect() {
+        assertTrue(ProgramParser.parseOperand("-2.5").equalsValue(new ODouble(-2.5)));
+        assertTrue(ProgramParser.parseOperand("(1/2)").equalsValue(new OFraction(1, 2)));
+        assertTrue(ProgramParser.parseOperand("(1, 2, 3)").equalsValue(new OTuple(1, 2, 3)));
+        assertTrue(ProgramParser.parseOperand("[1, 2]").equalsValue(new OSet(1, 2)));
+        assertTrue(ProgramParser.parseOperand("[[1, 2], [3, 4]]").equalsValue(new OMatrix(new double[][]{{1, 2}, {3, 4}})));
+        assertTrue(ProgramParser.parseOperand("{2x3: (1, 2) -1.5, (0, 0) 2}").equalsValue(
+                new OSparseMatrix(new OMatrix(new double[][]{{2, 0, 0}, {0, 0, -1.5}}).getMatrix())));
+        assertTrue(ProgramParser.parseOperand("4.1x^0 + 2x^1 + -3.1x^2").equalsValue(new OPolynom(4.1, 2, -3.1)));
+    }
+
+    @Test public void parseOperand_toString_roundTrips() {
+        Operand[] operands = {new ODouble(-0.25), new OFraction(3, 4), new OTuple(1, 2, 3), new OSet(4, 5),
+                new OMatrix(new double[][]{{1, -2}, {3, 4}}), new OSparseMatrix("{3x4: (2, 3) -1, (0, 1) 7}"),
+                new OSparseMatrix("{5x5}"), new OPolynom(1, 0, 0, 0, 0, 0, 0, 0, 0, 0, 2)};
+        for (Operand operand : operands)
+            assertTrue(operand.toString(), ProgramParser.parseOperand(operand.toString()).equalsValue(operand));
+    }
+
+    @Test public void parseToken_actionNameAndText_isSameAction() {
+        assertSame(Plus.getInstance(), ProgramParser.parseToken("A_PLUS").getAction());
+        assertSame(Plus.getInstance(), ProgramParser.parseToken("+").getAction());
+        assertSame(Derivation.getInstance(), ProgramParser.parseToken("dy / dx").getAction());
+        assertSame(MatrixUtil.getInstance(), ProgramParser.parseToken("A_MATRIXUTIL").getAction());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parseToken_Unknown_throws() {
+        ProgramParser.parseToken("A_UNKNOWN");
+    }
+
+}
@@ -0,0 +1,142 @@
+package de.fhdw.wip.rpntilecalculator.model.engine;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import de.fhdw.wip.rpntilecalculator.model.calculation.Action;
+import de.fhdw.wip.rpntilecalculator.model.calculation.ArcTangens;
+import de.fhdw.wip.rpntilecalculator.model.calculation.CalculationException;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Cosinus;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Logarithm;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Logarithm10;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Minus;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Modulo;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Plus;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Power;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Root;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Sinus;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Slash;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Tangens;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Times;
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.OFraction;
+import de.fhdw.wip.rpntilecalculator.model.operands.OTuple;
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+import de.fhdw.wip.rpntilecalculator.model.stack.ArrayOperandStack;
+import de.fhdw.wip.rpntilecalculator.model.stack.OperandStack;
+import de.fhdw.wip.rpntilecalculator.model.stack.StackInterface;
+
+import static org.junit.Assert.*;
+
+/*
+ * Summary: Tests the scalar machine against applying every instruction with Action.with
+ * Date:    2026/10/17
+ */
+public class ScalarMachineTest {
+
+    private static final Action[] ACTIONS = {Plus.getInstance(), Minus.getInstance(), Times.getInstance(),
+            Slash.getInstance(), Power.getInstance(), Modulo.getInstance(), Root.getInstance(), Sinus.getInstance(),
+            Cosinus.getInstance(), Tangens.getInstance(), ArcTangens.getInstance(), Logarithm.getInstance(),
+            Logarithm10.getInstance()};
+
+    /*
+     * Applies an instruction the way a click on a tile does
+     */
+    private static boolean reference(StackInterface<Operand> stack, Instruction instruction) {
+        if (instruction.getOperand() != null) {
+            stack.push(instruction.getOperand());
+            return true;
+        }
+        int[] required = instruction.getAction().getRequiredNumOfOperands();
+        for (int i = required.length - 1; i >= 0; i--) {
+            try {
+                Operand result = instruction.getAction().with(stack.peek(required[i]));
+                stack.pop(required[i]);
+                stack.push(result);
+                return true;
+            } catch (CalculationException e) {
+                //try the next lower one
+            }
+        }
+        return false;
+    }
+
+    private static void assertSameStack(StackInterface<Operand> expected, StackInterface<Operand> actual) {
+        Operand[] expectedOperands = expected.get();
+        Operand[] actualOperands = actual.get();
+        assertEquals(expectedOperands.length, actualOperands.length);
+        for (int i = 0; i < expectedOperands.length; i++) {
+            Operand e = expectedOperands[i];
+            Operand a = actualOperands[i];
+            // NaN and the infinities are not equal within a margin, so they have to match exactly
+            boolean exact = e instanceof ODouble && a instanceof ODouble
+                    && Double.compare(((ODouble) e).getDouble(), ((ODouble) a).getDouble()) == 0;
+            assertTrue(e + " != " + a, exact || e.equalsValue(a));
+        }
+    }
+
+    @Test public void run_ScalarProgram_isCorrect() {
+        StackInterface<Operand> stack = new OperandStack();
+        ScalarMachine machine = new ScalarMachine(stack);
+        // (2 - 10) * 3 with the top as first operand: 10 2 - is 2 - 10
+        int failed = machine.run(new Instruction[]{Instruction.push(10), Instruction.push(2),
+                Instruction.apply(Minus.getInstance()), Instruction.push(3), Instruction.apply(Times.getInstance())});
+        assertEquals(0, failed);
+        assertEquals(0, stack.size());
+        assertEquals(1, machine.size());
+        machine.flush();
+        assertTrue(stack.pop().equalsValue(new ODouble(-24)));
+    }
+
+    @Test public void execute_DivisionByZero_leavesStack() {
+        StackInterface<Operand> stack = new OperandStack();
+        ScalarMachine machine = new ScalarMachine(stack);
+        machine.execute(Instruction.push(0));
+        machine.execute(Instruction.push(5));
+        assertFalse(machine.execute(Instruction.apply(Slash.getInstance())));
+        assertEquals(2, machine.size());
+    }
+
+    @Test public void execute_TypeBoundary_flushesAndLoads() {
+        StackInterface<Operand> stack = new OperandStack();
+        ScalarMachine machine = new ScalarMachine(stack);
+        machine.execute(Instruction.push(4));
+        machine.execute(Instruction.push(new OFraction(1, 2)));
+        assertEquals(2, stack.size());
+        // ODouble + OFraction has no opcode, the operand stack computes it
+        assertTrue(machine.execute(Instruction.apply(Plus.getInstance())));
+        machine.execute(Instruction.push(2));
+        // the ODouble result is moved back up to the double stack
+        assertTrue(machine.execute(Instruction.apply(Times.getInstance())));
+        assertEquals(0, stack.size());
+        machine.flush();
+        assertTrue(stack.peek().equalsValue(new ODouble(9)));
+    }
+
+    @Test public void run_RandomPrograms_matchActionWith() {
+        Random random = new Random(5);
+        for (int program = 0; program < 200; program++) {
+            Instruction[] instructions = new Instruction[random.nextInt(60)];
+            for (int i = 0; i < instructions.length; i++) {
+                int kind = random.nextInt(10);
+                if (kind < 4) instructions[i] = Instruction.push(random.nextInt(7) - 2);
+                else if (kind == 4) instructions[i] = Instruction.push(new OFraction(random.nextInt(5) + 1, 3));
+                else if (kind == 5) instructions[i] = Instruction.push(new OTuple(1, random.nextInt(4)));
+                else instructions[i] = Instruction.apply(ACTIONS[random.nextInt(ACTIONS.length)]);
+            }
+
+            StackInterface<Operand> expected = new OperandStack();
+            int expectedFailed = 0;
+            for (Instruction instruction : instructions)
+                if (!reference(expected, instruction)) expectedFailed++;
+
+            ScalarMachine machine = new ScalarMachine(new ArrayOperandStack());
+            assertEquals(expectedFailed, machine.run(instructions));
+            assertEquals(expected.size(), machine.size());
+            machine.flush();
+            assertSameStack(expected, machine.getStack());
+        }
+    }
+
+}
@@ -0,0 +1,94 @@
+package de.fhdw.wip.rpntilecalculator.model.engine;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import de.fhdw.wip.rpntilecalculator.model.calculation.Action;
+import de.fhdw.wip.rpntilecalculator.model.calculation.ActionMapping;
+import de.fhdw.wip.rpntilecalculator.model.calculation.CalculationException;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Overload;
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+
+import static org.junit.Assert.*;
+
+/*
+ * Summary: Tests the opcodes against the on(ODouble, ...) methods of their actions
+ * Date:    2026/10/17
+ */
+public class ScalarOpTest {
+
+    private static final double[] VALUES = {-7.5, -1, 0, 0.25, 0.5, 1, 2, 3, 45, 90, 1e3};
+
+    @Test public void of_EveryDoubleOverload_hasOpcode() {
+        for (ActionMapping mapping : ActionMapping.values()) {
+            Action action = mapping.getAction();
+            for (int numOfOperands : action.getRequiredNumOfOperands()) {
+                if (numOfOperands < 1) continue;
+                Class<?>[] types = new Class<?>[numOfOperands];
+                Arrays.fill(types, ODouble.class);
+
+                Overload overload = action.overload(types);
+                boolean scalar = overload != null && overload.getResultType() == ODouble.class;
+                assertEquals(mapping + " " + numOfOperands, scalar, ScalarOp.of(action, numOfOperands) != null);
+            }
+        }
+    }
+
+    @Test public void apply_matchesAction() {
+        for (ScalarOp op : ScalarOp.values()) {
+            double[] thirds = op.getNumOfOperands() == 3 ? VALUES : new double[]{Double.NaN};
+            for (double top : VALUES) {
+                for (double second : VALUES) {
+                    for (double third : thirds) {
+                        Operand[] operands = operands(op.getNumOfOperands(), top, second, third);
+                        try {
+                            Operand expected = op.getAction().with(operands);
+                            assertFalse(op + " fails on " + top + ", " + second, op.fails(top, second));
+                            assertSame(op.toString(), 0, Double.compare(((ODouble) expected).getDouble(),
+                                    op.apply(top, second, third)));
+                        } catch (CalculationException e) {
+                            assertTrue(op + " does not fail on " + top + ", " + second, op.fails(top, second));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test public void applyColumns_matchesApply() {
+        for (ScalarOp op : ScalarOp.values()) {
+            int n = VALUES.length;
+            double[] top = new double[n * n * n];
+            double[] second = new double[top.length];
+            double[] third = new double[top.length];
+            for (int i = 0; i < top.length; i++) {
+                top[i] = VALUES[i / (n * n)];
+                second[i] = VALUES[i / n % n];
+                third[i] = VALUES[i % n];
+            }
+            double[] result = top.clone();
+            op.apply(result, second, third, result.length);
+
+            for (int i = 0; i < top.length; i++) {
+                double expected = op.fails(top[i], second[i]) ? Double.NaN : op.apply(top[i], second[i], third[i]);
+                assertEquals(op.toString(), 0, Double.compare(expected, result[i]));
+            }
+        }
+    }
+
+    @Test public void applyColumns_binary_matchesApply() {
+        double[] top = VALUES.clone();
+        double[] second = new double[VALUES.length];
+        Arrays.fill(second, 3);
+        ScalarOp.MINUS.apply(top, second, top.length);
+        for (int i = 0; i < top.length; i++) assertEquals(VALUES[i] - 3, top[i], 0);
+    }
+
+    private static Operand[] operands(int numOfOperands, double top, double second, double third) {
+        Operand[] operands = {new ODouble(top), new ODouble(second), new ODouble(third)};
+        return Arrays.copyOf(operands, numOfOperands);
+    }
+
+}
@@ -0,0 +1,77 @@
+package de.fhdw.wip.rpntilecalculator.model.engine;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+
+import static org.junit.Assert.*;
+
+/*
+ * Summary: Tests evaluating many sessions in parallel against evaluating them one after another
+ * Date:    2026/10/17
+ */
+public class SessionServiceTest {
+
+    private static final String[] TOKENS = {"1", "2.5", "-3", "(1/2)", "(1, 2)", "1x^0 + 2x^1", "+", "-", "*", "/",
+            "sin", "bⁿ", "dy / dx", "%"};
+
+    private static List<String> programs(int count) {
+        Random random = new Random(3);
+        List<String> programs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            StringBuilder program = new StringBuilder();
+            int length = random.nextInt(40);
+            for (int j = 0; j < length; j++) program.append(TOKENS[random.nextInt(TOKENS.length)]).append(' ');
+            programs.add(program.toString());
+        }
+        return programs;
+    }
+
+    @Test public void evaluate_matchesSequential() throws InterruptedException {
+        List<String> programs = programs(3000);
+        programs.add("1 unknown +");
+
+        SessionService service = new SessionService(4);
+        SessionReport report;
+        try {
+            report = service.evaluate(programs);
+        } finally {
+            service.shutdown();
+        }
+
+        assertEquals(programs.size(), report.getSessions().length);
+        assertEquals(1, report.getInvalidPrograms());
+        int failedActions = 0;
+        for (int i = 0; i < programs.size() - 1; i++) {
+            Session expected = new Session();
+            failedActions += expected.execute(programs.get(i));
+            Operand[] expectedStack = expected.getOperandStack().get();
+            Operand[] actualStack = report.getSessions()[i].getOperandStack().get();
+            assertEquals(expectedStack.length, actualStack.length);
+            for (int j = 0; j < expectedStack.length; j++)
+                assertEquals(expectedStack[j].toString(), actualStack[j].toString());
+        }
+        assertEquals(failedActions, report.getFailedActions());
+    }
+
+    @Test public void report_percentilesAreOrdered() throws InterruptedException {
+        SessionService service = new SessionService();
+        SessionReport report;
+        try {
+            report = service.evaluate(programs(500));
+        } finally {
+            service.shutdown();
+        }
+        assertTrue(report.getLatencyPercentile(50) > 0);
+        assertTrue(report.getLatencyPercentile(50) <= report.getLatencyPercentile(90));
+        assertTrue(report.getLatencyPercentile(90) <= report.getLatencyPercentile(99));
+        assertTrue(report.getLatencyPercentile(99) <= report.getLatencyPercentile(100));
+        assertTrue(report.getThroughput() > 0);
+        assertNotNull(report.toString());
+    }
+
+}
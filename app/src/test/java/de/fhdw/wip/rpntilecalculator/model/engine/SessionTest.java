@@ -0,0 +1,51 @@
+package de.fhdw.wip.rpntilecalculator.model.engine;
+
+import org.junit.Test;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.stack.ArrayOperandStack;
+
+import static org.junit.Assert.*;
+
+/*
+ * Summary: Tests the state kept per session
+ * Date:    2026/10/17
+ */
+public class SessionTest {
+
+    @Test public void execute_recordsTopInHistoryAndInputTerm() {
+        Session session = new Session();
+        assertEquals(0, session.execute("3 4 +"));
+        assertEquals(1, session.getHistoryStack().size());
+        assertTrue(session.getHistoryStack().get(0).equalsValue(new ODouble(7)));
+        assertEquals("7", session.getInputTerm().toString());
+        assertTrue(session.isInputFinalized());
+    }
+
+    @Test public void add2History_equalValue_isAddedOnce() {
+        Session session = new Session();
+        session.add2History(new ODouble(1));
+        session.add2History(new ODouble(1));
+        assertEquals(1, session.getHistoryStack().size());
+    }
+
+    @Test public void setOperandStack_keepsOperands() {
+        Session session = new Session();
+        session.execute("1 2 3");
+        session.setOperandStack(new ArrayOperandStack());
+        assertTrue(session.getOperandStack() instanceof ArrayOperandStack);
+        assertEquals(0, session.execute("+"));
+        assertTrue(session.getOperandStack().pop().equalsValue(new ODouble(5)));
+        assertTrue(session.getOperandStack().pop().equalsValue(new ODouble(1)));
+    }
+
+    @Test public void sessions_areIndependent() {
+        Session one = new Session();
+        Session two = new Session();
+        one.execute("1 2");
+        two.execute("3");
+        assertEquals(2, one.getOperandStack().size());
+        assertEquals(1, two.getOperandStack().size());
+    }
+
+}
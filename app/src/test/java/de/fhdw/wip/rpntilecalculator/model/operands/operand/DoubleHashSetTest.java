@@ -0,0 +1,83 @@
+package de.fhdw.wip.rpntilecalculator.model.operands.operand;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.DoubleHashSet;
+import de.fhdw.wip.rpntilecalculator.model.operands.OSet;
+
+import static org.junit.Assert.*;
+
+public class DoubleHashSetTest {
+
+    @Test public void add_EqualWithinTolerance_keepsFirst() {
+        DoubleHashSet set = new DoubleHashSet();
+        assertTrue(set.add(0.3));
+        assertFalse(set.add(0.1 + 0.2));
+        assertFalse(set.add(0.3 + 9e-7));
+        assertTrue(set.add(0.3 + 2e-6));
+        assertEquals(2, set.size());
+        assertTrue(set.contains(0.3 - 5e-7));
+        double[] values = set.toArray();
+        Arrays.sort(values);
+        assertEquals(0.3, values[0], 0);
+    }
+
+    @Test public void add_SpecialValues_canonical() {
+        DoubleHashSet set = new DoubleHashSet(0.0, -0.0, Double.NaN, Double.longBitsToDouble(0x7ff0000000000002L),
+                Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.MAX_VALUE);
+        assertEquals(5, set.size());
+        assertTrue(set.contains(-0.0));
+        assertTrue(set.contains(Double.NaN));
+        assertFalse(set.contains(-Double.MAX_VALUE));
+    }
+
+    /*
+     * Values at least 2^-9 apart behave like a HashSet<Double> while the table grows many times
+     */
+    @Test public void add_DistinctValues_equalHashSet() {
+        Random random = new Random(16);
+        DoubleHashSet set = new DoubleHashSet();
+        Set<Double> expected = new HashSet<>();
+        for (int i = 0; i < 100000; i++) {
+            double d = Math.scalb((double) random.nextInt(50000), random.nextInt(40) - 9);
+            assertEquals(expected.add(d), set.add(d));
+        }
+        assertEquals(expected.size(), set.size());
+        assertEquals(expected, set.asSet());
+        assertEquals(expected, new HashSet<>(set.asSet()));
+    }
+
+    @Test public void algebra_equalsHashSetAlgebra() {
+        Random random = new Random(17);
+        double[] a = new double[5000], b = new double[3000];
+        for (int i = 0; i < a.length; i++) a[i] = random.nextInt(8000) / 4.0;
+        for (int i = 0; i < b.length; i++) b[i] = random.nextInt(8000) / 4.0;
+        OSet setA = new OSet(a), setB = new OSet(b);
+
+        Set<Double> union = new HashSet<>(setA.getSet());
+        union.addAll(setB.getSet());
+        Set<Double> intersection = new HashSet<>(setA.getSet());
+        intersection.retainAll(setB.getSet());
+        Set<Double> difference = new HashSet<>(setA.getSet());
+        difference.removeAll(setB.getSet());
+
+        assertEquals(union, setA.union(setB).getSet());
+        assertEquals(intersection, setA.intersection(setB).getSet());
+        assertEquals(difference, setA.difference(setB).getSet());
+    }
+
+    @Test public void equalsValue_ignoresOrder() {
+        double[] values = new double[1000];
+        for (int i = 0; i < values.length; i++) values[i] = i * 0.5;
+        double[] reversed = values.clone();
+        for (int i = 0; i < reversed.length; i++) reversed[i] = values[values.length - 1 - i];
+        assertTrue(new OSet(values).equalsValue(new OSet(reversed)));
+        assertFalse(new OSet(values).equalsValue(new OSet(Arrays.copyOf(values, 999))));
+    }
+
+}
@@ -0,0 +1,92 @@
+package de.fhdw.wip.rpntilecalculator.model.operands.operand;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.OTuple;
+
+import static org.junit.Assert.*;
+
+public class OTupleTest {
+
+    /*
+     * Random chains of views and concatenations hold the same values as copying arrays
+     */
+    @Test public void views_equalCopies() {
+        Random random = new Random(18);
+        for (int run = 0; run < 200; run++) {
+            double[] expected = new double[random.nextInt(500)];
+            for (int i = 0; i < expected.length; i++) expected[i] = random.nextInt(1000);
+            OTuple tuple = new OTuple(expected.clone());
+
+            for (int step = 0; step < 40; step++) {
+                switch (random.nextInt(4)) {
+                    case 0: {
+                        int from = random.nextInt(expected.length + 1);
+                        int to = from + random.nextInt(expected.length - from + 1);
+                        expected = Arrays.copyOfRange(expected, from, to);
+                        tuple = tuple.slice(from, to);
+                        break;
+                    }
+                    case 1: {
+                        double[] reversed = new double[expected.length];
+                        for (int i = 0; i < reversed.length; i++) reversed[i] = expected[expected.length - 1 - i];
+                        expected = reversed;
+                        tuple = tuple.reverse();
+                        break;
+                    }
+                    case 2: {
+                        int every = 1 + random.nextInt(3);
+                        double[] strided = new double[(expected.length + every - 1) / every];
+                        for (int i = 0; i < strided.length; i++) strided[i] = expected[i * every];
+                        expected = strided;
+                        tuple = tuple.stride(every);
+                        break;
+                    }
+                    default: {
+                        double[] both = Arrays.copyOf(expected, 2 * expected.length);
+                        System.arraycopy(expected, 0, both, expected.length, expected.length);
+                        if (random.nextBoolean()) tuple = tuple.concat(tuple.slice(0, tuple.size()));
+                        else tuple = tuple.concat(new OTuple(expected.clone()));
+                        expected = both;
+                        break;
+                    }
+                }
+                if (expected.length > 5000) {
+                    expected = Arrays.copyOf(expected, 5000);
+                    tuple = tuple.slice(0, 5000);
+                }
+
+                assertEquals(expected.length, tuple.size());
+                for (int i = 0; i < expected.length; i += 1 + expected.length / 20)
+                    assertEquals(expected[i], tuple.get(i), 0);
+            }
+            assertArrayEquals(expected, tuple.getTuple(), 0);
+            assertArrayEquals(expected, tuple.reverse().reverse().getTuple(), 0);
+        }
+    }
+
+    @Test public void slice_sharesValues() {
+        double[] values = {1, 2, 3, 4, 5, 6};
+        OTuple tuple = new OTuple(values);
+        assertSame(values, tuple.getTuple());
+        assertSame(tuple, tuple.slice(0, 6));
+        assertEquals("(5, 3)", tuple.slice(1, 5).reverse().stride(2).toString());
+        assertEquals("()", tuple.slice(2, 2).toString());
+    }
+
+    @Test public void unary_onViews() {
+        OTuple tuple = new OTuple(1, -2, 4, 8).reverse().slice(0, 3);
+        assertArrayEquals(new double[]{-8, -4, 2}, tuple.turnAroundSign().getTuple(), 0);
+        assertArrayEquals(new double[]{-8, -4, -2}, tuple.negateValue().getTuple(), 0);
+        assertArrayEquals(new double[]{0.125, 0.25, -0.5}, tuple.inverseValue().getTuple(), 0);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void slice_OutOfBounds_throws() {
+        new OTuple(1, 2, 3).slice(1, 4);
+    }
+
+}
@@ -0,0 +1,100 @@
+package de.fhdw.wip.rpntilecalculator.model.operands.operand;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.DoubleHashSet;
+import de.fhdw.wip.rpntilecalculator.model.operands.OSet;
+import de.fhdw.wip.rpntilecalculator.model.operands.SortedDoubleSet;
+
+import static org.junit.Assert.*;
+
+public class SortedDoubleSetTest {
+
+    private static double[] random(Random random, int size) {
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) values[i] = random.nextInt(4 * size) / 8.0 - size / 4.0;
+        return values;
+    }
+
+    @Test public void of_SortsAndDropsEqualValues() {
+        SortedDoubleSet set = SortedDoubleSet.of(3, Double.NaN, -0.0, 0.3, 0.0, 0.1 + 0.2, Double.NEGATIVE_INFINITY, 3);
+        assertArrayEquals(new double[]{Double.NEGATIVE_INFINITY, 0, 0.3, 3, Double.NaN}, set.toArray(), 0);
+        assertTrue(set.contains(0.3));
+        assertTrue(set.contains(Double.NaN));
+        assertFalse(set.contains(Double.POSITIVE_INFINITY));
+        assertFalse(set.contains(2.999));
+    }
+
+    @Test public void contains_LargeMagnitudes_findsValues() {
+        // d - tolerance rounds back to d from 2^34 on
+        SortedDoubleSet set = SortedDoubleSet.of(1e11, 5.0, 3e12, -4e15);
+        assertTrue(set.contains(1e11));
+        assertTrue(set.contains(3e12));
+        assertTrue(set.contains(-4e15));
+        assertFalse(set.contains(1e11 + 1));
+
+        OSet union = new OSet(1e11, 1.0);
+        OSet other = new OSet(2.0);
+        assertEquals("[1, 100000000000]", union.toString());
+        assertEquals("[2]", other.toString());
+        union = union.union(other);
+        assertEquals("[1, 2, 100000000000]", union.toString());
+        assertTrue(union.contains(1e11));
+    }
+
+    @Test public void countRange_equalsLinearCount() {
+        Random random = new Random(18);
+        double[] values = random(random, 2000);
+        SortedDoubleSet set = SortedDoubleSet.of(values);
+        double[] sorted = set.toArray();
+        for (int run = 0; run < 200; run++) {
+            double from = random.nextInt(1200) / 2.0 - 600, to = from + random.nextInt(300) / 4.0;
+            int expected = 0;
+            for (double d : sorted) if (d >= from && d <= to) expected++;
+            assertEquals(expected, set.countRange(from, to));
+        }
+        assertEquals(0, set.countRange(1, 0));
+        assertEquals(set.size(), set.countRange(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY));
+    }
+
+    /*
+     * Merging sorted sets gives the same values as hashing, also for values closer than the tolerance
+     */
+    @Test public void algebra_equalsHashAlgebra() {
+        Random random = new Random(19);
+        for (int run = 0; run < 100; run++) {
+            double[] a = random(random, random.nextInt(3000)), b = random(random, random.nextInt(3000));
+            if (run % 2 == 1) {
+                // Steps of three quarters of the tolerance, so one value of b can be equal to two of a
+                for (int i = 0; i < a.length; i++) a[i] = random.nextInt(2 * a.length + 1) * 1.5e-6;
+                for (int i = 0; i < b.length; i++) b[i] = random.nextInt(4 * b.length + 1) * 0.75e-6;
+            }
+            SortedDoubleSet sortedA = SortedDoubleSet.of(a), sortedB = SortedDoubleSet.of(b);
+            // Both hold the same values, chains of values closer than the tolerance are thinned out the same way
+            DoubleHashSet hashA = new DoubleHashSet(sortedA.toArray()), hashB = new DoubleHashSet(sortedB.toArray());
+
+            assertArrayEquals(SortedDoubleSet.of(DoubleHashSet.union(hashA, hashB)).toArray(),
+                    SortedDoubleSet.union(sortedA, sortedB).toArray(), 0);
+            assertArrayEquals(SortedDoubleSet.of(DoubleHashSet.intersection(hashA, hashB)).toArray(),
+                    SortedDoubleSet.intersection(sortedA, sortedB).toArray(), 0);
+            assertArrayEquals(SortedDoubleSet.of(DoubleHashSet.difference(hashA, hashB)).toArray(),
+                    SortedDoubleSet.difference(sortedA, sortedB).toArray(), 0);
+        }
+    }
+
+    @Test public void difference_ValueEqualToTwo_removesBoth() {
+        SortedDoubleSet a = SortedDoubleSet.of(0, 1.5e-6), b = SortedDoubleSet.of(0.75e-6);
+        assertEquals(0, SortedDoubleSet.difference(a, b).size());
+        assertEquals(2, SortedDoubleSet.intersection(a, b).size());
+        assertArrayEquals(new double[]{0, 1.5e-6}, SortedDoubleSet.union(a, b).toArray(), 0);
+    }
+
+    @Test public void toString_isAscending() {
+        assertEquals("[-1, 2.5, 10]", new OSet(10, -1, 2.5, 10).toString());
+        assertEquals("[-1, 2.5, 10]", new OSet(SortedDoubleSet.of(2.5, 10, -1)).toString());
+        assertEquals("[]", new OSet(new double[0]).toString());
+    }
+
+}
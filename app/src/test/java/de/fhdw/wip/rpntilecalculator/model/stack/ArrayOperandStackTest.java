@@ -0,0 +1,76 @@
+package de.fhdw.wip.rpntilecalculator.model.stack;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.OFraction;
+import de.fhdw.wip.rpntilecalculator.model.operands.OTuple;
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+
+import static org.junit.Assert.*;
+
+/*
+ * Summary: Tests the ring array stack against the linked list stack
+ * Date:    2026/10/17
+ */
+public class ArrayOperandStackTest {
+
+    @Test public void pushPop_isLastInFirstOut() {
+        ArrayOperandStack stack = new ArrayOperandStack();
+        for (int i = 0; i < 100; i++) stack.push(new ODouble(i));
+        for (int i = 99; i >= 0; i--) assertTrue(stack.pop().equalsValue(new ODouble(i)));
+        assertNull(stack.pop());
+        assertNull(stack.peek());
+    }
+
+    @Test public void popType_keepsOrderOfOthers() {
+        ArrayOperandStack stack = new ArrayOperandStack();
+        stack.push(new Operand[]{new ODouble(1), new OFraction(1, 2), new ODouble(2), new OFraction(1, 3), new ODouble(3)});
+
+        List<OFraction> fractions = stack.pop(5, OFraction.class);
+        assertEquals(2, fractions.size());
+        assertTrue(fractions.get(0).equalsValue(new OFraction(1, 3)));
+
+        Operand[] rest = stack.get();
+        assertEquals(3, rest.length);
+        assertTrue(rest[0].equalsValue(new ODouble(3)));
+        assertTrue(rest[1].equalsValue(new ODouble(2)));
+        assertTrue(rest[2].equalsValue(new ODouble(1)));
+    }
+
+    @Test public void randomOperations_matchOperandStack() {
+        Random random = new Random(42);
+        StackInterface<Operand> expected = new OperandStack();
+        StackInterface<Operand> actual = new ArrayOperandStack();
+
+        for (int step = 0; step < 20000; step++) {
+            int operation = random.nextInt(10);
+            int max = random.nextInt(4);
+            switch (operation) {
+                case 0: case 1: case 2: {
+                    Operand operand = random.nextBoolean()
+                            ? new ODouble(step) : random.nextBoolean() ? new OFraction(step, 7) : new OTuple(step);
+                    expected.push(operand);
+                    actual.push(operand);
+                    break;
+                }
+                case 3: assertSame(expected.pop(), actual.pop()); break;
+                case 4: assertEquals(expected.pop(max), actual.pop(max)); break;
+                case 5: assertSame(expected.pop(OFraction.class), actual.pop(OFraction.class)); break;
+                case 6: assertEquals(expected.pop(max, ODouble.class), actual.pop(max, ODouble.class)); break;
+                case 7: assertEquals(expected.peek(max), actual.peek(max)); break;
+                case 8: assertEquals(expected.peek(max, OTuple.class), actual.peek(max, OTuple.class)); break;
+                default:
+                    if (random.nextInt(50) == 0) { expected.clear(); actual.clear(); }
+                    assertSame(expected.peek(OTuple.class), actual.peek(OTuple.class));
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+        assertArrayEquals(expected.get(), actual.get());
+        assertEquals(expected.get(ODouble.class), actual.get(ODouble.class));
+    }
+
+}
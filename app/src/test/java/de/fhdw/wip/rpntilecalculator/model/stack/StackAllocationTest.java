@@ -0,0 +1,96 @@
+package de.fhdw.wip.rpntilecalculator.model.stack;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+import de.fhdw.wip.rpntilecalculator.model.calculation.CalculationException;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Plus;
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+
+import static org.junit.Assert.*;
+
+/*
+ * Summary: Counts the bytes allocated by the buffer based peek and drop of the stacks
+ * Date:    2026/10/17
+ */
+public class StackAllocationTest {
+
+    private static final int ROUNDS = 100000;
+
+    private com.sun.management.ThreadMXBean threads;
+
+    @Before public void setUp() {
+        Assume.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    private long allocatedBytes() {
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static StackInterface<Operand> filled(StackInterface<Operand> stack) {
+        for (int i = 0; i < 20; i++) stack.push(new ODouble(i));
+        return stack;
+    }
+
+    private long peekBuffer(StackInterface<Operand> stack, Operand[] buffer) {
+        long before = allocatedBytes();
+        int peeked = 0;
+        for (int i = 0; i < ROUNDS; i++) peeked += stack.peek(buffer);
+        long allocated = allocatedBytes() - before;
+        assertEquals(ROUNDS * buffer.length, peeked);
+        return allocated;
+    }
+
+    /*
+     * Peeks until the JIT has compiled the loop, the iterator of the OperandStack only vanishes by escape analysis
+     */
+    private long leastPeekBuffer(StackInterface<Operand> stack, Operand[] buffer) {
+        long least = Long.MAX_VALUE;
+        for (int round = 0; round < 20 && least > 0; round++) least = Math.min(least, peekBuffer(stack, buffer));
+        return least;
+    }
+
+    @Test public void peekBuffer_OperandStack_allocatesNothing() {
+        StackInterface<Operand> stack = filled(new OperandStack());
+        Operand[] buffer = new Operand[8];
+        assertTrue(leastPeekBuffer(stack, buffer) < 1024);
+    }
+
+    @Test public void peekBuffer_ArrayOperandStack_allocatesNothing() {
+        StackInterface<Operand> stack = filled(new ArrayOperandStack());
+        Operand[] buffer = new Operand[8];
+        assertTrue(leastPeekBuffer(stack, buffer) < 1024);
+    }
+
+    /*
+     * The steps Presenter.calculate takes for a binary action, except for the allocated result
+     */
+    @Test public void peekDispatchDropPush_ArrayOperandStack_allocatesOnlyResults() throws CalculationException {
+        StackInterface<Operand> stack = filled(new ArrayOperandStack());
+        Operand[] buffer = new Operand[2];
+        Operand[] results = new Operand[ROUNDS];
+        for (int round = 0; round < 2; round++) {
+            long before = allocatedBytes();
+            for (int i = 0; i < ROUNDS; i++) {
+                stack.peek(buffer);
+                Operand result = Plus.getInstance().with(buffer);
+                stack.drop(buffer.length);
+                stack.push(result);
+                stack.push(buffer[0]);
+                results[i] = result;
+            }
+            long allocated = allocatedBytes() - before;
+            //an ODouble holds a single double, the stack and the dispatch must not add anything on top
+            if (round == 1) assertTrue(allocated + " bytes", allocated < ROUNDS * 32L + 1024);
+        }
+        assertEquals(20, stack.size());
+    }
+
+}
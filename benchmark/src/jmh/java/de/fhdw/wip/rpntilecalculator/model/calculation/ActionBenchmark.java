@@ -0,0 +1,131 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.OFraction;
+import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
+import de.fhdw.wip.rpntilecalculator.model.operands.OPolynom;
+import de.fhdw.wip.rpntilecalculator.model.operands.OSet;
+import de.fhdw.wip.rpntilecalculator.model.operands.OSparseMatrix;
+import de.fhdw.wip.rpntilecalculator.model.operands.OTuple;
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+
+/*
+ * Summary: Baseline of every action on every combination of operand classes it has an on(...) method for.
+ *          A call is named by the action of its ActionMapping and the operand classes, the top of the stack first.
+ *          SYMMETRIC is a symmetric OMatrix, fractional powers take another path for it than for MATRIX. The fused
+ *          FMA and SCALEDADD calls compare with a TIMES call followed by a PLUS call on the same samples.
+ * Date:    2026/10/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ActionBenchmark {
+
+    @Param({"MINUS_DOUBLE_DOUBLE", "MINUS_FRACTION_DOUBLE", "MINUS_TUPLE_DOUBLE", "MINUS_SET_DOUBLE",
+            "MINUS_MATRIX_DOUBLE", "MINUS_POLYNOM_DOUBLE", "MINUS_DOUBLE_FRACTION", "MINUS_FRACTION_FRACTION",
+            "MINUS_TUPLE_FRACTION", "MINUS_SET_FRACTION", "MINUS_MATRIX_FRACTION", "MINUS_POLYNOM_FRACTION",
+            "MINUS_TUPLE_TUPLE", "MINUS_MATRIX_MATRIX", "MINUS_POLYNOM_POLYNOM", "MINUS_SPARSE_SPARSE",
+            "MINUS_SPARSE_MATRIX", "MINUS_MATRIX_SPARSE",
+            "PLUS_DOUBLE_DOUBLE", "PLUS_FRACTION_DOUBLE", "PLUS_TUPLE_DOUBLE", "PLUS_SET_DOUBLE",
+            "PLUS_MATRIX_DOUBLE", "PLUS_POLYNOM_DOUBLE", "PLUS_DOUBLE_FRACTION", "PLUS_FRACTION_FRACTION",
+            "PLUS_TUPLE_FRACTION", "PLUS_SET_FRACTION", "PLUS_MATRIX_FRACTION", "PLUS_POLYNOM_FRACTION",
+            "PLUS_DOUBLE_TUPLE", "PLUS_FRACTION_TUPLE", "PLUS_TUPLE_TUPLE", "PLUS_DOUBLE_SET", "PLUS_FRACTION_SET",
+            "PLUS_DOUBLE_MATRIX", "PLUS_FRACTION_MATRIX", "PLUS_MATRIX_MATRIX", "PLUS_DOUBLE_POLYNOM",
+            "PLUS_FRACTION_POLYNOM", "PLUS_POLYNOM_POLYNOM", "PLUS_SPARSE_SPARSE", "PLUS_SPARSE_MATRIX",
+            "PLUS_MATRIX_SPARSE",
+            "SLASH_DOUBLE_DOUBLE", "SLASH_FRACTION_DOUBLE", "SLASH_TUPLE_DOUBLE", "SLASH_SET_DOUBLE",
+            "SLASH_MATRIX_DOUBLE", "SLASH_POLYNOM_DOUBLE", "SLASH_DOUBLE_FRACTION", "SLASH_FRACTION_FRACTION",
+            "SLASH_TUPLE_FRACTION", "SLASH_SET_FRACTION", "SLASH_MATRIX_FRACTION", "SLASH_POLYNOM_FRACTION",
+            "SLASH_TUPLE_TUPLE", "SLASH_POLYNOM_POLYNOM",
+            "TIMES_DOUBLE_DOUBLE", "TIMES_FRACTION_DOUBLE", "TIMES_TUPLE_DOUBLE", "TIMES_SET_DOUBLE",
+            "TIMES_MATRIX_DOUBLE", "TIMES_POLYNOM_DOUBLE", "TIMES_DOUBLE_FRACTION", "TIMES_FRACTION_FRACTION",
+            "TIMES_MATRIX_FRACTION", "TIMES_DOUBLE_TUPLE", "TIMES_FRACTION_TUPLE", "TIMES_TUPLE_TUPLE",
+            "TIMES_DOUBLE_SET", "TIMES_FRACTION_SET", "TIMES_DOUBLE_MATRIX", "TIMES_FRACTION_MATRIX",
+            "TIMES_MATRIX_MATRIX", "TIMES_DOUBLE_POLYNOM", "TIMES_FRACTION_POLYNOM", "TIMES_POLYNOM_POLYNOM",
+            "TIMES_SPARSE_SPARSE", "TIMES_SPARSE_MATRIX", "TIMES_MATRIX_SPARSE", "TIMES_SPARSE_TUPLE",
+            "TIMES_DOUBLE_SPARSE", "TIMES_SPARSE_DOUBLE", "TIMES_FRACTION_SPARSE", "TIMES_SPARSE_FRACTION",
+            "MODULO_DOUBLE_DOUBLE",
+            "LOG_DOUBLE", "LOG_DOUBLE_DOUBLE",
+            "LOG10_DOUBLE",
+            "POWER_DOUBLE_DOUBLE", "POWER_FRACTION_DOUBLE", "POWER_TUPLE_DOUBLE", "POWER_MATRIX_DOUBLE",
+            "POWER_DOUBLE_FRACTION", "POWER_FRACTION_FRACTION", "POWER_TUPLE_FRACTION", "POWER_MATRIX_FRACTION",
+            "POWER_SPARSE_DOUBLE", "POWER_SPARSE_FRACTION", "POWER_SYMMETRIC_DOUBLE", "POWER_SYMMETRIC_FRACTION",
+            "ROOT_DOUBLE_DOUBLE", "ROOT_FRACTION_DOUBLE", "ROOT_MATRIX_DOUBLE", "ROOT_DOUBLE_FRACTION",
+            "ROOT_FRACTION_FRACTION", "ROOT_MATRIX_FRACTION", "ROOT_SYMMETRIC_DOUBLE", "ROOT_SYMMETRIC_FRACTION",
+            "DERIVE_POLYNOM",
+            "HIGHLOW_POLYNOM",
+            "ZEROS_POLYNOM",
+            "INTEGRAL_POLYNOM_DOUBLE_DOUBLE",
+            "LIMES_POLYNOM_DOUBLE", "LIMES_POLYNOM_POLYNOM_DOUBLE",
+            "SIN_DOUBLE",
+            "COS_DOUBLE",
+            "TAN_DOUBLE",
+            "ASIN_DOUBLE",
+            "ACOS_DOUBLE",
+            "ATAN_DOUBLE",
+            "MATRIXUTIL_MATRIX_TUPLE", "MATRIXUTIL_SPARSE_TUPLE",
+            "UNION_SET_SET",
+            "INTERSECTION_SET_SET",
+            "DIFFERENCE_SET_SET",
+            "RANGECOUNT_SET_TUPLE",
+            "FMA_DOUBLE_DOUBLE_DOUBLE", "FMA_MATRIX_MATRIX_MATRIX", "FMA_DOUBLE_MATRIX_MATRIX",
+            "FMA_MATRIX_DOUBLE_MATRIX",
+            "SCALEDADD_DOUBLE_MATRIX_MATRIX", "SCALEDADD_FRACTION_MATRIX_MATRIX"})
+    public String call;
+
+    private Action action;
+    private Operand[] operands;
+
+    @Setup public void setUp() throws CalculationException {
+        String[] parts = call.split("_");
+        action = ActionMapping.valueOf("A_" + parts[0]).getAction();
+        operands = new Operand[parts.length - 1];
+        for (int i = 0; i < operands.length; i++) operands[i] = sample(parts[i + 1]);
+
+        // Operands the samples do not fit: powers of tuples need a single value, powers of sparse matrices an integer,
+        // integrals two different bounds and range counts a tuple of two bounds
+        if (action == Power.getInstance() && operands[0] instanceof OTuple) operands[0] = new OTuple(3);
+        if (action == Power.getInstance() && operands[0] instanceof OSparseMatrix)
+            operands[1] = operands[1] instanceof OFraction ? new OFraction(3, 1) : new ODouble(3);
+        if (action == Integral.getInstance()) operands[2] = new ODouble(5);
+        if (action == RangeCount.getInstance()) operands[1] = new OTuple(1.5, 3);
+
+        // Fail fast if the list of calls got out of date
+        action.with(operands);
+    }
+
+    /*
+     * Matrix results are deferred, they are computed here like they are when shown
+     */
+    @Benchmark public Operand with() throws CalculationException {
+        Operand result = action.with(operands);
+        if (result instanceof OMatrix) ((OMatrix) result).getMatrix();
+        return result;
+    }
+
+    private static Operand sample(String type) {
+        switch (type) {
+            case "DOUBLE": return new ODouble(3);
+            case "FRACTION": return new OFraction(1, 2);
+            case "TUPLE": return new OTuple(1, 2, 3);
+            case "SET": return new OSet(1, 2, 3);
+            case "MATRIX": return new OMatrix(new double[][]{{4, -2, 1}, {3, 6, -4}, {2, 1, 8}});
+            case "SYMMETRIC": return new OMatrix(new double[][]{{4, 1, 2}, {1, 6, -1}, {2, -1, 8}});
+            case "POLYNOM": return new OPolynom(1, -3, 2);
+            case "SPARSE": return new OSparseMatrix("{3x3: (0, 0) 4, (0, 2) 1, (1, 1) 6, (2, 0) 2, (2, 2) 8}");
+            default: throw new IllegalArgumentException(type);
+        }
+    }
+
+}
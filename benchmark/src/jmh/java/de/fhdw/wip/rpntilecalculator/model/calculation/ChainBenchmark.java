@@ -0,0 +1,67 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.RealMatrix;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+
+/*
+ * Summary: The chain A B * C * 2 * D + through the actions, which defer and fuse their matrix results, next to
+ *          computing every step with commons-math like the actions did before. Run with -prof gc to compare the
+ *          bytes allocated per chain.
+ * Date:    2026/10/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ChainBenchmark {
+
+    @Param({"50", "300"})
+    public int size;
+
+    private OMatrix a;
+    private OMatrix b;
+    private OMatrix c;
+    private OMatrix d;
+    private ODouble two;
+
+    @Setup public void setUp() {
+        Random random = new Random(19);
+        a = new OMatrix(random(random, size));
+        b = new OMatrix(random(random, size));
+        c = new OMatrix(random(random, size));
+        d = new OMatrix(random(random, size));
+        two = new ODouble(2);
+    }
+
+    private static RealMatrix random(Random random, int n) {
+        double[][] data = new double[n][n];
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < n; j++) data[i][j] = random.nextDouble();
+        return new Array2DRowRealMatrix(data, false);
+    }
+
+    @Benchmark public RealMatrix deferred() throws CalculationException {
+        Operand product = Times.getInstance().with(Times.getInstance().with(a, b), c);
+        Operand sum = Plus.getInstance().with(Times.getInstance().with(two, product), d);
+        return ((OMatrix) sum).getMatrix();
+    }
+
+    @Benchmark public RealMatrix eager() {
+        return a.getMatrix().multiply(b.getMatrix()).multiply(c.getMatrix()).scalarMultiply(2).add(d.getMatrix());
+    }
+
+}
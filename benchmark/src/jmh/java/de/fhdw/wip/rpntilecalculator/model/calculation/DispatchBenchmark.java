@@ -0,0 +1,71 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.OFraction;
+import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
+import de.fhdw.wip.rpntilecalculator.model.operands.OTuple;
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+
+/*
+ * Summary: Compares the dispatch table of Action.with with the former per-call reflective lookup
+ * Date:    2026/10/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DispatchBenchmark {
+
+    @Param({"PLUS_DOUBLE_DOUBLE", "TIMES_FRACTION_TUPLE", "SLASH_MATRIX_DOUBLE"})
+    public String call;
+
+    private Action action;
+    private Operand[] operands;
+
+    @Setup public void setUp() {
+        switch (call) {
+            case "PLUS_DOUBLE_DOUBLE":
+                action = Plus.getInstance();
+                operands = new Operand[]{new ODouble(3), new ODouble(4)};
+                break;
+            case "TIMES_FRACTION_TUPLE":
+                action = Times.getInstance();
+                operands = new Operand[]{new OFraction(1, 2), new OTuple(1, 2, 3)};
+                break;
+            case "SLASH_MATRIX_DOUBLE":
+                action = Slash.getInstance();
+                operands = new Operand[]{new OMatrix(new double[][]{{1, 2}, {3, 4}}), new ODouble(2)};
+                break;
+            default:
+                throw new IllegalArgumentException(call);
+        }
+    }
+
+    @Benchmark public Operand dispatchTable() throws CalculationException {
+        return action.with(operands);
+    }
+
+    /*
+     * The lookup Action.with did before the dispatch table: getDeclaredMethod and invoke on every call
+     */
+    @Benchmark public Operand reflectivePerCall() throws Exception {
+        Class<?>[] operandClasses = new Class<?>[operands.length];
+        for (int i = 0; i < operands.length; i++)
+            operandClasses[i] = operands[i].getClass();
+
+        Method method = action.getClass().getDeclaredMethod("on", operandClasses);
+        return (Operand) method.invoke(action, (Object[]) operands);
+    }
+
+}
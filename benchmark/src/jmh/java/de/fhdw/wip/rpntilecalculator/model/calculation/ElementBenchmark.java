@@ -0,0 +1,102 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.OSet;
+import de.fhdw.wip.rpntilecalculator.model.operands.OTuple;
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+
+/*
+ * Summary: Element-wise tuple and set arithmetic through the actions, next to the loops the actions used before.
+ * Date:    2026/10/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ElementBenchmark {
+
+    @Param({"1000", "1000000", "10000000"})
+    public int size;
+
+    private OTuple a;
+    private OTuple b;
+    private ODouble scalar;
+
+    /*
+     * Sets are kept smaller, boxing makes ten million elements take gigabytes
+     */
+    @State(Scope.Thread)
+    public static class Sets {
+
+        @Param({"1000", "100000"})
+        public int setSize;
+
+        private OSet set;
+
+        @Setup public void setUp() {
+            set = new OSet(random(setSize, 3));
+        }
+    }
+
+    @Setup public void setUp() {
+        a = new OTuple(random(size, 1));
+        b = new OTuple(random(size, 2));
+        scalar = new ODouble(Math.PI);
+    }
+
+    private static double[] random(int size, long seed) {
+        Random random = new Random(seed);
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) values[i] = random.nextDouble();
+        return values;
+    }
+
+    @Benchmark public Operand addTuples() throws CalculationException {
+        return Plus.getInstance().with(a, b);
+    }
+
+    @Benchmark public Operand multiplyTuples() throws CalculationException {
+        return Times.getInstance().with(a, b);
+    }
+
+    @Benchmark public Operand scaleTuple() throws CalculationException {
+        return Times.getInstance().with(scalar, a);
+    }
+
+    /*
+     * Former Plus.on(OTuple, OTuple)
+     */
+    @Benchmark public double[] formerAddTuples() {
+        double[] x = a.getTuple(), y = b.getTuple();
+        double[] result = new double[x.length];
+        for (int i = 0; i < x.length; i++) result[i] = x[i] + y[i];
+        return result;
+    }
+
+    @Benchmark public Operand addSet(Sets sets) throws CalculationException {
+        return Plus.getInstance().with(scalar, sets.set);
+    }
+
+    /*
+     * Former Plus.on(ODouble, OSet)
+     */
+    @Benchmark public Set<Double> formerAddSet(Sets sets) {
+        Set<Double> result = new HashSet<>();
+        for (Double d : sets.set.getSet()) result.add(d + scalar.getDouble());
+        return result;
+    }
+
+}
@@ -0,0 +1,54 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.OPolynom;
+
+/*
+ * Summary: Finds and classifies the critical points of a batch of random polynomials, one by one and in parallel
+ * Date:    2026/10/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExtremaBenchmark {
+
+    @Param({"3", "20"})
+    public int degree;
+
+    @Param({"1000"})
+    public int numOfPolynoms;
+
+    private OPolynom[] polynoms;
+
+    @Setup public void setUp() {
+        Random random = new Random(degree);
+        polynoms = new OPolynom[numOfPolynoms];
+        for (int p = 0; p < numOfPolynoms; p++) {
+            double[] coefficients = new double[degree + 1];
+            for (int i = 0; i <= degree; i++) coefficients[i] = 2 * random.nextDouble() - 1;
+            polynoms[p] = new OPolynom(coefficients);
+        }
+    }
+
+    @Benchmark public Extrema[] sequential() {
+        Extrema[] extrema = new Extrema[numOfPolynoms];
+        for (int p = 0; p < numOfPolynoms; p++) extrema[p] = ExtremaFinder.extrema(polynoms[p]);
+        return extrema;
+    }
+
+    @Benchmark public Extrema[] batch() {
+        return ExtremaFinder.extrema(polynoms);
+    }
+
+}
@@ -0,0 +1,77 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.apache.commons.math3.analysis.integration.SimpsonIntegrator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.OPolynom;
+
+/*
+ * Summary: Integrates a random polynomial over many intervals with a new SimpsonIntegrator per interval, as Integral
+ *          did before, with the exact antiderivative one by one and as a batch, and with Gauss-Kronrod quadrature
+ * Date:    2026/10/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IntegralBenchmark {
+
+    @Param({"3", "20"})
+    public int degree;
+
+    @Param({"10000"})
+    public int numOfIntervals;
+
+    private OPolynom polynom;
+    private double[] lowerBounds;
+    private double[] upperBounds;
+
+    @Setup public void setUp() {
+        Random random = new Random(degree);
+        double[] coefficients = new double[degree + 1];
+        for (int i = 0; i <= degree; i++) coefficients[i] = 2 * random.nextDouble() - 1;
+        polynom = new OPolynom(coefficients);
+        lowerBounds = new double[numOfIntervals];
+        upperBounds = new double[numOfIntervals];
+        for (int i = 0; i < numOfIntervals; i++) {
+            lowerBounds[i] = 2 * random.nextDouble() - 1;
+            upperBounds[i] = lowerBounds[i] + random.nextDouble();
+        }
+    }
+
+    @Benchmark public double[] simpson() {
+        double[] integrals = new double[numOfIntervals];
+        for (int i = 0; i < numOfIntervals; i++)
+            integrals[i] = new SimpsonIntegrator().integrate(10000, polynom.getPolynom(), lowerBounds[i],
+                    upperBounds[i]);
+        return integrals;
+    }
+
+    @Benchmark public double[] antiderivative() {
+        double[] integrals = new double[numOfIntervals];
+        for (int i = 0; i < numOfIntervals; i++)
+            integrals[i] = Integrator.integrate(polynom, lowerBounds[i], upperBounds[i]);
+        return integrals;
+    }
+
+    @Benchmark public double[] batch() {
+        return Integrator.integrate(polynom, lowerBounds, upperBounds);
+    }
+
+    @Benchmark public double[] gaussKronrod() {
+        double[] integrals = new double[numOfIntervals];
+        for (int i = 0; i < numOfIntervals; i++)
+            integrals[i] = Integrator.integrate(polynom.getPolynom(), lowerBounds[i], upperBounds[i]);
+        return integrals;
+    }
+
+}
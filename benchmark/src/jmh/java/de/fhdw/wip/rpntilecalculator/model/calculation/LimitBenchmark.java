@@ -0,0 +1,72 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.apache.commons.math3.analysis.polynomials.PolynomialFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.OPolynom;
+
+/*
+ * Summary: Limits of a random polynomial at a point, analytically and by the walk towards the point from below and
+ *          from above that Limes did before, and the limit of a rational function at a removable gap
+ * Date:    2026/10/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LimitBenchmark {
+
+    @Param({"3", "20"})
+    public int degree;
+
+    private OPolynom polynom;
+    private OPolynom numerator;
+    private OPolynom denominator;
+    private double approach;
+
+    @Setup public void setUp() {
+        Random random = new Random(degree);
+        double[] coefficients = new double[degree + 1];
+        for (int i = 0; i <= degree; i++) coefficients[i] = 2 * random.nextDouble() - 1;
+        polynom = new OPolynom(coefficients);
+        approach = random.nextDouble();
+
+        // polynom * (x - approach) / (x - approach)
+        PolynomialFunction gap = new PolynomialFunction(new double[]{-approach, 1});
+        numerator = new OPolynom(polynom.getPolynom().multiply(gap));
+        denominator = new OPolynom(gap);
+    }
+
+    @Benchmark public double analytic() {
+        return LimitFinder.limit(polynom, approach);
+    }
+
+    @Benchmark public double probe() {
+        PolynomialFunction function = polynom.getPolynom();
+        double below = walk(function, approach - 10), above = walk(function, approach + 10);
+        return below == above ? below : Double.NaN;
+    }
+
+    @Benchmark public double rational() {
+        return LimitFinder.limit(numerator, denominator, approach);
+    }
+
+    private double walk(PolynomialFunction function, double start) {
+        for (double d = start; ; d = approach - ((approach - d) / 10)) {
+            double value = function.value(d);
+            if (Double.isInfinite(value) || Double.isNaN(value)) return value;
+            if (d == approach) return value;
+            if (Math.abs(approach - d) < 0.00000000001) d = approach;
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.RealMatrix;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
+
+/*
+ * Summary: Compares the product of commons-math with the blocked kernel Times routes large matrices to
+ * Date:    2026/10/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MatrixBenchmark {
+
+    @Param({"64", "256", "500", "1000", "2000"})
+    public int size;
+
+    private RealMatrix a;
+    private RealMatrix b;
+    private OMatrix oA;
+    private OMatrix oB;
+    private double[] flatA;
+    private double[] flatB;
+
+    @Setup public void setUp() {
+        Random random = new Random(size);
+        double[][] dataA = new double[size][size];
+        double[][] dataB = new double[size][size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                dataA[i][j] = random.nextDouble();
+                dataB[i][j] = random.nextDouble();
+            }
+        }
+        a = new Array2DRowRealMatrix(dataA, false);
+        b = new Array2DRowRealMatrix(dataB, false);
+        oA = new OMatrix(a);
+        oB = new OMatrix(b);
+        flatA = MatrixKernel.flatten(a);
+        flatB = MatrixKernel.flatten(b);
+    }
+
+    /*
+     * The path Times took for all sizes before
+     */
+    @Benchmark public RealMatrix commonsMath() {
+        return a.multiply(b);
+    }
+
+    /*
+     * Times with the conversion from and to the matrices of commons-math, the deferred product is computed here
+     */
+    @Benchmark public RealMatrix times() throws CalculationException {
+        return ((OMatrix) Times.getInstance().with(oA, oB)).getMatrix();
+    }
+
+    @Benchmark public double[] kernel() {
+        return MatrixKernel.multiply(flatA, size, size, flatB, size);
+    }
+
+}
@@ -0,0 +1,67 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.apache.commons.math3.analysis.polynomials.PolynomialFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Summary: Multiplies two random polynomials of the same length term by term, by Karatsuba and by FFT, shows the
+ *          crossover points behind the thresholds of PolynomialKernel. multiply adds the recomputation of small
+ *          coefficients to the fast products.
+ * Date:    2026/10/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PolynomialBenchmark {
+
+    @Param({"16", "32", "64", "128", "256", "512", "1024", "2048", "8192", "65536"})
+    public int length;
+
+    private double[] a;
+    private double[] b;
+    private PolynomialFunction polynom1;
+    private PolynomialFunction polynom2;
+
+    @Setup public void setUp() {
+        Random random = new Random(length);
+        a = new double[length];
+        b = new double[length];
+        for (int i = 0; i < length; i++) {
+            a[i] = 2 * random.nextDouble() - 1;
+            b[i] = 2 * random.nextDouble() - 1;
+        }
+        polynom1 = new PolynomialFunction(a);
+        polynom2 = new PolynomialFunction(b);
+    }
+
+    @Benchmark public PolynomialFunction polynomialFunction() {
+        return polynom1.multiply(polynom2);
+    }
+
+    @Benchmark public double[] schoolbook() {
+        return PolynomialKernel.multiplySchoolbook(a, b);
+    }
+
+    @Benchmark public double[] karatsuba() {
+        return PolynomialKernel.multiplyKaratsuba(a, b);
+    }
+
+    @Benchmark public double[] fft() {
+        return PolynomialKernel.multiplyFft(a, b);
+    }
+
+    @Benchmark public double[] multiply() {
+        return PolynomialKernel.multiply(a, b);
+    }
+
+}
@@ -0,0 +1,103 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.RealMatrix;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+
+/*
+ * Summary: Matrix powers up to the exponent 10^6 by squaring, half powers through the eigendecomposition or by
+ *          square roots and, for small exponents, the former loop of one product per exponent step
+ * Date:    2026/10/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PowerBenchmark {
+
+    @Param({"50", "200"})
+    public int size;
+
+    // Both are raised to integers by squaring, to 0.5 by Denman-Beavers roots if GENERAL and through the
+    // eigendecomposition if SYMMETRIC
+    @Param({"GENERAL", "SYMMETRIC"})
+    public String kind;
+
+    @Param({"2", "10", "1000", "1000000", "0.5"})
+    public double exponent;
+
+    private OMatrix matrix;
+    private ODouble oExponent;
+
+    /*
+     * Matrices with a spectral radius of at most 1, so high powers stay finite. A half power needs no eigenvalues on
+     * the negative real axis, so the diagonal dominates.
+     */
+    @Setup public void setUp() {
+        matrix = new OMatrix(stochastic(size, "SYMMETRIC".equals(kind)));
+        oExponent = new ODouble(exponent);
+    }
+
+    @Benchmark public Operand power() throws CalculationException {
+        return Power.getInstance().with(matrix, oExponent);
+    }
+
+    static RealMatrix stochastic(int size, boolean symmetric) {
+        Random random = new Random(size);
+        double[][] data = new double[size][size];
+        for (int i = 0; i < size; i++)
+            for (int j = 0; j < size; j++) data[i][j] = random.nextDouble() + (i == j ? size : 0);
+        if (symmetric)
+            for (int i = 0; i < size; i++)
+                for (int j = 0; j < i; j++) data[i][j] = data[j][i];
+
+        double max = 0;
+        for (double[] row : data) {
+            double sum = 0;
+            for (double d : row) sum += d;
+            max = Math.max(max, sum);
+        }
+        for (double[] row : data)
+            for (int j = 0; j < size; j++) row[j] /= max;
+        return new Array2DRowRealMatrix(data, false);
+    }
+
+    /*
+     * The loop Power used before, which needs exponent - 1 products
+     */
+    @State(Scope.Thread)
+    public static class Former {
+
+        @Param({"50", "200"})
+        public int size;
+
+        @Param({"2", "10", "100"})
+        public int exponent;
+
+        private RealMatrix matrix;
+
+        @Setup public void setUp() {
+            matrix = stochastic(size, false);
+        }
+    }
+
+    @Benchmark public RealMatrix formerLoop(Former former) {
+        RealMatrix result = former.matrix.multiply(former.matrix);
+        for (int i = 2; i < former.exponent; i++) result = result.multiply(former.matrix);
+        return result;
+    }
+
+}
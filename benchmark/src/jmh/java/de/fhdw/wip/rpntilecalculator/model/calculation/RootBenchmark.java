@@ -0,0 +1,56 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.OPolynom;
+
+/*
+ * Summary: Finds all roots of a batch of random polynomials with RootFinder, one by one and in parallel
+ * Date:    2026/10/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RootBenchmark {
+
+    @Param({"5", "50", "200"})
+    public int degree;
+
+    @Param({"200"})
+    public int numOfPolynoms;
+
+    private OPolynom[] polynoms;
+    private double[][] coefficients;
+
+    @Setup public void setUp() {
+        Random random = new Random(degree);
+        polynoms = new OPolynom[numOfPolynoms];
+        coefficients = new double[numOfPolynoms][];
+        for (int p = 0; p < numOfPolynoms; p++) {
+            coefficients[p] = new double[degree + 1];
+            for (int i = 0; i <= degree; i++) coefficients[p][i] = 2 * random.nextDouble() - 1;
+            polynoms[p] = new OPolynom(coefficients[p]);
+        }
+    }
+
+    @Benchmark public ComplexRoots[] sequential() {
+        ComplexRoots[] roots = new ComplexRoots[numOfPolynoms];
+        for (int p = 0; p < numOfPolynoms; p++) roots[p] = RootFinder.roots(coefficients[p]);
+        return roots;
+    }
+
+    @Benchmark public ComplexRoots[] batch() {
+        return RootFinder.roots(polynoms);
+    }
+
+}
@@ -0,0 +1,111 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
+import de.fhdw.wip.rpntilecalculator.model.operands.OTuple;
+
+/*
+ * Summary: Solves one matrix for a batch of right-hand sides, once factoring the matrix for every right-hand side
+ *          like MatrixUtil did before, once factoring it a single time and once with the factorization cached
+ * Date:    2026/10/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SolveBenchmark {
+
+    @Param({"16", "64", "256", "1000"})
+    public int size;
+
+    @Param({"1", "32"})
+    public int numOfRightHandSides;
+
+    private double[][] data;
+    private OMatrix matrix;
+    private OTuple[] bs;
+    private double[][] values;
+
+    @Setup public void setUp() throws CalculationException {
+        Random random = new Random(size);
+        data = new double[size][size];
+        for (int i = 0; i < size; i++)
+            for (int j = 0; j < size; j++) data[i][j] = random.nextDouble() + (i == j ? size : 0);
+        matrix = new OMatrix(new Array2DRowRealMatrix(data, false));
+
+        bs = new OTuple[numOfRightHandSides];
+        values = new double[numOfRightHandSides][];
+        for (int i = 0; i < numOfRightHandSides; i++) {
+            values[i] = new double[size];
+            for (int j = 0; j < size; j++) values[i][j] = random.nextDouble();
+            bs[i] = new OTuple(values[i]);
+        }
+        MatrixUtil.getInstance().factorize(matrix);
+    }
+
+    /*
+     * Copies and factors the matrix anew for every right-hand side, like MatrixUtil did before
+     */
+    @Benchmark public double[][] former() {
+        double[][] xs = new double[values.length][];
+        for (int r = 0; r < values.length; r++) {
+            int n = data.length;
+            double[][] lu = new double[n][];
+            for (int i = 0; i < n; i++) lu[i] = data[i].clone();
+            double[] b = values[r].clone();
+            int[] pivot = new int[n];
+            for (int j = 0; j < n - 1; j++) {
+                int imax = j;
+                for (int i = j + 1; i < n; i++) if (Math.abs(lu[i][j]) > Math.abs(lu[imax][j])) imax = i;
+                double[] h = lu[j];
+                lu[j] = lu[imax];
+                lu[imax] = h;
+                pivot[j] = imax;
+                for (int i = j + 1; i < n; i++) {
+                    double f = -lu[i][j] / lu[j][j];
+                    for (int k = j + 1; k < n; k++) lu[i][k] += f * lu[j][k];
+                    lu[i][j] = -f;
+                }
+            }
+            for (int i = 0; i < n - 1; i++) {
+                double h = b[pivot[i]];
+                b[pivot[i]] = b[i];
+                b[i] = h;
+            }
+            double[] x = new double[n];
+            for (int j = 0; j < n; j++) {
+                x[j] = b[j];
+                for (int i = 0; i < j; i++) x[j] -= lu[j][i] * x[i];
+            }
+            for (int j = n - 1; j >= 0; j--) {
+                for (int k = j + 1; k < n; k++) x[j] -= lu[j][k] * x[k];
+                x[j] /= lu[j][j];
+            }
+            xs[r] = x;
+        }
+        return xs;
+    }
+
+    @Benchmark public double[][] factorOnce() throws CalculationException {
+        return new LUFactorization(matrix.getMatrix()).solve(values);
+    }
+
+    /*
+     * The factorization of the matrix is taken from the cache of MatrixUtil
+     */
+    @Benchmark public OTuple[] cached() throws CalculationException {
+        return MatrixUtil.getInstance().solveLinearSystems(matrix, bs);
+    }
+
+}
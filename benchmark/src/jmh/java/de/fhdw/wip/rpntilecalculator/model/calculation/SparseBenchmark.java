@@ -0,0 +1,108 @@
+package de.fhdw.wip.rpntilecalculator.model.calculation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
+import de.fhdw.wip.rpntilecalculator.model.operands.OSparseMatrix;
+import de.fhdw.wip.rpntilecalculator.model.operands.OTuple;
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+
+/*
+ * Summary: Sparse kernels and the iterative solver on the finite-difference matrix of the 2D Poisson equation,
+ *          about five entries per row. The dense counterparts only run for the size that still fits into memory.
+ * Date:    2026/10/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SparseBenchmark {
+
+    // Points per edge of the grid, the matrix has side * side rows
+    @Param({"50", "142"})
+    public int side;
+
+    private OSparseMatrix sparse;
+    private OTuple b;
+
+    /*
+     * Dense copy of the matrix of 2500 rows, a dense matrix of 20164 rows would need more than 3 GB
+     */
+    @State(Scope.Thread)
+    public static class Dense {
+
+        private OMatrix matrix;
+        private OTuple b;
+
+        @Setup public void setUp() {
+            OSparseMatrix sparse = laplacian(50);
+            matrix = new OMatrix(sparse.toMatrix());
+            b = rightHandSide(sparse.getRowDimension());
+        }
+    }
+
+    @Setup public void setUp() {
+        sparse = laplacian(side);
+        b = rightHandSide(sparse.getRowDimension());
+    }
+
+    @Benchmark public Operand multiplyVector() throws CalculationException {
+        return Times.getInstance().with(sparse, b);
+    }
+
+    @Benchmark public Operand multiplySparse() throws CalculationException {
+        return Times.getInstance().with(sparse, sparse);
+    }
+
+    @Benchmark public Operand solve() throws CalculationException {
+        return MatrixUtil.getInstance().with(sparse, b);
+    }
+
+    @Benchmark public double[] denseMultiplyVector(Dense dense) {
+        return dense.matrix.getMatrix().operate(dense.b.getTuple());
+    }
+
+    /*
+     * The factorization is not cached, so every call factors the matrix like a first solve does
+     */
+    @Benchmark public double[] denseSolve(Dense dense) throws CalculationException {
+        return new LUFactorization(dense.matrix.getMatrix()).solve(dense.b.getTuple());
+    }
+
+    private static OSparseMatrix laplacian(int side) {
+        int size = side * side, count = 0;
+        int[] rows = new int[5 * size], columns = new int[5 * size];
+        double[] values = new double[5 * size];
+        for (int i = 0; i < side; i++) {
+            for (int j = 0; j < side; j++) {
+                int row = i * side + j;
+                int[] neighbours = {row, i > 0 ? row - side : -1, i < side - 1 ? row + side : -1,
+                        j > 0 ? row - 1 : -1, j < side - 1 ? row + 1 : -1};
+                for (int k = 0; k < neighbours.length; k++) {
+                    if (neighbours[k] < 0) continue;
+                    rows[count] = row;
+                    columns[count] = neighbours[k];
+                    values[count++] = k == 0 ? 4 : -1;
+                }
+            }
+        }
+        return OSparseMatrix.fromTriplets(size, size, rows, columns, values, count);
+    }
+
+    private static OTuple rightHandSide(int size) {
+        Random random = new Random(size);
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) values[i] = random.nextDouble();
+        return new OTuple(values);
+    }
+
+}
@@ -0,0 +1,59 @@
+package de.fhdw.wip.rpntilecalculator.model.engine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import de.fhdw.wip.rpntilecalculator.model.calculation.CalculationException;
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+
+/*
+ * Summary: Evaluates one program over a column of x-values, columnar or value by value
+ * Date:    2026/10/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ColumnBenchmark {
+
+    private static final String PROGRAM = "x 2 A_POWER 3 x * + sin x log10 +";
+
+    @Param({"1000000"})
+    private int rows;
+
+    private Expression expression;
+    private ColumnEvaluator evaluator;
+    private double[] x;
+    private double[] result;
+
+    @Setup public void setUp() {
+        expression = ExpressionCompiler.compile(PROGRAM, "x");
+        evaluator = new ColumnEvaluator(expression);
+        x = new double[rows];
+        for (int i = 0; i < rows; i++) x[i] = 0.001 * (i + 1);
+        result = new double[rows];
+    }
+
+    @Benchmark public double[] columnar() {
+        evaluator.evaluateInto(result, x);
+        return result;
+    }
+
+    @Benchmark public double[] perValue() throws CalculationException {
+        for (int i = 0; i < rows; i++) result[i] = expression.evaluateDouble(x[i]);
+        return result;
+    }
+
+    @Benchmark public double[] perValueBoxed() throws CalculationException {
+        for (int i = 0; i < rows; i++) result[i] = ((ODouble) expression.evaluate(new ODouble(x[i]))).getDouble();
+        return result;
+    }
+
+}
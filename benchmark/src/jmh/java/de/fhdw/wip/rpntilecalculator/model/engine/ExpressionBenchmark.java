@@ -0,0 +1,84 @@
+package de.fhdw.wip.rpntilecalculator.model.engine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import de.fhdw.wip.rpntilecalculator.model.calculation.CalculationException;
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.OMatrix;
+import de.fhdw.wip.rpntilecalculator.model.operands.OTuple;
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+
+/*
+ * Summary: Evaluates the same program for changing inputs, compiled once or executed again for every input
+ * Date:    2026/10/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExpressionBenchmark {
+
+    private static final String SCALAR = "x 2 A_POWER 3 x * + sin";
+    private static final String MATRIX = "v m m * LGS lösen 2 *";
+
+    private Expression scalar;
+    private Expression matrix;
+    private Instruction[] scalarProgram;
+    private Instruction[] matrixProgram;
+    private final ProgramExecutor executor = new ProgramExecutor();
+    private double x = 0;
+
+    @Setup public void setUp() {
+        scalar = ExpressionCompiler.compile(SCALAR, "x");
+        matrix = ExpressionCompiler.compile(ProgramParser.tokenize(MATRIX),
+                new String[]{"m", "v"}, new Class<?>[]{OMatrix.class, OTuple.class});
+        scalarProgram = ProgramParser.parse(SCALAR.replace("x", "0"));
+        matrixProgram = ProgramParser.parse(MATRIX.replace("v", "(1, 2, 3)")
+                .replace("m", "[[4, -2, 1], [3, 6, -4], [2, 1, 8]]"));
+    }
+
+    @Benchmark public double scalarCompiled() throws CalculationException {
+        x += 0.001;
+        return scalar.evaluateDouble(x);
+    }
+
+    @Benchmark public Operand scalarCompiledBoxed() throws CalculationException {
+        x += 0.001;
+        return scalar.evaluate(new ODouble(x));
+    }
+
+    /*
+     * The program with the input pushed first, the other instructions are parsed once as well
+     */
+    @Benchmark public Operand scalarExecuted() {
+        x += 0.001;
+        scalarProgram[0] = Instruction.push(x);
+        scalarProgram[4] = scalarProgram[0];
+        executor.clear();
+        executor.execute(scalarProgram);
+        return executor.getStack().peek();
+    }
+
+    @Benchmark public Operand matrixCompiled() throws CalculationException {
+        x += 0.001;
+        return matrix.evaluate(new OMatrix(new double[][]{{4, -2, x}, {3, 6, -4}, {2, 1, 8}}), new OTuple(1, 2, 3));
+    }
+
+    @Benchmark public Operand matrixExecuted() {
+        x += 0.001;
+        Instruction m = Instruction.push(new OMatrix(new double[][]{{4, -2, x}, {3, 6, -4}, {2, 1, 8}}));
+        matrixProgram[1] = m;
+        matrixProgram[2] = m;
+        executor.clear();
+        executor.execute(matrixProgram);
+        return executor.getStack().peek();
+    }
+
+}
@@ -0,0 +1,54 @@
+package de.fhdw.wip.rpntilecalculator.model.engine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+import de.fhdw.wip.rpntilecalculator.model.stack.StackInterface;
+
+/*
+ * Summary: Replays programs made of Times followed by Plus with and without the Peephole pass, on doubles the
+ *          fused opcode runs on the double stack, on matrices one action call replaces two
+ * Date:    2026/10/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FusedBenchmark {
+
+    @Param({"double", "matrix"})
+    public String type;
+
+    private final ProgramExecutor executor = new ProgramExecutor();
+    private Instruction[] program;
+    private Instruction[] fused;
+
+    @Setup public void setUp() {
+        StringBuilder builder = new StringBuilder(type.equals("double") ? "0.5" : "[[1, 0], [0, 1]]");
+        String factor = type.equals("double") ? "0.999" : "[[0.5, 0.25], [-0.25, 0.5]]";
+        for (int i = 0; i < 64; i++) builder.append(' ').append(factor).append(" 1.5 * +");
+        program = ProgramParser.parse(builder.toString());
+        fused = Peephole.optimize(program);
+    }
+
+    @Benchmark public StackInterface<Operand> timesPlus() {
+        executor.clear();
+        executor.execute(program);
+        return executor.getStack();
+    }
+
+    @Benchmark public StackInterface<Operand> fused() {
+        executor.clear();
+        executor.execute(fused);
+        return executor.getStack();
+    }
+
+}
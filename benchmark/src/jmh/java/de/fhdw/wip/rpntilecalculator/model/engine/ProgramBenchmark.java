@@ -0,0 +1,51 @@
+package de.fhdw.wip.rpntilecalculator.model.engine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+import de.fhdw.wip.rpntilecalculator.model.stack.StackInterface;
+
+/*
+ * Summary: Replays a recorded session through the headless engine, with and without parsing it each time
+ * Date:    2026/10/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProgramBenchmark {
+
+    private static final String SESSION = "3 4 + 2 * (1/2) + 2 1x^0 + 2x^1 + 3x^2 dy / dx Limes "
+            + "(1, 2, 3) [[4, -2, 1], [3, 6, -4], [2, 1, 8]] LGS lösen 45 sin 2 bⁿ 1.5 - 10 %";
+
+    private final ProgramExecutor executor = new ProgramExecutor();
+    private Instruction[] program;
+
+    @Setup public void setUp() {
+        program = ProgramParser.parse(SESSION);
+    }
+
+    @Benchmark public Instruction[] parse() {
+        return ProgramParser.parse(SESSION);
+    }
+
+    @Benchmark public StackInterface<Operand> parseAndExecute() {
+        executor.clear();
+        executor.execute(SESSION);
+        return executor.getStack();
+    }
+
+    @Benchmark public StackInterface<Operand> executeParsed() {
+        executor.clear();
+        executor.execute(program);
+        return executor.getStack();
+    }
+
+}
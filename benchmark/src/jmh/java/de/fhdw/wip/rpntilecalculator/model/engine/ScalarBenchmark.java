@@ -0,0 +1,95 @@
+package de.fhdw.wip.rpntilecalculator.model.engine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import de.fhdw.wip.rpntilecalculator.model.calculation.Action;
+import de.fhdw.wip.rpntilecalculator.model.calculation.CalculationException;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Minus;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Plus;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Sinus;
+import de.fhdw.wip.rpntilecalculator.model.calculation.Times;
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+import de.fhdw.wip.rpntilecalculator.model.stack.OperandStack;
+import de.fhdw.wip.rpntilecalculator.model.stack.StackInterface;
+
+/*
+ * Summary: Runs pure scalar RPN programs on the scalar machine and step by step through Action.with
+ * Date:    2026/10/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ScalarBenchmark {
+
+    @Param({"10000000"})
+    public int numOfInstructions;
+
+    private Instruction[] program;
+    private final Operand[][] operandBuffers = {new Operand[0], new Operand[1], new Operand[2]};
+
+    /*
+     * A program of a starting value followed by pairs of a constant and an action. Division is left out, as a
+     * division by zero would make the step by step run measure exceptions instead of arithmetic.
+     */
+    @Setup public void setUp() {
+        Random random = new Random(17);
+        Instruction[] constants = new Instruction[16];
+        for (int i = 0; i < constants.length; i++) constants[i] = Instruction.push(0.5 + random.nextDouble());
+        Instruction[] actions = {Instruction.apply(Plus.getInstance()), Instruction.apply(Minus.getInstance()),
+                Instruction.apply(Times.getInstance()), Instruction.apply(Sinus.getInstance())};
+
+        program = new Instruction[numOfInstructions];
+        program[0] = constants[0];
+        for (int i = 1; i < program.length; i++)
+            program[i] = i % 2 == 1 ? constants[random.nextInt(constants.length)] : actions[random.nextInt(actions.length)];
+    }
+
+    @Benchmark public StackInterface<Operand> scalarMachine() {
+        ScalarMachine machine = new ScalarMachine(new OperandStack());
+        machine.run(program);
+        machine.flush();
+        return machine.getStack();
+    }
+
+    /*
+     * Every action is dispatched through Action.with on ODoubles, as a click on an action tile does
+     */
+    @Benchmark public StackInterface<Operand> actionWith() {
+        StackInterface<Operand> stack = new OperandStack();
+        for (Instruction instruction : program) {
+            if (instruction.getOperand() != null) stack.push(instruction.getOperand());
+            else apply(stack, instruction.getAction());
+        }
+        return stack;
+    }
+
+    private void apply(StackInterface<Operand> stack, Action action) {
+        int[] requiredNumOfOperands = action.getRequiredNumOfOperands();
+        for (int i = requiredNumOfOperands.length - 1; i >= 0; i--) {
+            Operand[] operands = operandBuffers[Math.min(requiredNumOfOperands[i], stack.size())];
+            stack.peek(operands);
+            try {
+                Operand result = action.with(operands);
+                stack.drop(operands.length);
+                stack.push(result);
+                return;
+            } catch (CalculationException e) {
+                //try the next lower one
+            } finally {
+                Arrays.fill(operands, null);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,72 @@
+package de.fhdw.wip.rpntilecalculator.model.operands;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import de.fhdw.wip.rpntilecalculator.model.engine.ProgramParser;
+
+/*
+ * Summary: Parsing operands from their text and formatting them with toString, for every operand class
+ * Date:    2026/10/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OperandBenchmark {
+
+    @Param({"DOUBLE", "FRACTION", "TUPLE", "SET", "MATRIX", "POLYNOM"})
+    public String type;
+
+    // Number of values of tuples and sets, rows and columns of matrices, coefficients of polynoms
+    @Param({"4", "64"})
+    public int size;
+
+    private Operand operand;
+    private String text;
+
+    @Setup public void setUp() {
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) values[i] = i * 1.5 - 7;
+
+        switch (type) {
+            case "DOUBLE": operand = new ODouble(-12.625); break;
+            case "FRACTION": operand = new OFraction(22, 7); break;
+            case "TUPLE": operand = new OTuple(values); break;
+            case "SET": operand = new OSet(values); break;
+            case "MATRIX": {
+                double[][] matrix = new double[size][];
+                for (int i = 0; i < size; i++) {
+                    matrix[i] = values.clone();
+                    matrix[i][i] += size;
+                }
+                operand = new OMatrix(matrix);
+                break;
+            }
+            case "POLYNOM": operand = new OPolynom(values); break;
+            default: throw new IllegalArgumentException(type);
+        }
+        text = operand.toString();
+
+        if (!operand.equalsValue(parse())) throw new IllegalStateException(text + " does not parse back");
+    }
+
+    /*
+     * Parses the text with the syntax detection of programs and the String constructor of the operand class
+     */
+    @Benchmark public Operand parse() {
+        return ProgramParser.parseOperand(text);
+    }
+
+    @Benchmark public String format() {
+        return operand.toString();
+    }
+
+}
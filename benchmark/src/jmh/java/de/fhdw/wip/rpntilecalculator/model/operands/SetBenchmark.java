@@ -0,0 +1,139 @@
+package de.fhdw.wip.rpntilecalculator.model.operands;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Summary: Set algebra, membership and range counts of hashed and sorted OSets next to a HashSet<Double>, the
+ *          former representation of OSet. Both sets overlap in about half of their values.
+ * Date:    2026/10/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SetBenchmark {
+
+    // Number of membership tests and range counts per operation
+    private static final int QUERIES = 1000;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private Set<Double> boxedA;
+    private Set<Double> boxedB;
+    private OSet hashedA;
+    private OSet hashedB;
+    private OSet sortedA;
+    private OSet sortedB;
+    private double[] queries;
+
+    @Setup public void setUp() {
+        Random random = new Random(17);
+        double[] a = new double[size], b = new double[size];
+        for (int i = 0; i < size; i++) {
+            a[i] = random.nextInt(2 * size) / 4.0;
+            b[i] = random.nextInt(2 * size) / 4.0;
+        }
+        boxedA = new HashSet<>();
+        boxedB = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            boxedA.add(a[i]);
+            boxedB.add(b[i]);
+        }
+        hashedA = new OSet(a);
+        hashedB = new OSet(b);
+        sortedA = new OSet(SortedDoubleSet.of(a));
+        sortedB = new OSet(SortedDoubleSet.of(b));
+
+        queries = new double[QUERIES];
+        for (int i = 0; i < QUERIES; i++) queries[i] = random.nextInt(2 * size) / 4.0;
+    }
+
+    @Benchmark public Set<Double> unionBoxed() {
+        Set<Double> union = new HashSet<>(boxedA);
+        union.addAll(boxedB);
+        return union;
+    }
+
+    @Benchmark public OSet unionHashed() {
+        return hashedA.union(hashedB);
+    }
+
+    @Benchmark public OSet unionSorted() {
+        return sortedA.union(sortedB);
+    }
+
+    @Benchmark public Set<Double> intersectionBoxed() {
+        Set<Double> intersection = new HashSet<>(boxedA);
+        intersection.retainAll(boxedB);
+        return intersection;
+    }
+
+    @Benchmark public OSet intersectionHashed() {
+        return hashedA.intersection(hashedB);
+    }
+
+    @Benchmark public OSet intersectionSorted() {
+        return sortedA.intersection(sortedB);
+    }
+
+    @Benchmark public Set<Double> differenceBoxed() {
+        Set<Double> difference = new HashSet<>(boxedA);
+        difference.removeAll(boxedB);
+        return difference;
+    }
+
+    @Benchmark public OSet differenceHashed() {
+        return hashedA.difference(hashedB);
+    }
+
+    @Benchmark public OSet differenceSorted() {
+        return sortedA.difference(sortedB);
+    }
+
+    @Benchmark public int containsBoxed() {
+        int count = 0;
+        for (double d : queries) if (boxedA.contains(d)) count++;
+        return count;
+    }
+
+    @Benchmark public int containsHashed() {
+        int count = 0;
+        for (double d : queries) if (hashedA.contains(d)) count++;
+        return count;
+    }
+
+    @Benchmark public int containsSorted() {
+        int count = 0;
+        for (double d : queries) if (sortedA.contains(d)) count++;
+        return count;
+    }
+
+    /*
+     * A HashSet has no order, every range count visits all values
+     */
+    @Benchmark public int rangeCountBoxed() {
+        int count = 0;
+        for (double from : queries)
+            for (double d : boxedA) if (d >= from && d <= from + 10) count++;
+        return count;
+    }
+
+    @Benchmark public int rangeCountSorted() {
+        int count = 0;
+        for (double from : queries) count += sortedA.countRange(from, from + 10);
+        return count;
+    }
+
+}
@@ -0,0 +1,67 @@
+package de.fhdw.wip.rpntilecalculator.model.operands;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Summary: Slicing, reversing and concatenating tuples as views next to copying arrays, and the unary operations
+ *          next to the former detour through a List<Double>.
+ * Date:    2026/10/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TupleBenchmark {
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private OTuple tuple;
+
+    @Setup public void setUp() {
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) values[i] = i + 0.5;
+        tuple = new OTuple(values);
+    }
+
+    @Benchmark public OTuple sliceReverseConcat() {
+        return tuple.slice(size / 4, size).reverse().concat(tuple.slice(0, size / 2));
+    }
+
+    @Benchmark public double[] sliceReverseConcatCopied() {
+        double[] values = tuple.getTuple();
+        double[] reversed = new double[size - size / 4];
+        for (int i = 0; i < reversed.length; i++) reversed[i] = values[size - 1 - i];
+        double[] both = Arrays.copyOf(reversed, reversed.length + size / 2);
+        System.arraycopy(values, 0, both, reversed.length, size / 2);
+        return both;
+    }
+
+    @Benchmark public OTuple turnAroundSign() {
+        return tuple.turnAroundSign();
+    }
+
+    /*
+     * Former OTuple.turnAroundSign
+     */
+    @Benchmark public double[] formerTurnAroundSign() {
+        List<Double> newTuple = new ArrayList<>();
+        for (double d : tuple.getTuple())
+            newTuple.add(d * -1);
+        double[] result = new double[newTuple.size()];
+        for (int i = 0; i < result.length; i++) result[i] = newTuple.get(i);
+        return result;
+    }
+
+}
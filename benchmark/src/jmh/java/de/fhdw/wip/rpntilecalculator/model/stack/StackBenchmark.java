@@ -0,0 +1,127 @@
+package de.fhdw.wip.rpntilecalculator.model.stack;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import de.fhdw.wip.rpntilecalculator.model.operands.ODouble;
+import de.fhdw.wip.rpntilecalculator.model.operands.OFraction;
+import de.fhdw.wip.rpntilecalculator.model.operands.Operand;
+
+/*
+ * Summary: Compares the linked list stack with the ring array stack at growing depths
+ * Date:    2026/10/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StackBenchmark {
+
+    @Param({"LINKED_LIST", "RING_ARRAY"})
+    public String implementation;
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int depth;
+
+    private StackInterface<Operand> stack;
+    private final ODouble operand = new ODouble(1);
+    private final Operand[] buffer = new Operand[2];
+
+    @Setup public void setUp() {
+        stack = "LINKED_LIST".equals(implementation) ? new OperandStack() : new ArrayOperandStack();
+        for (int i = 0; i < depth; i++) stack.push(new ODouble(i));
+    }
+
+    @Benchmark public Operand pushPop() {
+        stack.push(operand);
+        return stack.pop();
+    }
+
+    @Benchmark public List<Operand> popTwoPushOne() {
+        List<Operand> top = stack.pop(2);
+        stack.push(top.get(1));
+        stack.push(top.get(0));
+        return top;
+    }
+
+    @Benchmark public Operand[] get() {
+        return stack.get();
+    }
+
+    @Benchmark public List<Operand> peekTwo() {
+        return stack.peek(2);
+    }
+
+    /*
+     * What a click on an action tile does: peek the operands into a reused buffer, drop them and push the result
+     */
+    @Benchmark public Operand peekDropPush() {
+        stack.peek(buffer);
+        stack.drop(buffer.length);
+        stack.push(buffer[1]);
+        stack.push(buffer[0]);
+        return buffer[0];
+    }
+
+    /*
+     * Typed scans remove entries from the middle of the stack. The linked list indexes its nodes one by one,
+     * so these are limited to depths where a single call finishes in reasonable time.
+     */
+    @State(Scope.Thread)
+    public static class TypedScan {
+
+        @Param({"LINKED_LIST", "RING_ARRAY"})
+        public String implementation;
+
+        @Param({"10", "1000", "10000"})
+        public int depth;
+
+        private StackInterface<Operand> stack;
+        private final OFraction[] fractions = new OFraction[4];
+
+        @Setup public void setUp() {
+            stack = "LINKED_LIST".equals(implementation) ? new OperandStack() : new ArrayOperandStack();
+            for (int i = 0; i < fractions.length; i++) fractions[i] = new OFraction(i, 7);
+            for (int i = 0; i < depth; i++) stack.push(new ODouble(i));
+        }
+
+        /*
+         * Puts the fractions back below all doubles after they were popped.
+         */
+        @Setup(Level.Invocation) public void refill() {
+            if (stack.size() != depth) return;
+            Operand[] all = stack.get();
+            stack.clear();
+            for (OFraction fraction : fractions) stack.push(fraction);
+            for (int i = all.length - 1; i >= 0; i--) stack.push(all[i]);
+        }
+    }
+
+    @Benchmark public List<OFraction> popTypeFromBottom(TypedScan scan) {
+        return scan.stack.pop(scan.fractions.length, OFraction.class);
+    }
+
+    /*
+     * Scans down to the bottom of the stack, where the fractions lie
+     */
+    @Benchmark public boolean containsBottom(TypedScan scan) {
+        return scan.stack.contains(scan.fractions[0]);
+    }
+
+    @Benchmark public List<ODouble> popTypeFromTop(TypedScan scan) {
+        List<ODouble> popped = scan.stack.pop(2, ODouble.class);
+        scan.stack.push(popped.get(1));
+        scan.stack.push(popped.get(0));
+        return popped;
+    }
+
+}